@@ -30,6 +30,8 @@ import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.MetadataRepository;
 import org.jboss.hal.meta.StatementContext;
 import org.jboss.hal.meta.StatementContextResolver;
+import org.jboss.hal.meta.tree.AddressIndex;
+import org.jboss.hal.meta.tree.ModelSnapshot;
 import org.patternfly.component.alert.AlertDescription;
 import org.patternfly.core.Tuple;
 
@@ -51,6 +53,9 @@ import static org.patternfly.core.Tuple.tuple;
  * AddressTemplate objects. It uses the {@link Dispatcher} to execute operations.
  * <p>
  * Each operation has built-in success messages. The caller must handle failures.
+ * <p>
+ * Successful create and delete operations are reflected in the {@link AddressIndex} and the {@link ModelSnapshot}. The
+ * metadata of the created or deleted resource is removed from the {@link MetadataRepository}.
  */
 @ApplicationScoped
 public class CrudOperations {
@@ -59,14 +64,18 @@ public class CrudOperations {
     private final Dispatcher dispatcher;
     private final StatementContext statementContext;
     private final MetadataRepository metadataRepository;
+    private final AddressIndex addressIndex;
+    private final ModelSnapshot modelSnapshot;
 
     @Inject
     public CrudOperations(Environment environment, Dispatcher dispatcher, StatementContext statementContext,
-            MetadataRepository metadataRepository) {
+            MetadataRepository metadataRepository, AddressIndex addressIndex, ModelSnapshot modelSnapshot) {
         this.environment = environment;
         this.dispatcher = dispatcher;
         this.statementContext = statementContext;
         this.metadataRepository = metadataRepository;
+        this.addressIndex = addressIndex;
+        this.modelSnapshot = modelSnapshot;
     }
 
     // ------------------------------------------------------ create
@@ -78,6 +87,10 @@ public class CrudOperations {
                 .build();
         return dispatcher.execute(operation)
                 .then(result -> {
+                    AddressTemplate resolved = resolve(template);
+                    addressIndex.add(resolved);
+                    modelSnapshot.invalidate(resolved);
+                    metadataRepository.invalidate(resolved);
                     success("Resource added", description(typeName).add(" has been successfully added."));
                     return Promise.resolve(result);
                 });
@@ -107,6 +120,10 @@ public class CrudOperations {
         Operation operation = new Operation.Builder(template.resolve(statementContext), REMOVE).build();
         return dispatcher.execute(operation)
                 .then(result -> {
+                    AddressTemplate resolved = resolve(template);
+                    addressIndex.remove(resolved);
+                    modelSnapshot.invalidate(resolved);
+                    metadataRepository.invalidate(resolved);
                     success("Resource deleted",
                             description(typeName).add(" has been successfully deleted."));
                     return Promise.resolve(result);
@@ -115,8 +132,12 @@ public class CrudOperations {
 
     // ------------------------------------------------------ internal
 
+    private AddressTemplate resolve(AddressTemplate template) {
+        return new StatementContextResolver(statementContext).resolve(template);
+    }
+
     private Tuple<String, String> typeName(AddressTemplate template) {
-        AddressTemplate resolvedTemplate = new StatementContextResolver(statementContext).resolve(template);
+        AddressTemplate resolvedTemplate = resolve(template);
         String type = resolvedTemplate.last().key;
         String name = resolvedTemplate.last().value;
         return tuple(type, name);
@@ -0,0 +1,241 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.jboss.elemento.logger.Logger;
+import org.jboss.hal.db.Database;
+import org.jboss.hal.db.Document;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.ModelNodeHelper;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.env.Endpoints;
+
+import elemental2.core.JsArray;
+import elemental2.promise.Promise;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+
+import static org.jboss.hal.core.TimeSeries.Resolution.RAW;
+
+/**
+ * Keeps {@linkplain TimeSeries time series} of runtime metrics. Use {@link #track(PollingScheduler, String, int, Operation,
+ * Map, Runnable)} to feed time series by the {@link PollingScheduler}.
+ * <p>
+ * The raw samples of the last {@linkplain #PERSIST_WINDOW hour} are saved to the local database at most once a minute and
+ * restored when the first metric is tracked, so that the history survives reloads. Nothing is saved before the time series
+ * have been restored, otherwise the persisted history would be overwritten by the few samples recorded in the meantime. The
+ * aggregates are derived from the raw samples when the time series are restored.
+ */
+@ApplicationScoped
+public class MetricsStore {
+
+    /** The time in milliseconds of the samples which are saved to the local database */
+    public static final long PERSIST_WINDOW = 60 * 60 * 1_000;
+    static final long SAVE_INTERVAL = 60_000;
+
+    private static final Logger logger = Logger.getLogger(MetricsStore.class.getName());
+    private static final String DATABASE = "hal-metrics";
+    private static final int VERSION = 1;
+    private static final String STORE = "metrics";
+    private static final String SERIES = "series";
+    private static final String TIMES = "times";
+    private static final String VALUES = "values";
+
+    private final Endpoints endpoints;
+    private final Map<String, TimeSeries> series;
+    private Promise<MetricsStore> restoring;
+    private Promise<Database> database;
+    private boolean restored;
+    private long lastSave;
+
+    @Inject
+    public MetricsStore(Endpoints endpoints) {
+        this.endpoints = endpoints;
+        this.series = new HashMap<>();
+        this.restoring = null;
+        this.database = null;
+        this.restored = false;
+        this.lastSave = 0;
+    }
+
+    /** @return whether the samples should be saved. Saving has to wait until the time series have been restored. */
+    static boolean saveDue(boolean restored, long lastSave, long now) {
+        return restored && now - lastSave >= SAVE_INTERVAL;
+    }
+
+    // ------------------------------------------------------ api
+
+    /** @return the time series with the given name. Creates an empty time series if necessary. */
+    public TimeSeries series(String name) {
+        return series.computeIfAbsent(name, TimeSeries::new);
+    }
+
+    public boolean contains(String name) {
+        return series.containsKey(name);
+    }
+
+    public void record(String name, long timestamp, double value) {
+        series(name).add(timestamp, value);
+    }
+
+    /**
+     * Reads the operation periodically and records the metrics of the result.
+     *
+     * @param name      the name of the polling task
+     * @param interval  the interval in milliseconds
+     * @param operation the operation which reads the metrics
+     * @param metrics   maps the names of the time series to the (nested) attributes in the result, e.g.
+     *                  {@code heap-used → heap-memory-usage.used}
+     * @param updated   called after the metrics have been recorded (may be {@code null})
+     * @return the polling task which can be used to stop tracking the metrics
+     */
+    public PollingTask track(PollingScheduler scheduler, String name, int interval, Operation operation,
+            Map<String, String> metrics, Runnable updated) {
+        restore();
+        return scheduler.schedule(name, interval, () -> List.of(operation), results -> {
+            long now = System.currentTimeMillis();
+            ModelNode result = results.get(0);
+            for (Map.Entry<String, String> entry : metrics.entrySet()) {
+                ModelNode value = ModelNodeHelper.nested(result, entry.getValue());
+                if (value.isDefined()) {
+                    record(entry.getKey(), now, value.asDouble());
+                }
+            }
+            if (saveDue(restored, lastSave, now)) {
+                save();
+            }
+            if (updated != null) {
+                updated.run();
+            }
+        }, null);
+    }
+
+    /**
+     * Restores the time series from the local database. Only the first call reads the database. Since samples have to be
+     * added in chronological order, restored samples which are older than samples recorded in the meantime are ignored.
+     */
+    public Promise<MetricsStore> restore() {
+        if (restoring == null) {
+            if (Database.supported()) {
+                restoring = database()
+                        .then(db -> db.get(STORE, endpoints.dmr()))
+                        .then(document -> {
+                            if (document != null && document.has(SERIES)) {
+                                restore(document);
+                            }
+                            return Promise.resolve(this);
+                        })
+                        .catch_(error -> {
+                            logger.warn("Unable to restore metrics: %s", error);
+                            return Promise.resolve(this);
+                        })
+                        .then(store -> {
+                            restored();
+                            return Promise.resolve(this);
+                        });
+            } else {
+                restored();
+                restoring = Promise.resolve(this);
+            }
+        }
+        return restoring;
+    }
+
+    /**
+     * Saves the raw samples of the last {@linkplain #PERSIST_WINDOW hour} to the local database. If the time series haven't
+     * been restored yet, the samples are saved after they have been restored.
+     */
+    public void save() {
+        if (!restored) {
+            restore().then(store -> {
+                save();
+                return null;
+            });
+            return;
+        }
+        lastSave = System.currentTimeMillis();
+        if (!Database.supported()) {
+            return;
+        }
+        long since = lastSave - PERSIST_WINDOW;
+        JsPropertyMap<Object> persisted = JsPropertyMap.of();
+        for (TimeSeries timeSeries : series.values()) {
+            JsArray<Double> times = new JsArray<>();
+            JsArray<Double> values = new JsArray<>();
+            for (int i = 0; i < timeSeries.size(RAW); i++) {
+                long time = timeSeries.time(RAW, i);
+                if (time >= since) {
+                    times.push((double) time);
+                    values.push(timeSeries.value(RAW, i));
+                }
+            }
+            JsPropertyMap<Object> samples = JsPropertyMap.of();
+            samples.set(TIMES, times);
+            samples.set(VALUES, values);
+            persisted.set(timeSeries.name(), samples);
+        }
+        Document document = Document.of(endpoints.dmr());
+        document.set(SERIES, persisted);
+        database()
+                .then(db -> db.put(STORE, document))
+                .catch_(error -> {
+                    logger.warn("Unable to save metrics: %s", error);
+                    return null;
+                });
+    }
+
+    // ------------------------------------------------------ internal
+
+    private void restored() {
+        restored = true;
+        // the restored samples are already in the database
+        lastSave = System.currentTimeMillis();
+    }
+
+    private void restore(Document document) {
+        long since = System.currentTimeMillis() - PERSIST_WINDOW;
+        JsPropertyMap<Object> persisted = Js.uncheckedCast(document.get(SERIES));
+        persisted.forEach(name -> {
+            JsPropertyMap<Object> samples = Js.uncheckedCast(persisted.get(name));
+            JsArray<Double> times = Js.uncheckedCast(samples.get(TIMES));
+            JsArray<Double> values = Js.uncheckedCast(samples.get(VALUES));
+            TimeSeries timeSeries = series(name);
+            int restored = 0;
+            for (int i = 0; i < times.length; i++) {
+                long time = (long) Js.asDouble(times.getAt(i));
+                if (time >= since) {
+                    timeSeries.add(time, Js.asDouble(values.getAt(i)));
+                    restored++;
+                }
+            }
+            logger.debug("Restored %d samples of %s", restored, name);
+        });
+    }
+
+    private Promise<Database> database() {
+        if (database == null) {
+            database = Database.open(DATABASE, VERSION, STORE);
+        }
+        return database;
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.jboss.elemento.logger.Logger;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+
+import elemental2.dom.EventListener;
+
+import static elemental2.dom.DomGlobal.clearTimeout;
+import static elemental2.dom.DomGlobal.document;
+import static elemental2.dom.DomGlobal.performance;
+import static elemental2.dom.DomGlobal.setTimeout;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Central scheduler for operations which have to be executed periodically, e.g. by dashboard cards or to read runtime
+ * attributes.
+ * <p>
+ * Each {@linkplain #schedule(String, int, Supplier, Consumer, Consumer) scheduled} task provides its operations and an
+ * interval. On each tick, the operations of all due tasks are merged into one composite operation, and the results are
+ * routed back to the tasks. Tasks which are due within {@value #COALESCE} ms are executed together with the other due tasks
+ * to reduce the number of requests. The composite is executed with {@code rollback-on-runtime-failure=false} and without
+ * logging errors. Each task gets the outcome of its own steps. Tasks whose last request failed are executed on their own,
+ * so that one failing task doesn't affect the others.
+ * <p>
+ * Polling is paused while the browser tab is hidden and resumed as soon as it becomes visible again. Slow or failed requests
+ * make the affected tasks {@linkplain PollingTask back off}. Use {@link #tasks()} to get the timing of the tasks. The
+ * duration of a merged request can't be broken down by task: Each task of the request gets the duration of the whole
+ * composite.
+ */
+@ApplicationScoped
+public class PollingScheduler {
+
+    static final int COALESCE = 500;
+    private static final int MIN_DELAY = 50;
+    private static final String VISIBILITY_CHANGE = "visibilitychange";
+    private static final Logger logger = Logger.getLogger(PollingScheduler.class.getName());
+
+    private final Dispatcher dispatcher;
+    private final List<PollingTask> tasks;
+    private final EventListener visibilityListener;
+    private double timeout;
+    private boolean listening;
+
+    @Inject
+    public PollingScheduler(Dispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+        this.tasks = new ArrayList<>();
+        this.timeout = 0;
+        this.listening = false;
+        this.visibilityListener = e -> {
+            clearTimeout(timeout);
+            if (!document.hidden) {
+                logger.debug("Resume polling of %d tasks", tasks.size());
+                tick();
+            } else {
+                logger.debug("Pause polling of %d tasks", tasks.size());
+            }
+        };
+    }
+
+    // ------------------------------------------------------ api
+
+    /**
+     * Schedules a new task. The first request is made after one interval.
+     *
+     * @param name       a name used for logging and timing
+     * @param interval   the interval in milliseconds
+     * @param operations provides the operations for each request. If the list is empty, the task is skipped for this
+     *                   interval.
+     * @param success    receives the results of the operations (in the same order as the operations). The result of an
+     *                   operation which failed is {@code null}.
+     * @param failure    receives the error if the request or all operations failed (may be {@code null})
+     * @return the task which can be used to cancel polling
+     */
+    public PollingTask schedule(String name, int interval, Supplier<List<Operation>> operations,
+            Consumer<List<ModelNode>> success, Consumer<String> failure) {
+        PollingTask[] task = new PollingTask[1];
+        task[0] = new PollingTask(name, interval, operations, success, failure, performance.now(),
+                () -> remove(task[0]));
+        tasks.add(task[0]);
+        if (!listening) {
+            listening = true;
+            document.addEventListener(VISIBILITY_CHANGE, visibilityListener);
+        }
+        logger.debug("Schedule %s every %d ms", name, interval);
+        reschedule();
+        return task[0];
+    }
+
+    /** @return the scheduled tasks including their timing */
+    public List<PollingTask> tasks() {
+        return unmodifiableList(tasks);
+    }
+
+    // ------------------------------------------------------ internal
+
+    private void remove(PollingTask task) {
+        tasks.remove(task);
+        logger.debug("Cancel %s", task.name);
+        if (tasks.isEmpty()) {
+            clearTimeout(timeout);
+            if (listening) {
+                listening = false;
+                document.removeEventListener(VISIBILITY_CHANGE, visibilityListener);
+            }
+        }
+    }
+
+    private void tick() {
+        double now = performance.now();
+        List<PollingTask> merged = new ArrayList<>();
+        for (PollingTask task : new ArrayList<>(tasks)) {
+            if (task.due(now, COALESCE)) {
+                if (task.failing()) {
+                    execute(List.of(task));
+                } else {
+                    merged.add(task);
+                }
+            }
+        }
+        if (!merged.isEmpty()) {
+            execute(merged);
+        }
+        reschedule();
+    }
+
+    private void execute(List<PollingTask> due) {
+        List<PollingTask> batch = new ArrayList<>();
+        List<List<Operation>> batchOperations = new ArrayList<>();
+        List<Operation> operations = new ArrayList<>();
+        double now = performance.now();
+        for (PollingTask task : due) {
+            List<Operation> taskOperations = task.operations.get();
+            if (taskOperations == null || taskOperations.isEmpty()) {
+                task.skip(now);
+            } else {
+                task.started();
+                batch.add(task);
+                batchOperations.add(taskOperations);
+                operations.addAll(taskOperations);
+            }
+        }
+        if (operations.isEmpty()) {
+            return;
+        }
+
+        double start = performance.now();
+        // the duration of the composite is all we can measure, so each task of the batch gets the same duration
+        // failed steps must neither roll back nor fail the steps of other tasks
+        dispatcher.executeSteps(new Composite(operations))
+                .then(result -> {
+                    double end = performance.now();
+                    List<List<ModelNode>> steps = split(result, batchOperations);
+                    for (int i = 0; i < batch.size(); i++) {
+                        batch.get(i).completed(end, end - start, steps.get(i));
+                    }
+                    reschedule();
+                    return null;
+                })
+                .catch_(error -> {
+                    double end = performance.now();
+                    logger.warn("Polling %s failed: %s", names(batch), error);
+                    for (PollingTask task : batch) {
+                        task.failed(end, end - start, String.valueOf(error));
+                    }
+                    reschedule();
+                    return null;
+                });
+    }
+
+    /**
+     * Splits the step responses of the merged composite into the step responses of each task. Each task gets the outcome of
+     * its own steps, so that failed steps of one task don't affect the other tasks.
+     */
+    static List<List<ModelNode>> split(CompositeResult result, List<List<Operation>> operations) {
+        List<List<ModelNode>> steps = new ArrayList<>();
+        int step = 0;
+        for (List<Operation> taskOperations : operations) {
+            List<ModelNode> taskSteps = new ArrayList<>();
+            for (int i = 0; i < taskOperations.size(); i++) {
+                taskSteps.add(result.step(step++));
+            }
+            steps.add(taskSteps);
+        }
+        return steps;
+    }
+
+    private String names(List<PollingTask> tasks) {
+        List<String> names = new ArrayList<>();
+        for (PollingTask task : tasks) {
+            names.add(task.name);
+        }
+        return String.join(", ", names);
+    }
+
+    private void reschedule() {
+        clearTimeout(timeout);
+        if (document.hidden) {
+            return;
+        }
+        double next = Double.MAX_VALUE;
+        for (PollingTask task : tasks) {
+            if (!task.inFlight()) {
+                next = Math.min(next, task.nextRun());
+            }
+        }
+        if (next != Double.MAX_VALUE) {
+            double delay = Math.max(MIN_DELAY, next - performance.now());
+            timeout = setTimeout(__ -> tick(), delay);
+        }
+    }
+}
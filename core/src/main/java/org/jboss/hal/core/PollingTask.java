@@ -0,0 +1,229 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+
+/**
+ * A task registered at the {@link PollingScheduler}. Holds the operations and callbacks of the task together with its
+ * timing: The configured and the current interval, the number of runs and errors and the duration of the last requests.
+ * <p>
+ * The task backs off if a request fails or takes longer than half of the current interval. The interval is doubled up to
+ * {@value #MAX_BACK_OFF} times the configured interval and reset after the next fast and successful request.
+ * <p>
+ * The duration is measured per request, not per task. If the scheduler merges the operations of several tasks into one
+ * composite, all of these tasks get the duration of the whole composite. So one slow task makes the other tasks of the
+ * same request look slow, too, and they back off together.
+ */
+public class PollingTask {
+
+    static final int MAX_BACK_OFF = 8;
+
+    /**
+     * Returns the next interval based on the current interval and the outcome of the last request.
+     * <p>
+     * A request is slow if it takes longer than half of the <em>current</em> interval. The former
+     * {@code RuntimePoller} compared the duration to half of the configured interval. With that, a task whose requests
+     * constantly take a bit longer than half of the configured interval would back off to the maximum and never recover.
+     * Comparing to the current interval resets the task as soon as it has enough headroom again. Such a task alternates
+     * between the configured and the doubled interval instead of being stuck at the maximum.
+     */
+    static int nextInterval(int interval, int current, boolean success, double duration) {
+        if (success && duration <= current / 2.0) {
+            return interval;
+        }
+        return Math.min(current * 2, interval * MAX_BACK_OFF);
+    }
+
+    final String name;
+    final Supplier<List<Operation>> operations;
+    final Consumer<List<ModelNode>> success;
+    final Consumer<String> failure;
+    private final int interval;
+    private final Runnable onCancel;
+    private int current;
+    private double nextRun;
+    private boolean inFlight;
+    private boolean cancelled;
+    private int runs;
+    private int errors;
+    private int consecutiveErrors;
+    private double lastDuration;
+    private double averageDuration;
+
+    PollingTask(String name, int interval, Supplier<List<Operation>> operations, Consumer<List<ModelNode>> success,
+            Consumer<String> failure, double now, Runnable onCancel) {
+        this.name = name;
+        this.interval = interval;
+        this.operations = operations;
+        this.success = success;
+        this.failure = failure;
+        this.onCancel = onCancel;
+        this.current = interval;
+        this.nextRun = now + interval;
+        this.inFlight = false;
+        this.cancelled = false;
+    }
+
+    // ------------------------------------------------------ api
+
+    /** Removes the task from the scheduler. Results of a pending request are ignored. */
+    public void cancel() {
+        if (!cancelled) {
+            cancelled = true;
+            onCancel.run();
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /** @return the configured interval in milliseconds */
+    public int interval() {
+        return interval;
+    }
+
+    /** @return the current interval in milliseconds, which is greater than the configured interval while backing off */
+    public int currentInterval() {
+        return current;
+    }
+
+    /** @return the number of requests (successful or not) */
+    public int runs() {
+        return runs;
+    }
+
+    /** @return the number of failed requests */
+    public int errors() {
+        return errors;
+    }
+
+    /**
+     * @return the duration of the last request in milliseconds. If the request was merged with the operations of other
+     * tasks, this is the duration of the whole composite.
+     */
+    public double lastDuration() {
+        return lastDuration;
+    }
+
+    /** @return the average duration of all requests in milliseconds */
+    public double averageDuration() {
+        return averageDuration;
+    }
+
+    public boolean cancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public String toString() {
+        return "PollingTask(" + name + ", interval: " + current + "/" + interval + " ms, runs: " + runs + ", errors: " +
+                errors + ", last: " + Math.round(lastDuration) + " ms, average: " + Math.round(averageDuration) + " ms)";
+    }
+
+    // ------------------------------------------------------ internal
+
+    /** @return whether the task should run at the given time or up to {@code coalesce} milliseconds before */
+    boolean due(double now, double coalesce) {
+        return !cancelled && !inFlight && nextRun - now <= coalesce;
+    }
+
+    /** @return whether the last request failed. Failing tasks are executed on their own. */
+    boolean failing() {
+        return consecutiveErrors > 0;
+    }
+
+    double nextRun() {
+        return nextRun;
+    }
+
+    boolean inFlight() {
+        return inFlight;
+    }
+
+    void started() {
+        inFlight = true;
+    }
+
+    /**
+     * Dispatches the outcome of the steps of this task. The task fails only if all of its steps failed. Otherwise, the
+     * results are passed to the success callback, and the result of a failed step is {@code null}. This way one step which
+     * fails (e.g. an attribute which can't be read) doesn't make the task back off.
+     *
+     * @param steps the step responses of this task (in the same order as the operations)
+     */
+    void completed(double now, double duration, List<ModelNode> steps) {
+        List<ModelNode> results = new ArrayList<>();
+        String error = null;
+        boolean successful = false;
+        for (ModelNode step : steps) {
+            if (step.isFailure()) {
+                results.add(null);
+                if (error == null) {
+                    error = step.getFailureDescription();
+                }
+            } else {
+                results.add(step.get(RESULT));
+                successful = true;
+            }
+        }
+        if (successful || error == null) {
+            succeeded(now, duration, results);
+        } else {
+            failed(now, duration, error);
+        }
+    }
+
+    void succeeded(double now, double duration, List<ModelNode> results) {
+        finished(now, duration, true);
+        consecutiveErrors = 0;
+        if (!cancelled) {
+            success.accept(results);
+        }
+    }
+
+    void failed(double now, double duration, String error) {
+        finished(now, duration, false);
+        errors++;
+        consecutiveErrors++;
+        if (!cancelled && failure != null) {
+            failure.accept(error);
+        }
+    }
+
+    /** Skips this run, e.g. because the task has no operations right now. */
+    void skip(double now) {
+        nextRun = now + current;
+    }
+
+    private void finished(double now, double duration, boolean successful) {
+        inFlight = false;
+        runs++;
+        lastDuration = duration;
+        averageDuration += (duration - averageDuration) / runs;
+        current = nextInterval(interval, current, successful, duration);
+        nextRun = now + current;
+    }
+}
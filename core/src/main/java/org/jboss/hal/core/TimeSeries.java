@@ -0,0 +1,260 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core;
+
+/**
+ * Time series of a numeric metric. The samples are kept in fixed-capacity ring buffers backed by primitive arrays. Adding a
+ * sample doesn't allocate any memory. Besides the raw samples, the time series keeps averages over one and ten minutes
+ * (see {@link Resolution}). Older samples are overwritten once a ring buffer is full.
+ * <p>
+ * Use {@link #size(Resolution)}, {@link #time(Resolution, int)} and {@link #value(Resolution, int)} to iterate over the
+ * samples (oldest first) without allocation, or {@link #values(Resolution, int)} to get the latest values, e.g. for a
+ * sparkline.
+ */
+public class TimeSeries {
+
+    /** The resolutions of a time series */
+    public enum Resolution {
+        RAW(0), MINUTE(60_000), TEN_MINUTES(600_000);
+
+        /** The length of one aggregation bucket in milliseconds ({@code 0} for raw samples) */
+        public final long bucket;
+
+        Resolution(long bucket) {
+            this.bucket = bucket;
+        }
+    }
+
+    /** Default capacity for raw samples: One hour at one sample every five seconds. */
+    public static final int RAW_CAPACITY = 720;
+    /** Default capacity for one-minute averages: Six hours. */
+    public static final int MINUTE_CAPACITY = 360;
+    /** Default capacity for ten-minute averages: 24 hours. */
+    public static final int TEN_MINUTES_CAPACITY = 144;
+
+    private final String name;
+    private final Ring raw;
+    private final Tier minute;
+    private final Tier tenMinutes;
+
+    public TimeSeries(String name) {
+        this(name, RAW_CAPACITY, MINUTE_CAPACITY, TEN_MINUTES_CAPACITY);
+    }
+
+    public TimeSeries(String name, int rawCapacity, int minuteCapacity, int tenMinutesCapacity) {
+        this.name = name;
+        this.raw = new Ring(rawCapacity);
+        this.minute = new Tier(Resolution.MINUTE.bucket, minuteCapacity);
+        this.tenMinutes = new Tier(Resolution.TEN_MINUTES.bucket, tenMinutesCapacity);
+    }
+
+    // ------------------------------------------------------ api
+
+    /**
+     * Adds a sample. Samples must be added in chronological order. Samples older than the latest sample are ignored.
+     *
+     * @param timestamp the time of the sample in milliseconds since the epoch
+     */
+    public void add(long timestamp, double value) {
+        if (raw.size > 0 && timestamp < raw.time(raw.size - 1)) {
+            return;
+        }
+        raw.add(timestamp, value);
+        minute.add(timestamp, value);
+        tenMinutes.add(timestamp, value);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public boolean isEmpty() {
+        return raw.size == 0;
+    }
+
+    /** @return the number of samples of the given resolution */
+    public int size(Resolution resolution) {
+        return ring(resolution).size;
+    }
+
+    /** @return the time of the sample at the given index (oldest first). For aggregates, the start of the bucket. */
+    public long time(Resolution resolution, int index) {
+        return ring(resolution).time(index);
+    }
+
+    /** @return the value of the sample at the given index (oldest first). For aggregates, the average of the bucket. */
+    public double value(Resolution resolution, int index) {
+        return ring(resolution).value(index);
+    }
+
+    /** @return the latest raw value or {@link Double#NaN} if there are no samples */
+    public double latest() {
+        return raw.size > 0 ? raw.value(raw.size - 1) : Double.NaN;
+    }
+
+    /** @return the time of the latest raw sample or {@code 0} if there are no samples */
+    public long latestTime() {
+        return raw.size > 0 ? raw.time(raw.size - 1) : 0;
+    }
+
+    /** @return the minimum value of the given resolution or {@link Double#NaN} if there are no samples */
+    public double min(Resolution resolution) {
+        Ring ring = ring(resolution);
+        double min = Double.NaN;
+        for (int i = 0; i < ring.size; i++) {
+            double value = ring.value(i);
+            if (Double.isNaN(min) || value < min) {
+                min = value;
+            }
+        }
+        return min;
+    }
+
+    /** @return the maximum value of the given resolution or {@link Double#NaN} if there are no samples */
+    public double max(Resolution resolution) {
+        Ring ring = ring(resolution);
+        double max = Double.NaN;
+        for (int i = 0; i < ring.size; i++) {
+            double value = ring.value(i);
+            if (Double.isNaN(max) || value > max) {
+                max = value;
+            }
+        }
+        return max;
+    }
+
+    /** @return the latest {@code max} values of the given resolution (oldest first) */
+    public double[] values(Resolution resolution, int max) {
+        Ring ring = ring(resolution);
+        int size = Math.min(max, ring.size);
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = ring.value(ring.size - size + i);
+        }
+        return values;
+    }
+
+    public void clear() {
+        raw.clear();
+        minute.clear();
+        tenMinutes.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "TimeSeries(" + name + ", raw: " + raw.size + ", minute: " + minute.ring.size + ", ten minutes: " +
+                tenMinutes.ring.size + ")";
+    }
+
+    // ------------------------------------------------------ internal
+
+    private Ring ring(Resolution resolution) {
+        switch (resolution) {
+            case MINUTE:
+                return minute.ring;
+            case TEN_MINUTES:
+                return tenMinutes.ring;
+            case RAW:
+            default:
+                return raw;
+        }
+    }
+
+    // ------------------------------------------------------ inner classes
+
+    /** Fixed-capacity ring buffer of timestamps and values. */
+    static class Ring {
+
+        final long[] times;
+        final double[] values;
+        int head; // index of the oldest sample
+        int size;
+
+        Ring(int capacity) {
+            this.times = new long[capacity];
+            this.values = new double[capacity];
+            this.head = 0;
+            this.size = 0;
+        }
+
+        void add(long time, double value) {
+            int index;
+            if (size < times.length) {
+                index = (head + size) % times.length;
+                size++;
+            } else {
+                index = head;
+                head = (head + 1) % times.length;
+            }
+            times[index] = time;
+            values[index] = value;
+        }
+
+        long time(int index) {
+            return times[(head + index) % times.length];
+        }
+
+        double value(int index) {
+            return values[(head + index) % times.length];
+        }
+
+        void clear() {
+            head = 0;
+            size = 0;
+        }
+    }
+
+    /** Averages the samples of one bucket and adds the average to its ring buffer once the bucket is complete. */
+    static class Tier {
+
+        final long bucket;
+        final Ring ring;
+        long start;
+        double sum;
+        int count;
+
+        Tier(long bucket, int capacity) {
+            this.bucket = bucket;
+            this.ring = new Ring(capacity);
+            this.start = -1;
+        }
+
+        void add(long time, double value) {
+            long bucketStart = time - time % bucket;
+            if (bucketStart != start) {
+                flush();
+                start = bucketStart;
+            }
+            sum += value;
+            count++;
+        }
+
+        void flush() {
+            if (count > 0) {
+                ring.add(start, sum / count);
+            }
+            sum = 0;
+            count = 0;
+        }
+
+        void clear() {
+            ring.clear();
+            start = -1;
+            sum = 0;
+            count = 0;
+        }
+    }
+}
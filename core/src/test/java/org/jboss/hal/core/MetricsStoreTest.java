@@ -0,0 +1,41 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.jboss.hal.core.MetricsStore.SAVE_INTERVAL;
+import static org.jboss.hal.core.MetricsStore.saveDue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetricsStoreTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Test
+    void notRestored() {
+        assertFalse(saveDue(false, 0, NOW));
+        assertFalse(saveDue(false, NOW - 10 * SAVE_INTERVAL, NOW));
+    }
+
+    @Test
+    void restored() {
+        assertFalse(saveDue(true, NOW, NOW));
+        assertFalse(saveDue(true, NOW - SAVE_INTERVAL + 1, NOW));
+        assertTrue(saveDue(true, NOW - SAVE_INTERVAL, NOW));
+    }
+}
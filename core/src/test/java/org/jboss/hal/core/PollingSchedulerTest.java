@@ -0,0 +1,62 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core;
+
+import java.util.List;
+
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.jupiter.api.Test;
+
+import static org.jboss.hal.core.PollingScheduler.split;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILED;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SUCCESS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PollingSchedulerTest {
+
+    @Test
+    void splitSteps() {
+        ModelNode steps = new ModelNode();
+        steps.get("step-1").get(OUTCOME).set(SUCCESS);
+        steps.get("step-1").get(RESULT).set(1);
+        steps.get("step-2").get(OUTCOME).set(FAILED);
+        steps.get("step-3").get(OUTCOME).set(SUCCESS);
+        steps.get("step-3").get(RESULT).set(3);
+
+        List<List<ModelNode>> split = split(new CompositeResult(steps),
+                List.of(List.of(operation(), operation()), List.of(operation())));
+
+        assertEquals(2, split.size());
+        assertEquals(2, split.get(0).size());
+        assertEquals(1, split.get(0).get(0).get(RESULT).asInt());
+        assertTrue(split.get(0).get(1).isFailure());
+        assertEquals(1, split.get(1).size());
+        assertFalse(split.get(1).get(0).isFailure());
+        assertEquals(3, split.get(1).get(0).get(RESULT).asInt());
+    }
+
+    private Operation operation() {
+        return new Operation.Builder(ResourceAddress.root(), READ_ATTRIBUTE_OPERATION).build();
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Collections.emptyList;
+import static org.jboss.hal.core.PollingTask.MAX_BACK_OFF;
+import static org.jboss.hal.core.PollingTask.nextInterval;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILED;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SUCCESS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PollingTaskTest {
+
+    private static final int INTERVAL = 1_000;
+
+    @Test
+    void fast() {
+        assertEquals(INTERVAL, nextInterval(INTERVAL, INTERVAL, true, 100));
+    }
+
+    @Test
+    void slow() {
+        assertEquals(2 * INTERVAL, nextInterval(INTERVAL, INTERVAL, true, 600));
+    }
+
+    @Test
+    void error() {
+        assertEquals(2 * INTERVAL, nextInterval(INTERVAL, INTERVAL, false, 10));
+        assertEquals(4 * INTERVAL, nextInterval(INTERVAL, 2 * INTERVAL, false, 10));
+    }
+
+    @Test
+    void limit() {
+        int current = INTERVAL;
+        for (int i = 0; i < 10; i++) {
+            current = nextInterval(INTERVAL, current, false, 0);
+        }
+        assertEquals(MAX_BACK_OFF * INTERVAL, current);
+    }
+
+    @Test
+    void reset() {
+        assertEquals(INTERVAL, nextInterval(INTERVAL, MAX_BACK_OFF * INTERVAL, true, 10));
+    }
+
+    @Test
+    void recoverWhileBackedOff() {
+        // 600 ms is slow for the configured interval, but fast enough for the doubled interval
+        assertEquals(2 * INTERVAL, nextInterval(INTERVAL, INTERVAL, true, 600));
+        assertEquals(INTERVAL, nextInterval(INTERVAL, 2 * INTERVAL, true, 600));
+    }
+
+    @Test
+    void due() {
+        PollingTask task = task(new ArrayList<>());
+        assertFalse(task.due(0, 0));
+        assertTrue(task.due(INTERVAL, 0));
+        assertTrue(task.due(INTERVAL - 100, 500));
+
+        task.started();
+        assertFalse(task.due(INTERVAL, 0));
+    }
+
+    @Test
+    void timing() {
+        List<List<ModelNode>> results = new ArrayList<>();
+        PollingTask task = task(results);
+
+        task.started();
+        task.succeeded(INTERVAL, 100, emptyList());
+        task.started();
+        task.failed(3 * INTERVAL, 300, "error");
+
+        assertEquals(1, results.size());
+        assertEquals(2, task.runs());
+        assertEquals(1, task.errors());
+        assertTrue(task.failing());
+        assertEquals(300, task.lastDuration());
+        assertEquals(200, task.averageDuration());
+        assertEquals(2 * INTERVAL, task.currentInterval());
+        assertEquals(5 * INTERVAL, task.nextRun());
+    }
+
+    @Test
+    void cancel() {
+        List<List<ModelNode>> results = new ArrayList<>();
+        boolean[] removed = new boolean[1];
+        PollingTask task = new PollingTask("test", INTERVAL, () -> emptyList(), results::add, null, 0,
+                () -> removed[0] = true);
+
+        task.started();
+        task.cancel();
+        task.succeeded(INTERVAL, 100, emptyList());
+
+        assertTrue(removed[0]);
+        assertTrue(results.isEmpty());
+        assertFalse(task.due(10 * INTERVAL, 0));
+    }
+
+    @Test
+    void partialFailure() {
+        List<List<ModelNode>> results = new ArrayList<>();
+        PollingTask task = task(results);
+
+        task.started();
+        task.completed(INTERVAL, 100, List.of(success(42), failure("unreadable")));
+
+        assertEquals(1, results.size());
+        assertEquals(42, results.get(0).get(0).asInt());
+        assertNull(results.get(0).get(1));
+        assertEquals(0, task.errors());
+        assertFalse(task.failing());
+        assertEquals(INTERVAL, task.currentInterval());
+    }
+
+    @Test
+    void allStepsFailed() {
+        List<List<ModelNode>> results = new ArrayList<>();
+        String[] error = new String[1];
+        PollingTask task = new PollingTask("test", INTERVAL, () -> emptyList(), results::add, e -> error[0] = e, 0,
+                () -> {});
+
+        task.started();
+        task.completed(INTERVAL, 100, List.of(failure("first"), failure("second")));
+
+        assertTrue(results.isEmpty());
+        assertEquals("first", error[0]);
+        assertEquals(1, task.errors());
+        assertTrue(task.failing());
+        assertEquals(2 * INTERVAL, task.currentInterval());
+    }
+
+    private ModelNode success(int value) {
+        ModelNode step = new ModelNode();
+        step.get(OUTCOME).set(SUCCESS);
+        step.get(RESULT).set(value);
+        return step;
+    }
+
+    private ModelNode failure(String description) {
+        ModelNode step = new ModelNode();
+        step.get(OUTCOME).set(FAILED);
+        step.get(FAILURE_DESCRIPTION).set(description);
+        return step;
+    }
+
+    private PollingTask task(List<List<ModelNode>> results) {
+        return new PollingTask("test", INTERVAL, () -> emptyList(), results::add, null, 0, () -> {});
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.jboss.hal.core.TimeSeries.Resolution.MINUTE;
+import static org.jboss.hal.core.TimeSeries.Resolution.RAW;
+import static org.jboss.hal.core.TimeSeries.Resolution.TEN_MINUTES;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeSeriesTest {
+
+    private static final long SECOND = 1_000;
+    private static final long MINUTE_MS = 60 * SECOND;
+
+    @Test
+    void empty() {
+        TimeSeries timeSeries = new TimeSeries("empty");
+        assertTrue(timeSeries.isEmpty());
+        assertEquals(0, timeSeries.size(RAW));
+        assertTrue(Double.isNaN(timeSeries.latest()));
+        assertTrue(Double.isNaN(timeSeries.min(RAW)));
+        assertEquals(0, timeSeries.values(RAW, 10).length);
+    }
+
+    @Test
+    void ring() {
+        TimeSeries timeSeries = new TimeSeries("ring", 3, 1, 1);
+        for (int i = 1; i <= 5; i++) {
+            timeSeries.add(i * SECOND, i);
+        }
+        assertEquals(3, timeSeries.size(RAW));
+        assertEquals(3 * SECOND, timeSeries.time(RAW, 0));
+        assertEquals(5, timeSeries.latest());
+        assertArrayEquals(new double[]{3, 4, 5}, timeSeries.values(RAW, 10));
+        assertArrayEquals(new double[]{4, 5}, timeSeries.values(RAW, 2));
+        assertEquals(3, timeSeries.min(RAW));
+        assertEquals(5, timeSeries.max(RAW));
+    }
+
+    @Test
+    void outOfOrder() {
+        TimeSeries timeSeries = new TimeSeries("out-of-order");
+        timeSeries.add(2 * SECOND, 2);
+        timeSeries.add(SECOND, 1);
+        assertEquals(1, timeSeries.size(RAW));
+        assertEquals(2, timeSeries.latest());
+    }
+
+    @Test
+    void aggregates() {
+        TimeSeries timeSeries = new TimeSeries("aggregates");
+        // 25 minutes, one sample every 5 seconds, the value is the minute
+        for (long time = 0; time < 25 * MINUTE_MS; time += 5 * SECOND) {
+            timeSeries.add(time, time / MINUTE_MS);
+        }
+
+        // the current bucket is not yet complete
+        assertEquals(24, timeSeries.size(MINUTE));
+        assertEquals(0, timeSeries.time(MINUTE, 0));
+        assertEquals(0, timeSeries.value(MINUTE, 0));
+        assertEquals(23 * MINUTE_MS, timeSeries.time(MINUTE, 23));
+        assertEquals(23, timeSeries.value(MINUTE, 23));
+
+        assertEquals(2, timeSeries.size(TEN_MINUTES));
+        assertEquals(4.5, timeSeries.value(TEN_MINUTES, 0));
+        assertEquals(14.5, timeSeries.value(TEN_MINUTES, 1));
+    }
+
+    @Test
+    void clear() {
+        TimeSeries timeSeries = new TimeSeries("clear");
+        timeSeries.add(0, 1);
+        timeSeries.add(2 * MINUTE_MS, 1);
+        timeSeries.clear();
+        assertTrue(timeSeries.isEmpty());
+        assertEquals(0, timeSeries.size(MINUTE));
+        timeSeries.add(SECOND, 2);
+        assertEquals(2, timeSeries.latest());
+    }
+}
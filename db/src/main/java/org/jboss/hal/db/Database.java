@@ -0,0 +1,184 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.db;
+
+import elemental2.promise.Promise;
+import jsinterop.annotations.JsFunction;
+import jsinterop.annotations.JsType;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+
+import static jsinterop.annotations.JsPackage.GLOBAL;
+
+/**
+ * Local database based on IndexedDB. The database stores {@linkplain Document documents} in object stores. Documents are
+ * identified by their {@linkplain Document#id() ID}.
+ */
+public class Database {
+
+    private static final String KEY_PATH = "_id";
+    private static final String READ_ONLY = "readonly";
+    private static final String READ_WRITE = "readwrite";
+
+    /** @return whether the browser supports IndexedDB */
+    public static boolean supported() {
+        return Js.asPropertyMap(Js.global()).has("indexedDB");
+    }
+
+    /**
+     * Opens the database and creates missing object stores.
+     *
+     * @param name    the name of the database
+     * @param version the version of the database. Increase the version if you add new stores.
+     * @param stores  the names of the object stores
+     */
+    public static Promise<Database> open(String name, int version, String... stores) {
+        if (!supported()) {
+            return Promise.reject("IndexedDB is not supported");
+        }
+        return new Promise<>((resolve, reject) -> {
+            IDBFactory factory = Js.cast(Js.asPropertyMap(Js.global()).get("indexedDB"));
+            IDBOpenDBRequest request = factory.open(name, version);
+            request.onupgradeneeded = __ -> {
+                IDBDatabase db = Js.cast(request.result);
+                for (String store : stores) {
+                    if (!db.objectStoreNames.contains(store)) {
+                        JsPropertyMap<Object> options = JsPropertyMap.of();
+                        options.set("keyPath", KEY_PATH);
+                        db.createObjectStore(store, options);
+                    }
+                }
+            };
+            request.onsuccess = __ -> resolve.onInvoke(new Database(name, Js.cast(request.result)));
+            request.onerror = __ -> reject.onInvoke(request.error);
+        });
+    }
+
+    private final String name;
+    private final IDBDatabase db;
+
+    private Database(String name, IDBDatabase db) {
+        this.name = name;
+        this.db = db;
+    }
+
+    /** @return the document or {@code null} if there's no document with the given ID */
+    public Promise<Document> get(String store, String id) {
+        return new Promise<>((resolve, reject) -> {
+            IDBRequest request = db.transaction(store, READ_ONLY).objectStore(store).get(id);
+            request.onsuccess = __ -> resolve.onInvoke(request.result != null ? Js.cast(request.result) : null);
+            request.onerror = __ -> reject.onInvoke(request.error);
+        });
+    }
+
+    /** Adds or replaces the document. The promise resolves when the transaction has been completed. */
+    public Promise<Document> put(String store, Document document) {
+        return new Promise<>((resolve, reject) -> {
+            IDBTransaction transaction = db.transaction(store, READ_WRITE);
+            transaction.objectStore(store).put(document);
+            transaction.oncomplete = __ -> resolve.onInvoke(document);
+            transaction.onerror = __ -> reject.onInvoke(transaction.error);
+            transaction.onabort = __ -> reject.onInvoke(transaction.error);
+        });
+    }
+
+    /** Removes the document. The promise resolves when the transaction has been completed. */
+    public Promise<String> delete(String store, String id) {
+        return new Promise<>((resolve, reject) -> {
+            IDBTransaction transaction = db.transaction(store, READ_WRITE);
+            transaction.objectStore(store).delete(id);
+            transaction.oncomplete = __ -> resolve.onInvoke(id);
+            transaction.onerror = __ -> reject.onInvoke(transaction.error);
+            transaction.onabort = __ -> reject.onInvoke(transaction.error);
+        });
+    }
+
+    public void close() {
+        db.close();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    // ------------------------------------------------------ native
+
+    @JsFunction
+    interface EventHandler {
+
+        void onEvent(Object event);
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = "Object")
+    static class IDBFactory {
+
+        public native IDBOpenDBRequest open(String name, int version);
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = "Object")
+    static class IDBRequest {
+
+        public Object result;
+        public Object error;
+        public EventHandler onsuccess;
+        public EventHandler onerror;
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = "Object")
+    static class IDBOpenDBRequest extends IDBRequest {
+
+        public EventHandler onupgradeneeded;
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = "Object")
+    static class IDBDatabase {
+
+        public DOMStringList objectStoreNames;
+
+        public native IDBObjectStore createObjectStore(String name, JsPropertyMap<Object> options);
+
+        public native IDBTransaction transaction(String store, String mode);
+
+        public native void close();
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = "Object")
+    static class DOMStringList {
+
+        public native boolean contains(String string);
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = "Object")
+    static class IDBTransaction {
+
+        public Object error;
+        public EventHandler oncomplete;
+        public EventHandler onerror;
+        public EventHandler onabort;
+
+        public native IDBObjectStore objectStore(String name);
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = "Object")
+    static class IDBObjectStore {
+
+        public native IDBRequest get(Object key);
+
+        public native IDBRequest put(Object value);
+
+        public native IDBRequest delete(Object key);
+    }
+}
@@ -357,6 +357,7 @@ public interface ModelDescriptionConstants {
     String FILE = "file";
     String FILE_AUDIT_LOG = "file-audit-log";
     String FILE_HANDLER = "file-handler";
+    String FILE_SIZE = "file-size";
     String FILESYSTEM_REALM = "filesystem-realm";
     String FILTER = "filter";
     String FILTER_REF = "filter-ref";
@@ -870,6 +871,7 @@ public interface ModelDescriptionConstants {
     String ROLE_MAP = "role-map";
     String ROLE_MAPPING = "role-mapping";
     String ROLES = "roles";
+    String ROLLBACK_ON_RUNTIME_FAILURE = "rollback-on-runtime-failure";
     String ROLLBACK_OPERATION = "rollback";
     String ROLLBACK_PREPARED_TRANSACTION = "rollback-prepared-transaction";
     String ROLLBACK_TO = "rollback-to";
@@ -950,6 +952,7 @@ public interface ModelDescriptionConstants {
     String SINGLETON = "singleton";
     String SIZE_ROTATING_FILE_AUDIT_LOG = "size-rotating-file-audit-log";
     String SIZE_ROTATING_FILE_HANDLER = "size-rotating-file-handler";
+    String SKIP = "skip";
     String SMTP = "smtp";
     String SOCKET_BINDING = "socket-binding";
     String SOCKET_BINDING_DEFAULT_INTERFACE = "socket-binding-default-interface";
@@ -101,6 +101,20 @@ public final class ModelNodeHelper {
         return value;
     }
 
+    // ------------------------------------------------------ changes
+
+    /**
+     * Returns whether a model node has changed. The model nodes are compared structurally using
+     * {@link ModelNode#equals(ModelNode)}, which stops at the first difference. Unchanged model nodes are walked only once.
+     *
+     * @param previous the previous model node (may be {@code null})
+     * @param current  the current model node (may be {@code null})
+     * @return {@code true} if the current model node is different from the previous one
+     */
+    public static boolean changed(ModelNode previous, ModelNode current) {
+        return previous == null ? current != null : !previous.equals(current);
+    }
+
     // ------------------------------------------------------ version
 
     public static Version parseVersion(ModelNode modelNode) {
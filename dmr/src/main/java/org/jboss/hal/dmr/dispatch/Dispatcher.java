@@ -28,6 +28,8 @@ import org.jboss.hal.dmr.Composite;
 import org.jboss.hal.dmr.CompositeResult;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.Property;
+import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.env.AccessControlProvider;
 import org.jboss.hal.env.Endpoints;
 import org.jboss.hal.env.Environment;
@@ -41,12 +43,15 @@ import elemental2.promise.IThenable.ThenOnFulfilledCallbackFn;
 import elemental2.promise.Promise;
 import elemental2.promise.Promise.CatchOnRejectedCallbackFn;
 
+import static elemental2.core.Global.encodeURIComponent;
 import static elemental2.dom.DomGlobal.fetch;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RESPONSE_HEADERS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ROLLBACK_ON_RUNTIME_FAILURE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
 import static org.jboss.hal.dmr.dispatch.DmrResponseProcessor.PARSE_ERROR;
 import static org.jboss.hal.dmr.dispatch.HeaderValues.APPLICATION_DMR_ENCODED;
 import static org.jboss.hal.dmr.dispatch.HeaderValues.HEADER_MANAGEMENT_CLIENT_VALUE;
+import static org.jboss.hal.dmr.dispatch.HttpMethod.GET;
 import static org.jboss.hal.dmr.dispatch.HttpMethod.POST;
 import static org.jboss.hal.dmr.dispatch.RequestHeader.ACCEPT;
 import static org.jboss.hal.dmr.dispatch.RequestHeader.CONTENT_TYPE;
@@ -105,6 +110,36 @@ public class Dispatcher {
         return dmr(operations).then(payload -> Promise.resolve(compositeResult(payload)));
     }
 
+    /**
+     * Executes the composite operation and returns the outcome of each step, even if single steps failed. Use
+     * {@link CompositeResult#step(int)} and {@link ModelNode#isFailure()} to check the outcome of a step.
+     * <p>
+     * The composite is executed with {@code rollback-on-runtime-failure=false}, so that a step which fails at runtime (e.g.
+     * an attribute which can't be read) doesn't roll back the other steps. Errors are not logged. The promise is rejected
+     * only if the request itself failed or if the response doesn't contain the outcome of the steps.
+     */
+    public Promise<CompositeResult> executeSteps(Composite operations) {
+        operations.addHeader(ROLLBACK_ON_RUNTIME_FAILURE, false);
+        RequestInit init = requestInit(POST, true);
+        init.setBody(runAs(operations).toBase64String());
+        Request request = new Request(endpoints.dmr(), init);
+
+        return fetch(request)
+                .then(processResponse())
+                .then(text -> {
+                    logger.debug("Process text for DMR steps: %s", operations.asCli());
+                    ModelNode payload = new OperationResponseProcessor().processPayload(POST, APPLICATION_DMR_ENCODED,
+                            text);
+                    if (payload.hasDefined(RESULT)) {
+                        if (!payload.isFailure()) {
+                            processHeaders(payload);
+                        }
+                        return Promise.resolve(compositeResult(payload));
+                    }
+                    return Promise.reject(payload.getFailureDescription());
+                });
+    }
+
     // ------------------------------------------------------ execute operation
 
     public void execute(Operation operation, Consumer<ModelNode> success) {
@@ -176,12 +211,32 @@ public class Dispatcher {
      * @return a {@link Promise} of {@link ModelNode} - the result of the operation
      */
     public Promise<ModelNode> dmr(Operation operation, boolean logError) {
+        return dmr(operation, logError, null);
+    }
+
+    /**
+     * Executes the operation like {@link #dmr(Operation, boolean)} and reports the size of the DMR encoded response. The size
+     * is the length of the response text as received over the wire, so measuring it doesn't need to encode the payload
+     * again.
+     *
+     * @param operation the {@link Operation} to be executed
+     * @param logError  if true, logs any error that occurs during the operation execution
+     * @param size      called with the size of the response in bytes, may be {@code null}
+     * @return a {@link Promise} of {@link ModelNode} - the result of the operation
+     */
+    public Promise<ModelNode> dmr(Operation operation, boolean logError, Consumer<Integer> size) {
         RequestInit init = requestInit(POST, true);
         init.setBody(runAs(operation).toBase64String());
         Request request = new Request(endpoints.dmr(), init);
 
-        return fetch(request)
-                .then(processResponse())
+        Promise<String> text = fetch(request).then(processResponse());
+        if (size != null) {
+            text = text.then(t -> {
+                size.accept(t.length());
+                return Promise.resolve(t);
+            });
+        }
+        return text
                 .then(processText(operation, new OperationResponseProcessor(), true))
                 .catch_(error -> {
                     if (logError) {
@@ -191,6 +246,38 @@ public class Dispatcher {
                 });
     }
 
+    // ------------------------------------------------------ stream
+
+    /**
+     * Reads an attribute of type stream (e.g. the {@code stream} attribute of a log file) using the HTTP GET API of the
+     * management endpoint and {@code useStreamAsResponse}. The promise resolves as soon as the response headers have been
+     * received. The body is not read, so that the caller can consume it incrementally.
+     *
+     * @param address   the address of the resource
+     * @param attribute the name of the stream attribute
+     * @return a {@link Promise} of the {@link Response} whose body is the content of the stream
+     */
+    public Promise<Response> stream(ResourceAddress address, String attribute) {
+        Request request = new Request(streamUrl(address, attribute), requestInit(GET, false));
+        return fetch(request).then(response -> {
+            if (!response.ok) {
+                return Promise.reject(ResponseStatus.fromStatusCode(response.status).statusText());
+            }
+            return Promise.resolve(response);
+        });
+    }
+
+    private String streamUrl(ResourceAddress address, String attribute) {
+        StringBuilder builder = new StringBuilder(endpoints.dmr());
+        for (Property segment : address.asPropertyList()) {
+            builder.append("/").append(encodeURIComponent(segment.getName()))
+                    .append("/").append(encodeURIComponent(segment.getValue().asString()));
+        }
+        return builder.append("?operation=attribute&name=").append(encodeURIComponent(attribute))
+                .append("&useStreamAsResponse")
+                .toString();
+    }
+
     // ------------------------------------------------------ promise handlers
 
     ThenOnFulfilledCallbackFn<Response, String> processResponse() {
@@ -215,14 +302,7 @@ public class Dispatcher {
             logger.debug("Process text for DMR operation: %s", operation.asCli());
             ModelNode payload = payloadProcessor.processPayload(POST, APPLICATION_DMR_ENCODED, text);
             if (!payload.isFailure()) {
-                if (payload.hasDefined(RESPONSE_HEADERS)) {
-                    DmrHeader[] headers = environment.standalone()
-                            ? DmrHeader.standalone(payload.get(RESPONSE_HEADERS))
-                            : DmrHeader.domain(payload.get(RESPONSE_HEADERS));
-                    for (DmrHeaderProcessor dmrHeaderProcessor : dmrHeaderProcessors) {
-                        dmrHeaderProcessor.process(headers);
-                    }
-                }
+                processHeaders(payload);
                 return Promise.resolve(payload);
             } else {
                 return Promise.reject(payload.getFailureDescription());
@@ -239,6 +319,17 @@ public class Dispatcher {
 
     // ------------------------------------------------------ internal
 
+    private void processHeaders(ModelNode payload) {
+        if (payload.hasDefined(RESPONSE_HEADERS)) {
+            DmrHeader[] headers = environment.standalone()
+                    ? DmrHeader.standalone(payload.get(RESPONSE_HEADERS))
+                    : DmrHeader.domain(payload.get(RESPONSE_HEADERS));
+            for (DmrHeaderProcessor dmrHeaderProcessor : dmrHeaderProcessors) {
+                dmrHeaderProcessor.process(headers);
+            }
+        }
+    }
+
     private CompositeResult compositeResult(ModelNode payload) {
         return new CompositeResult(payload.get(RESULT));
     }
@@ -0,0 +1,77 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import org.junit.jupiter.api.Test;
+
+import static org.jboss.hal.dmr.ModelNodeHelper.changed;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ModelNodeHelperTest {
+
+    @Test
+    public void nil() {
+        assertFalse(changed(null, null));
+        assertTrue(changed(null, new ModelNode()));
+        assertTrue(changed(new ModelNode(), null));
+    }
+
+    @Test
+    public void simple() {
+        assertFalse(changed(new ModelNode().set(42), new ModelNode().set(42)));
+        assertTrue(changed(new ModelNode().set(42), new ModelNode().set(43)));
+        assertTrue(changed(new ModelNode(), new ModelNode().set("")));
+    }
+
+    @Test
+    public void type() {
+        assertTrue(changed(new ModelNode().set(1), new ModelNode().set(1L)));
+    }
+
+    @Test
+    public void list() {
+        ModelNode list = new ModelNode();
+        list.add("a").add("b");
+        ModelNode same = new ModelNode();
+        same.add("a").add("b");
+        ModelNode reversed = new ModelNode();
+        reversed.add("b").add("a");
+
+        assertFalse(changed(list, same));
+        assertTrue(changed(list, reversed));
+    }
+
+    @Test
+    public void object() {
+        ModelNode object = new ModelNode();
+        object.get("pool").get("max").set(10);
+        ModelNode changed = new ModelNode();
+        changed.get("pool").get("max").set(20);
+
+        assertFalse(changed(object, object.clone()));
+        assertTrue(changed(object, changed));
+    }
+
+    @Test
+    public void sameHashCode() {
+        // the hash code of a long value is its lower 32 bits
+        ModelNode previous = new ModelNode().set(0L);
+        ModelNode current = new ModelNode().set(1L << 32);
+
+        assertTrue(changed(previous, current));
+    }
+}
@@ -86,9 +86,11 @@ public class Settings {
 
         SHOW_GLOBAL_OPERATIONS("show-global-operations", true),
 
-        RUN_AS("run-as", false); // can contain multiple roles
+        RUN_AS("run-as", false), // can contain multiple roles
         // separated by ","
 
+        WARM_UP_TEMPLATES("warm-up-templates", true); // address templates separated by "|"
+
         public static Key from(String key) {
             switch (key) {
                 case "title":
@@ -99,6 +101,8 @@ public class Settings {
                     return SHOW_GLOBAL_OPERATIONS;
                 case "run-as":
                     return RUN_AS;
+                case "warm-up-templates":
+                    return WARM_UP_TEMPLATES;
                 default:
                     return null;
             }
@@ -15,10 +15,13 @@
  */
 package org.jboss.hal.meta;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Map;
 
 import org.jboss.elemento.Id;
 import org.jboss.hal.dmr.ModelNode;
@@ -29,8 +32,6 @@ import org.jboss.hal.meta.WildcardResolver.Direction;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.unmodifiableList;
-import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toCollection;
 import static org.jboss.hal.dmr.ValueEncoder.ENCODED_SLASH;
 
 /**
@@ -69,6 +70,11 @@ import static org.jboss.hal.dmr.ValueEncoder.ENCODED_SLASH;
  * When creating a template from a {@linkplain AddressTemplate#of(String) string},
  * or {@linkplain AddressTemplate#append(String) appending} a string, you must take care of the encoding.
  * If you create a template from {@linkplain AddressTemplate#of(List) segments}, the encoding is done for you.
+ * <p>
+ * <strong>Structure</strong><br/>
+ * Address templates are immutable and store their segments in an array. Structural operations like
+ * {@link #append(String, String)}, {@link #parent()} or {@link #subTemplate(int, int)} work on the segments and don't parse
+ * the template again. {@link #parent()} and {@link #subTemplate(int, int)} share the segments of this template.
  */
 public final class AddressTemplate implements Iterable<Segment> {
 
@@ -78,15 +84,41 @@ public final class AddressTemplate implements Iterable<Segment> {
      * Creates a new root address template, which represents the empty address.
      */
     public static AddressTemplate root() {
-        return new AddressTemplate(emptyList());
+        return ROOT;
     }
 
     /**
      * Creates a new address template from an <strong>encoded</strong> string template. Special characters in the template must
      * be encoded.
+     * <p>
+     * Parsed templates are kept in a bounded intern pool. Creating a template from the same string again returns the pooled
+     * instance.
      */
     public static AddressTemplate of(String template) {
-        return new AddressTemplate(parse(template));
+        return of(template, true);
+    }
+
+    /**
+     * Same as {@link #of(String)}, but lets you bypass the intern pool. Use {@code intern=false} when creating many templates
+     * at once which won't be requested again soon, e.g. when restoring an index. Otherwise, the pool would be cleared over and
+     * over again.
+     */
+    public static AddressTemplate of(String template, boolean intern) {
+        if (template == null) {
+            return ROOT;
+        }
+        if (!intern) {
+            return new AddressTemplate(parse(template));
+        }
+        AddressTemplate addressTemplate = INTERNED.get(template);
+        if (addressTemplate == null) {
+            if (INTERNED.size() >= MAX_INTERNED) {
+                INTERNED.clear();
+            }
+            addressTemplate = new AddressTemplate(parse(template));
+            INTERNED.put(template, addressTemplate);
+        }
+        return addressTemplate;
     }
 
     /** Creates a new address template from a placeholder. */
@@ -106,7 +138,7 @@ public final class AddressTemplate implements Iterable<Segment> {
      * Creates a new address template from an existing template.
      */
     public static AddressTemplate of(AddressTemplate template) {
-        return template != null ? new AddressTemplate(template.segments) : new AddressTemplate(emptyList());
+        return template != null ? template : ROOT;
     }
 
     /**
@@ -122,17 +154,37 @@ public final class AddressTemplate implements Iterable<Segment> {
 
     // ------------------------------------------------------ instance
 
+    private static final int MAX_INTERNED = 1_000;
+    private static final Map<String, AddressTemplate> INTERNED = new HashMap<>();
+    private static final Segment[] NO_SEGMENTS = new Segment[0];
+    private static final AddressTemplate ROOT = new AddressTemplate(NO_SEGMENTS, 0, 0, "/");
+
     /** The string representation of this address template. If the template contains special characters, they're encoded. */
     public final String template;
-    private final LinkedList<Segment> segments;
+    private final Segment[] segments;
+    private final int offset;
+    private final int length;
+    private String identifier;
+    private int hash;
 
     private AddressTemplate(List<Segment> segments) {
-        this.segments = segments.stream()
-                .filter(Predicate.not(segment -> segment == Segment.EMPTY))
-                .collect(toCollection(LinkedList::new));
-        this.template = "/" + this.segments.stream()
-                .map(Segment::toString)
-                .collect(joining("/"));
+        List<Segment> nonEmpty = new ArrayList<>(segments.size());
+        for (Segment segment : segments) {
+            if (segment != Segment.EMPTY) {
+                nonEmpty.add(segment);
+            }
+        }
+        this.segments = nonEmpty.toArray(NO_SEGMENTS);
+        this.offset = 0;
+        this.length = this.segments.length;
+        this.template = join(this.segments, 0, this.length);
+    }
+
+    private AddressTemplate(Segment[] segments, int offset, int length, String template) {
+        this.segments = segments;
+        this.offset = offset;
+        this.length = length;
+        this.template = template != null ? template : join(segments, offset, length);
     }
 
     @Override
@@ -150,9 +202,11 @@ public final class AddressTemplate implements Iterable<Segment> {
 
     @Override
     public int hashCode() {
-        int result = template.hashCode();
-        result = 31 * result;
-        return result;
+        // templates are used as keys in caches and memos: compute the hash code only once
+        if (hash == 0) {
+            hash = 31 * template.hashCode();
+        }
+        return hash;
     }
 
     /**
@@ -174,7 +228,12 @@ public final class AddressTemplate implements Iterable<Segment> {
      * @return a new template
      */
     public AddressTemplate append(String key, String value) {
-        return append(key + "=" + ValueEncoder.encode(value));
+        if (key == null || key.isEmpty() || key.contains("/") || key.contains("=") ||
+                value == null || value.isEmpty() || "{}".equals(value)) {
+            // let the parser decide about invalid segments
+            return append(key + "=" + ValueEncoder.encode(value));
+        }
+        return append(new Segment(key, value));
     }
 
     /**
@@ -185,19 +244,8 @@ public final class AddressTemplate implements Iterable<Segment> {
      * @return a new template
      */
     public AddressTemplate append(String template) {
-        String first;
-        String second;
-        if (isEmpty()) {
-            first = "";
-        } else {
-            first = this.template.substring(1);
-        }
-        if (template != null && template.startsWith("/") && !template.startsWith(ENCODED_SLASH)) {
-            second = template.substring(1);
-        } else {
-            second = template;
-        }
-        return AddressTemplate.of(first + "/" + second);
+        List<Segment> parsed = parse(template);
+        return append(parsed.toArray(NO_SEGMENTS), 0, parsed.size());
     }
 
     /**
@@ -206,7 +254,25 @@ public final class AddressTemplate implements Iterable<Segment> {
      * @return a new template
      */
     public AddressTemplate append(AddressTemplate template) {
-        return append(template.toString());
+        return append(template.segments, template.offset, template.length);
+    }
+
+    private AddressTemplate append(Segment segment) {
+        Segment[] appended = Arrays.copyOfRange(segments, offset, offset + length + 1);
+        appended[length] = segment;
+        String prefix = isEmpty() ? "" : template;
+        return new AddressTemplate(appended, 0, appended.length, prefix + "/" + segment);
+    }
+
+    private AddressTemplate append(Segment[] other, int otherOffset, int otherLength) {
+        if (otherLength == 0) {
+            return this;
+        } else if (isEmpty() && otherOffset == 0 && otherLength == other.length) {
+            return new AddressTemplate(other, 0, otherLength, null);
+        }
+        Segment[] appended = Arrays.copyOfRange(segments, offset, offset + length + otherLength);
+        System.arraycopy(other, otherOffset, appended, length, otherLength);
+        return new AddressTemplate(appended, 0, appended.length, null);
     }
 
     /**
@@ -219,14 +285,22 @@ public final class AddressTemplate implements Iterable<Segment> {
      *                                   fromIndex &gt; toIndex</tt>)
      */
     public AddressTemplate subTemplate(int fromIndex, int toIndex) {
-        LinkedList<Segment> subSegments = new LinkedList<>(this.segments.subList(fromIndex, toIndex));
-        return new AddressTemplate(subSegments);
+        if (fromIndex < 0 || toIndex > length || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Illegal endpoint index value: fromIndex = " + fromIndex +
+                    ", toIndex = " + toIndex + ", size = " + length);
+        }
+        if (fromIndex == toIndex) {
+            return ROOT;
+        } else if (fromIndex == 0 && toIndex == length) {
+            return this;
+        }
+        return new AddressTemplate(segments, offset + fromIndex, toIndex - fromIndex, null);
     }
 
     /** @return the parent address template or the root template */
     public AddressTemplate parent() {
         if (isEmpty() || size() == 1) {
-            return AddressTemplate.of("/");
+            return ROOT;
         } else {
             return subTemplate(0, size() - 1);
         }
@@ -234,11 +308,11 @@ public final class AddressTemplate implements Iterable<Segment> {
 
     public AddressTemplate anonymiseLast() {
         if (isEmpty()) {
-            return AddressTemplate.of("");
+            return ROOT;
         } else if (!"*".equals(last().value)) {
             return parent().append(last().key, "*");
         } else {
-            return AddressTemplate.of(this);
+            return this;
         }
     }
 
@@ -246,16 +320,16 @@ public final class AddressTemplate implements Iterable<Segment> {
 
     /** @return the first segment or {@link Segment#EMPTY} if this address template is empty. */
     public Segment first() {
-        if (!segments.isEmpty()) {
-            return segments.getFirst();
+        if (length != 0) {
+            return segments[offset];
         }
         return Segment.EMPTY;
     }
 
     /** @return the last segment or {@link Segment#EMPTY} if this address template is empty. */
     public Segment last() {
-        if (!segments.isEmpty()) {
-            return segments.getLast();
+        if (length != 0) {
+            return segments[offset + length - 1];
         }
         return Segment.EMPTY;
     }
@@ -277,34 +351,38 @@ public final class AddressTemplate implements Iterable<Segment> {
 
     /** @return true if this template contains no tokens, false otherwise */
     public boolean isEmpty() {
-        return segments.isEmpty();
+        return length == 0;
     }
 
     /** @return the number of tokens */
     public int size() {
-        return segments.size();
+        return length;
     }
 
     public List<Segment> segments() {
-        return unmodifiableList(segments);
+        return unmodifiableList(Arrays.asList(segments).subList(offset, offset + length));
     }
 
     @Override
     public Iterator<Segment> iterator() {
-        return segments.iterator();
+        return segments().iterator();
     }
 
+    /** @return an identifier which can be used as an element ID (computed once and memoized) */
     public String identifier() {
-        if (isEmpty()) {
-            return "root";
-        } else {
-            String safeTemplate = template
-                    .replace("/", "-s-")
-                    .replace("=", "-e-")
-                    .replace(":", "-c-")
-                    .replace("*", "-w-");
-            return Id.build(safeTemplate);
+        if (identifier == null) {
+            if (isEmpty()) {
+                identifier = "root";
+            } else {
+                String safeTemplate = template
+                        .replace("/", "-s-")
+                        .replace("=", "-e-")
+                        .replace(":", "-c-")
+                        .replace("*", "-w-");
+                identifier = Id.build(safeTemplate);
+            }
         }
+        return identifier;
     }
 
     // ------------------------------------------------------ resolve
@@ -346,6 +424,17 @@ public final class AddressTemplate implements Iterable<Segment> {
 
     // ------------------------------------------------------ internal
 
+    private static String join(Segment[] segments, int offset, int length) {
+        if (length == 0) {
+            return "/";
+        }
+        StringBuilder builder = new StringBuilder();
+        for (int i = offset; i < offset + length; i++) {
+            builder.append("/").append(segments[i]);
+        }
+        return builder.toString();
+    }
+
     private static LinkedList<Segment> parse(String template) {
         LinkedList<Segment> segments = new LinkedList<>();
 
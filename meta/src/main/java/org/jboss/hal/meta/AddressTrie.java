@@ -0,0 +1,226 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.HOST;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER_CONFIG;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER_GROUP;
+
+/**
+ * Trie over the {@linkplain Segment segments} of address templates. Each edge of the trie is a segment. Segments with a value
+ * of {@code *} are wildcard edges.
+ * <p>
+ * Besides exact lookups, the trie supports
+ * <ul>
+ *     <li>most-specific matches: {@code subsystem=datasources/data-source=ExampleDS} matches a value stored for
+ *     {@code subsystem=datasources/data-source=*}, if there's no value for the concrete template,</li>
+ *     <li>prefix enumeration: all values stored under {@code subsystem=undertow} and</li>
+ *     <li>prefix invalidation: remove all values stored under {@code subsystem=undertow}.</li>
+ * </ul>
+ * <p>
+ * Wildcard edges of the domain topology ({@code host=*}, {@code server-group=*} and {@code server=*} /
+ * {@code server-config=*} below a host) are never used for most-specific matches. Resources of different hosts, servers
+ * and server groups can have different descriptions, e.g. if they run different versions.
+ */
+class AddressTrie<V> {
+
+    private static final String WILDCARD = "*";
+
+    private final Node<V> root;
+    private int size;
+
+    AddressTrie() {
+        this.root = new Node<>();
+        this.size = 0;
+    }
+
+    // ------------------------------------------------------ api
+
+    void put(AddressTemplate template, V value) {
+        Node<V> node = root;
+        for (Segment segment : template) {
+            node = node.children.computeIfAbsent(segment, s -> new Node<>());
+        }
+        if (node.value == null) {
+            size++;
+        }
+        node.value = value;
+    }
+
+    /** @return the value stored for exactly the given template or {@code null} */
+    V get(AddressTemplate template) {
+        Node<V> node = root;
+        for (Segment segment : template) {
+            node = node.children.get(segment);
+            if (node == null) {
+                return null;
+            }
+        }
+        return node.value;
+    }
+
+    /**
+     * Returns the value of the most specific template which matches the given template. Concrete segments are preferred
+     * over wildcard segments from left to right.
+     *
+     * @return the value of the most specific match or {@code null} if no template matches
+     */
+    V match(AddressTemplate template) {
+        return match(root, template.segments(), 0);
+    }
+
+    /** @return all values stored for the given template and the templates below */
+    List<V> values(AddressTemplate prefix) {
+        List<V> values = new ArrayList<>();
+        Node<V> node = find(prefix);
+        if (node != null) {
+            collect(node, values);
+        }
+        return values;
+    }
+
+    V remove(AddressTemplate template) {
+        List<Segment> segments = template.segments();
+        List<Node<V>> path = new ArrayList<>(segments.size() + 1);
+        Node<V> node = root;
+        path.add(node);
+        for (Segment segment : segments) {
+            node = node.children.get(segment);
+            if (node == null) {
+                return null;
+            }
+            path.add(node);
+        }
+        V value = node.value;
+        if (value != null) {
+            node.value = null;
+            size--;
+            prune(path, segments);
+        }
+        return value;
+    }
+
+    /**
+     * Removes the values stored for the given template and the templates below.
+     *
+     * @return the removed values
+     */
+    List<V> removeAll(AddressTemplate prefix) {
+        List<V> values = new ArrayList<>();
+        if (prefix.isEmpty()) {
+            collect(root, values);
+            root.value = null;
+            root.children.clear();
+        } else {
+            Node<V> parent = find(prefix.parent());
+            if (parent != null) {
+                Node<V> node = parent.children.remove(prefix.last());
+                if (node != null) {
+                    collect(node, values);
+                }
+            }
+        }
+        size -= values.size();
+        return values;
+    }
+
+    int size() {
+        return size;
+    }
+
+    // ------------------------------------------------------ internal
+
+    private V match(Node<V> node, List<Segment> segments, int index) {
+        if (index == segments.size()) {
+            return node.value;
+        }
+        Segment segment = segments.get(index);
+        Node<V> exact = node.children.get(segment);
+        if (exact != null) {
+            V value = match(exact, segments, index + 1);
+            if (value != null) {
+                return value;
+            }
+        }
+        if (segment.hasKey() && !WILDCARD.equals(segment.value) && !topology(segments, index)) {
+            Node<V> wildcard = node.children.get(new Segment(segment.key, WILDCARD));
+            if (wildcard != null) {
+                return match(wildcard, segments, index + 1);
+            }
+        }
+        return null;
+    }
+
+    private boolean topology(List<Segment> segments, int index) {
+        String key = segments.get(index).key;
+        if (index == 0) {
+            return HOST.equals(key) || SERVER_GROUP.equals(key);
+        } else if (index == 1) {
+            return HOST.equals(segments.get(0).key) && (SERVER.equals(key) || SERVER_CONFIG.equals(key));
+        }
+        return false;
+    }
+
+    private Node<V> find(AddressTemplate template) {
+        Node<V> node = root;
+        for (Segment segment : template) {
+            node = node.children.get(segment);
+            if (node == null) {
+                return null;
+            }
+        }
+        return node;
+    }
+
+    private void collect(Node<V> node, List<V> values) {
+        if (node.value != null) {
+            values.add(node.value);
+        }
+        for (Node<V> child : node.children.values()) {
+            collect(child, values);
+        }
+    }
+
+    private void prune(List<Node<V>> path, List<Segment> segments) {
+        // path.get(i + 1) is the child of path.get(i) reached by segments.get(i)
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            Node<V> node = path.get(i + 1);
+            if (node.value == null && node.children.isEmpty()) {
+                path.get(i).children.remove(segments.get(i));
+            } else {
+                break;
+            }
+        }
+    }
+
+    // ------------------------------------------------------ inner classes
+
+    private static class Node<V> {
+
+        final Map<Segment, Node<V>> children;
+        V value;
+
+        Node() {
+            this.children = new HashMap<>();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta;
+
+import jsinterop.annotations.JsFunction;
+import jsinterop.annotations.JsMethod;
+import jsinterop.annotations.JsType;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+
+import static elemental2.dom.DomGlobal.clearTimeout;
+import static elemental2.dom.DomGlobal.performance;
+import static elemental2.dom.DomGlobal.setTimeout;
+import static jsinterop.annotations.JsPackage.GLOBAL;
+
+/**
+ * Schedules low priority work using {@code requestIdleCallback()}. If the browser doesn't support idle callbacks, the work is
+ * scheduled using {@code setTimeout()} with a fixed budget of {@value #FALLBACK_BUDGET} ms.
+ */
+public final class Idle {
+
+    private static final double FALLBACK_BUDGET = 15;
+
+    /** Callback invoked when the browser is idle. */
+    @FunctionalInterface
+    public interface Callback {
+
+        void onIdle(Deadline deadline);
+    }
+
+    /** The deadline of an idle period. */
+    public interface Deadline {
+
+        /** @return whether the callback has been invoked because the timeout expired */
+        boolean didTimeout();
+
+        /** @return the remaining time of the current idle period in milliseconds */
+        double timeRemaining();
+    }
+
+    /**
+     * Schedules the callback for the next idle period.
+     *
+     * @param callback the callback to invoke
+     * @param timeout  the maximal time in milliseconds to wait for an idle period
+     * @return a handle which can be used to {@linkplain #cancel(double) cancel} the callback
+     */
+    public static double request(Callback callback, int timeout) {
+        if (supported()) {
+            JsPropertyMap<Object> options = JsPropertyMap.of();
+            options.set("timeout", timeout);
+            return requestIdleCallback(deadline -> callback.onIdle(new Deadline() {
+                @Override
+                public boolean didTimeout() {
+                    return deadline.didTimeout;
+                }
+
+                @Override
+                public double timeRemaining() {
+                    return deadline.timeRemaining();
+                }
+            }), options);
+        } else {
+            return setTimeout(__ -> {
+                double start = performance.now();
+                callback.onIdle(new Deadline() {
+                    @Override
+                    public boolean didTimeout() {
+                        return false;
+                    }
+
+                    @Override
+                    public double timeRemaining() {
+                        return Math.max(0, FALLBACK_BUDGET - (performance.now() - start));
+                    }
+                });
+            }, 1);
+        }
+    }
+
+    public static void cancel(double handle) {
+        if (supported()) {
+            cancelIdleCallback(handle);
+        } else {
+            clearTimeout(handle);
+        }
+    }
+
+    private static boolean supported() {
+        return Js.asPropertyMap(Js.global()).has("requestIdleCallback");
+    }
+
+    // ------------------------------------------------------ native
+
+    @JsFunction
+    private interface NativeCallback {
+
+        void onIdle(NativeDeadline deadline);
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = "Object")
+    private static class NativeDeadline {
+
+        public boolean didTimeout;
+
+        public native double timeRemaining();
+    }
+
+    @JsMethod(namespace = GLOBAL)
+    private static native double requestIdleCallback(NativeCallback callback, JsPropertyMap<Object> options);
+
+    @JsMethod(namespace = GLOBAL)
+    private static native void cancelIdleCallback(double handle);
+
+    private Idle() {
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta;
+
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.elemento.logger.Logger;
+
+import static elemental2.dom.DomGlobal.performance;
+import static java.util.Collections.singleton;
+
+/**
+ * Speculatively loads metadata of address templates which are likely to be requested next, e.g., the children of an expanded
+ * node in the model browser.
+ * <p>
+ * Prefetching happens during idle periods of the browser and yields to interactive lookups: As long as the
+ * {@link MetadataRepository} processes metadata for an interactive lookup, no prefetch operation is started. At most one
+ * prefetch operation is in flight at a time. The most recent prefetch request is processed first. The templates are resolved
+ * only as long as the idle period lasts. The remaining templates are resolved in the next idle period.
+ * <p>
+ * If enough children of a concrete parent are missing, the metadata is read using one recursive
+ * {@code read-resource-description} operation for the parent, as long as the estimated payload fits into the byte budget.
+ * The missing children are registered as pending, so that interactive lookups join the prefetch operation. Otherwise, the
+ * resolved addresses of the children are read individually (at most {@value #MAX_TEMPLATES} per operation).
+ * <p>
+ * The number of prefetch operations and the size of their payloads are limited by a budget which applies to a window of
+ * {@value #BUDGET_WINDOW} ms.
+ */
+class MetadataPrefetcher {
+
+    static final int DEFAULT_MAX_REQUESTS = 20;
+    static final int DEFAULT_MAX_BYTES = 2_000_000;
+
+    private static final Logger logger = Logger.getLogger(MetadataPrefetcher.class.getName());
+    private static final int IDLE_TIMEOUT = 2_000;
+    private static final double MIN_IDLE_TIME = 5;
+    private static final double BUDGET_WINDOW = 60_000;
+    private static final int MAX_QUEUE_SIZE = 25;
+    private static final int MAX_TEMPLATES = 10;
+    private static final int RECURSIVE_THRESHOLD = 3;
+
+    private final MetadataRepository repository;
+    private final LinkedList<Job> queue;
+    private int maxRequests;
+    private int maxBytes;
+    private int requests;
+    private int bytes;
+    private double totalBytes; // not reset by the budget window: used to estimate the size of descriptions
+    private int totalDescriptions;
+    private double windowStart;
+    private boolean scheduled;
+    private boolean inFlight;
+
+    MetadataPrefetcher(MetadataRepository repository) {
+        this.repository = repository;
+        this.queue = new LinkedList<>();
+        this.maxRequests = DEFAULT_MAX_REQUESTS;
+        this.maxBytes = DEFAULT_MAX_BYTES;
+        this.requests = 0;
+        this.bytes = 0;
+        this.totalBytes = 0;
+        this.totalDescriptions = 0;
+        this.windowStart = 0;
+        this.scheduled = false;
+        this.inFlight = false;
+    }
+
+    // ------------------------------------------------------ api
+
+    void budget(int maxRequests, int maxBytes) {
+        this.maxRequests = maxRequests;
+        this.maxBytes = maxBytes;
+    }
+
+    void prefetch(AddressTemplate parent, List<AddressTemplate> templates) {
+        if (maxRequests > 0 && maxBytes > 0 && !templates.isEmpty()) {
+            queue.removeIf(job -> job.parent.equals(parent));
+            queue.addFirst(new Job(parent, templates));
+            while (queue.size() > MAX_QUEUE_SIZE) {
+                queue.removeLast();
+            }
+            schedule();
+        }
+    }
+
+    int queued() {
+        return queue.size();
+    }
+
+    int requests() {
+        return requests;
+    }
+
+    int bytes() {
+        return bytes;
+    }
+
+    // ------------------------------------------------------ internal
+
+    private void schedule() {
+        if (!scheduled && !inFlight && !queue.isEmpty()) {
+            scheduled = true;
+            Idle.request(this::run, IDLE_TIMEOUT);
+        }
+    }
+
+    private void run(Idle.Deadline deadline) {
+        scheduled = false;
+        resetWindow();
+        if (exhausted()) {
+            logger.debug("Prefetch budget exhausted: %d requests, %d bytes. Discard %d pending prefetch requests",
+                    requests, bytes, queue.size());
+            queue.clear();
+            return;
+        }
+        if (repository.busy() || !timeLeft(deadline, 0)) {
+            schedule(); // yield to interactive lookups and try again later
+            return;
+        }
+
+        int resolved = 0;
+        while (!queue.isEmpty()) {
+            Job job = queue.removeFirst();
+            Set<String> missing = new LinkedHashSet<>();
+            while (!job.templates.isEmpty() && missing.size() < MAX_TEMPLATES && timeLeft(deadline, resolved)) {
+                String address = repository.resolveTemplate(job.templates.removeFirst());
+                resolved++;
+                if (repository.missing(address)) {
+                    missing.add(address);
+                }
+            }
+            if (!job.templates.isEmpty()) {
+                queue.addFirst(job); // continue with the remaining templates
+            }
+            if (!missing.isEmpty()) {
+                execute(job, missing);
+                return;
+            }
+            if (!timeLeft(deadline, resolved)) {
+                schedule();
+                return;
+            }
+        }
+    }
+
+    private void execute(Job job, Set<String> missing) {
+        inFlight = true;
+        requests++;
+        String parentAddress = repository.resolveTemplate(job.parent);
+        boolean recursive = recursive(parentAddress, job.size, missing.size());
+        Set<String> addresses = recursive ? singleton(parentAddress) : missing;
+        logger.debug("Prefetch metadata for %s%s", addresses, recursive ? " (recursive)" : "");
+        repository.prefetch(job.parent, addresses, missing, recursive ? 1 : 0)
+                .then(context -> {
+                    bytes += context.bytes;
+                    totalBytes += context.bytes;
+                    totalDescriptions += context.rrdResult.resourceDescriptions.size();
+                    return null;
+                })
+                .catch_(error -> {
+                    logger.debug("Unable to prefetch metadata for %s: %s", addresses, error);
+                    return null;
+                })
+                .finally_(() -> {
+                    inFlight = false;
+                    schedule();
+                });
+    }
+
+    /**
+     * Whether to read the children using one recursive operation for the parent. This is cheaper if enough children are
+     * missing, but the payload contains the descriptions of all children. The payload is estimated using the average size of
+     * the descriptions prefetched so far. Wildcard parents are never read recursively: reading the wildcard address itself
+     * already returns the descriptions of its children.
+     */
+    private boolean recursive(String parentAddress, int children, int missing) {
+        AddressTemplate parent = AddressTemplate.of(parentAddress);
+        if (parent.isEmpty() || !parent.fullyQualified() || missing < RECURSIVE_THRESHOLD) {
+            return false;
+        }
+        double estimate = totalDescriptions > 0 ? totalBytes / totalDescriptions * (children + 1) : 0;
+        return bytes + estimate <= maxBytes;
+    }
+
+    /**
+     * Whether there's time left in the idle period. If the idle callback has been called because of the timeout, at most
+     * {@value #MAX_TEMPLATES} templates are resolved.
+     */
+    private boolean timeLeft(Idle.Deadline deadline, int resolved) {
+        return deadline.didTimeout() ? resolved < MAX_TEMPLATES : deadline.timeRemaining() >= MIN_IDLE_TIME;
+    }
+
+    private boolean exhausted() {
+        return requests >= maxRequests || bytes >= maxBytes;
+    }
+
+    private void resetWindow() {
+        double now = performance.now();
+        if (now - windowStart > BUDGET_WINDOW) {
+            windowStart = now;
+            requests = 0;
+            bytes = 0;
+        }
+    }
+
+    // ------------------------------------------------------ inner classes
+
+    private static class Job {
+
+        final AddressTemplate parent;
+        final LinkedList<AddressTemplate> templates;
+        final int size;
+
+        Job(AddressTemplate parent, List<AddressTemplate> templates) {
+            this.parent = parent;
+            this.templates = new LinkedList<>(templates);
+            this.size = templates.size();
+        }
+    }
+}
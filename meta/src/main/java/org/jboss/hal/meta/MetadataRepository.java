@@ -31,8 +31,11 @@ import jakarta.inject.Inject;
 import org.jboss.elemento.flow.Flow;
 import org.jboss.elemento.flow.Task;
 import org.jboss.elemento.logger.Logger;
+import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.env.Settings;
+import org.jboss.hal.meta.description.ResourceDescription;
+import org.jboss.hal.meta.security.SecurityContext;
 
 import elemental2.promise.Promise;
 import jsinterop.annotations.JsMethod;
@@ -41,6 +44,11 @@ import static elemental2.core.Global.JSON;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singleton;
 import static java.util.stream.Collectors.joining;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ACCESS_CONTROL;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OPERATIONS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_DESCRIPTION_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.TRIM_DESCRIPTIONS;
+import static org.jboss.hal.meta.RrdParser.parseSingle;
 
 /**
  * Repository for metadata. Contains a first and second-level cache for metadata.
@@ -89,6 +97,28 @@ public class MetadataRepository {
      */
     private final Map<String, Set<String>> processedAddresses;
 
+    /**
+     * Index over the addresses in the {@link #cache}. Used to find the most specific cached resource description, e.g.
+     * {@code subsystem=datasources/data-source=*} for {@code subsystem=datasources/data-source=ExampleDS}, and to invalidate
+     * metadata by prefix.
+     */
+    private final AddressTrie<String> index;
+
+    /**
+     * Shared resource descriptions. Equal resource descriptions of different addresses are stored only once. Used by
+     * {@link UpdateTask}.
+     */
+    final ResourceDescriptionPool resourceDescriptions;
+
+    /**
+     * Contains the processing flows which are currently in flight. Key is the resolved address, value is the flow. Used to
+     * join interactive lookups with pending prefetch operations.
+     */
+    private final Map<String, Promise<ProcessingContext>> pending;
+
+    private final MetadataPrefetcher prefetcher;
+    private int interactive;
+
     @Inject
     public MetadataRepository(Settings settings,
             Dispatcher dispatcher,
@@ -98,8 +128,17 @@ public class MetadataRepository {
         this.resolver = new MetadataResolver(statementContext);
         this.cache = new LRUCache<>(FIRST_LEVEL_CACHE_SIZE);
         this.processedAddresses = new HashMap<>();
-
-        cache.addRemovalHandler((address, __) -> logger.debug("LRU metadata for %s has been removed", address));
+        this.index = new AddressTrie<>();
+        this.resourceDescriptions = new ResourceDescriptionPool();
+        this.pending = new HashMap<>();
+        this.prefetcher = new MetadataPrefetcher(this);
+        this.interactive = 0;
+
+        cache.addRemovalHandler((address, metadata) -> {
+            logger.debug("LRU metadata for %s has been removed", address);
+            index.remove(AddressTemplate.of(address));
+            resourceDescriptions.release(metadata.resourceDescription());
+        });
     }
 
     // ------------------------------------------------------ api
@@ -113,6 +152,12 @@ public class MetadataRepository {
         } else {
             Set<String> processed = processedInCache(address);
             if (processed.isEmpty()) {
+                ResourceDescription resourceDescription = matchingDescription(address);
+                if (resourceDescription != null) {
+                    logger.debug("Get metadata for %s → %s from cache (matched description, read-only security context)",
+                            template, address);
+                    return Metadata.metadata(address, resourceDescription, SecurityContext.READ_ONLY);
+                }
                 logger.error("No metadata found for %s → %s. Returning an empty metadata", template, address);
                 return Metadata.undefined();
             } else if (processed.size() == 1) {
@@ -161,6 +206,16 @@ public class MetadataRepository {
         } else {
             Set<String> processed = processedInCache(address);
             if (processed.isEmpty()) {
+                Promise<ProcessingContext> flow = pending.get(address);
+                if (flow != null) {
+                    logger.debug("Join pending metadata processing for %s → %s", template, address);
+                    return join(template, flow);
+                }
+                ResourceDescription resourceDescription = matchingDescription(address);
+                if (resourceDescription != null) {
+                    logger.debug("Process security context for %s → %s (matched description)", template, address);
+                    return processSecurityContext(template, address, resourceDescription);
+                }
                 logger.debug("Process metadata for %s → %s", template, address);
                 return process(template, singleton(address));
             } else if (processed.size() == 1) {
@@ -181,6 +236,47 @@ public class MetadataRepository {
         }
     }
 
+    /**
+     * Removes the metadata of the given template and all templates below from the cache.
+     *
+     * @param template the address template to invalidate, e.g. {@code subsystem=undertow}
+     */
+    public void invalidate(AddressTemplate template) {
+        String address = resolveTemplate(template);
+        List<String> addresses = index.removeAll(AddressTemplate.of(address));
+        for (String a : addresses) {
+            Metadata metadata = cache.remove(a);
+            if (metadata != null) {
+                resourceDescriptions.release(metadata.resourceDescription());
+            }
+        }
+        processedAddresses.keySet().removeIf(key -> below(address, key));
+        logger.debug("Invalidated %d metadata for %s → %s", addresses.size(), template, address);
+    }
+
+    /**
+     * Speculatively loads the metadata of the given child templates during idle periods of the browser. Prefetching yields
+     * to interactive lookups and is limited by a budget (see {@link #prefetchBudget(int, int)}). Templates whose metadata
+     * is already in the cache are skipped.
+     *
+     * @param parent    the address template of the parent resource
+     * @param templates the address templates of the child resources which are likely to be requested next
+     */
+    public void prefetch(AddressTemplate parent, List<AddressTemplate> templates) {
+        prefetcher.prefetch(parent, templates);
+    }
+
+    /**
+     * Sets the budget for {@linkplain #prefetch(AddressTemplate, List) prefetching}. The budget applies to a rolling window
+     * of one minute. Use {@code 0} to turn off prefetching.
+     *
+     * @param maxRequests the maximal number of prefetch operations per minute
+     * @param maxBytes    the maximal payload size in bytes per minute
+     */
+    public void prefetchBudget(int maxRequests, int maxBytes) {
+        prefetcher.budget(maxRequests, maxBytes);
+    }
+
     // ------------------------------------------------------ js api
 
     private static MetadataRepository instance;
@@ -217,7 +313,9 @@ public class MetadataRepository {
         if (instance != null) {
             StringBuilder builder = new StringBuilder("{\"firstLevelCache\": ")
                     .append(instance.cache.size())
-                    .append(", \"secondLevelCache\": 0, \"entries\": [");
+                    .append(", \"secondLevelCache\": 0, \"sharedDescriptions\": ")
+                    .append(instance.resourceDescriptions.size())
+                    .append(", \"entries\": [");
             for (Iterator<Map.Entry<String, LRUCache.Node<String, Metadata>>> iterator = instance.cache.entries().iterator();
                     iterator.hasNext(); ) {
                 Map.Entry<String, LRUCache.Node<String, Metadata>> entry = iterator.next();
@@ -243,7 +341,15 @@ public class MetadataRepository {
                     builder.append(",");
                 }
             }
-            builder.append("]}");
+            builder.append("], \"pending\": ")
+                    .append(instance.pending.size())
+                    .append(", \"prefetch\": {\"queued\": ")
+                    .append(instance.prefetcher.queued())
+                    .append(", \"requests\": ")
+                    .append(instance.prefetcher.requests())
+                    .append(", \"bytes\": ")
+                    .append(instance.prefetcher.bytes())
+                    .append("}}");
             return JSON.parse(builder.toString());
         } else {
             logger.error("MetadataRepository not initialized");
@@ -255,7 +361,12 @@ public class MetadataRepository {
 
     void addMetadata(Metadata metadata) {
         logger.debug("Add metadata for %s", metadata.resourceAddress());
+        Metadata existing = cache.remove(metadata.address());
+        if (existing != null) {
+            resourceDescriptions.release(existing.resourceDescription());
+        }
         cache.put(metadata.address(), metadata);
+        index.put(AddressTemplate.of(metadata.address()), metadata.address());
     }
 
     void addProcessedAddresses(String address, Set<String> processedAddresses) {
@@ -267,18 +378,102 @@ public class MetadataRepository {
         return processedAddresses.getOrDefault(address, emptySet());
     }
 
+    /**
+     * Used by the {@link MetadataPrefetcher} to process metadata in the background. The pending addresses are registered, so
+     * that interactive lookups for the same addresses join the prefetch instead of reading the metadata again. For recursive
+     * operations, the pending addresses are the children of the addresses which are read.
+     */
+    Promise<ProcessingContext> prefetch(AddressTemplate template, Set<String> addresses, Set<String> pendingAddresses,
+            int recursiveDepth) {
+        return execute(new ProcessingContext(template, addresses, recursiveDepth), pendingAddresses);
+    }
+
+    /** Whether metadata is processed for an interactive lookup. */
+    boolean busy() {
+        return interactive > 0;
+    }
+
+    /**
+     * Whether the metadata for the resolved address is neither cached, processed nor pending. Addresses with a matching
+     * resource description in the cache are not missing: A lookup only needs to read their security context.
+     */
+    boolean missing(String address) {
+        return !inCache(address) && processedInCache(address).isEmpty() && !pending.containsKey(address)
+                && matchingDescription(address) == null;
+    }
+
+    String resolveTemplate(AddressTemplate template) {
+        return resolver.resolve(template).template;
+    }
+
     private Promise<Metadata> process(AddressTemplate template, Set<String> addresses) {
         String timer = logger.timeInfo("Metadata processing for " + template.template + " → " + addresses);
+        interactive++;
+        return execute(new ProcessingContext(template, addresses), addresses)
+                .then(context -> Promise.resolve(get(template)))
+                .finally_(() -> {
+                    interactive--;
+                    logger.timeEnd(timer);
+                });
+    }
+
+    /**
+     * Reads only the security context of the address and combines it with the given resource description, which has been
+     * taken from the most specific matching metadata in the cache. Falls back to process the complete metadata if the
+     * security context cannot be read.
+     */
+    private Promise<Metadata> processSecurityContext(AddressTemplate template, String address,
+            ResourceDescription resourceDescription) {
+        String timer = logger.timeInfo("Security context processing for " + template.template + " → " + address);
+        Operation operation = new Operation.Builder(AddressTemplate.of(address).resolve(), READ_RESOURCE_DESCRIPTION_OPERATION)
+                .param(OPERATIONS, true)
+                .param(ACCESS_CONTROL, TRIM_DESCRIPTIONS)
+                .build();
+        interactive++;
+        return dispatcher.execute(operation, false)
+                .then(result -> {
+                    RrdResult rrdResult = new RrdResult();
+                    parseSingle(operation.getAddress(), result, rrdResult);
+                    SecurityContext securityContext = rrdResult.securityContexts.get(address);
+                    if (securityContext == null) {
+                        return Promise.reject("No security context for " + address + " in rrd result");
+                    }
+                    Metadata metadata = Metadata.metadata(address, resourceDescriptions.share(resourceDescription),
+                            securityContext);
+                    addMetadata(metadata);
+                    return Promise.resolve(metadata);
+                })
+                .catch_(error -> {
+                    logger.debug("Unable to read security context for %s: %s. Process metadata", address, error);
+                    return process(template, singleton(address));
+                })
+                .finally_(() -> {
+                    interactive--;
+                    logger.timeEnd(timer);
+                });
+    }
+
+    private Promise<ProcessingContext> execute(ProcessingContext context, Set<String> pendingAddresses) {
         List<Task<ProcessingContext>> tasks = new ArrayList<>();
         tasks.add(new RrdTask(settings, dispatcher));
         tasks.add(new UpdateTask(this));
-        return Flow.sequential(new ProcessingContext(template, addresses), tasks)
-                .then(context -> Promise.resolve(get(template)))
-                .finally_(() -> logger.timeEnd(timer));
+        Promise<ProcessingContext> flow = Flow.sequential(context, tasks).promise()
+                .finally_(() -> pendingAddresses.forEach(pending::remove));
+        pendingAddresses.forEach(address -> pending.put(address, flow));
+        return flow;
     }
 
-    private String resolveTemplate(AddressTemplate template) {
-        return resolver.resolve(template).template;
+    private Promise<Metadata> join(AddressTemplate template, Promise<ProcessingContext> flow) {
+        // The pending addresses are removed before the flow completes, so the lookup won't join the same flow again.
+        // If the flow failed or didn't produce the metadata, the lookup processes the metadata on its own.
+        return flow.catch_(error -> Promise.resolve((ProcessingContext) null))
+                .then(__ -> {
+                    String address = resolveTemplate(template);
+                    if (inCache(address)) {
+                        return Promise.resolve(internalGet(address));
+                    }
+                    return lookup(template);
+                });
     }
 
     private boolean inCache(String address) {
@@ -288,4 +483,20 @@ public class MetadataRepository {
     private Metadata internalGet(String address) {
         return cache.get(address);
     }
+
+    /**
+     * Returns the resource description of the most specific matching metadata in the cache (if any). The security context of
+     * a wildcard address doesn't necessarily apply to the concrete address, so {@link #get(AddressTemplate)} uses a
+     * {@linkplain SecurityContext#READ_ONLY read-only} security context, whereas {@link #lookup(AddressTemplate)} reads the
+     * security context of the concrete address.
+     */
+    private ResourceDescription matchingDescription(String address) {
+        String match = index.match(AddressTemplate.of(address));
+        Metadata metadata = match != null ? internalGet(match) : null;
+        return metadata != null ? metadata.resourceDescription() : null;
+    }
+
+    private static boolean below(String prefix, String address) {
+        return "/".equals(prefix) || address.equals(prefix) || address.startsWith(prefix + "/");
+    }
 }
@@ -16,7 +16,9 @@
 package org.jboss.hal.meta;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.jboss.hal.dmr.ModelDescriptionConstants.DEPLOYMENT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.PROFILE;
@@ -53,66 +55,98 @@ import static org.jboss.hal.meta.Placeholder.SELECTED_RESOURCE;
  *         </table>
  *     </li>
  * </ol>
+ * <p>
+ * Resolved templates are memoized. The memo is invalidated when a placeholder of the {@link StatementContext} is assigned to
+ * a different value or the operation mode changes.
  */
 class MetadataResolver implements TemplateResolver {
 
+    private static final int MAX_RESOLVED = 1_000;
+
     private final StatementContext statementContext;
     private final StatementContextResolver statementContextResolver;
+    private final Map<AddressTemplate, AddressTemplate> resolved;
+    private int version;
+    private boolean standalone;
 
     MetadataResolver(StatementContext statementContext) {
         this.statementContext = statementContext;
         this.statementContextResolver = new StatementContextResolver(statementContext);
+        this.resolved = new HashMap<>();
+        this.version = statementContext.version();
+        this.standalone = statementContext.standalone();
     }
 
     @Override
     public AddressTemplate resolve(AddressTemplate template) {
-        if (!template.isEmpty()) {
-            int index = 0;
-            int length = template.size();
-            List<Segment> segments = new ArrayList<>();
-            AddressTemplate resolved = statementContextResolver.resolve(template);
+        if (template.isEmpty()) {
+            return template;
+        }
+        if (version != statementContext.version() || standalone != statementContext.standalone()) {
+            resolved.clear();
+            version = statementContext.version();
+            standalone = statementContext.standalone();
+        }
+        AddressTemplate result = resolved.get(template);
+        if (result == null) {
+            if (resolved.size() >= MAX_RESOLVED) {
+                resolved.clear();
+            }
+            result = internalResolve(template);
+            resolved.put(template, result);
+        }
+        return result;
+    }
+
+    int size() {
+        return resolved.size();
+    }
 
-            for (Segment segment : resolved) {
-                String key = segment.key;
-                String value = segment.value;
-                if (segment.containsPlaceholder() && SELECTED_RESOURCE.equals(segment.placeholder())) {
-                    value = "*";
+    private AddressTemplate internalResolve(AddressTemplate template) {
+        int index = 0;
+        int length = template.size();
+        List<Segment> segments = new ArrayList<>();
+        AddressTemplate contextResolved = statementContextResolver.resolve(template);
+
+        for (Segment segment : contextResolved) {
+            String key = segment.key;
+            String value = segment.value;
+            if (segment.containsPlaceholder() && SELECTED_RESOURCE.equals(segment.placeholder())) {
+                value = "*";
+            } else {
+                if (statementContext.standalone()) {
+                    if (DEPLOYMENT.equals(key) && index == 0 && length > 1) {
+                        value = "*";
+                    }
                 } else {
-                    if (statementContext.standalone()) {
-                        if (DEPLOYMENT.equals(key) && index == 0 && length > 1) {
-                            value = "*";
-                        }
-                    } else {
-                        switch (key) {
-                            // No replacement for these keys!
-                            // case HOST:
-                            // case SERVER_GROUP:
-                            // case SERVER:
-                            // case SERVER_CONFIG:
-                            //     break;
+                    switch (key) {
+                        // No replacement for these keys!
+                        // case HOST:
+                        // case SERVER_GROUP:
+                        // case SERVER:
+                        // case SERVER_CONFIG:
+                        //     break;
 
-                            case PROFILE:
-                                if (index == 0) {
-                                    value = "*";
-                                }
-                                break;
+                        case PROFILE:
+                            if (index == 0) {
+                                value = "*";
+                            }
+                            break;
 
-                            case DEPLOYMENT:
-                                if (index == 1 && length > 2) {
-                                    value = "*";
-                                }
-                                break;
+                        case DEPLOYMENT:
+                            if (index == 1 && length > 2) {
+                                value = "*";
+                            }
+                            break;
 
-                            default:
-                                break;
-                        }
+                        default:
+                            break;
                     }
                 }
-                segments.add(new Segment(key, value));
-                index++;
             }
-            return AddressTemplate.of(segments);
+            segments.add(new Segment(key, value));
+            index++;
         }
-        return template;
+        return AddressTemplate.of(segments);
     }
 }
@@ -23,9 +23,23 @@ class ProcessingContext extends FlowContext {
 
     final Set<String> addresses;
     final RrdResult rrdResult;
+    final int recursiveDepth;
+    int bytes;
 
     ProcessingContext(AddressTemplate template, Set<String> addresses) {
+        this(template, addresses, 0);
+    }
+
+    /** @param recursiveDepth if &gt; 0, the rrd operations are executed recursively with the given depth */
+    ProcessingContext(AddressTemplate template, Set<String> addresses, int recursiveDepth) {
         this.addresses = addresses;
         this.rrdResult = new RrdResult();
+        this.recursiveDepth = recursiveDepth;
+        this.bytes = 0;
+    }
+
+    /** Records the size of an rrd response in {@link #bytes}. */
+    void received(int bytes) {
+        this.bytes += bytes;
     }
 }
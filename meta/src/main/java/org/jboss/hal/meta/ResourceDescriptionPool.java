@@ -0,0 +1,172 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Property;
+import org.jboss.hal.meta.description.ResourceDescription;
+
+/**
+ * Content-addressed pool of resource descriptions. Equal resource descriptions (e.g. the same subsystem under different
+ * hosts and servers) are stored only once and shared across the addresses in the {@link MetadataRepository}.
+ * <p>
+ * Shared instances are keyed by the hash of their compact JSON representation. The hash is computed once when an instance
+ * is added to the pool, the JSON itself is not retained. On a hash match, the instances are compared using
+ * {@link #sameContent(ModelNode, ModelNode)}, which ignores undefined child nodes. That way the pool stays consistent even
+ * if a shared instance is accessed using {@code get()} afterward (which adds undefined child nodes). Callers must not
+ * change the values of shared instances, though. Use a copy instead.
+ * <p>
+ * Each shared instance is reference counted. Instances are removed from the pool when the last metadata which references
+ * them has been evicted from the cache.
+ */
+class ResourceDescriptionPool {
+
+    private final Map<Integer, List<Entry>> hashes;
+    private final Map<ResourceDescription, Entry> entries;
+
+    ResourceDescriptionPool() {
+        this.hashes = new HashMap<>();
+        this.entries = new IdentityHashMap<>();
+    }
+
+    /**
+     * Returns the shared instance which is equal to the given resource description and increments its reference count. If
+     * there's no such instance, the given resource description is added to the pool.
+     */
+    ResourceDescription share(ResourceDescription resourceDescription) {
+        Entry existing = entries.get(resourceDescription);
+        if (existing != null) {
+            existing.references++;
+            return existing.resourceDescription;
+        }
+        int hash = resourceDescription.toJSONString(true).hashCode();
+        List<Entry> bucket = hashes.computeIfAbsent(hash, h -> new ArrayList<>(1));
+        for (Entry entry : bucket) {
+            if (sameContent(entry.resourceDescription, resourceDescription)) {
+                entry.references++;
+                return entry.resourceDescription;
+            }
+        }
+        Entry entry = new Entry(hash, resourceDescription);
+        bucket.add(entry);
+        entries.put(resourceDescription, entry);
+        return resourceDescription;
+    }
+
+    /**
+     * Decrements the reference count of the given resource description and removes it from the pool if it's no longer
+     * referenced. Resource descriptions which are not part of the pool are ignored.
+     */
+    void release(ResourceDescription resourceDescription) {
+        Entry entry = entries.get(resourceDescription);
+        if (entry != null) {
+            entry.references--;
+            if (entry.references <= 0) {
+                entries.remove(resourceDescription);
+                List<Entry> bucket = hashes.get(entry.hash);
+                if (bucket != null) {
+                    bucket.remove(entry);
+                    if (bucket.isEmpty()) {
+                        hashes.remove(entry.hash);
+                    }
+                }
+            }
+        }
+    }
+
+    int references(ResourceDescription resourceDescription) {
+        Entry entry = entries.get(resourceDescription);
+        return entry != null ? entry.references : 0;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    // ------------------------------------------------------ internal
+
+    /**
+     * Compares two model nodes structurally, treating undefined child nodes of objects as absent. Doesn't add child nodes
+     * to any of the model nodes.
+     */
+    static boolean sameContent(ModelNode left, ModelNode right) {
+        if (left == right) {
+            return true;
+        }
+        if (!left.isDefined() || !right.isDefined()) {
+            return !left.isDefined() && !right.isDefined();
+        }
+        if (left.getType() != right.getType()) {
+            return false;
+        }
+        switch (left.getType()) {
+            case OBJECT:
+                return containsAll(left, right) && containsAll(right, left);
+            case LIST:
+                List<ModelNode> leftList = left.asList();
+                List<ModelNode> rightList = right.asList();
+                if (leftList.size() != rightList.size()) {
+                    return false;
+                }
+                for (int i = 0; i < leftList.size(); i++) {
+                    if (!sameContent(leftList.get(i), rightList.get(i))) {
+                        return false;
+                    }
+                }
+                return true;
+            case PROPERTY:
+                Property leftProperty = left.asProperty();
+                Property rightProperty = right.asProperty();
+                return leftProperty.getName().equals(rightProperty.getName())
+                        && sameContent(leftProperty.getValue(), rightProperty.getValue());
+            default:
+                return left.equals(right);
+        }
+    }
+
+    private static boolean containsAll(ModelNode container, ModelNode other) {
+        for (String key : other.keys()) {
+            ModelNode value = other.get(key);
+            if (value.isDefined()) {
+                if (!container.has(key) || !sameContent(container.get(key), value)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    // ------------------------------------------------------ inner classes
+
+    private static class Entry {
+
+        final int hash;
+        final ResourceDescription resourceDescription;
+        int references;
+
+        Entry(int hash, ResourceDescription resourceDescription) {
+            this.hash = hash;
+            this.resourceDescription = resourceDescription;
+            this.references = 1;
+        }
+    }
+}
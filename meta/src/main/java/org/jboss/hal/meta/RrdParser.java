@@ -114,19 +114,21 @@ class RrdParser {
             for (ModelNode nestedNode : modelNode.asList()) {
                 ResourceAddress nestedAddress = new ResourceAddress(nestedNode.get(ADDRESS));
                 ModelNode nestedResult = nestedNode.get(RESULT);
-                parseSingleNode(operationAddress, nestedAddress, nestedResult, rrdResult);
+                parseSingleNode(operationAddress, nestedAddress, nestedResult, rrdResult, false);
             }
         } else {
-            parseSingleNode(operationAddress, operationAddress, modelNode, rrdResult);
+            parseSingleNode(operationAddress, operationAddress, modelNode, rrdResult, false);
         }
     }
 
     private static void parseSingleNode(ResourceAddress operationAddress, ResourceAddress currentAddress,
-            ModelNode modelNode, RrdResult rrdResult) {
+            ModelNode modelNode, RrdResult rrdResult, boolean nested) {
         String oas = operationAddress.toString();
         String cas = currentAddress.toString();
         logger.debug("Parse %s → %s", operationAddress, currentAddress);
-        if (!oas.equals(cas)) {
+        // Child descriptions of recursive operations are no results of the requested address.
+        // Recording them as processed addresses would make the requested address ambiguous.
+        if (!nested && !oas.equals(cas)) {
             rrdResult.processedAddresses.computeIfAbsent(oas, key -> new HashSet<>()).add(cas);
         }
 
@@ -170,7 +172,7 @@ class RrdParser {
                         String addressValue = modelDescription.getName();
                         ModelNode childNode = modelDescription.getValue();
                         ResourceAddress childAddress = new ResourceAddress(currentAddress).add(addressKey, addressValue);
-                        parseSingleNode(operationAddress, childAddress, childNode, rrdResult);
+                        parseSingleNode(operationAddress, childAddress, childNode, rrdResult, true);
                     }
                 }
             }
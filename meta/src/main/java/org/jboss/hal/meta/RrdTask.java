@@ -22,6 +22,7 @@ import org.jboss.elemento.flow.Flow;
 import org.jboss.elemento.flow.Task;
 import org.jboss.elemento.logger.Logger;
 import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
@@ -37,6 +38,9 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.COMBINED_DESCRIPTIONS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.LOCALE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.OPERATIONS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_DESCRIPTION_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RECURSIVE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RECURSIVE_DEPTH;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
 import static org.jboss.hal.meta.RrdParser.parseComposite;
 import static org.jboss.hal.meta.RrdParser.parseSingle;
 
@@ -63,16 +67,16 @@ class RrdTask implements Task<ProcessingContext> {
         if (operations.size() == 1) {
             Operation operation = operations.get(0);
             logger.debug("About to execute one rrd operation: %s", operation.asCli());
-            tasks.add((ProcessingContext pc) -> dispatcher.execute(operation).then(result -> {
-                parseSingle(operation.getAddress(), result, context.rrdResult);
+            tasks.add((ProcessingContext pc) -> dispatcher.dmr(operation, true, context::received).then(payload -> {
+                parseSingle(operation.getAddress(), payload.get(RESULT), context.rrdResult);
                 return Promise.resolve(pc);
             }));
 
         } else if (operations.size() <= BATCH_SIZE) {
             Composite composite = new Composite(operations);
             logger.debug("About to execute one composite rrd operation: %s", composite.asCli());
-            tasks.add((ProcessingContext pc) -> dispatcher.execute(composite).then(result -> {
-                parseComposite(composite, result, context.rrdResult);
+            tasks.add((ProcessingContext pc) -> dispatcher.dmr(composite, true, context::received).then(payload -> {
+                parseComposite(composite, new CompositeResult(payload.get(RESULT)), context.rrdResult);
                 return Promise.resolve(pc);
             }));
 
@@ -84,8 +88,8 @@ class RrdTask implements Task<ProcessingContext> {
                 logger.debug("About to execute %d composite rrd operations: %s", composites.size(), ops);
             }
             for (Composite composite : composites) {
-                tasks.add((ProcessingContext pc) -> dispatcher.execute(composite).then(result -> {
-                    parseComposite(composite, result, context.rrdResult);
+                tasks.add((ProcessingContext pc) -> dispatcher.dmr(composite, true, context::received).then(payload -> {
+                    parseComposite(composite, new CompositeResult(payload.get(RESULT)), context.rrdResult);
                     return Promise.resolve(pc);
                 }));
             }
@@ -104,11 +108,14 @@ class RrdTask implements Task<ProcessingContext> {
         String locale = settings.get(Settings.Key.LOCALE).value();
         for (String address : context.addresses) {
             ResourceAddress resourceAddress = AddressTemplate.of(address).resolve(); // to get the encoding right
-            operations.add(new Operation.Builder(resourceAddress, READ_RESOURCE_DESCRIPTION_OPERATION)
+            Operation.Builder builder = new Operation.Builder(resourceAddress, READ_RESOURCE_DESCRIPTION_OPERATION)
                     .param(OPERATIONS, true)
                     .param(ACCESS_CONTROL, COMBINED_DESCRIPTIONS)
-                    .param(LOCALE, locale)
-                    .build());
+                    .param(LOCALE, locale);
+            if (context.recursiveDepth > 0) {
+                builder.param(RECURSIVE, true).param(RECURSIVE_DEPTH, context.recursiveDepth);
+            }
+            operations.add(builder.build());
         }
         return operations;
     }
@@ -17,6 +17,7 @@ package org.jboss.hal.meta;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -29,12 +30,14 @@ public class StatementContext {
     final Environment environment;
     private final Map<Placeholder, String> values;
     private final Map<String, Placeholder> placeholders;
+    private int version;
 
     @Inject
     public StatementContext(Environment environment) {
         this.environment = environment;
         this.values = new HashMap<>();
         this.placeholders = new HashMap<>();
+        this.version = 0;
     }
 
     public boolean standalone() {
@@ -50,8 +53,19 @@ public class StatementContext {
     }
 
     public void assign(Placeholder placeholder, String value) {
-        values.put(placeholder, value);
+        String previous = values.put(placeholder, value);
         placeholders.put(placeholder.name, placeholder);
+        if (!Objects.equals(previous, value)) {
+            version++;
+        }
+    }
+
+    /**
+     * Returns the version of this statement context. The version changes whenever a placeholder is assigned to a different
+     * value. Used to invalidate resolved templates.
+     */
+    int version() {
+        return version;
     }
 
     public Placeholder placeholder(String placeholder) {
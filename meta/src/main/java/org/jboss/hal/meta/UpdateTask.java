@@ -41,7 +41,7 @@ class UpdateTask implements Task<ProcessingContext> {
         if (context.rrdResult.shouldUpdate()) {
             for (Map.Entry<String, ResourceDescription> entry : context.rrdResult.resourceDescriptions.entrySet()) {
                 String address = entry.getKey();
-                ResourceDescription resourceDescription = entry.getValue();
+                ResourceDescription resourceDescription = metadataRepository.resourceDescriptions.share(entry.getValue());
                 SecurityContext securityContext = context.rrdResult.securityContexts.get(address);
                 if (securityContext == null) {
                     logger.warn("No security context for %s in rrd results. Fallback to read-only security context.", address);
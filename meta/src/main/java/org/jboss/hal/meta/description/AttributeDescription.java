@@ -28,21 +28,42 @@ import org.jboss.hal.dmr.Property;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ACCESS_CONSTRAINTS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ACCESS_TYPE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.DEFAULT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.DEPRECATED;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.EXPRESSIONS_ALLOWED;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.METRIC;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.NILLABLE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_ONLY;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.REQUIRED;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RUNTIME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SENSITIVE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.STORAGE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.TYPE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.UNIT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.VALUE_TYPE;
 import static org.jboss.hal.dmr.ModelType.LIST;
 import static org.jboss.hal.dmr.ModelType.OBJECT;
 
+/**
+ * Wrapper around an attribute description of the read-resource-description operation.
+ * <p>
+ * The flags of the attribute are compiled into a bitfield when one of the flag accessors is called for the first time.
+ * Subsequent calls don't need to walk the underlying model node.
+ */
 public class AttributeDescription extends NamedNode implements Description {
 
+    private static final int COMPILED = 1;
+    private static final int EXPRESSIONS_ALLOWED_FLAG = 1 << 1;
+    private static final int NILLABLE_FLAG = 1 << 2;
+    private static final int REQUIRED_FLAG = 1 << 3;
+    private static final int READ_ONLY_FLAG = 1 << 4;
+    private static final int METRIC_FLAG = 1 << 5;
+    private static final int SENSITIVE_FLAG = 1 << 6;
+    private static final int DEFAULT_FLAG = 1 << 7;
+    private static final int DEPRECATED_FLAG = 1 << 8;
+    private static final int RUNTIME_FLAG = 1 << 9;
+
     private final AttributeDescription parent;
+    private int flags;
 
     AttributeDescription() {
         super();
@@ -72,28 +93,43 @@ public class AttributeDescription extends NamedNode implements Description {
     // ------------------------------------------------------ properties
 
     public boolean expressionAllowed() {
-        return failSafeBoolean(EXPRESSIONS_ALLOWED);
+        return flag(EXPRESSIONS_ALLOWED_FLAG);
     }
 
     public boolean nillable() {
-        return failSafeBoolean(NILLABLE);
+        return flag(NILLABLE_FLAG);
     }
 
     public boolean hasDefault() {
-        return hasDefined(DEFAULT) && get(DEFAULT).isDefined();
+        return flag(DEFAULT_FLAG);
     }
 
+    /** @return whether the access type is {@code read-only} or {@code metric} */
     public boolean readOnly() {
-        return hasDefined(ACCESS_TYPE) &&
-                (READ_ONLY.equals(get(ACCESS_TYPE).asString()) || METRIC.equals(get(ACCESS_TYPE).asString()));
+        return flag(READ_ONLY_FLAG);
+    }
+
+    /** @return whether the access type is {@code metric} */
+    public boolean metric() {
+        return flag(METRIC_FLAG);
     }
 
     public boolean required() {
-        return failSafeBoolean(REQUIRED);
+        return flag(REQUIRED_FLAG);
     }
 
     public boolean sensitive() {
-        return ModelNodeHelper.nested(this, String.join(".", ACCESS_CONSTRAINTS, SENSITIVE)).isDefined();
+        return flag(SENSITIVE_FLAG);
+    }
+
+    /** @return whether the attribute is deprecated */
+    public boolean deprecated() {
+        return flag(DEPRECATED_FLAG);
+    }
+
+    /** @return whether the storage of the attribute is {@code runtime} */
+    public boolean runtime() {
+        return flag(RUNTIME_FLAG);
     }
 
     public String unit() {
@@ -242,6 +278,47 @@ public class AttributeDescription extends NamedNode implements Description {
 
     // ------------------------------------------------------ internal
 
+    private boolean flag(int flag) {
+        if ((flags & COMPILED) == 0) {
+            flags = compile();
+        }
+        return (flags & flag) != 0;
+    }
+
+    private int compile() {
+        int compiled = COMPILED;
+        if (failSafeBoolean(EXPRESSIONS_ALLOWED)) {
+            compiled |= EXPRESSIONS_ALLOWED_FLAG;
+        }
+        if (failSafeBoolean(NILLABLE)) {
+            compiled |= NILLABLE_FLAG;
+        }
+        if (failSafeBoolean(REQUIRED)) {
+            compiled |= REQUIRED_FLAG;
+        }
+        if (hasDefined(ACCESS_TYPE)) {
+            String accessType = get(ACCESS_TYPE).asString();
+            if (READ_ONLY.equals(accessType)) {
+                compiled |= READ_ONLY_FLAG;
+            } else if (METRIC.equals(accessType)) {
+                compiled |= READ_ONLY_FLAG | METRIC_FLAG;
+            }
+        }
+        if (ModelNodeHelper.nested(this, String.join(".", ACCESS_CONSTRAINTS, SENSITIVE)).isDefined()) {
+            compiled |= SENSITIVE_FLAG;
+        }
+        if (hasDefined(DEFAULT)) {
+            compiled |= DEFAULT_FLAG;
+        }
+        if (hasDefined(DEPRECATED)) {
+            compiled |= DEPRECATED_FLAG;
+        }
+        if (hasDefined(STORAGE) && RUNTIME.equals(get(STORAGE).asString())) {
+            compiled |= RUNTIME_FLAG;
+        }
+        return compiled;
+    }
+
     private boolean failSafeBoolean(String name) {
         return hasDefined(name) && get(name).asBoolean(false);
     }
@@ -15,7 +15,6 @@
  */
 package org.jboss.hal.meta.security;
 
-import java.util.BitSet;
 
 import org.jboss.elemento.logger.Logger;
 import org.jboss.hal.env.AccessControlProvider;
@@ -57,18 +56,20 @@ public class AuthorisationDecision {
             return true;
         }
 
-        int size = constraints.size();
-        if (size == 1) {
-            return allowed(constraints.iterator().next());
+        if (constraints.operator == AND) {
+            for (Constraint constraint : constraints) {
+                if (!allowed(constraint)) {
+                    return false;
+                }
+            }
+            return true;
         } else {
-            int index = 0;
-            BitSet bits = new BitSet(size);
             for (Constraint constraint : constraints) {
-                bits.set(index, allowed(constraint));
-                index++;
+                if (allowed(constraint)) {
+                    return true;
+                }
             }
-            int cardinality = bits.cardinality();
-            return constraints.operator == AND ? cardinality == size : cardinality > 0;
+            return false;
         }
     }
 
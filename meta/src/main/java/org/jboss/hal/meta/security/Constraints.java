@@ -16,8 +16,10 @@
 package org.jboss.hal.meta.security;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 
 import static java.util.Arrays.asList;
@@ -27,6 +29,9 @@ import static java.util.stream.Collectors.joining;
 /** A set of {@linkplain Constraint constraints} with an operator. */
 public class Constraints implements Iterable<Constraint> {
 
+    private static final int MAX_PARSED = 500;
+    private static final Map<String, Constraints> PARSED = new HashMap<>();
+
     public enum Operator {
         AND("&"), OR("|");
 
@@ -91,31 +96,53 @@ public class Constraints implements Iterable<Constraint> {
 
     // ------------------------------------------------------ parse
 
+    /**
+     * Parses the given input. Parsed constraints are cached, so that elements which share the same {@code data-constraint}
+     * attribute don't parse the same input over and over again.
+     */
     public static Constraints parse(String input) {
         if (input != null && !input.isEmpty()) {
-            Operator operator;
-            if (input.contains(Operator.AND.operator)) {
-                operator = Operator.AND;
-            } else if (input.contains(Operator.OR.operator)) {
-                operator = Operator.OR;
-            } else {
-                operator = Operator.AND;
-            }
-            String[] values = input.split(operator.operator);
-            LinkedHashSet<Constraint> constraints = new LinkedHashSet<>();
-            for (String value : values) {
-                try {
-                    constraints.add(Constraint.parse(value));
-                } catch (IllegalArgumentException ignored) {
+            Constraints constraints = PARSED.get(input);
+            if (constraints == null) {
+                if (PARSED.size() >= MAX_PARSED) {
+                    PARSED.clear();
                 }
+                constraints = internalParse(input);
+                PARSED.put(input, constraints);
             }
-            return new Constraints(constraints, operator);
-
+            return constraints;
         } else {
             return empty();
         }
     }
 
+    private static Constraints internalParse(String input) {
+        Operator operator = operator(input);
+        LinkedHashSet<Constraint> constraints = new LinkedHashSet<>();
+        for (String value : split(input, operator)) {
+            try {
+                constraints.add(Constraint.parse(value));
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+        return new Constraints(constraints, operator);
+    }
+
+    static Operator operator(String input) {
+        if (input.contains(Operator.AND.operator)) {
+            return Operator.AND;
+        } else if (input.contains(Operator.OR.operator)) {
+            return Operator.OR;
+        } else {
+            return Operator.AND;
+        }
+    }
+
+    static String[] split(String input, Operator operator) {
+        // split() expects a regular expression, and '|' must be escaped
+        return input.split(operator == Operator.OR ? "\\|" : operator.operator);
+    }
+
     // ------------------------------------------------------ instance
 
     private final LinkedHashSet<Constraint> constraints;
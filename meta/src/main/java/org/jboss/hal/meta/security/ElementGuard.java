@@ -15,6 +15,8 @@
  */
 package org.jboss.hal.meta.security;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -79,17 +81,21 @@ public class ElementGuard {
     public static class Toggle implements Consumer<HTMLElement> {
 
         private final AuthorisationDecision authorisationDecision;
+        // elements often share the same constraints: decide only once per constraint
+        private final Map<String, Boolean> decisions;
 
         public Toggle(AuthorisationDecision authorisationDecision) {
             this.authorisationDecision = authorisationDecision;
+            this.decisions = new HashMap<>();
         }
 
         @Override
         public void accept(HTMLElement element) {
             String data = String.valueOf(element.dataset.get(constraint));
             if (data != null) {
-                Constraints constraints = Constraints.parse(data);
-                Elements.toggle(element, rbacHidden, !authorisationDecision.allowed(constraints));
+                boolean allowed = decisions.computeIfAbsent(data,
+                        key -> authorisationDecision.allowed(Constraints.parse(key)));
+                Elements.toggle(element, rbacHidden, !allowed);
             }
         }
     }
@@ -15,17 +15,32 @@
  */
 package org.jboss.hal.meta.security;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Property;
 
+import static java.util.Collections.emptyMap;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ATTRIBUTES;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.EXECUTE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.OPERATIONS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.WRITE;
 
-/** Represents the RBAC related payload from the read-resource-description operation. */
+/**
+ * Represents the RBAC related payload from the read-resource-description operation.
+ * <p>
+ * The permissions are compiled into a compact index when the security context is created: One bitset for the resource and one
+ * bitset per attribute and operation. The query methods are simple lookups and don't walk the underlying model node.
+ */
 public class SecurityContext extends ModelNode {
 
+    private static final int READ_PERMISSION = 1;
+    private static final int WRITE_PERMISSION = 1 << 1;
+    private static final int EXECUTE_PERMISSION = 1 << 2;
+
     /** A security context with hardcoded permissions to read resources, write and execute operations are not allowed. */
     public static final SecurityContext READ_ONLY = new SecurityContext(new ModelNode()) {
         @Override
@@ -82,22 +97,32 @@ public class SecurityContext extends ModelNode {
         }
     };
 
+    private final int permissions;
+    private final Map<String, Integer> attributePermissions;
+    private final Map<String, Integer> operationPermissions;
+
     public SecurityContext() {
         super();
+        this.permissions = 0;
+        this.attributePermissions = emptyMap();
+        this.operationPermissions = emptyMap();
     }
 
     public SecurityContext(ModelNode payload) {
         set(payload);
+        this.permissions = permissions(payload);
+        this.attributePermissions = index(payload, ATTRIBUTES);
+        this.operationPermissions = index(payload, OPERATIONS);
     }
 
     /** @return whether the security context is readable */
     public boolean readable() {
-        return hasDefined(READ) && get(READ).asBoolean();
+        return (permissions & READ_PERMISSION) != 0;
     }
 
     /** @return whether the security context is writable */
     public boolean writable() {
-        return hasDefined(WRITE) && get(WRITE).asBoolean();
+        return (permissions & WRITE_PERMISSION) != 0;
     }
 
     /**
@@ -105,9 +130,7 @@ public class SecurityContext extends ModelNode {
      * @return whether the attribute is readable
      */
     public boolean readable(String attribute) {
-        return hasDefined(ATTRIBUTES) &&
-                get(ATTRIBUTES).hasDefined(attribute) &&
-                get(ATTRIBUTES).get(attribute).get(READ).asBoolean();
+        return (permissions(attributePermissions, attribute) & READ_PERMISSION) != 0;
     }
 
     /**
@@ -115,9 +138,7 @@ public class SecurityContext extends ModelNode {
      * @return whether the attribute is writable
      */
     public boolean writable(String attribute) {
-        return hasDefined(ATTRIBUTES) &&
-                get(ATTRIBUTES).hasDefined(attribute) &&
-                get(ATTRIBUTES).get(attribute).get(WRITE).asBoolean();
+        return (permissions(attributePermissions, attribute) & WRITE_PERMISSION) != 0;
     }
 
     /**
@@ -125,8 +146,39 @@ public class SecurityContext extends ModelNode {
      * @return whether the operation is executable
      */
     public boolean executable(String operation) {
-        return hasDefined(OPERATIONS) &&
-                get(OPERATIONS).hasDefined(operation) &&
-                get(OPERATIONS).get(operation).get(EXECUTE).asBoolean();
+        return (permissions(operationPermissions, operation) & EXECUTE_PERMISSION) != 0;
+    }
+
+    // ------------------------------------------------------ internal
+
+    private static Map<String, Integer> index(ModelNode payload, String name) {
+        if (payload.hasDefined(name)) {
+            List<Property> properties = payload.get(name).asPropertyList();
+            Map<String, Integer> index = new HashMap<>();
+            for (Property property : properties) {
+                index.put(property.getName(), permissions(property.getValue()));
+            }
+            return index;
+        }
+        return emptyMap();
+    }
+
+    private static int permissions(Map<String, Integer> index, String name) {
+        Integer permissions = index.get(name);
+        return permissions != null ? permissions : 0;
+    }
+
+    private static int permissions(ModelNode modelNode) {
+        int permissions = 0;
+        if (modelNode.hasDefined(READ) && modelNode.get(READ).asBoolean()) {
+            permissions |= READ_PERMISSION;
+        }
+        if (modelNode.hasDefined(WRITE) && modelNode.get(WRITE).asBoolean()) {
+            permissions |= WRITE_PERMISSION;
+        }
+        if (modelNode.hasDefined(EXECUTE) && modelNode.get(EXECUTE).asBoolean()) {
+            permissions |= EXECUTE_PERMISSION;
+        }
+        return permissions;
     }
 }
@@ -0,0 +1,275 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.tree;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.jboss.elemento.logger.Logger;
+import org.jboss.hal.db.Database;
+import org.jboss.hal.db.Document;
+import org.jboss.hal.env.Endpoints;
+import org.jboss.hal.meta.AddressTemplate;
+
+import elemental2.core.JsArray;
+import elemental2.promise.Promise;
+import jsinterop.base.Js;
+
+import static elemental2.dom.DomGlobal.clearTimeout;
+import static elemental2.dom.DomGlobal.setTimeout;
+import static java.util.Collections.emptySet;
+
+/**
+ * Searchable index of all resource addresses of the management model. The index is built once by a background traversal of
+ * the model and stored in the local database. After a reload, the index is restored from the database and no traversal is
+ * necessary. Use {@link #add(AddressTemplate)} and {@link #remove(AddressTemplate)} to keep the index up to date when resources
+ * are added or removed, or {@link #refresh()} to rebuild the index.
+ * <p>
+ * Queries use trigram postings over the address, the resource type and the resource name (see {@link SearchScope}). The
+ * database only stores the addresses. The postings are derived from the addresses when the index is restored. Changes made by
+ * {@link #add(AddressTemplate)} and {@link #remove(AddressTemplate)} are saved to the database after a delay of
+ * {@value #SAVE_DELAY} ms, so that a series of changes results in one write.
+ */
+@ApplicationScoped
+public class AddressIndex {
+
+    /** The default maximal number of results returned by {@link #query(String, SearchScope, boolean, AddressTemplate, Set)} */
+    public static final int DEFAULT_LIMIT = 1_000;
+
+    private static final Logger logger = Logger.getLogger(AddressIndex.class.getName());
+    private static final String DATABASE = "hal";
+    private static final int VERSION = 1;
+    private static final String STORE = "address-index";
+    private static final String ADDRESSES = "addresses";
+    private static final String TIMESTAMP = "timestamp";
+    private static final int SAVE_DELAY = 2_000;
+
+    private final ModelTree modelTree;
+    private final Endpoints endpoints;
+    private TrigramIndex index;
+    private TraverseContinuation continuation;
+    private Promise<AddressIndex> loading;
+    private Promise<AddressIndex> building;
+    private Promise<Database> database;
+    private double timestamp;
+    private double saveHandle;
+
+    @Inject
+    public AddressIndex(ModelTree modelTree, Endpoints endpoints) {
+        this.modelTree = modelTree;
+        this.endpoints = endpoints;
+        this.index = new TrigramIndex();
+        this.continuation = new TraverseContinuation();
+        this.loading = null;
+        this.building = null;
+        this.database = null;
+        this.timestamp = 0;
+        this.saveHandle = 0;
+    }
+
+    // ------------------------------------------------------ api
+
+    /**
+     * Makes sure the index is available: Restores the index from the local database or builds the index if there's no index
+     * in the database.
+     */
+    public Promise<AddressIndex> load() {
+        if (ready()) {
+            return Promise.resolve(this);
+        } else if (building != null) {
+            return building;
+        } else if (loading == null) {
+            loading = restore()
+                    .then(restored -> restored ? Promise.resolve(this) : build())
+                    .catch_(error -> {
+                        logger.warn("Unable to restore address index: %s", error);
+                        return build();
+                    })
+                    .finally_(() -> loading = null);
+        }
+        return loading;
+    }
+
+    /** Rebuilds the index by traversing the management model. A running rebuild is cancelled. */
+    public Promise<AddressIndex> refresh() {
+        if (building != null) {
+            continuation.stop();
+        }
+        return build();
+    }
+
+    /** Adds the template to the index. */
+    public void add(AddressTemplate template) {
+        if (ready() && template.fullyQualified()) {
+            index.add(template);
+            scheduleSave();
+        }
+    }
+
+    /** Removes the template and all templates below from the index. */
+    public void remove(AddressTemplate template) {
+        if (ready() && index.remove(template) != 0) {
+            scheduleSave();
+        }
+    }
+
+    /**
+     * Returns the matching templates ordered by relevance: Exact matches first, then matches starting with the term, then the
+     * remaining matches.
+     *
+     * @param term     the search term. The search is case-insensitive
+     * @param scope    which part of the address to search
+     * @param contains whether the address must contain or match the term
+     * @param root     only return templates below this template
+     * @param exclude  don't return templates which start with one of these strings
+     */
+    public List<AddressTemplate> query(String term, SearchScope scope, boolean contains, AddressTemplate root,
+            Set<String> exclude) {
+        return query(term, scope, contains, root, exclude, DEFAULT_LIMIT);
+    }
+
+    public List<AddressTemplate> query(String term, SearchScope scope, boolean contains, AddressTemplate root,
+            Set<String> exclude, int limit) {
+        String prefix = root.template;
+        return index.query(term, scope, contains, template -> {
+            if (template.size() <= root.size() || !(prefix.equals("/") || template.template.startsWith(prefix + "/"))) {
+                return false;
+            }
+            for (String e : exclude) {
+                if (template.template.startsWith(e)) {
+                    return false;
+                }
+            }
+            return true;
+        }, limit);
+    }
+
+    /** @return whether the index has been built or restored. While the index is rebuilt, the old index remains ready. */
+    public boolean ready() {
+        return timestamp > 0;
+    }
+
+    /** @return whether the index is being built */
+    public boolean building() {
+        return building != null;
+    }
+
+    /** @return the time in milliseconds since the index has been built or -1 if the index is not ready */
+    public double age() {
+        return ready() ? System.currentTimeMillis() - timestamp : -1;
+    }
+
+    /** @return the number of addresses in the index */
+    public int size() {
+        return index.size();
+    }
+
+    // ------------------------------------------------------ build
+
+    private Promise<AddressIndex> build() {
+        TrigramIndex newIndex = new TrigramIndex();
+        TraverseContinuation newContinuation = new TraverseContinuation();
+        continuation = newContinuation;
+        double start = System.currentTimeMillis();
+        logger.info("Build address index");
+        building = modelTree.traverse(newContinuation, AddressTemplate.root(), emptySet(),
+                        EnumSet.noneOf(TraverseType.class), (template, context) -> newIndex.add(template))
+                .then(context -> {
+                    // ignore the result if the build has been cancelled by refresh()
+                    if (continuation == newContinuation) {
+                        building = null;
+                        index = newIndex;
+                        timestamp = System.currentTimeMillis();
+                        logger.info("Built address index with %d addresses in %d ms", index.size(),
+                                (long) (timestamp - start));
+                        save();
+                    }
+                    return Promise.resolve(this);
+                })
+                .catch_(error -> {
+                    if (continuation == newContinuation) {
+                        building = null;
+                    }
+                    return Promise.reject(error);
+                });
+        return building;
+    }
+
+    // ------------------------------------------------------ database
+
+    private Promise<Database> database() {
+        if (database == null) {
+            database = Database.open(DATABASE, VERSION, STORE);
+        }
+        return database;
+    }
+
+    private String id() {
+        return endpoints.dmr();
+    }
+
+    private Promise<Boolean> restore() {
+        return database()
+                .then(db -> db.get(STORE, id()))
+                .then(document -> {
+                    if (document != null && document.has(ADDRESSES)) {
+                        double start = System.currentTimeMillis();
+                        JsArray<String> addresses = Js.uncheckedCast(document.get(ADDRESSES));
+                        TrigramIndex restored = new TrigramIndex();
+                        for (int i = 0; i < addresses.length; i++) {
+                            // bypass the intern pool: it would be cleared many times for no benefit
+                            restored.add(AddressTemplate.of(addresses.getAt(i), false));
+                        }
+                        index = restored;
+                        timestamp = document.getAsAny(TIMESTAMP).asDouble();
+                        logger.info("Restored address index with %d addresses in %d ms", index.size(),
+                                (long) (System.currentTimeMillis() - start));
+                        return Promise.resolve(true);
+                    }
+                    return Promise.resolve(false);
+                });
+    }
+
+    private void scheduleSave() {
+        if (saveHandle == 0) {
+            saveHandle = setTimeout(__ -> save(), SAVE_DELAY);
+        }
+    }
+
+    private void save() {
+        if (saveHandle != 0) {
+            clearTimeout(saveHandle);
+            saveHandle = 0;
+        }
+        JsArray<String> addresses = new JsArray<>();
+        for (AddressTemplate template : index.templates()) {
+            addresses.push(template.template);
+        }
+        Document document = Document.of(id());
+        document.set(ADDRESSES, addresses);
+        document.set(TIMESTAMP, timestamp);
+        database()
+                .then(db -> db.put(STORE, document))
+                .catch_(error -> {
+                    logger.warn("Unable to save address index: %s", error);
+                    return null;
+                });
+    }
+}
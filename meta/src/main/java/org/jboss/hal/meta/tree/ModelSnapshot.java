@@ -0,0 +1,478 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.tree;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.jboss.elemento.logger.Logger;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.Property;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.meta.StatementContext;
+
+import elemental2.promise.Promise;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILD_TYPE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDE_RUNTIME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDE_SINGLETONS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_RESOURCES_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_TYPES_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+
+/**
+ * An in-memory snapshot of one or more subtrees of the management model. Searching the snapshot takes milliseconds, whereas
+ * walking the model with one {@code read-children-*} operation per resource and consumer call takes much longer.
+ * <p>
+ * A subtree is loaded level by level using non-recursive operations only: {@code read-children-types} returns the child
+ * types of a resource and {@code read-children-resources(include-runtime=false)} returns the attributes of the children of
+ * one type. Child types are never guessed from the payload. The operations are sent in chunks of composite operations, one
+ * chunk at a time. The resources are stored in an index by address.
+ * <p>
+ * The number of resources held by the snapshot is limited by a budget (see {@link #budget(int, int)}). The budget is checked
+ * before each request. Since no operation is recursive, a single response contains at most the children of
+ * {@value #CHUNK_SIZE} child types. If a subtree exceeds the budget, it is discarded and the snapshot doesn't
+ * {@linkplain #covers(AddressTemplate) cover} it. Loading a subtree can be stopped using a {@link TraverseContinuation}.
+ */
+@ApplicationScoped
+public class ModelSnapshot {
+
+    /** The default maximal number of resources held by the snapshot. */
+    public static final int DEFAULT_MAX_RESOURCES = 50_000;
+
+    /** The default time in milliseconds after which a loaded subtree is considered stale. */
+    public static final int DEFAULT_MAX_AGE = 60_000;
+
+    static final int CHUNK_SIZE = 50;
+    private static final Logger logger = Logger.getLogger(ModelSnapshot.class.getName());
+
+    private final Dispatcher dispatcher;
+    private final StatementContext statementContext;
+    private final Map<String, Entry> resources;
+    private final Map<String, Long> roots;
+    private int maxResources;
+    private int maxAge;
+
+    @Inject
+    public ModelSnapshot(Dispatcher dispatcher, StatementContext statementContext) {
+        this.dispatcher = dispatcher;
+        this.statementContext = statementContext;
+        this.resources = new LinkedHashMap<>();
+        this.roots = new HashMap<>();
+        this.maxResources = DEFAULT_MAX_RESOURCES;
+        this.maxAge = DEFAULT_MAX_AGE;
+    }
+
+    // ------------------------------------------------------ api
+
+    /**
+     * Sets the maximal number of resources held by the snapshot and the time after which a loaded subtree is considered
+     * stale. Already loaded subtrees are not removed.
+     */
+    public void budget(int maxResources, int maxAge) {
+        this.maxResources = maxResources;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Loads the subtree below the given template unless it is already covered by this snapshot and not stale.
+     *
+     * @param template a fully qualified address template
+     * @return a promise which resolves when the subtree has been loaded. The promise also resolves if the subtree exceeds
+     * the budget. Use {@link #covers(AddressTemplate)} to check whether the subtree has been loaded.
+     */
+    public Promise<ModelSnapshot> load(AddressTemplate template) {
+        return load(template, new TraverseContinuation());
+    }
+
+    /**
+     * Same as {@link #load(AddressTemplate)}, but can be stopped using the given continuation. The continuation is
+     * {@linkplain TraverseContinuation#isRunning() running} while the subtree is loaded. If it has been stopped, no further
+     * requests are sent, the promise resolves and the subtree is not covered.
+     */
+    public Promise<ModelSnapshot> load(AddressTemplate template, TraverseContinuation continuation) {
+        if (covers(template)) {
+            return Promise.resolve(this);
+        }
+        return read(template, continuation);
+    }
+
+    /**
+     * Reloads the subtree below the given template. Use this method to update a part of the snapshot after the model has been
+     * modified.
+     *
+     * @param template a fully qualified address template
+     */
+    public Promise<ModelSnapshot> refresh(AddressTemplate template) {
+        return read(template, new TraverseContinuation());
+    }
+
+    /**
+     * Removes the subtree below the given template from the snapshot. Subtrees which contain the template are no longer
+     * covered by this snapshot.
+     */
+    public void invalidate(AddressTemplate template) {
+        roots.keySet().removeIf(root -> below(root, template.template));
+        remove(template);
+    }
+
+    public void clear() {
+        roots.clear();
+        resources.clear();
+    }
+
+    /** @return whether the subtree below the given template has been loaded completely and is not stale */
+    public boolean covers(AddressTemplate template) {
+        if (template.fullyQualified()) {
+            long now = System.currentTimeMillis();
+            for (Map.Entry<String, Long> root : roots.entrySet()) {
+                if (below(root.getKey(), template.template) && now - root.getValue() <= maxAge) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /** @return the resource (without runtime attributes) or {@code null} if the resource is not part of this snapshot */
+    public ModelNode resource(AddressTemplate template) {
+        Entry entry = resources.get(template.template);
+        return entry != null ? entry.resource : null;
+    }
+
+    /** @return the number of resources in this snapshot */
+    public int size() {
+        return resources.size();
+    }
+
+    /**
+     * Traverses the resources below the given template. The resources are passed to the consumer level by level, like in
+     * {@link ModelTree#traverse(TraverseContinuation, AddressTemplate, Set, Set, BiConsumer)}. Only fully qualified resources
+     * are traversed.
+     */
+    public TraverseContext traverse(TraverseContinuation continuation, AddressTemplate template, Set<String> exclude,
+            int depth, BiConsumer<AddressTemplate, TraverseContext> consumer) {
+        return traverse(new TraverseContext(), continuation, template, exclude, depth, consumer);
+    }
+
+    TraverseContext traverse(TraverseContext context, TraverseContinuation continuation, AddressTemplate template,
+            Set<String> exclude, int depth, BiConsumer<AddressTemplate, TraverseContext> consumer) {
+        List<Entry> entries = new ArrayList<>();
+        for (Entry entry : resources.values()) {
+            if (entry.template.size() > template.size() && below(template.template, entry.template.template) &&
+                    (depth < 0 || entry.template.size() - template.size() <= depth)) {
+                entries.add(entry);
+            }
+        }
+        entries.sort(Comparator.comparingInt(entry -> entry.template.size())); // stable: keeps the order of the model
+        for (Entry entry : entries) {
+            if (!continuation.running) {
+                logger.debug("Traversal aborted");
+                break;
+            }
+            context.recordProgress(1);
+            if (!excluded(entry.template, exclude)) {
+                context.recordAccepted();
+                consumer.accept(entry.template, context);
+            }
+        }
+        return context;
+    }
+
+    // ------------------------------------------------------ read
+
+    private Promise<ModelSnapshot> read(AddressTemplate template, TraverseContinuation continuation) {
+        if (!template.fullyQualified()) {
+            return Promise.reject("Unable to load snapshot for " + template + ": Template is not fully qualified");
+        }
+        long start = System.currentTimeMillis();
+        int limit = maxResources - (resources.size() - countBelow(template));
+        Loader loader = new Loader(template, limit, t -> t.resolve(statementContext));
+        continuation.running = true;
+        return next(loader, continuation)
+                .then(__ -> {
+                    switch (loader.state) {
+                        case COMPLETED:
+                            remove(template);
+                            resources.putAll(loader.subtree);
+                            roots.put(template.template, System.currentTimeMillis());
+                            logger.debug("Loaded snapshot of %s with %d resources using %d requests in %d ms", template,
+                                    loader.subtree.size(), loader.requests, System.currentTimeMillis() - start);
+                            break;
+                        case EXCEEDED:
+                            invalidate(template);
+                            logger.warn("Snapshot of %s exceeds the budget of %d resources", template, maxResources);
+                            break;
+                        case STOPPED:
+                            logger.debug("Loading snapshot of %s has been stopped", template);
+                            break;
+                        case FAILED:
+                            logger.debug("Unable to load snapshot of %s: %s", template, loader.error);
+                            break;
+                        default:
+                            break;
+                    }
+                    return Promise.resolve(this);
+                })
+                .finally_(() -> continuation.running = false);
+    }
+
+    private Promise<Void> next(Loader loader, TraverseContinuation continuation) {
+        List<Operation> operations = loader.next(continuation.running);
+        if (operations.isEmpty()) {
+            return Promise.resolve((Void) null);
+        }
+        return dispatcher.executeSteps(new Composite(operations))
+                .then(result -> {
+                    loader.apply(operations, result);
+                    return next(loader, continuation);
+                });
+    }
+
+    // ------------------------------------------------------ internal
+
+    private void remove(AddressTemplate template) {
+        String prefix = template.template;
+        roots.keySet().removeIf(root -> below(prefix, root));
+        resources.keySet().removeIf(address -> below(prefix, address));
+    }
+
+    private int countBelow(AddressTemplate template) {
+        int count = 0;
+        for (String address : resources.keySet()) {
+            if (below(template.template, address)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    static boolean excluded(AddressTemplate template, Set<String> excludes) {
+        for (String exclude : excludes) {
+            if (template.template.startsWith(exclude)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean below(String prefix, String address) {
+        return "/".equals(prefix) || address.equals(prefix) || address.startsWith(prefix + "/");
+    }
+
+    // ------------------------------------------------------ inner classes
+
+    static class Entry {
+
+        final AddressTemplate template;
+        final ModelNode resource;
+
+        Entry(AddressTemplate template, ModelNode resource) {
+            this.template = template;
+            this.resource = resource;
+        }
+    }
+
+    /**
+     * Loads one subtree. The loader decides which operations to send next and applies their results, but doesn't send any
+     * requests itself. The resources are added to {@link #subtree} and the first failed step aborts loading. Subclasses can
+     * change both by overriding {@link #resource(AddressTemplate, ModelNode)} and
+     * {@link #failure(AddressTemplate, Operation, String)} (see {@link ValueSearch}).
+     */
+    static class Loader {
+
+        enum State {
+            RUNNING, COMPLETED, EXCEEDED, STOPPED, FAILED
+        }
+
+        final AddressTemplate root;
+        final int limit;
+        final int chunkSize;
+        final Set<String> exclude;
+        final Function<AddressTemplate, ResourceAddress> resolver;
+        final Map<String, Entry> subtree;
+        // resources whose child types haven't been read yet
+        private final LinkedList<AddressTemplate> parents;
+        // child types (parent/type=*) whose children haven't been read yet
+        private final LinkedList<AddressTemplate> childTypes;
+        private final List<AddressTemplate> current;
+        private boolean rootRead;
+        State state;
+        String error;
+        int count;
+        int requests;
+
+        Loader(AddressTemplate root, int limit, Function<AddressTemplate, ResourceAddress> resolver) {
+            this(root, limit, CHUNK_SIZE, emptySet(), resolver);
+        }
+
+        Loader(AddressTemplate root, int limit, int chunkSize, Set<String> exclude,
+                Function<AddressTemplate, ResourceAddress> resolver) {
+            this.root = root;
+            this.limit = limit;
+            this.chunkSize = Math.max(1, chunkSize);
+            this.exclude = exclude;
+            this.resolver = resolver;
+            this.subtree = new LinkedHashMap<>();
+            this.parents = new LinkedList<>();
+            this.childTypes = new LinkedList<>();
+            this.current = new ArrayList<>();
+            this.rootRead = false;
+            this.state = State.RUNNING;
+        }
+
+        /** @return the operations of the next request or an empty list if there's nothing more to read */
+        List<Operation> next(boolean running) {
+            current.clear();
+            if (state != State.RUNNING) {
+                return emptyList();
+            }
+            if (!running) {
+                state = State.STOPPED;
+                return emptyList();
+            }
+            // only reading the children of a child type adds resources
+            if ((!rootRead && limit <= 0) || (count >= limit && !childTypes.isEmpty())) {
+                state = State.EXCEEDED;
+                return emptyList();
+            }
+
+            List<Operation> operations = new ArrayList<>();
+            if (!rootRead) {
+                rootRead = true;
+                ResourceAddress address = resolver.apply(root);
+                current.add(root);
+                operations.add(new Operation.Builder(address, READ_RESOURCE_OPERATION)
+                        .param(INCLUDE_RUNTIME, false)
+                        .build());
+                current.add(root);
+                operations.add(readChildrenTypes(address));
+            } else if (!childTypes.isEmpty()) {
+                while (operations.size() < chunkSize && !childTypes.isEmpty()) {
+                    AddressTemplate childType = childTypes.removeFirst();
+                    current.add(childType);
+                    operations.add(new Operation.Builder(resolver.apply(childType.parent()),
+                            READ_CHILDREN_RESOURCES_OPERATION)
+                            .param(CHILD_TYPE, childType.last().key)
+                            .param(INCLUDE_RUNTIME, false)
+                            .build());
+                }
+            } else {
+                while (operations.size() < chunkSize && !parents.isEmpty()) {
+                    AddressTemplate parent = parents.removeFirst();
+                    current.add(parent);
+                    operations.add(readChildrenTypes(resolver.apply(parent)));
+                }
+            }
+            if (operations.isEmpty()) {
+                state = State.COMPLETED;
+            } else {
+                requests++;
+            }
+            return operations;
+        }
+
+        /** Applies the result of the operations returned by the last call of {@link #next(boolean)}. */
+        void apply(List<Operation> operations, CompositeResult result) {
+            for (int i = 0; i < operations.size() && state == State.RUNNING; i++) {
+                AddressTemplate template = current.get(i);
+                ModelNode step = result.step(i);
+                if (step.isFailure() || !step.has(RESULT)) {
+                    String reason = step.isFailure() ? step.getFailureDescription() : "No result for " + template;
+                    if (failure(template, operations.get(i), reason)) {
+                        continue;
+                    }
+                    return;
+                }
+                ModelNode payload = step.get(RESULT);
+                String name = operations.get(i).getName();
+                if (READ_RESOURCE_OPERATION.equals(name)) {
+                    count++;
+                    resource(template, payload);
+
+                } else if (READ_CHILDREN_TYPES_OPERATION.equals(name)) {
+                    Entry entry = subtree.get(template.template);
+                    for (ModelNode type : payload.asList()) {
+                        String childType = type.asString();
+                        // non-recursive payloads contain child types as undefined attributes
+                        if (entry != null && entry.resource.has(childType)) {
+                            entry.resource.remove(childType);
+                        }
+                        childTypes.add(template.append(childType, "*"));
+                    }
+
+                } else if (READ_CHILDREN_RESOURCES_OPERATION.equals(name) && payload.isDefined()) {
+                    AddressTemplate parent = template.parent();
+                    String type = template.last().key;
+                    for (Property child : payload.asPropertyList()) {
+                        AddressTemplate childTemplate = parent.append(type, child.getName());
+                        if (excluded(childTemplate, exclude)) {
+                            continue;
+                        }
+                        count++;
+                        resource(childTemplate, child.getValue());
+                        parents.add(childTemplate);
+                        if (count > limit) {
+                            state = State.EXCEEDED;
+                            return;
+                        }
+                    }
+                }
+            }
+        }
+
+        /** Called for each resource which has been read. Adds the resource to the subtree. */
+        void resource(AddressTemplate template, ModelNode resource) {
+            subtree.put(template.template, new Entry(template, resource));
+        }
+
+        /**
+         * Called for each failed step. Aborts loading.
+         *
+         * @return whether to continue with the remaining steps
+         */
+        boolean failure(AddressTemplate template, Operation operation, String reason) {
+            state = State.FAILED;
+            error = reason;
+            return false;
+        }
+
+        private Operation readChildrenTypes(ResourceAddress address) {
+            return new Operation.Builder(address, READ_CHILDREN_TYPES_OPERATION)
+                    .param(INCLUDE_SINGLETONS, false)
+                    .build();
+        }
+    }
+}
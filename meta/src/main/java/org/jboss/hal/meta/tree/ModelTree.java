@@ -15,7 +15,6 @@
  */
 package org.jboss.hal.meta.tree;
 
-import java.util.List;
 import java.util.Set;
 import java.util.function.BiConsumer;
 
@@ -23,22 +22,15 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
 import org.jboss.elemento.logger.Logger;
-import org.jboss.hal.dmr.Operation;
-import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.StatementContext;
 
 import elemental2.promise.Promise;
 
-import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
 import static org.jboss.elemento.logger.Level.DEBUG;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILD_TYPE;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDE_SINGLETONS;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_TYPES_OPERATION;
-import static org.jboss.hal.meta.tree.TraverseType.WILDCARD_RESOURCES;
+import static org.jboss.hal.meta.tree.TraverseCheckpoint.checkpoint;
 
 /**
  * Represents a management model tree that provides functionality to traverse through various resources and apply actions or
@@ -50,14 +42,30 @@ import static org.jboss.hal.meta.tree.TraverseType.WILDCARD_RESOURCES;
 @ApplicationScoped
 public class ModelTree {
 
+    /** The default number of operations sent in one composite operation. */
+    public static final int DEFAULT_CHUNK_SIZE = 50;
+
+    /** The default number of composite operations which are in flight at the same time. */
+    public static final int DEFAULT_CONCURRENCY = 4;
+
+    /** Don't limit the depth of the traversal. */
+    public static final int UNLIMITED_DEPTH = -1;
+
     private static final Logger logger = Logger.getLogger(ModelTree.class.getName());
     private final Dispatcher dispatcher;
     private final StatementContext statementContext;
+    private final ModelSnapshot snapshot;
 
     @Inject
-    public ModelTree(Dispatcher dispatcher, StatementContext statementContext) {
+    public ModelTree(Dispatcher dispatcher, StatementContext statementContext, ModelSnapshot snapshot) {
         this.dispatcher = dispatcher;
         this.statementContext = statementContext;
+        this.snapshot = snapshot;
+    }
+
+    /** @return the snapshot used to traverse subtrees which have been loaded in advance */
+    public ModelSnapshot snapshot() {
+        return snapshot;
     }
 
     // ------------------------------------------------------ traverse
@@ -75,6 +83,18 @@ public class ModelTree {
      * The {@linkplain TraverseContinuation#isRunning() running state} of the continuation is controlled by this method: It is
      * set to {@code true} when the traversal starts and to {@code false} if the traversal ends, fails, or has been aborted by
      * calling {@link TraverseContinuation#stop()}.
+     * <p>
+     * The {@linkplain TraverseContext#checkpoint() checkpoint} of the resolved context records the frontier of the traversal.
+     * Use it to resume a stopped traversal or to retry the subtrees which couldn't be read (see
+     * {@link #traverse(TraverseContinuation, TraverseCheckpoint, BiConsumer)}).
+     *
+     * <p>
+     * The model tree is traversed breadth-first: The {@code read-children-names} and {@code read-children-types} operations of
+     * one level are sent in chunks of composite operations (see {@link TraverseContinuation#batching(int, int)}). The
+     * consumer is called for the resources of one level before any resource of the next level.
+     * <p>
+     * If the {@linkplain #snapshot() snapshot} covers the template and only fully qualified resources are requested (i.e.
+     * {@code traverseType} is empty), the snapshot is traversed instead and no operations are sent to the server.
      *
      * @param continuation The continuation controlling the traversal process.
      * @param template     The address template used as the starting point for traversal. Can be a fully qualified resource
@@ -88,91 +108,64 @@ public class ModelTree {
      */
     public Promise<TraverseContext> traverse(TraverseContinuation continuation, AddressTemplate template,
             Set<String> exclude, Set<TraverseType> traverseType, BiConsumer<AddressTemplate, TraverseContext> consumer) {
-        if (logger.isEnabled(DEBUG)) {
-            logger.debug("Traverse %s, exclude: %s, type: %s", template, exclude,
-                    traverseType.stream().map(TraverseType::name).collect(toList()));
-        }
-        continuation.running = true;
-        TraverseContext context = new TraverseContext();
-        return read(continuation, context, template, exclude, traverseType, consumer)
-                .finally_(() -> continuation.running = false);
+        return traverse(continuation, template, exclude, traverseType, UNLIMITED_DEPTH, consumer);
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    private Promise<TraverseContext> read(TraverseContinuation continuation, TraverseContext context,
-            AddressTemplate template, Set<String> excludes, Set<TraverseType> traverseType,
-            BiConsumer<AddressTemplate, TraverseContext> addressConsumer) {
-        if (continuation.running) {
-            return readChildren(context, template, traverseType)
-                    .then(children -> {
-                        context.recordProgress(children.size());
-                        Promise[] promises = children.stream()
-                                .filter(child -> !excluded(child, excludes))
-                                .peek(child -> {
-                                    logger.debug("… %s", child);
-                                    if (traverseType.contains(WILDCARD_RESOURCES) || child.fullyQualified()) {
-                                        logger.debug("✓ %s", child);
-                                        context.recordAccepted();
-                                        addressConsumer.accept(child, context);
-                                    }
-                                })
-                                .map(child -> read(continuation, context, child, excludes, traverseType, addressConsumer))
-                                .toArray(Promise[]::new);
-                        return Promise.all(promises).then(__ -> Promise.resolve(context));
-                    });
-        } else {
-            logger.debug("Traversal aborted");
-            return Promise.resolve(context);
-        }
+    /**
+     * Same as {@link #traverse(TraverseContinuation, AddressTemplate, Set, Set, BiConsumer)}, but stops at the given depth.
+     *
+     * @param depth The maximal number of segments below {@code template} or {@link #UNLIMITED_DEPTH}. A depth of 1 traverses
+     *              the direct children of {@code template}.
+     */
+    public Promise<TraverseContext> traverse(TraverseContinuation continuation, AddressTemplate template,
+            Set<String> exclude, Set<TraverseType> traverseType, int depth,
+            BiConsumer<AddressTemplate, TraverseContext> consumer) {
+        return traverse(continuation, checkpoint(template, exclude, traverseType, depth), consumer);
     }
 
-    private boolean excluded(AddressTemplate template, Set<String> excludes) {
-        for (String exclude : excludes) {
-            if (template.template.startsWith(exclude)) {
-                return true;
-            }
+    /**
+     * Resumes the traversal recorded in the given checkpoint. Resources which have already been visited are not passed to
+     * the consumer again. Use {@link TraverseCheckpoint#retryFailed()} to retry the subtrees which couldn't be read.
+     * <p>
+     * The checkpoint is updated by this method: When the returned promise is resolved (or rejected), the checkpoint contains the
+     * remaining frontier. It's {@linkplain TraverseCheckpoint#completed() completed} if the traversal hasn't been stopped.
+     */
+    public Promise<TraverseContext> traverse(TraverseContinuation continuation, TraverseCheckpoint checkpoint,
+            BiConsumer<AddressTemplate, TraverseContext> consumer) {
+        if (logger.isEnabled(DEBUG)) {
+            logger.debug("Traverse %s, exclude: %s, type: %s, depth: %d, chunk size: %d, concurrency: %d, pending: %d, " +
+                            "visited: %d", checkpoint.start, checkpoint.exclude,
+                    checkpoint.traverseType.stream().map(TraverseType::name).collect(toList()), checkpoint.depth,
+                    continuation.chunkSize, continuation.concurrency, checkpoint.pending(), checkpoint.visited());
         }
-        return false;
-    }
-
-    private Promise<List<AddressTemplate>> readChildren(TraverseContext context, AddressTemplate template,
-            Set<TraverseType> traverseType) {
-        if ("*".equals(template.last().value)) {
-
-            // template:  /a=b/c=*
-            // operation: /a=b:read-children-names(child-type=c)
-            String resource = template.last().key;
-            AddressTemplate parent = template.parent();
-            ResourceAddress resourceAddress = parent.resolve(statementContext);
-            Operation operation = new Operation.Builder(resourceAddress, READ_CHILDREN_NAMES_OPERATION)
-                    .param(CHILD_TYPE, resource)
-                    .param(INCLUDE_SINGLETONS, traverseType.contains(TraverseType.NON_EXISTING_SINGLETONS))
-                    .build();
-            logger.debug("⮑ %s", operation.asCli());
-            return dispatcher.execute(operation, false)
-                    .then(result -> Promise.resolve(result.asList().stream()
-                            .map(modelNode -> parent.append(resource, modelNode.asString()))
-                            .collect(toList())))
-                    .catch_(__ -> {
-                        context.recordFailed(resourceAddress.toString(), operation);
-                        return Promise.resolve(emptyList());
-                    });
-        } else {
-
-            // template:  /a=b/c=d
-            // operation: /a=b/c=d:read-children-types()
-            ResourceAddress resourceAddress = template.resolve(statementContext);
-            Operation operation = new Operation.Builder(resourceAddress, READ_CHILDREN_TYPES_OPERATION)
-                    .build();
-            logger.debug("⮑ %s", operation.asCli());
-            return dispatcher.execute(operation, false)
-                    .then(result -> Promise.resolve(result.asList().stream()
-                            .map(modelNode -> template.append(modelNode.asString(), "*"))
-                            .collect(toList())))
-                    .catch_(__ -> {
-                        context.recordFailed(resourceAddress.toString(), operation);
-                        return Promise.resolve(emptyList());
-                    });
+        continuation.running = true;
+        if (checkpoint.traverseType.isEmpty() && checkpoint.initial() && snapshot.covers(checkpoint.start)) {
+            try {
+                TraverseContext context = snapshot.traverse(new TraverseContext(checkpoint), continuation,
+                        checkpoint.start, checkpoint.exclude, checkpoint.depth, (template, c) -> {
+                            if (checkpoint.visit(template)) {
+                                consumer.accept(template, c);
+                            }
+                        });
+                if (continuation.running) {
+                    checkpoint.frontier.clear();
+                }
+                logger.debug("Traversed %d resources of snapshot in %d ms", context.processed(), context.elapsed());
+                return Promise.resolve(context);
+            } catch (Throwable t) {
+                return Promise.reject(t);
+            } finally {
+                continuation.running = false;
+            }
         }
+        TraverseContext context = new TraverseContext(checkpoint);
+        return new Traversal(dispatcher, statementContext, continuation, context, consumer)
+                .run()
+                .then(c -> {
+                    logger.debug("Traversed %d resources using %d requests in %d ms (%d resources/s), %s",
+                            c.processed(), c.requests(), c.elapsed(), (int) c.nodesPerSecond(), checkpoint);
+                    return Promise.resolve(c);
+                })
+                .finally_(() -> continuation.running = false);
     }
 }
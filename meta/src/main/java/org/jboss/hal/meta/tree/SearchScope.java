@@ -0,0 +1,31 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.tree;
+
+/**
+ * Enum representing the part of a resource address which is searched by the {@link AddressIndex}.
+ */
+public enum SearchScope {
+
+    /** Search anywhere in the resource address like {@code /subsystem=datasources/data-source=ExampleDS}. */
+    ADDRESS,
+
+    /** Search in the resource type, i.e. the key of the last segment like {@code data-source}. */
+    TYPE,
+
+    /** Search in the resource name, i.e. the value of the last segment like {@code ExampleDS}. */
+    NAME,
+}
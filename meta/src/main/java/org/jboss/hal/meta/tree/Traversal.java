@@ -0,0 +1,418 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.tree;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.jboss.elemento.logger.Logger;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.meta.Idle;
+import org.jboss.hal.meta.StatementContext;
+
+import elemental2.promise.Promise;
+
+import static java.util.Collections.emptyList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILD_TYPE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDE_SINGLETONS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_TYPES_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.meta.tree.TraverseType.NON_EXISTING_SINGLETONS;
+import static org.jboss.hal.meta.tree.TraverseType.WILDCARD_RESOURCES;
+
+/**
+ * Breadth-first traversal of the management model. All {@code read-children-names} and {@code read-children-types}
+ * operations of one level are split into chunks and each chunk is sent as one composite operation. At most
+ * {@code concurrency} composites are in flight at a time. The children of a level are passed to the consumer in a stable
+ * order, no matter in which order the composites complete.
+ * <p>
+ * The composites are executed using {@link Dispatcher#executeSteps(Composite)}: A failed step only marks its own template
+ * as failed. If the composite can't be executed at all, the operations of that chunk are executed one by one, so that a single
+ * failing resource doesn't hide its siblings. Failures are recorded in the context and the checkpoint, but not logged.
+ * <p>
+ * The traversal starts at the frontier of the {@link TraverseCheckpoint} and keeps the checkpoint up to date: When the
+ * traversal ends, the frontier contains the templates which haven't been expanded yet (if any). Children which have already
+ * been visited are skipped. If the continuation is {@linkplain TraverseContinuation#idle() idle}, the children are passed to
+ * the consumer in idle periods of the browser.
+ */
+class Traversal {
+
+    private static final Logger logger = Logger.getLogger(Traversal.class.getName());
+    private static final int IDLE_TIMEOUT = 1_000;
+
+    private final Dispatcher dispatcher;
+    private final StatementContext statementContext;
+    private final TraverseContinuation continuation;
+    private final TraverseContext context;
+    private final TraverseCheckpoint checkpoint;
+    private final AddressTemplate start;
+    private final Set<String> excludes;
+    private final Set<TraverseType> traverseType;
+    private final int maxDepth;
+    private final int chunkSize;
+    private final int concurrency;
+    private final BiConsumer<AddressTemplate, TraverseContext> consumer;
+    private final LinkedList<Chunk> queue;
+    private Chunk[] chunks;
+    private int emitted;
+    private int inFlight;
+    private boolean done;
+    private double idleHandle;
+    private List<AddressTemplate> next;
+    private Promise.PromiseExecutorCallbackFn.ResolveCallbackFn<TraverseContext> resolve;
+    private Promise.PromiseExecutorCallbackFn.RejectCallbackFn reject;
+
+    Traversal(Dispatcher dispatcher, StatementContext statementContext, TraverseContinuation continuation,
+            TraverseContext context, BiConsumer<AddressTemplate, TraverseContext> consumer) {
+        this.dispatcher = dispatcher;
+        this.statementContext = statementContext;
+        this.continuation = continuation;
+        this.context = context;
+        this.checkpoint = context.checkpoint();
+        this.start = checkpoint.start;
+        this.excludes = checkpoint.exclude;
+        this.traverseType = checkpoint.traverseType;
+        this.maxDepth = checkpoint.depth;
+        this.chunkSize = Math.max(1, continuation.chunkSize);
+        this.concurrency = Math.max(1, continuation.concurrency);
+        this.consumer = consumer;
+        this.queue = new LinkedList<>();
+    }
+
+    Promise<TraverseContext> run() {
+        return new Promise<>((resolve, reject) -> {
+            this.resolve = resolve;
+            this.reject = reject;
+            List<AddressTemplate> frontier = checkpoint.resume();
+            if (frontier.isEmpty()) {
+                done = true;
+                resolve.onInvoke(context);
+            } else {
+                level(frontier);
+            }
+        });
+    }
+
+    // ------------------------------------------------------ level
+
+    private void level(List<AddressTemplate> templates) {
+        next = new ArrayList<>();
+        emitted = 0;
+        int count = (templates.size() + chunkSize - 1) / chunkSize;
+        chunks = new Chunk[count];
+        for (int i = 0; i < count; i++) {
+            int from = i * chunkSize;
+            chunks[i] = new Chunk(templates.subList(from, Math.min(from + chunkSize, templates.size())));
+            queue.add(chunks[i]);
+        }
+        pump();
+    }
+
+    private void pump() {
+        while (continuation.running && inFlight < concurrency && !queue.isEmpty()) {
+            Chunk chunk = queue.removeFirst();
+            inFlight++;
+            read(chunk)
+                    .then(__ -> {
+                        inFlight--;
+                        chunk.done = true;
+                        if (!done) {
+                            if (continuation.idle) {
+                                scheduleEmit();
+                            } else {
+                                emit(null);
+                            }
+                            proceed();
+                        }
+                        return null;
+                    })
+                    .catch_(error -> {
+                        // only non-DMR errors end up here (e.g. an exception thrown by the consumer)
+                        if (!chunk.done) {
+                            inFlight--;
+                        }
+                        fail(error);
+                        return null;
+                    });
+        }
+        if (!continuation.running) {
+            queue.clear();
+        }
+    }
+
+    // Passes the children to the consumer in the order of the chunks. Returns false if the deadline has been reached.
+    private boolean emit(Idle.Deadline deadline) {
+        while (emitted < chunks.length && chunks[emitted].done) {
+            Chunk chunk = chunks[emitted];
+            while (chunk.list < chunk.children.size()) {
+                List<AddressTemplate> children = chunk.children.get(chunk.list);
+                while (chunk.item < children.size()) {
+                    if (!continuation.running) {
+                        return true;
+                    }
+                    if (deadline != null && deadline.timeRemaining() <= 0) {
+                        return false;
+                    }
+                    AddressTemplate child = children.get(chunk.item++);
+                    context.recordProgress(1);
+                    if (!excluded(child) && checkpoint.visit(child)) {
+                        logger.debug("… %s", child);
+                        if (traverseType.contains(WILDCARD_RESOURCES) || child.fullyQualified()) {
+                            logger.debug("✓ %s", child);
+                            context.recordAccepted();
+                            consumer.accept(child, context);
+                        }
+                        if (expand(child)) {
+                            next.add(child);
+                        }
+                    }
+                }
+                chunk.list++;
+                chunk.item = 0;
+            }
+            chunk.children = null;
+            emitted++;
+        }
+        return true;
+    }
+
+    private void scheduleEmit() {
+        if (idleHandle == 0) {
+            idleHandle = Idle.request(deadline -> {
+                idleHandle = 0;
+                if (!done) {
+                    try {
+                        if (emit(deadline)) {
+                            proceed();
+                        } else {
+                            scheduleEmit();
+                        }
+                    } catch (Throwable t) {
+                        fail(t);
+                    }
+                }
+            }, IDLE_TIMEOUT);
+        }
+    }
+
+    private void proceed() {
+        if (!continuation.running) {
+            if (inFlight == 0) {
+                logger.debug("Traversal aborted");
+                finish();
+            }
+        } else if (queue.isEmpty() && inFlight == 0) {
+            if (emitted < chunks.length) {
+                // wait for the children to be emitted in an idle period
+                return;
+            }
+            if (next.isEmpty()) {
+                finish();
+            } else {
+                level(next);
+            }
+        } else {
+            pump();
+        }
+    }
+
+    private void finish() {
+        if (!done) {
+            done = true;
+            cancelIdle();
+            frontier();
+            resolve.onInvoke(context);
+        }
+    }
+
+    private void fail(Object error) {
+        if (!done) {
+            done = true;
+            queue.clear();
+            cancelIdle();
+            frontier();
+            reject.onInvoke(error);
+        }
+    }
+
+    private void cancelIdle() {
+        if (idleHandle != 0) {
+            Idle.cancel(idleHandle);
+            idleHandle = 0;
+        }
+    }
+
+    // Records the templates which haven't been expanded: The templates of all chunks which haven't been emitted completely
+    // (children which have already been emitted are skipped when the traversal is resumed) and the templates of the next level.
+    private void frontier() {
+        if (chunks != null) {
+            for (int i = emitted; i < chunks.length; i++) {
+                checkpoint.suspend(chunks[i].templates);
+            }
+        }
+        if (next != null) {
+            checkpoint.suspend(next);
+        }
+    }
+
+    private boolean excluded(AddressTemplate template) {
+        for (String exclude : excludes) {
+            if (template.template.startsWith(exclude)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean expand(AddressTemplate template) {
+        return expand(start, maxDepth, template);
+    }
+
+    static boolean expand(AddressTemplate start, int maxDepth, AddressTemplate template) {
+        // wildcard templates are always expanded: reading their names doesn't go any deeper
+        return maxDepth < 0 || "*".equals(template.last().value) || template.size() - start.size() < maxDepth;
+    }
+
+    // ------------------------------------------------------ read
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Promise<Void> read(Chunk chunk) {
+        List<Operation> operations = new ArrayList<>();
+        for (AddressTemplate template : chunk.templates) {
+            operations.add(operation(template));
+        }
+        if (operations.size() == 1) {
+            return readOne(chunk, 0, operations.get(0)).then(__ -> Promise.resolve((Void) null));
+        }
+
+        context.recordRequest();
+        Composite composite = new Composite(operations);
+        return dispatcher.executeSteps(composite)
+                .then(result -> {
+                    steps(context, chunk, operations, result);
+                    return Promise.resolve((Void) null);
+                })
+                .catch_(error -> {
+                    logger.debug("Composite for %d templates failed: %s. Fall back to single operations",
+                            operations.size(), error);
+                    Promise[] promises = new Promise[operations.size()];
+                    for (int i = 0; i < operations.size(); i++) {
+                        promises[i] = readOne(chunk, i, operations.get(i));
+                    }
+                    return Promise.all(promises).then(__ -> Promise.resolve((Void) null));
+                });
+    }
+
+    private Promise<Void> readOne(Chunk chunk, int index, Operation operation) {
+        context.recordRequest();
+        logger.debug("⮑ %s", operation.asCli());
+        return dispatcher.execute(operation, false)
+                .then(result -> {
+                    chunk.children.set(index, children(chunk.templates.get(index), result));
+                    return Promise.resolve((Void) null);
+                })
+                .catch_(__ -> {
+                    failure(chunk, index, operation);
+                    return Promise.resolve((Void) null);
+                });
+    }
+
+    /** Applies the outcome of each step to the chunk. Failed steps don't affect the other steps. */
+    static void steps(TraverseContext context, Chunk chunk, List<Operation> operations, CompositeResult result) {
+        for (int i = 0; i < operations.size(); i++) {
+            ModelNode step = result.step(i);
+            if (step.isFailure() || !step.hasDefined(RESULT)) {
+                failure(context, chunk, i, operations.get(i));
+            } else {
+                chunk.children.set(i, children(chunk.templates.get(i), step.get(RESULT)));
+            }
+        }
+    }
+
+    private void failure(Chunk chunk, int index, Operation operation) {
+        failure(context, chunk, index, operation);
+    }
+
+    private static void failure(TraverseContext context, Chunk chunk, int index, Operation operation) {
+        context.recordFailed(operation.getAddress().toString(), operation);
+        context.checkpoint().fail(chunk.templates.get(index));
+        chunk.children.set(index, emptyList());
+    }
+
+    private Operation operation(AddressTemplate template) {
+        if ("*".equals(template.last().value)) {
+            // template:  /a=b/c=*
+            // operation: /a=b:read-children-names(child-type=c)
+            ResourceAddress address = template.parent().resolve(statementContext);
+            return new Operation.Builder(address, READ_CHILDREN_NAMES_OPERATION)
+                    .param(CHILD_TYPE, template.last().key)
+                    .param(INCLUDE_SINGLETONS, traverseType.contains(NON_EXISTING_SINGLETONS))
+                    .build();
+        } else {
+            // template:  /a=b/c=d
+            // operation: /a=b/c=d:read-children-types()
+            ResourceAddress address = template.resolve(statementContext);
+            return new Operation.Builder(address, READ_CHILDREN_TYPES_OPERATION).build();
+        }
+    }
+
+    static List<AddressTemplate> children(AddressTemplate template, ModelNode result) {
+        List<ModelNode> nodes = result.asList();
+        List<AddressTemplate> children = new ArrayList<>(nodes.size());
+        if ("*".equals(template.last().value)) {
+            String resource = template.last().key;
+            AddressTemplate parent = template.parent();
+            for (ModelNode node : nodes) {
+                children.add(parent.append(resource, node.asString()));
+            }
+        } else {
+            for (ModelNode node : nodes) {
+                children.add(template.append(node.asString(), "*"));
+            }
+        }
+        return children;
+    }
+
+    // ------------------------------------------------------ inner classes
+
+    static class Chunk {
+
+        final List<AddressTemplate> templates;
+        List<List<AddressTemplate>> children;
+        boolean done;
+        int list;
+        int item;
+
+        Chunk(List<AddressTemplate> templates) {
+            this.templates = templates;
+            this.children = new ArrayList<>(templates.size());
+            for (int i = 0; i < templates.size(); i++) {
+                this.children.add(emptyList());
+            }
+            this.done = false;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.tree;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.hal.meta.AddressTemplate;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * The frontier of a traversal: The templates which still have to be expanded, the templates which have already been visited
+ * and the templates which couldn't be read. Every traversal keeps its checkpoint up to date. If a traversal has been stopped,
+ * pass the checkpoint of the {@linkplain TraverseContext#checkpoint() context} to
+ * {@link ModelTree#traverse(TraverseContinuation, TraverseCheckpoint, java.util.function.BiConsumer)} to resume the
+ * traversal. Resources which have already been passed to the consumer are not passed again.
+ * <p>
+ * Call {@link #retryFailed()} before resuming to read the subtrees which failed in a previous run once more.
+ */
+public class TraverseCheckpoint {
+
+    // ------------------------------------------------------ factory
+
+    public static TraverseCheckpoint checkpoint(AddressTemplate template, Set<String> exclude,
+            Set<TraverseType> traverseType, int depth) {
+        return new TraverseCheckpoint(template, exclude, traverseType, depth);
+    }
+
+    // ------------------------------------------------------ instance
+
+    final AddressTemplate start;
+    final Set<String> exclude;
+    final Set<TraverseType> traverseType;
+    final int depth;
+    final List<AddressTemplate> frontier;
+    final Set<String> visited;
+    final List<AddressTemplate> failed;
+
+    TraverseCheckpoint(AddressTemplate start, Set<String> exclude, Set<TraverseType> traverseType, int depth) {
+        this.start = start;
+        this.exclude = exclude;
+        this.traverseType = traverseType;
+        this.depth = depth;
+        this.frontier = new ArrayList<>();
+        this.frontier.add(start);
+        this.visited = new HashSet<>();
+        this.failed = new ArrayList<>();
+    }
+
+    // ------------------------------------------------------ api
+
+    /** Moves the templates which couldn't be read back to the frontier. */
+    public void retryFailed() {
+        for (AddressTemplate template : failed) {
+            if (!frontier.contains(template)) {
+                frontier.add(template);
+            }
+        }
+        failed.clear();
+    }
+
+    /** @return whether there are no more templates to expand */
+    public boolean completed() {
+        return frontier.isEmpty();
+    }
+
+    /** @return the number of templates which still have to be expanded */
+    public int pending() {
+        return frontier.size();
+    }
+
+    /** @return the number of templates (including wildcard templates) which have been visited so far */
+    public int visited() {
+        return visited.size();
+    }
+
+    /** @return the templates which couldn't be read */
+    public List<AddressTemplate> failed() {
+        return unmodifiableList(failed);
+    }
+
+    public AddressTemplate start() {
+        return start;
+    }
+
+    @Override
+    public String toString() {
+        return "TraverseCheckpoint(" + start + ", pending: " + frontier.size() + ", visited: " + visited.size() +
+                ", failed: " + failed.size() + ")";
+    }
+
+    // ------------------------------------------------------ internal
+
+    /** @return whether the traversal (re)starts at the start template */
+    boolean initial() {
+        return frontier.size() == 1 && frontier.get(0).equals(start);
+    }
+
+    /** @return the templates to expand when the traversal (re)starts. The frontier is empty afterwards. */
+    List<AddressTemplate> resume() {
+        List<AddressTemplate> templates = new ArrayList<>(frontier);
+        frontier.clear();
+        return templates;
+    }
+
+    /** Records the templates which haven't been expanded when the traversal stops. */
+    void suspend(List<AddressTemplate> templates) {
+        frontier.addAll(templates);
+    }
+
+    /** @return {@code true} if the template has not been visited before */
+    boolean visit(AddressTemplate template) {
+        return visited.add(template.template);
+    }
+
+    void fail(AddressTemplate template) {
+        failed.add(template);
+    }
+}
@@ -22,17 +22,27 @@ import org.jboss.hal.dmr.Operation;
 
 /**
  * Class representing the context used during the traversal of a management model tree. This context keeps track of resources
- * processed, accepted and failed during traversal.
+ * processed, accepted and failed during traversal as well as the number of requests sent to the server.
  */
 public class TraverseContext {
 
+    private final long started;
+    private final TraverseCheckpoint checkpoint;
     private int processed;
     private int accepted;
+    private int requests;
     private Map<String, Operation> failed;
 
     public TraverseContext() {
+        this(null);
+    }
+
+    TraverseContext(TraverseCheckpoint checkpoint) {
+        this.checkpoint = checkpoint;
+        started = System.currentTimeMillis();
         processed = 0;
         accepted = 0;
+        requests = 0;
         failed = new HashMap<>();
     }
 
@@ -48,12 +58,40 @@ public class TraverseContext {
         return accepted;
     }
 
+    /**
+     * @return the checkpoint of the traversal which can be used to resume or retry the traversal or {@code null} if the
+     * context doesn't belong to a traversal of the {@link ModelTree}
+     */
+    public TraverseCheckpoint checkpoint() {
+        return checkpoint;
+    }
+
+    /** @return the number of requests sent to the server. A composite operation counts as one request. */
+    public int requests() {
+        return requests;
+    }
+
+    /** @return the milliseconds since the traversal has been started */
+    public long elapsed() {
+        return System.currentTimeMillis() - started;
+    }
+
+    /** @return the number of processed resources per second */
+    public double nodesPerSecond() {
+        long elapsed = elapsed();
+        return elapsed > 0 ? processed * 1000.0 / elapsed : processed;
+    }
+
     // ------------------------------------------------------ internal
 
     void recordProgress(int size) {
         processed += size;
     }
 
+    void recordRequest() {
+        requests++;
+    }
+
     void recordAccepted() {
         accepted++;
     }
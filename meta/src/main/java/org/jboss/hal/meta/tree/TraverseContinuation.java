@@ -17,14 +17,45 @@ package org.jboss.hal.meta.tree;
 
 /**
  * Class representing the control mechanism for managing the traversal process. The {@code TraverseContinuation} object can be
- * used to control the traversal by stopping the traversal operation.
+ * used to control the traversal by stopping the traversal operation. A stopped traversal can be resumed using the
+ * {@linkplain TraverseContext#checkpoint() checkpoint} of the traversal.
+ * <p>
+ * The continuation also holds the settings how the operations of the traversal are sent to the server (see
+ * {@link #batching(int, int)}).
  */
 public class TraverseContinuation {
 
     boolean running;
+    boolean idle;
+    int chunkSize;
+    int concurrency;
 
     public TraverseContinuation() {
         running = false;
+        idle = false;
+        chunkSize = ModelTree.DEFAULT_CHUNK_SIZE;
+        concurrency = ModelTree.DEFAULT_CONCURRENCY;
+    }
+
+    /**
+     * Passes the resources to the consumer only when the browser is idle. Use this for large traversals in the background,
+     * which must not block the main thread.
+     */
+    public TraverseContinuation idle() {
+        idle = true;
+        return this;
+    }
+
+    /**
+     * Configures how the operations of the traversal are sent to the server.
+     *
+     * @param chunkSize   the maximal number of operations sent in one composite operation
+     * @param concurrency the maximal number of composite operations which are in flight at the same time
+     */
+    public TraverseContinuation batching(int chunkSize, int concurrency) {
+        this.chunkSize = Math.max(1, chunkSize);
+        this.concurrency = Math.max(1, concurrency);
+        return this;
     }
 
     public void stop() {
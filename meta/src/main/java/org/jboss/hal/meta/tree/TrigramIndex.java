@@ -0,0 +1,268 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.tree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.jboss.hal.meta.AddressTemplate;
+
+import static java.util.Comparator.comparingInt;
+
+/**
+ * In-memory trigram index over resource addresses. For each {@linkplain SearchScope scope} the index keeps postings which map
+ * a trigram to the IDs of the addresses containing the trigram. A query intersects the postings of the trigrams of the search
+ * term and verifies the remaining candidates.
+ * <p>
+ * IDs are assigned in ascending order, so the postings are always sorted. Removed addresses leave a gap, which is compacted
+ * once more than half of the IDs are unused.
+ */
+class TrigramIndex {
+
+    private static final int N = 3;
+    private static final Comparator<Match> RELEVANCE = comparingInt((Match match) -> match.rank)
+            .thenComparingInt(match -> match.template.size())
+            .thenComparing(match -> match.template.template);
+
+    private final List<AddressTemplate> templates;
+    private final Map<String, Integer> ids;
+    private final Map<SearchScope, Map<String, Postings>> postings;
+    private int removed;
+
+    TrigramIndex() {
+        this.templates = new ArrayList<>();
+        this.ids = new HashMap<>();
+        this.postings = new HashMap<>();
+        for (SearchScope scope : SearchScope.values()) {
+            postings.put(scope, new HashMap<>());
+        }
+        this.removed = 0;
+    }
+
+    // ------------------------------------------------------ update
+
+    void add(AddressTemplate template) {
+        if (!ids.containsKey(template.template)) {
+            int id = templates.size();
+            templates.add(template);
+            ids.put(template.template, id);
+            for (SearchScope scope : SearchScope.values()) {
+                Map<String, Postings> scopePostings = postings.get(scope);
+                for (String trigram : trigrams(argument(template, scope).toLowerCase())) {
+                    scopePostings.computeIfAbsent(trigram, __ -> new Postings()).add(id);
+                }
+            }
+        }
+    }
+
+    /** Removes the template and all templates below. */
+    int remove(AddressTemplate template) {
+        String prefix = template.template;
+        int count = 0;
+        for (int id = 0; id < templates.size(); id++) {
+            AddressTemplate t = templates.get(id);
+            if (t != null && below(prefix, t.template)) {
+                templates.set(id, null);
+                ids.remove(t.template);
+                count++;
+            }
+        }
+        removed += count;
+        if (removed > templates.size() / 2) {
+            compact();
+        }
+        return count;
+    }
+
+    void clear() {
+        templates.clear();
+        ids.clear();
+        for (Map<String, Postings> scopePostings : postings.values()) {
+            scopePostings.clear();
+        }
+        removed = 0;
+    }
+
+    // ------------------------------------------------------ query
+
+    /**
+     * Returns the matching templates ordered by relevance: Exact matches first, then matches which start with the term, then
+     * the remaining matches. Within each group, shorter addresses come first.
+     */
+    List<AddressTemplate> query(String term, SearchScope scope, boolean contains, Predicate<AddressTemplate> filter,
+            int limit) {
+        String lowerTerm = term.toLowerCase();
+        // keep the best 'limit' matches in a heap whose head is the worst match
+        PriorityQueue<Match> best = new PriorityQueue<>(RELEVANCE.reversed());
+        int[] candidates = candidates(lowerTerm, scope);
+        int count = candidates != null ? candidates.length : templates.size();
+        for (int i = 0; i < count; i++) {
+            AddressTemplate template = templates.get(candidates != null ? candidates[i] : i);
+            if (template != null) {
+                String argument = argument(template, scope).toLowerCase();
+                int rank = rank(argument, lowerTerm, contains);
+                if (rank >= 0 && filter.test(template)) {
+                    best.add(new Match(template, rank));
+                    if (best.size() > limit) {
+                        best.poll();
+                    }
+                }
+            }
+        }
+        List<Match> matches = new ArrayList<>(best);
+        matches.sort(RELEVANCE);
+        List<AddressTemplate> result = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            result.add(match.template);
+        }
+        return result;
+    }
+
+    List<AddressTemplate> templates() {
+        List<AddressTemplate> result = new ArrayList<>(ids.size());
+        for (AddressTemplate template : templates) {
+            if (template != null) {
+                result.add(template);
+            }
+        }
+        return result;
+    }
+
+    int size() {
+        return ids.size();
+    }
+
+    // ------------------------------------------------------ internal
+
+    /** @return the sorted candidate IDs or {@code null} if the term is too short to use the postings */
+    private int[] candidates(String term, SearchScope scope) {
+        Set<String> trigrams = trigrams(term);
+        if (trigrams.isEmpty()) {
+            return null;
+        }
+        Map<String, Postings> scopePostings = postings.get(scope);
+        List<Postings> lists = new ArrayList<>();
+        for (String trigram : trigrams) {
+            Postings p = scopePostings.get(trigram);
+            if (p == null) {
+                return new int[0];
+            }
+            lists.add(p);
+        }
+        lists.sort(comparingInt(p -> p.size));
+        int[] result = Arrays.copyOf(lists.get(0).ids, lists.get(0).size);
+        int size = result.length;
+        for (int i = 1; i < lists.size() && size > 0; i++) {
+            size = intersect(result, size, lists.get(i));
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /** Intersects the first {@code size} IDs of {@code result} with the postings in place and returns the new size. */
+    private static int intersect(int[] result, int size, Postings postings) {
+        int i = 0, j = 0, k = 0;
+        while (i < size && j < postings.size) {
+            if (result[i] < postings.ids[j]) {
+                i++;
+            } else if (result[i] > postings.ids[j]) {
+                j++;
+            } else {
+                result[k++] = result[i];
+                i++;
+                j++;
+            }
+        }
+        return k;
+    }
+
+    private static int rank(String argument, String term, boolean contains) {
+        if (argument.equals(term)) {
+            return 0;
+        } else if (contains) {
+            if (argument.startsWith(term)) {
+                return 1;
+            } else if (argument.contains(term)) {
+                return 2;
+            }
+        }
+        return -1;
+    }
+
+    private void compact() {
+        List<AddressTemplate> remaining = templates();
+        clear();
+        for (AddressTemplate template : remaining) {
+            add(template);
+        }
+    }
+
+    static String argument(AddressTemplate template, SearchScope scope) {
+        switch (scope) {
+            case TYPE:
+                return template.last().key != null ? template.last().key : "";
+            case NAME:
+                return template.last().value != null ? template.last().value : "";
+            default:
+                return template.template;
+        }
+    }
+
+    static Set<String> trigrams(String value) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + N <= value.length(); i++) {
+            trigrams.add(value.substring(i, i + N));
+        }
+        return trigrams;
+    }
+
+    private static boolean below(String prefix, String address) {
+        return "/".equals(prefix) || address.equals(prefix) || address.startsWith(prefix + "/");
+    }
+
+    // ------------------------------------------------------ inner classes
+
+    private static class Postings {
+
+        int[] ids = new int[4];
+        int size = 0;
+
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+    }
+
+    private static class Match {
+
+        final AddressTemplate template;
+        final int rank;
+
+        Match(AddressTemplate template, int rank) {
+            this.template = template;
+            this.rank = rank;
+        }
+    }
+}
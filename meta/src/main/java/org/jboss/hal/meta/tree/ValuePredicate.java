@@ -0,0 +1,284 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.tree;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.ModelType;
+
+import elemental2.core.JsRegExp;
+
+import static org.jboss.hal.dmr.ModelNodeHelper.nested;
+
+/**
+ * A predicate over the attributes of a resource. Predicates are parsed from expressions like
+ * <pre>
+ * jndi-name *= Prod
+ * port in 8000..8999 and interface = public
+ * credential-reference.store ~ "app-.*"
+ * </pre>
+ * An expression consists of one or more clauses separated by {@code and}. A clause has the form {@code path operator value}.
+ * The path is resolved using {@link org.jboss.hal.dmr.ModelNodeHelper#nested(ModelNode, String)}, so nested attributes are
+ * separated with ".". Values containing whitespace must be quoted. Supported operators:
+ * <ul>
+ *     <li>{@code =}, {@code !=}: equals, not equals (case-insensitive)</li>
+ *     <li>{@code *=}: contains (case-insensitive)</li>
+ *     <li>{@code ~}: matches the regular expression anywhere in the value</li>
+ *     <li>{@code <}, {@code <=}, {@code >}, {@code >=}: numeric comparison</li>
+ *     <li>{@code in}: numeric range like {@code 8000..8999} (inclusive)</li>
+ * </ul>
+ * If the attribute is a list, the clause matches if one of the list elements matches. Undefined attributes never match
+ * (not even {@code !=}).
+ */
+public class ValuePredicate implements Predicate<ModelNode> {
+
+    private static final String AND = "and";
+    private static final String RANGE = "..";
+    // compiles a regular expression into a predicate which finds the expression anywhere in the value
+    static Function<String, Predicate<String>> REGEX = regex -> new JsRegExp(regex)::test; // replaced in JVM unit tests
+
+    /**
+     * Parses the given expression.
+     *
+     * @throws IllegalArgumentException if the expression is not valid
+     */
+    public static ValuePredicate parse(String expression) {
+        List<String> tokens = tokenize(expression);
+        if (tokens.isEmpty()) {
+            throw new IllegalArgumentException("Empty expression");
+        }
+        List<Clause> clauses = new ArrayList<>();
+        int index = 0;
+        while (index < tokens.size()) {
+            if (index + 3 > tokens.size()) {
+                throw new IllegalArgumentException("Incomplete clause in '" + expression + "'");
+            }
+            clauses.add(new Clause(tokens.get(index), Operator.parse(tokens.get(index + 1)), tokens.get(index + 2)));
+            index += 3;
+            if (index < tokens.size()) {
+                if (!AND.equalsIgnoreCase(tokens.get(index))) {
+                    throw new IllegalArgumentException("Expected 'and' but got '" + tokens.get(index) + "'");
+                }
+                index++;
+                if (index == tokens.size()) {
+                    throw new IllegalArgumentException("Missing clause after 'and' in '" + expression + "'");
+                }
+            }
+        }
+        return new ValuePredicate(expression, clauses);
+    }
+
+    private final String expression;
+    private final List<Clause> clauses;
+
+    private ValuePredicate(String expression, List<Clause> clauses) {
+        this.expression = expression;
+        this.clauses = clauses;
+    }
+
+    @Override
+    public boolean test(ModelNode resource) {
+        for (Clause clause : clauses) {
+            if (!clause.test(resource)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** @return the paths of the attributes used in this predicate */
+    public List<String> paths() {
+        List<String> paths = new ArrayList<>();
+        for (Clause clause : clauses) {
+            paths.add(clause.path);
+        }
+        return paths;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    // ------------------------------------------------------ internal
+
+    private static List<String> tokenize(String expression) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder token = new StringBuilder();
+        boolean quoted = false;
+        boolean hasToken = false;
+        for (int i = 0; i < expression.length(); i++) {
+            char c = expression.charAt(i);
+            if (quoted) {
+                if (c == '\\' && i + 1 < expression.length()) {
+                    token.append(expression.charAt(++i));
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    token.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+                hasToken = true;
+            } else if (Character.isWhitespace(c)) {
+                if (hasToken) {
+                    tokens.add(token.toString());
+                    token.setLength(0);
+                    hasToken = false;
+                }
+            } else {
+                token.append(c);
+                hasToken = true;
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quote in '" + expression + "'");
+        }
+        if (hasToken) {
+            tokens.add(token.toString());
+        }
+        return tokens;
+    }
+
+    private static Double number(String value) {
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // ------------------------------------------------------ inner classes
+
+    private enum Operator {
+        EQUALS("="), NOT_EQUALS("!="), CONTAINS("*="), MATCHES("~"), LT("<"), LE("<="), GT(">"), GE(">="), IN("in");
+
+        static Operator parse(String symbol) {
+            for (Operator operator : values()) {
+                if (operator.symbol.equalsIgnoreCase(symbol)) {
+                    return operator;
+                }
+            }
+            throw new IllegalArgumentException("Unknown operator '" + symbol + "'");
+        }
+
+        final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+    }
+
+    private static class Clause {
+
+        final String path;
+        final Operator operator;
+        final String value;
+        final String lowerValue;
+        final Predicate<String> regex;
+        final double from;
+        final double to;
+
+        Clause(String path, Operator operator, String value) {
+            this.path = path;
+            this.operator = operator;
+            this.value = value;
+            this.lowerValue = value.toLowerCase();
+            if (operator == Operator.MATCHES) {
+                try {
+                    this.regex = REGEX.apply(value);
+                } catch (RuntimeException e) {
+                    throw new IllegalArgumentException("Invalid regular expression '" + value + "'");
+                }
+            } else {
+                this.regex = null;
+            }
+            if (operator == Operator.IN) {
+                int range = value.indexOf(RANGE);
+                Double lower = range > 0 ? number(value.substring(0, range)) : null;
+                Double upper = range > 0 ? number(value.substring(range + RANGE.length())) : null;
+                if (lower == null || upper == null) {
+                    throw new IllegalArgumentException("Invalid range '" + value + "'. Use <from>..<to>");
+                }
+                this.from = lower;
+                this.to = upper;
+            } else if (operator == Operator.LT || operator == Operator.LE || operator == Operator.GT ||
+                    operator == Operator.GE) {
+                Double number = number(value);
+                if (number == null) {
+                    throw new IllegalArgumentException("Invalid number '" + value + "'");
+                }
+                this.from = number;
+                this.to = number;
+            } else {
+                this.from = 0;
+                this.to = 0;
+            }
+        }
+
+        boolean test(ModelNode resource) {
+            ModelNode node = nested(resource, path);
+            if (!node.isDefined()) {
+                return false;
+            }
+            if (node.getType() == ModelType.LIST) {
+                for (ModelNode element : node.asList()) {
+                    if (element.isDefined() && matches(element.asString())) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            return matches(node.asString());
+        }
+
+        private boolean matches(String actual) {
+            switch (operator) {
+                case EQUALS:
+                    return actual.equalsIgnoreCase(value);
+                case NOT_EQUALS:
+                    return !actual.equalsIgnoreCase(value);
+                case CONTAINS:
+                    return actual.toLowerCase().contains(lowerValue);
+                case MATCHES:
+                    return regex.test(actual);
+                default:
+                    Double number = number(actual);
+                    if (number == null) {
+                        return false;
+                    }
+                    switch (operator) {
+                        case LT:
+                            return number < from;
+                        case LE:
+                            return number <= from;
+                        case GT:
+                            return number > from;
+                        case GE:
+                            return number >= from;
+                        case IN:
+                            return number >= from && number <= to;
+                        default:
+                            return false;
+                    }
+            }
+        }
+    }
+}
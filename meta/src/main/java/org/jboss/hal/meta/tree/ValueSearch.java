@@ -0,0 +1,231 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.tree;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.jboss.elemento.logger.Logger;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.meta.StatementContext;
+import org.jboss.hal.meta.tree.ModelSnapshot.Loader;
+
+import elemental2.promise.Promise;
+
+import static org.jboss.hal.meta.tree.ModelSnapshot.excluded;
+
+/**
+ * Searches the attribute values of the management model. Each resource below a fully qualified template is tested against a
+ * {@link ValuePredicate}. Matches are passed to the consumer as soon as the response containing the resource has been
+ * processed. The payload is not kept.
+ * <p>
+ * The resources are read like the subtrees of the {@link ModelSnapshot}: level by level using non-recursive operations only,
+ * so child types are never guessed from the payload. The operations are sent in chunks of composite operations of
+ * {@link TraverseContinuation#chunkSize} operations, one chunk at a time. Failed steps are recorded in the
+ * {@link TraverseContext} and don't affect the other steps of the chunk.
+ * <p>
+ * The number of resources read per search is limited by a budget (see {@link #budget(int, int)}). The budget is checked
+ * before each request. The search stops when the budget is used up or when the maximal number of matches has been found.
+ * <p>
+ * If the {@linkplain ModelSnapshot snapshot} covers the template, the snapshot is searched instead and no operations are sent
+ * to the server.
+ */
+@ApplicationScoped
+public class ValueSearch {
+
+    /** The default maximal number of resources read per search. */
+    public static final int DEFAULT_MAX_RESOURCES = 50_000;
+
+    /** The default maximal number of matches per search. */
+    public static final int DEFAULT_MAX_MATCHES = 1_000;
+
+    private static final Logger logger = Logger.getLogger(ValueSearch.class.getName());
+
+    private final Dispatcher dispatcher;
+    private final StatementContext statementContext;
+    private final ModelSnapshot snapshot;
+    private int maxResources;
+    private int maxMatches;
+
+    @Inject
+    public ValueSearch(Dispatcher dispatcher, StatementContext statementContext, ModelSnapshot snapshot) {
+        this.dispatcher = dispatcher;
+        this.statementContext = statementContext;
+        this.snapshot = snapshot;
+        this.maxResources = DEFAULT_MAX_RESOURCES;
+        this.maxMatches = DEFAULT_MAX_MATCHES;
+    }
+
+    // ------------------------------------------------------ api
+
+    /** Sets the maximal number of resources read per search and the maximal number of matches per search. */
+    public void budget(int maxResources, int maxMatches) {
+        this.maxResources = Math.max(1, maxResources);
+        this.maxMatches = Math.max(1, maxMatches);
+    }
+
+    /** @return the maximal number of matches per search */
+    public int maxMatches() {
+        return maxMatches;
+    }
+
+    /**
+     * Searches the resources below the given template (including the template itself) for attribute values matching the
+     * predicate.
+     * <p>
+     * The search can be aborted by calling {@link TraverseContinuation#stop()}. In that case the promise is resolved with the
+     * current context. DMR errors are recorded in the context and won't cause the promise to be rejected. The
+     * {@linkplain TraverseContinuation#isRunning() running state} of the continuation is controlled by this method.
+     *
+     * @param continuation The continuation controlling the search.
+     * @param template     A fully qualified address template used as the starting point of the search.
+     * @param exclude      Resources to be excluded from the search. Can also be just the beginning of a resource address such
+     *                     as {@code /core-service}
+     * @param predicate    The predicate the resources are tested against.
+     * @param consumer     A function to be invoked for each matching resource, receiving the resource's address template and
+     *                     the resource (without runtime attributes).
+     * @return A promise that resolves to a {@link TraverseContext} after the search has been completed. The number of matches
+     * is available as {@link TraverseContext#accepted()}.
+     */
+    public Promise<TraverseContext> search(TraverseContinuation continuation, AddressTemplate template, Set<String> exclude,
+            ValuePredicate predicate, BiConsumer<AddressTemplate, ModelNode> consumer) {
+        if (!template.fullyQualified()) {
+            return Promise.reject("Unable to search " + template + ": Template is not fully qualified");
+        }
+        logger.debug("Search %s for '%s', exclude: %s", template, predicate, exclude);
+        if (excluded(template, exclude)) {
+            return Promise.resolve(new TraverseContext());
+        }
+        continuation.running = true;
+        if (snapshot.covers(template)) {
+            try {
+                TraverseContext context = searchSnapshot(continuation, template, exclude, predicate, consumer);
+                logger.debug("Searched %d resources of snapshot in %d ms: %d matches", context.processed(),
+                        context.elapsed(), context.accepted());
+                return Promise.resolve(context);
+            } catch (Throwable t) {
+                return Promise.reject(t);
+            } finally {
+                continuation.running = false;
+            }
+        }
+
+        Reader reader = new Reader(new TraverseContext(), template, maxResources, maxMatches, continuation.chunkSize,
+                exclude, t -> t.resolve(statementContext), predicate, consumer);
+        return next(reader, continuation)
+                .then(__ -> {
+                    TraverseContext context = reader.context;
+                    if (reader.state == Loader.State.EXCEEDED) {
+                        logger.warn("Search of %s stopped after %d resources: Budget exceeded", template, reader.count);
+                    }
+                    logger.debug("Searched %d resources using %d requests in %d ms: %d matches", context.processed(),
+                            context.requests(), context.elapsed(), context.accepted());
+                    return Promise.resolve(context);
+                })
+                .finally_(() -> continuation.running = false);
+    }
+
+    // ------------------------------------------------------ read
+
+    private Promise<Void> next(Reader reader, TraverseContinuation continuation) {
+        List<Operation> operations = reader.next(continuation.running && !reader.done());
+        if (operations.isEmpty()) {
+            return Promise.resolve((Void) null);
+        }
+        reader.context.recordRequest();
+        return dispatcher.executeSteps(new Composite(operations))
+                .then(result -> {
+                    reader.apply(operations, result);
+                    return next(reader, continuation);
+                });
+    }
+
+    // ------------------------------------------------------ snapshot
+
+    private TraverseContext searchSnapshot(TraverseContinuation continuation, AddressTemplate template, Set<String> exclude,
+            ValuePredicate predicate, BiConsumer<AddressTemplate, ModelNode> consumer) {
+        TraverseContext context = new TraverseContext();
+        test(context, template, snapshot.resource(template), predicate, consumer);
+        snapshot.traverse(continuation, template, exclude, ModelTree.UNLIMITED_DEPTH, (child, __) -> {
+            if (context.accepted() < maxMatches) {
+                test(context, child, snapshot.resource(child), predicate, consumer);
+            } else {
+                continuation.stop();
+            }
+        });
+        return context;
+    }
+
+    // ------------------------------------------------------ internal
+
+    static void test(TraverseContext context, AddressTemplate template, ModelNode resource, ValuePredicate predicate,
+            BiConsumer<AddressTemplate, ModelNode> consumer) {
+        context.recordProgress(1);
+        if (resource != null && resource.isDefined() && predicate.test(resource)) {
+            context.recordAccepted();
+            consumer.accept(template, resource);
+        }
+    }
+
+    // ------------------------------------------------------ inner classes
+
+    /** Tests the resources as they are read and records failed steps instead of aborting the search. */
+    static class Reader extends Loader {
+
+        final TraverseContext context;
+        private final int maxMatches;
+        private final ValuePredicate predicate;
+        private final BiConsumer<AddressTemplate, ModelNode> consumer;
+
+        Reader(TraverseContext context, AddressTemplate root, int maxResources, int maxMatches, int chunkSize,
+                Set<String> exclude, Function<AddressTemplate, ResourceAddress> resolver, ValuePredicate predicate,
+                BiConsumer<AddressTemplate, ModelNode> consumer) {
+            super(root, maxResources, chunkSize, exclude, resolver);
+            this.context = context;
+            this.maxMatches = maxMatches;
+            this.predicate = predicate;
+            this.consumer = consumer;
+        }
+
+        boolean done() {
+            return context.accepted() >= maxMatches;
+        }
+
+        @Override
+        void resource(AddressTemplate template, ModelNode resource) {
+            if (!done()) {
+                test(context, template, resource, predicate, consumer);
+            }
+        }
+
+        @Override
+        boolean failure(AddressTemplate template, Operation operation, String reason) {
+            logger.debug("Unable to read %s: %s", template, reason);
+            context.recordFailed(template.template, operation);
+            return true;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import org.junit.jupiter.api.Test;
 
 import static java.util.Collections.emptyList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -246,4 +247,45 @@ class AddressTemplateTest {
         assertEquals("applies-to", template.segments().get(5).key);
         assertEquals("/deployment=*/subdeployment=*/subsystem=datasources/data-source=*", template.segments().get(5).value);
     }
+
+    @Test
+    void structural() {
+        AddressTemplate template = AddressTemplate.of("subsystem=logging/logger=*");
+        AddressTemplate child = template.parent().append("logger", "org.jboss");
+        assertEquals(AddressTemplate.of("subsystem=logging/logger=org.jboss"), child);
+        assertEquals("/subsystem=logging/logger=org.jboss", child.template);
+        assertEquals(template, child.anonymiseLast());
+        assertEquals(template.parent(), child.parent());
+        assertEquals(AddressTemplate.of("a=b/c=d/e=f"), AddressTemplate.of("a=b").append(AddressTemplate.of("c=d/e=f")));
+        assertEquals(AddressTemplate.of("c=d"), AddressTemplate.of("a=b/c=d/e=f").subTemplate(1, 2).parent().append("c", "d"));
+        assertSame(template, template.append(AddressTemplate.root()));
+    }
+
+    @Test
+    void uninterned() {
+        AddressTemplate uninterned = AddressTemplate.of("subsystem=io/worker=default", false);
+        assertNotSame(AddressTemplate.of("subsystem=io/worker=default"), uninterned);
+        assertEquals(AddressTemplate.of("subsystem=io/worker=default"), uninterned);
+    }
+
+    @Test
+    void encoding() {
+        AddressTemplate template = AddressTemplate.root().append("a", "b/c=d:e");
+        assertEquals(1, template.size());
+        assertEquals("b/c=d:e", template.last().value);
+        assertEquals(AddressTemplate.of("a=b\\/c\\=d\\:e"), template);
+    }
+
+    @Test
+    void identifier() {
+        AddressTemplate template = AddressTemplate.of("subsystem=logging/logger=*");
+        assertEquals("root", AddressTemplate.root().identifier());
+        assertSame(template.identifier(), template.identifier());
+    }
+
+    @Test
+    void interned() {
+        assertSame(AddressTemplate.of("subsystem=logging/logger=*"), AddressTemplate.of("subsystem=logging/logger=*"));
+        assertSame(AddressTemplate.root(), AddressTemplate.of((String) null));
+    }
 }
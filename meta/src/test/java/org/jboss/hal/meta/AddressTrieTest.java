@@ -0,0 +1,128 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AddressTrieTest {
+
+    @Test
+    void exact() {
+        AddressTrie<String> trie = trie("/", "subsystem=logging", "subsystem=logging/logger=*");
+        assertEquals(3, trie.size());
+        assertEquals("/", trie.get(AddressTemplate.root()));
+        assertEquals("subsystem=logging", trie.get(AddressTemplate.of("subsystem=logging")));
+        assertEquals("subsystem=logging/logger=*", trie.get(AddressTemplate.of("subsystem=logging/logger=*")));
+        assertNull(trie.get(AddressTemplate.of("subsystem=logging/logger=foo")));
+        assertNull(trie.get(AddressTemplate.of("subsystem=io")));
+    }
+
+    @Test
+    void match() {
+        AddressTrie<String> trie = trie(
+                "subsystem=datasources/data-source=*",
+                "subsystem=datasources/data-source=ExampleDS",
+                "profile=*/subsystem=io/worker=*",
+                "profile=full/subsystem=io/worker=*");
+
+        assertEquals("subsystem=datasources/data-source=ExampleDS",
+                trie.match(AddressTemplate.of("subsystem=datasources/data-source=ExampleDS")));
+        assertEquals("subsystem=datasources/data-source=*",
+                trie.match(AddressTemplate.of("subsystem=datasources/data-source=OtherDS")));
+        assertEquals("profile=full/subsystem=io/worker=*",
+                trie.match(AddressTemplate.of("profile=full/subsystem=io/worker=default")));
+        assertEquals("profile=*/subsystem=io/worker=*",
+                trie.match(AddressTemplate.of("profile=ha/subsystem=io/worker=default")));
+        assertNull(trie.match(AddressTemplate.of("subsystem=datasources")));
+        assertNull(trie.match(AddressTemplate.of("profile=full/subsystem=logging")));
+    }
+
+    @Test
+    void backtrack() {
+        // the concrete edge 'profile=full' leads to a dead end, so the wildcard edge must be used
+        AddressTrie<String> trie = trie("profile=full/subsystem=logging", "profile=*/subsystem=io");
+        assertEquals("profile=*/subsystem=io", trie.match(AddressTemplate.of("profile=full/subsystem=io")));
+    }
+
+    @Test
+    void topology() {
+        AddressTrie<String> trie = trie(
+                "host=*/server=*/subsystem=io",
+                "host=primary/server=*/subsystem=io",
+                "host=primary/server-config=*",
+                "server-group=*/jvm=*",
+                "subsystem=undertow/server=*");
+
+        assertEquals("host=primary/server=*/subsystem=io",
+                trie.get(AddressTemplate.of("host=primary/server=*/subsystem=io")));
+        assertNull(trie.match(AddressTemplate.of("host=primary/server=server-one/subsystem=io")));
+        assertNull(trie.match(AddressTemplate.of("host=secondary/server=server-one/subsystem=io")));
+        assertNull(trie.match(AddressTemplate.of("host=primary/server-config=server-one")));
+        assertNull(trie.match(AddressTemplate.of("server-group=main-server-group/jvm=default")));
+        // 'server' is not a topology key below a subsystem
+        assertEquals("subsystem=undertow/server=*",
+                trie.match(AddressTemplate.of("subsystem=undertow/server=default-server")));
+    }
+
+    @Test
+    void values() {
+        AddressTrie<String> trie = trie("subsystem=undertow", "subsystem=undertow/server=*",
+                "subsystem=undertow/server=*/host=*", "subsystem=io");
+        List<String> values = trie.values(AddressTemplate.of("subsystem=undertow"));
+        assertEquals(3, values.size());
+        assertTrue(values.contains("subsystem=undertow/server=*/host=*"));
+        assertEquals(4, trie.values(AddressTemplate.root()).size());
+        assertTrue(trie.values(AddressTemplate.of("subsystem=logging")).isEmpty());
+    }
+
+    @Test
+    void remove() {
+        AddressTrie<String> trie = trie("subsystem=undertow", "subsystem=undertow/server=*/host=*");
+        assertEquals("subsystem=undertow/server=*/host=*", trie.remove(AddressTemplate.of("subsystem=undertow/server=*/host=*")));
+        assertNull(trie.remove(AddressTemplate.of("subsystem=undertow/server=*")));
+        assertEquals(1, trie.size());
+        assertNull(trie.match(AddressTemplate.of("subsystem=undertow/server=default/host=default")));
+        assertEquals("subsystem=undertow", trie.get(AddressTemplate.of("subsystem=undertow")));
+    }
+
+    @Test
+    void removeAll() {
+        AddressTrie<String> trie = trie("subsystem=undertow", "subsystem=undertow/server=*",
+                "subsystem=undertow/server=*/host=*", "subsystem=io");
+        List<String> removed = trie.removeAll(AddressTemplate.of("subsystem=undertow"));
+        assertEquals(3, removed.size());
+        assertEquals(1, trie.size());
+        assertNull(trie.get(AddressTemplate.of("subsystem=undertow")));
+        assertEquals("subsystem=io", trie.get(AddressTemplate.of("subsystem=io")));
+
+        trie.removeAll(AddressTemplate.root());
+        assertEquals(0, trie.size());
+    }
+
+    private AddressTrie<String> trie(String... templates) {
+        AddressTrie<String> trie = new AddressTrie<>();
+        for (String template : templates) {
+            trie.put(AddressTemplate.of(template), template);
+        }
+        return trie;
+    }
+}
@@ -20,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import static org.jboss.hal.meta.StatementContextFactory.domainStatementContext;
 import static org.jboss.hal.meta.StatementContextFactory.standaloneStatementContext;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class MetadataResolverTest {
 
@@ -368,4 +369,25 @@ class MetadataResolverTest {
                     String.format("fixtures[%d]", i));
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void memo() {
+        StatementContext statementContext = domainStatementContext();
+        MetadataResolver resolver = new MetadataResolver(statementContext);
+        AddressTemplate template = AddressTemplate.of("/{selected.host}/{selected.server}");
+
+        AddressTemplate resolved = resolver.resolve(template);
+        assertEquals("/host=secondary/server=server1", resolved.template);
+        assertSame(resolved, resolver.resolve(template));
+        assertEquals(1, resolver.size());
+
+        // assigning the same value keeps the memo
+        statementContext.assign(Placeholder.SELECTED_HOST, "secondary");
+        assertSame(resolved, resolver.resolve(template));
+
+        // assigning a different value invalidates the memo
+        statementContext.assign(Placeholder.SELECTED_HOST, "tertiary");
+        assertEquals("/host=tertiary/server=server1", resolver.resolve(template).template);
+        assertEquals(1, resolver.size());
+    }
+}
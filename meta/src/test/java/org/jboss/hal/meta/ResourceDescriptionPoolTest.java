@@ -0,0 +1,113 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.meta.description.ResourceDescription;
+import org.junit.jupiter.api.Test;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ATTRIBUTES;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.DESCRIPTION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.TYPE;
+import static org.jboss.hal.dmr.ModelType.STRING;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResourceDescriptionPoolTest {
+
+    @Test
+    void share() {
+        ResourceDescriptionPool pool = new ResourceDescriptionPool();
+        ResourceDescription server1 = resourceDescription("foo");
+        ResourceDescription server2 = resourceDescription("foo");
+        ResourceDescription other = resourceDescription("bar");
+
+        ResourceDescription shared1 = pool.share(server1);
+        ResourceDescription shared2 = pool.share(server2);
+        ResourceDescription shared3 = pool.share(other);
+
+        assertSame(server1, shared1);
+        assertSame(server1, shared2);
+        assertNotSame(shared1, shared3);
+        assertEquals(2, pool.size());
+        assertEquals(2, pool.references(shared1));
+        assertEquals(1, pool.references(shared3));
+    }
+
+    @Test
+    void release() {
+        ResourceDescriptionPool pool = new ResourceDescriptionPool();
+        ResourceDescription shared = pool.share(resourceDescription("foo"));
+        pool.share(resourceDescription("foo"));
+
+        pool.release(shared);
+        assertEquals(1, pool.size());
+        assertEquals(1, pool.references(shared));
+
+        pool.release(shared);
+        assertEquals(0, pool.size());
+        assertEquals(0, pool.references(shared));
+
+        // a new description is added after the last one has been released
+        ResourceDescription fresh = resourceDescription("foo");
+        assertSame(fresh, pool.share(fresh));
+    }
+
+    @Test
+    void releaseUnknown() {
+        ResourceDescriptionPool pool = new ResourceDescriptionPool();
+        pool.share(resourceDescription("foo"));
+        pool.release(resourceDescription("foo"));
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    void accessAfterShare() {
+        ResourceDescriptionPool pool = new ResourceDescriptionPool();
+        ResourceDescription shared = pool.share(resourceDescription("foo"));
+        // get() adds an undefined child node, which changes the hash code of the shared instance
+        shared.get("not-there");
+
+        assertSame(shared, pool.share(resourceDescription("foo")));
+        assertEquals(1, pool.size());
+        assertEquals(2, pool.references(shared));
+    }
+
+    @Test
+    void sameContent() {
+        ModelNode left = resourceDescription("foo");
+        ModelNode right = resourceDescription("foo");
+        left.get("not-there");
+        right.get(ATTRIBUTES).get("foo").get("not-there-either");
+        assertTrue(ResourceDescriptionPool.sameContent(left, right));
+        assertTrue(ResourceDescriptionPool.sameContent(right, left));
+
+        right.get(ATTRIBUTES).get("foo").get(DESCRIPTION).set("An attribute");
+        assertFalse(ResourceDescriptionPool.sameContent(left, right));
+        assertFalse(ResourceDescriptionPool.sameContent(right, left));
+        assertFalse(ResourceDescriptionPool.sameContent(resourceDescription("foo"), resourceDescription("bar")));
+    }
+
+    private ResourceDescription resourceDescription(String attribute) {
+        ModelNode payload = new ModelNode();
+        payload.get(DESCRIPTION).set("A resource");
+        payload.get(ATTRIBUTES).get(attribute).get(TYPE).set(STRING);
+        return new ResourceDescription(payload);
+    }
+}
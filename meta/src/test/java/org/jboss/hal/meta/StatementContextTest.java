@@ -19,6 +19,7 @@ import org.jboss.hal.env.Environment;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 class StatementContextTest {
 
@@ -30,4 +31,19 @@ class StatementContextTest {
         assertEquals("bar", context.value(new Placeholder("foo", null, false)));
         assertEquals(new Placeholder("foo", null, false), context.placeholder("foo"));
     }
+
+    @Test
+    void version() {
+        StatementContext context = new StatementContext(new Environment());
+        int version = context.version();
+        context.assign("foo", "bar");
+        assertNotEquals(version, context.version());
+
+        version = context.version();
+        context.assign("foo", "bar");
+        assertEquals(version, context.version());
+
+        context.assign("foo", "baz");
+        assertNotEquals(version, context.version());
+    }
 }
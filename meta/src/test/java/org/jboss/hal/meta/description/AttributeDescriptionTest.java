@@ -15,10 +15,21 @@
  */
 package org.jboss.hal.meta.description;
 
+import org.jboss.hal.dmr.ModelNode;
 import org.junit.jupiter.api.Test;
 
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ACCESS_TYPE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.EXPRESSIONS_ALLOWED;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.METRIC;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.NILLABLE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RUNTIME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.STORAGE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.TYPE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.UNIT;
+import static org.jboss.hal.dmr.ModelType.LONG;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class AttributeDescriptionTest {
 
@@ -31,4 +42,28 @@ class AttributeDescriptionTest {
         assertEquals("", attributeDescription.formatType());
         assertFalse(attributeDescription.simpleValueType());
     }
-}
\ No newline at end of file
+
+    @Test
+    void flags() {
+        ModelNode modelNode = new ModelNode();
+        modelNode.get(TYPE).set(LONG);
+        modelNode.get(UNIT).set("BYTES");
+        modelNode.get(ACCESS_TYPE).set(METRIC);
+        modelNode.get(STORAGE).set(RUNTIME);
+        modelNode.get(NILLABLE).set(true);
+        modelNode.get(EXPRESSIONS_ALLOWED).set(false);
+
+        AttributeDescription attributeDescription = new AttributeDescription("foo", modelNode);
+        assertTrue(attributeDescription.nillable());
+        assertTrue(attributeDescription.readOnly());
+        assertTrue(attributeDescription.metric());
+        assertTrue(attributeDescription.runtime());
+        assertFalse(attributeDescription.expressionAllowed());
+        assertFalse(attributeDescription.required());
+        assertFalse(attributeDescription.hasDefault());
+        assertFalse(attributeDescription.deprecated());
+        assertFalse(attributeDescription.sensitive());
+        assertEquals("BYTES", attributeDescription.unit());
+        assertEquals("LONG", attributeDescription.formatType());
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.jboss.hal.meta.security.Constraints.Operator.AND;
+import static org.jboss.hal.meta.security.Constraints.Operator.OR;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ConstraintsTest {
+
+    @Test
+    void operator() {
+        assertEquals(AND, Constraints.operator("writable(foo=bar:baz)"));
+        assertEquals(AND, Constraints.operator("writable(foo=bar:baz)&executable(foo=bar@add)"));
+        assertEquals(OR, Constraints.operator("writable(foo=bar:baz)|executable(foo=bar@add)"));
+    }
+
+    @Test
+    void splitOr() {
+        // '|' is a regular expression metacharacter; splitting on it unescaped would return single characters
+        assertArrayEquals(new String[]{"writable(foo=bar:baz)", "executable(foo=bar@add)"},
+                Constraints.split("writable(foo=bar:baz)|executable(foo=bar@add)", OR));
+        assertArrayEquals(new String[]{"writable(foo=*:a)", "writable(foo=*:b)", "writable(foo=*:c)"},
+                Constraints.split("writable(foo=*:a)|writable(foo=*:b)|writable(foo=*:c)", OR));
+    }
+
+    @Test
+    void splitAnd() {
+        assertArrayEquals(new String[]{"writable(foo=bar:baz)", "executable(foo=bar@add)"},
+                Constraints.split("writable(foo=bar:baz)&executable(foo=bar@add)", AND));
+    }
+
+    @Test
+    void splitSingle() {
+        assertArrayEquals(new String[]{"writable(foo=bar:baz)"}, Constraints.split("writable(foo=bar:baz)", AND));
+    }
+}
@@ -15,9 +15,16 @@
  */
 package org.jboss.hal.meta.security;
 
+import org.jboss.hal.dmr.ModelNode;
 import org.junit.jupiter.api.Test;
 
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ATTRIBUTES;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.EXECUTE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OPERATIONS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.WRITE;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SecurityContextTest {
 
@@ -31,4 +38,29 @@ class SecurityContextTest {
         assertFalse(securityContext.writable("foo"));
         assertFalse(securityContext.executable("foo"));
     }
+
+    @Test
+    void permissions() {
+        ModelNode payload = new ModelNode();
+        payload.get(READ).set(true);
+        payload.get(WRITE).set(false);
+        payload.get(ATTRIBUTES).get("foo").get(READ).set(true);
+        payload.get(ATTRIBUTES).get("foo").get(WRITE).set(true);
+        payload.get(ATTRIBUTES).get("bar").get(READ).set(true);
+        payload.get(ATTRIBUTES).get("bar").get(WRITE).set(false);
+        payload.get(OPERATIONS).get("add").get(EXECUTE).set(true);
+        payload.get(OPERATIONS).get("remove").get(EXECUTE).set(false);
+
+        SecurityContext securityContext = new SecurityContext(payload);
+        assertTrue(securityContext.readable());
+        assertFalse(securityContext.writable());
+        assertTrue(securityContext.readable("foo"));
+        assertTrue(securityContext.writable("foo"));
+        assertTrue(securityContext.readable("bar"));
+        assertFalse(securityContext.writable("bar"));
+        assertFalse(securityContext.readable("baz"));
+        assertTrue(securityContext.executable("add"));
+        assertFalse(securityContext.executable("remove"));
+        assertFalse(securityContext.executable("baz"));
+    }
 }
@@ -0,0 +1,163 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.tree;
+
+import java.util.List;
+
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.meta.tree.ModelSnapshot.Loader;
+import org.jboss.hal.meta.tree.ModelSnapshot.Loader.State;
+import org.junit.jupiter.api.Test;
+
+import static java.util.stream.Collectors.toList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILD_TYPE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILED;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_RESOURCES_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_TYPES_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RECURSIVE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SUCCESS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ModelSnapshotTest {
+
+    private static final AddressTemplate ROOT = AddressTemplate.of("subsystem=datasources");
+
+    @Test
+    void load() {
+        Loader loader = new Loader(ROOT, 100, AddressTemplate::resolve);
+
+        // root: attributes and child types
+        List<Operation> operations = loader.next(true);
+        assertEquals(List.of(READ_RESOURCE_OPERATION, READ_CHILDREN_TYPES_OPERATION), names(operations));
+        ModelNode resource = new ModelNode();
+        resource.get("statistics-enabled").set(true);
+        resource.get("data-source").set(new ModelNode());
+        // an object attribute which only contains undefined values must not be taken for a child type
+        resource.get("properties").get("foo").set(new ModelNode());
+        ModelNode types = new ModelNode();
+        types.add("data-source");
+        loader.apply(operations, result(resource, types));
+
+        ModelNode root = loader.subtree.get(ROOT.template).resource;
+        assertTrue(root.has("statistics-enabled"));
+        assertTrue(root.has("properties"));
+        assertFalse(root.has("data-source"));
+
+        // children of the child type, never recursive
+        operations = loader.next(true);
+        assertEquals(List.of(READ_CHILDREN_RESOURCES_OPERATION), names(operations));
+        assertEquals("data-source", operations.get(0).get(CHILD_TYPE).asString());
+        assertFalse(operations.get(0).has(RECURSIVE));
+        ModelNode children = new ModelNode();
+        children.get("ExampleDS").get("jndi-name").set("java:jboss/datasources/ExampleDS");
+        children.get("PostgresDS").get("jndi-name").set("java:jboss/datasources/PostgresDS");
+        loader.apply(operations, result(children));
+
+        // child types of the children
+        operations = loader.next(true);
+        assertEquals(List.of(READ_CHILDREN_TYPES_OPERATION, READ_CHILDREN_TYPES_OPERATION), names(operations));
+        loader.apply(operations, result(new ModelNode().setEmptyList(), new ModelNode().setEmptyList()));
+
+        assertTrue(loader.next(true).isEmpty());
+        assertEquals(State.COMPLETED, loader.state);
+        assertEquals(3, loader.subtree.size());
+        assertEquals(3, loader.requests);
+        assertTrue(loader.subtree.containsKey("/subsystem=datasources/data-source=ExampleDS"));
+        assertFalse(loader.subtree.containsKey("/subsystem=datasources/properties=foo"));
+    }
+
+    @Test
+    void exceeded() {
+        Loader loader = new Loader(ROOT, 2, AddressTemplate::resolve);
+        List<Operation> operations = loader.next(true);
+        ModelNode types = new ModelNode();
+        types.add("data-source");
+        loader.apply(operations, result(new ModelNode().setEmptyObject(), types));
+
+        operations = loader.next(true);
+        ModelNode children = new ModelNode();
+        children.get("ExampleDS").get("jndi-name").set("foo");
+        children.get("PostgresDS").get("jndi-name").set("bar");
+        loader.apply(operations, result(children));
+        assertEquals(State.EXCEEDED, loader.state);
+        assertTrue(loader.next(true).isEmpty());
+    }
+
+    @Test
+    void budgetCheckedBeforeRead() {
+        Loader loader = new Loader(ROOT, 1, AddressTemplate::resolve);
+        List<Operation> operations = loader.next(true);
+        ModelNode types = new ModelNode();
+        types.add("data-source");
+        loader.apply(operations, result(new ModelNode().setEmptyObject(), types));
+
+        // the budget is used up by the root: the children are not read at all
+        assertTrue(loader.next(true).isEmpty());
+        assertEquals(State.EXCEEDED, loader.state);
+    }
+
+    @Test
+    void stopped() {
+        Loader loader = new Loader(ROOT, 100, AddressTemplate::resolve);
+        List<Operation> operations = loader.next(true);
+        ModelNode types = new ModelNode();
+        types.add("data-source");
+        loader.apply(operations, result(new ModelNode().setEmptyObject(), types));
+
+        assertTrue(loader.next(false).isEmpty());
+        assertEquals(State.STOPPED, loader.state);
+        assertTrue(loader.next(true).isEmpty());
+    }
+
+    @Test
+    void failed() {
+        Loader loader = new Loader(ROOT, 100, AddressTemplate::resolve);
+        List<Operation> operations = loader.next(true);
+        ModelNode steps = new ModelNode();
+        steps.get("step-1").get(OUTCOME).set(SUCCESS);
+        steps.get("step-1").get(RESULT).setEmptyObject();
+        steps.get("step-2").get(OUTCOME).set(FAILED);
+        steps.get("step-2").get(FAILURE_DESCRIPTION).set("WFLYCTL0313: Unauthorized");
+        loader.apply(operations, new CompositeResult(steps));
+
+        assertEquals(State.FAILED, loader.state);
+        assertEquals("WFLYCTL0313: Unauthorized", loader.error);
+        assertTrue(loader.next(true).isEmpty());
+    }
+
+    private List<String> names(List<Operation> operations) {
+        return operations.stream().map(Operation::getName).collect(toList());
+    }
+
+    private CompositeResult result(ModelNode... results) {
+        ModelNode steps = new ModelNode();
+        for (int i = 0; i < results.length; i++) {
+            ModelNode step = steps.get("step-" + (i + 1));
+            step.get(OUTCOME).set(SUCCESS);
+            step.get(RESULT).set(results[i]);
+        }
+        return new CompositeResult(steps);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.tree;
+
+import java.util.List;
+
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.meta.AddressTemplate;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Collections.emptySet;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILED;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_TYPES_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SUCCESS;
+import static org.jboss.hal.meta.tree.ModelTree.UNLIMITED_DEPTH;
+import static org.jboss.hal.meta.tree.TraverseCheckpoint.checkpoint;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TraversalTest {
+
+    @Test
+    void children() {
+        ModelNode names = new ModelNode();
+        names.add("ExampleDS");
+        names.add("PostgresDS");
+        assertEquals(List.of(AddressTemplate.of("subsystem=datasources/data-source=ExampleDS"),
+                        AddressTemplate.of("subsystem=datasources/data-source=PostgresDS")),
+                Traversal.children(AddressTemplate.of("subsystem=datasources/data-source=*"), names));
+
+        ModelNode types = new ModelNode();
+        types.add("data-source");
+        assertEquals(List.of(AddressTemplate.of("subsystem=datasources/data-source=*")),
+                Traversal.children(AddressTemplate.of("subsystem=datasources"), types));
+    }
+
+    @Test
+    void expand() {
+        AddressTemplate start = AddressTemplate.of("subsystem=datasources");
+        assertTrue(Traversal.expand(start, UNLIMITED_DEPTH, AddressTemplate.of("subsystem=datasources/data-source=foo")));
+        assertTrue(Traversal.expand(start, 1, AddressTemplate.of("subsystem=datasources/data-source=*")));
+        assertFalse(Traversal.expand(start, 1, AddressTemplate.of("subsystem=datasources/data-source=foo")));
+        assertTrue(Traversal.expand(start, 2, AddressTemplate.of("subsystem=datasources/data-source=foo")));
+    }
+
+    @Test
+    void isolatedSteps() {
+        AddressTemplate ok = AddressTemplate.of("subsystem=datasources");
+        AddressTemplate missing = AddressTemplate.of("subsystem=missing");
+        AddressTemplate wildcard = AddressTemplate.of("subsystem=logging/logger=*");
+        TraverseContext context = new TraverseContext(checkpoint(AddressTemplate.root(), emptySet(), emptySet(),
+                UNLIMITED_DEPTH));
+        Traversal.Chunk chunk = new Traversal.Chunk(List.of(ok, missing, wildcard));
+        List<Operation> operations = List.of(
+                operation("datasources", READ_CHILDREN_TYPES_OPERATION),
+                operation("missing", READ_CHILDREN_TYPES_OPERATION),
+                operation("logging", READ_CHILDREN_NAMES_OPERATION));
+
+        ModelNode steps = new ModelNode();
+        steps.get("step-1").get(OUTCOME).set(SUCCESS);
+        steps.get("step-1").get(RESULT).add("data-source");
+        steps.get("step-2").get(OUTCOME).set(FAILED);
+        steps.get("step-2").get(FAILURE_DESCRIPTION).set("WFLYCTL0216: Management resource not found");
+        steps.get("step-3").get(OUTCOME).set(SUCCESS);
+        steps.get("step-3").get(RESULT).add("org.jboss.as");
+        Traversal.steps(context, chunk, operations, new CompositeResult(steps));
+
+        assertEquals(List.of(AddressTemplate.of("subsystem=datasources/data-source=*")), chunk.children.get(0));
+        assertTrue(chunk.children.get(1).isEmpty());
+        assertEquals(List.of(AddressTemplate.of("subsystem=logging/logger=org.jboss.as")), chunk.children.get(2));
+        assertEquals(List.of(missing), context.checkpoint().failed());
+        assertEquals(1, context.failed().size());
+    }
+
+    @Test
+    void batching() {
+        TraverseContinuation defaults = new TraverseContinuation();
+        assertEquals(ModelTree.DEFAULT_CHUNK_SIZE, defaults.chunkSize);
+        assertEquals(ModelTree.DEFAULT_CONCURRENCY, defaults.concurrency);
+
+        TraverseContinuation custom = new TraverseContinuation().batching(0, 8);
+        assertEquals(1, custom.chunkSize);
+        assertEquals(8, custom.concurrency);
+        // batching is a setting of the traversal, not of the model tree
+        assertEquals(ModelTree.DEFAULT_CHUNK_SIZE, new TraverseContinuation().chunkSize);
+    }
+
+    private Operation operation(String subsystem, String name) {
+        return new Operation.Builder(new ResourceAddress().add("subsystem", subsystem), name).build();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.tree;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.meta.tree.Traversal.Chunk;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Collections.emptySet;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILED;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_TYPES_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SUCCESS;
+import static org.jboss.hal.meta.tree.ModelTree.UNLIMITED_DEPTH;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TraverseCheckpointTest {
+
+    private static final AddressTemplate START = AddressTemplate.of("subsystem=datasources");
+    private static final AddressTemplate DATA_SOURCES = AddressTemplate.of("subsystem=datasources/data-source=*");
+    private static final AddressTemplate XA_DATA_SOURCES = AddressTemplate.of("subsystem=datasources/xa-data-source=*");
+
+    @Test
+    void initial() {
+        TraverseCheckpoint checkpoint = checkpoint();
+        assertTrue(checkpoint.initial());
+        assertFalse(checkpoint.completed());
+        assertEquals(1, checkpoint.pending());
+
+        assertEquals(List.of(START), checkpoint.resume());
+        assertFalse(checkpoint.initial());
+        assertTrue(checkpoint.completed());
+    }
+
+    @Test
+    void resume() {
+        TraverseCheckpoint checkpoint = checkpoint();
+
+        // first run: the start template is expanded, then the traversal is stopped
+        checkpoint.resume();
+        assertTrue(checkpoint.visit(DATA_SOURCES));
+        checkpoint.suspend(List.of(DATA_SOURCES, XA_DATA_SOURCES));
+        assertFalse(checkpoint.completed());
+        assertEquals(2, checkpoint.pending());
+
+        // second run: continues at the frontier, already visited templates are skipped
+        assertEquals(List.of(DATA_SOURCES, XA_DATA_SOURCES), checkpoint.resume());
+        assertFalse(checkpoint.visit(DATA_SOURCES));
+        assertTrue(checkpoint.visit(XA_DATA_SOURCES));
+        assertTrue(checkpoint.completed());
+        assertEquals(2, checkpoint.visited());
+    }
+
+    @Test
+    void retry() {
+        TraverseCheckpoint checkpoint = checkpoint();
+        TraverseContext context = new TraverseContext(checkpoint);
+        checkpoint.resume();
+
+        // one step of the chunk fails: only its template is recorded
+        Chunk chunk = new Chunk(List.of(START, AddressTemplate.of("subsystem=logging")));
+        List<Operation> operations = List.of(
+                new Operation.Builder(ResourceAddress.root(), READ_CHILDREN_TYPES_OPERATION).build(),
+                new Operation.Builder(ResourceAddress.root(), READ_CHILDREN_TYPES_OPERATION).build());
+        ModelNode steps = new ModelNode();
+        steps.get("step-1").get(OUTCOME).set(SUCCESS);
+        steps.get("step-1").get(RESULT).add("data-source");
+        steps.get("step-2").get(OUTCOME).set(FAILED);
+        steps.get("step-2").get(FAILURE_DESCRIPTION).set("WFLYCTL0216: Resource not found");
+        Traversal.steps(context, chunk, operations, new CompositeResult(steps));
+        assertEquals(List.of(AddressTemplate.of("subsystem=logging")), checkpoint.failed());
+        assertTrue(checkpoint.completed());
+
+        // retrying moves the failed templates back to the frontier
+        checkpoint.retryFailed();
+        assertTrue(checkpoint.failed().isEmpty());
+        assertEquals(List.of(AddressTemplate.of("subsystem=logging")), checkpoint.resume());
+        checkpoint.retryFailed();
+        assertTrue(checkpoint.completed());
+    }
+
+    private TraverseCheckpoint checkpoint() {
+        return TraverseCheckpoint.checkpoint(START, emptySet(), EnumSet.noneOf(TraverseType.class), UNLIMITED_DEPTH);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.tree;
+
+import java.util.List;
+
+import org.jboss.hal.meta.AddressTemplate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.util.stream.Collectors.toList;
+import static org.jboss.hal.meta.tree.SearchScope.ADDRESS;
+import static org.jboss.hal.meta.tree.SearchScope.NAME;
+import static org.jboss.hal.meta.tree.SearchScope.TYPE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrigramIndexTest {
+
+    private TrigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex();
+        add("/subsystem=datasources",
+                "/subsystem=datasources/data-source=ExampleDS",
+                "/subsystem=datasources/data-source=PostgresDS",
+                "/subsystem=datasources/xa-data-source=Example",
+                "/subsystem=logging",
+                "/subsystem=logging/logger=org.jboss.as",
+                "/deployment=example.war");
+    }
+
+    @Test
+    void contains() {
+        // exact matches first, then prefix matches, shorter addresses first
+        assertEquals(List.of("/subsystem=datasources/xa-data-source=Example",
+                        "/deployment=example.war",
+                        "/subsystem=datasources/data-source=ExampleDS"),
+                query("example", NAME, true));
+        assertEquals(List.of("/subsystem=datasources/data-source=ExampleDS",
+                        "/subsystem=datasources/data-source=PostgresDS",
+                        "/subsystem=datasources/xa-data-source=Example"),
+                query("data-source", TYPE, true));
+        assertEquals(6, query("sub", ADDRESS, true).size());
+    }
+
+    @Test
+    void equals() {
+        assertEquals(List.of("/subsystem=datasources/data-source=ExampleDS"), query("exampleds", NAME, false));
+        assertTrue(query("example", TYPE, false).isEmpty());
+    }
+
+    @Test
+    void shortTerm() {
+        // terms shorter than a trigram don't use the postings
+        assertEquals(List.of("/subsystem=datasources/data-source=ExampleDS",
+                        "/subsystem=datasources/data-source=PostgresDS"),
+                query("ds", NAME, true));
+    }
+
+    @Test
+    void noMatch() {
+        assertTrue(query("undertow", ADDRESS, true).isEmpty());
+    }
+
+    @Test
+    void filterAndLimit() {
+        assertEquals(List.of("/deployment=example.war"),
+                index.query("example", NAME, true, template -> template.template.startsWith("/deployment"), 10)
+                        .stream().map(t -> t.template).collect(toList()));
+        assertEquals(1, index.query("example", NAME, true, template -> true, 1).size());
+    }
+
+    @Test
+    void remove() {
+        assertEquals(3, index.remove(AddressTemplate.of("/subsystem=logging/logger=org.jboss.as")) +
+                index.remove(AddressTemplate.of("/subsystem=datasources/data-source=PostgresDS")) +
+                index.remove(AddressTemplate.of("/deployment=example.war")));
+        assertEquals(4, index.size());
+        assertEquals(List.of("/subsystem=datasources/xa-data-source=Example",
+                        "/subsystem=datasources/data-source=ExampleDS"),
+                query("example", NAME, true));
+
+        // removes the resource and all resources below
+        assertEquals(3, index.remove(AddressTemplate.of("/subsystem=datasources")));
+        assertEquals(List.of("/subsystem=logging"), query("subsystem", ADDRESS, true));
+    }
+
+    @Test
+    void addTwice() {
+        add("/subsystem=logging");
+        assertEquals(7, index.size());
+        add("/subsystem=io");
+        assertEquals(8, index.size());
+        assertEquals(List.of("/subsystem=io"), query("io", NAME, false));
+    }
+
+    private void add(String... templates) {
+        for (String template : templates) {
+            index.add(AddressTemplate.of(template));
+        }
+    }
+
+    private List<String> query(String term, SearchScope scope, boolean contains) {
+        return index.query(term, scope, contains, template -> true, 100).stream()
+                .map(template -> template.template)
+                .collect(toList());
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.tree;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValuePredicateTest {
+
+    private ModelNode resource;
+
+    @BeforeAll
+    static void beforeAll() {
+        ValuePredicate.REGEX = regex -> Pattern.compile(regex).asPredicate();
+    }
+
+    @BeforeEach
+    void setUp() {
+        resource = new ModelNode();
+        resource.get("jndi-name").set("java:jboss/datasources/ProdDS");
+        resource.get("port").set(8443);
+        resource.get("interface").set("public");
+        resource.get("credential-reference").get("store").set("app-store");
+        resource.get("roles").add("admin");
+        resource.get("roles").add("monitor");
+    }
+
+    @Test
+    void equals() {
+        assertTrue(test("interface = PUBLIC"));
+        assertFalse(test("interface = management"));
+        assertTrue(test("interface != management"));
+        assertTrue(test("roles = monitor"));
+    }
+
+    @Test
+    void contains() {
+        assertTrue(test("jndi-name *= prod"));
+        assertFalse(test("jndi-name *= test"));
+    }
+
+    @Test
+    void regex() {
+        assertTrue(test("credential-reference.store ~ \"app-.*\""));
+        assertTrue(test("jndi-name ~ Prod.S$"));
+        assertFalse(test("credential-reference.store ~ ^store"));
+
+        // matches across line breaks
+        resource.get("description").set("first line\nsecond line");
+        assertTrue(test("description ~ second"));
+    }
+
+    @Test
+    void numeric() {
+        assertTrue(test("port > 8000"));
+        assertTrue(test("port <= 8443"));
+        assertFalse(test("port < 8443"));
+        assertTrue(test("port in 8000..8999"));
+        assertFalse(test("port in 9000..9999"));
+        assertFalse(test("interface > 1"));
+    }
+
+    @Test
+    void undefined() {
+        assertFalse(test("unknown = foo"));
+        assertFalse(test("unknown != foo"));
+        assertFalse(test("credential-reference.alias *= a"));
+    }
+
+    @Test
+    void and() {
+        assertTrue(test("port in 8000..8999 and interface = public"));
+        assertFalse(test("port in 8000..8999 AND interface = management"));
+        assertEquals(List.of("port", "interface"), ValuePredicate.parse("port > 1 and interface = x").paths());
+    }
+
+    @Test
+    void quoted() {
+        resource.get("description").set("a \"quoted\" value");
+        assertTrue(test("description = \"a \\\"quoted\\\" value\""));
+    }
+
+    @Test
+    void invalid() {
+        assertThrows(IllegalArgumentException.class, () -> ValuePredicate.parse(""));
+        assertThrows(IllegalArgumentException.class, () -> ValuePredicate.parse("port >"));
+        assertThrows(IllegalArgumentException.class, () -> ValuePredicate.parse("port ?? 1"));
+        assertThrows(IllegalArgumentException.class, () -> ValuePredicate.parse("port > abc"));
+        assertThrows(IllegalArgumentException.class, () -> ValuePredicate.parse("port in 1-2"));
+        assertThrows(IllegalArgumentException.class, () -> ValuePredicate.parse("port > 1 or port < 2"));
+        assertThrows(IllegalArgumentException.class, () -> ValuePredicate.parse("port > 1 and"));
+        assertThrows(IllegalArgumentException.class, () -> ValuePredicate.parse("name = \"open"));
+        assertThrows(IllegalArgumentException.class, () -> ValuePredicate.parse("name ~ ("));
+    }
+
+    private boolean test(String expression) {
+        return ValuePredicate.parse(expression).test(resource);
+    }
+}
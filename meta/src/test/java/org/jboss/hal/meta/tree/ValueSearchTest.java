@@ -0,0 +1,170 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.tree;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.meta.tree.ModelSnapshot.Loader.State;
+import org.jboss.hal.meta.tree.ValueSearch.Reader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Collections.emptySet;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILD_TYPE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILED;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_RESOURCES_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SUCCESS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValueSearchTest {
+
+    private static final AddressTemplate ROOT = AddressTemplate.of("subsystem=datasources");
+    private static final ValuePredicate PREDICATE = ValuePredicate.parse("jndi-name *= prod");
+
+    private List<String> matches;
+
+    @BeforeEach
+    void setUp() {
+        matches = new ArrayList<>();
+    }
+
+    @Test
+    void search() {
+        Reader reader = reader(100, 100, emptySet());
+        readRoot(reader, "data-source", "xa-data-source");
+
+        // only the child types returned by read-children-types are read, the object attribute is not
+        List<Operation> operations = reader.next(true);
+        assertEquals(2, operations.size());
+        assertEquals("data-source", operations.get(0).get(CHILD_TYPE).asString());
+        assertEquals("xa-data-source", operations.get(1).get(CHILD_TYPE).asString());
+        reader.apply(operations, result(dataSources("ProdDS", "TestDS"), dataSources("ProdXA")));
+        assertEquals(List.of("/subsystem=datasources/data-source=ProdDS",
+                "/subsystem=datasources/xa-data-source=ProdXA"), matches);
+
+        operations = reader.next(true);
+        reader.apply(operations, result(new ModelNode().setEmptyList(), new ModelNode().setEmptyList(),
+                new ModelNode().setEmptyList()));
+        assertTrue(reader.next(true).isEmpty());
+        assertEquals(State.COMPLETED, reader.state);
+        assertEquals(4, reader.context.processed());
+        assertEquals(2, reader.context.accepted());
+        assertEquals(3, reader.requests);
+    }
+
+    @Test
+    void failedStep() {
+        Reader reader = reader(100, 100, emptySet());
+        readRoot(reader, "data-source", "xa-data-source");
+
+        List<Operation> operations = reader.next(true);
+        ModelNode steps = new ModelNode();
+        steps.get("step-1").get(OUTCOME).set(FAILED);
+        steps.get("step-1").get(FAILURE_DESCRIPTION).set("WFLYCTL0313: Unauthorized");
+        steps.get("step-2").get(OUTCOME).set(SUCCESS);
+        steps.get("step-2").get(RESULT).set(dataSources("ProdXA"));
+        reader.apply(operations, new CompositeResult(steps));
+
+        // the failed step doesn't affect the other steps
+        assertEquals(State.RUNNING, reader.state);
+        assertEquals(List.of("/subsystem=datasources/xa-data-source=ProdXA"), matches);
+        assertEquals(Set.of("/subsystem=datasources/data-source=*"), reader.context.failed().keySet());
+        assertEquals(READ_CHILDREN_RESOURCES_OPERATION,
+                reader.context.failed().get("/subsystem=datasources/data-source=*").getName());
+    }
+
+    @Test
+    void budgetCheckedBeforeRead() {
+        Reader reader = reader(1, 100, emptySet());
+        readRoot(reader, "data-source");
+
+        // the budget is used up by the root: the children are not read at all
+        assertTrue(reader.next(true).isEmpty());
+        assertEquals(State.EXCEEDED, reader.state);
+        assertEquals(1, reader.context.processed());
+    }
+
+    @Test
+    void maxMatches() {
+        Reader reader = reader(100, 1, emptySet());
+        readRoot(reader, "data-source");
+
+        List<Operation> operations = reader.next(true);
+        reader.apply(operations, result(dataSources("ProdDS", "ProdDS2")));
+        assertEquals(List.of("/subsystem=datasources/data-source=ProdDS"), matches);
+        assertTrue(reader.done());
+        assertTrue(reader.next(!reader.done()).isEmpty());
+        assertEquals(State.STOPPED, reader.state);
+    }
+
+    @Test
+    void exclude() {
+        Reader reader = reader(100, 100, Set.of("/subsystem=datasources/data-source=Prod"));
+        readRoot(reader, "data-source");
+
+        List<Operation> operations = reader.next(true);
+        reader.apply(operations, result(dataSources("ProdDS", "TestDS")));
+        assertTrue(matches.isEmpty());
+        assertEquals(2, reader.context.processed());
+    }
+
+    private Reader reader(int maxResources, int maxMatches, Set<String> exclude) {
+        return new Reader(new TraverseContext(), ROOT, maxResources, maxMatches, ModelTree.DEFAULT_CHUNK_SIZE, exclude,
+                AddressTemplate::resolve, PREDICATE, (template, resource) -> matches.add(template.template));
+    }
+
+    private void readRoot(Reader reader, String... childTypes) {
+        List<Operation> operations = reader.next(true);
+        ModelNode resource = new ModelNode();
+        resource.get("statistics-enabled").set(true);
+        // an object attribute which only contains undefined values must not be taken for a child type
+        resource.get("properties").get("foo").set(new ModelNode());
+        ModelNode types = new ModelNode().setEmptyList();
+        for (String childType : childTypes) {
+            resource.get(childType).set(new ModelNode());
+            types.add(childType);
+        }
+        reader.apply(operations, result(resource, types));
+    }
+
+    private ModelNode dataSources(String... names) {
+        ModelNode dataSources = new ModelNode();
+        for (String name : names) {
+            dataSources.get(name).get("jndi-name").set("java:jboss/datasources/" + name);
+        }
+        return dataSources;
+    }
+
+    private CompositeResult result(ModelNode... results) {
+        ModelNode steps = new ModelNode();
+        for (int i = 0; i < results.length; i++) {
+            ModelNode step = steps.get("step-" + (i + 1));
+            step.get(OUTCOME).set(SUCCESS);
+            step.get(RESULT).set(results[i]);
+        }
+        return new CompositeResult(steps);
+    }
+}
@@ -24,6 +24,7 @@ import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.env.Endpoints;
 import org.jboss.hal.env.Environment;
 import org.jboss.hal.env.Settings;
+import org.jboss.hal.meta.MetadataRepository;
 import org.jboss.hal.meta.StatementContext;
 import org.jboss.hal.model.user.Current;
 import org.jboss.hal.model.user.User;
@@ -41,6 +42,7 @@ public class Bootstrap {
     @Inject StatementContext statementContext;
     @Inject @Current User user;
     @Inject Settings settings;
+    @Inject MetadataRepository metadataRepository;
 
     public Subscription<FlowContext> run() {
         return sequential(new FlowContext(), asList(
@@ -52,7 +54,8 @@ public class Bootstrap {
                 new FindDomainController(dispatcher, environment, statementContext),
                 new ReadStability(dispatcher, environment, statementContext),
                 new LoadSettings(settings),
-                new SetTitle(settings, environment)
+                new SetTitle(settings, environment),
+                new WarmUpMetadata(metadataRepository, settings)
         )).failFast(true);
     }
 }
@@ -28,6 +28,7 @@ import static org.jboss.hal.env.Settings.Key.LOCALE;
 import static org.jboss.hal.env.Settings.Key.RUN_AS;
 import static org.jboss.hal.env.Settings.Key.SHOW_GLOBAL_OPERATIONS;
 import static org.jboss.hal.env.Settings.Key.TITLE;
+import static org.jboss.hal.env.Settings.Key.WARM_UP_TEMPLATES;
 
 /**
  * Loads the settings. Please make sure this is one of the last bootstrap function. This function loads the run-as role which is
@@ -48,6 +49,7 @@ class LoadSettings implements Task<FlowContext> {
         settings.load(LOCALE, DEFAULT_LOCALE);
         settings.load(SHOW_GLOBAL_OPERATIONS, false);
         settings.load(RUN_AS, null);
+        settings.load(WARM_UP_TEMPLATES, String.join("|", WarmUpMetadata.DEFAULT_TEMPLATES));
         logger.info("Settings: %s", settings);
         return Promise.resolve(context);
     }
@@ -0,0 +1,121 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.op.bootstrap;
+
+import java.util.LinkedList;
+import java.util.List;
+
+import org.jboss.elemento.flow.FlowContext;
+import org.jboss.elemento.flow.Task;
+import org.jboss.elemento.logger.Logger;
+import org.jboss.hal.env.Settings;
+import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.meta.Idle;
+import org.jboss.hal.meta.MetadataRepository;
+
+import elemental2.promise.Promise;
+
+import static elemental2.dom.DomGlobal.performance;
+import static java.util.Arrays.asList;
+import static org.jboss.hal.env.Settings.Key.WARM_UP_TEMPLATES;
+
+/**
+ * Loads the metadata of commonly used address templates in the background, so that the first visit of a page doesn't have to
+ * wait for the metadata. The templates are read from the {@link Settings.Key#WARM_UP_TEMPLATES} setting and default to
+ * {@link #DEFAULT_TEMPLATES}.
+ * <p>
+ * This task resolves immediately and doesn't delay the bootstrap process. The metadata is loaded during idle periods of the
+ * browser with at most {@value #CONCURRENCY} lookups in flight. Please make sure this is the last bootstrap function.
+ */
+class WarmUpMetadata implements Task<FlowContext> {
+
+    /** The templates used by the pages and dashboard cards of the console. */
+    static final List<String> DEFAULT_TEMPLATES = asList(
+            "/",
+            "{domain.controller}",
+            "{domain.controller}/core-service=platform-mbean/type=memory",
+            "{domain.controller}/core-service=platform-mbean/type=threading",
+            "subsystem=logging/log-file=*",
+            "deployment=*");
+
+    private static final Logger logger = Logger.getLogger(WarmUpMetadata.class.getName());
+    private static final int CONCURRENCY = 2;
+    private static final int IDLE_TIMEOUT = 5_000;
+
+    private final MetadataRepository metadataRepository;
+    private final Settings settings;
+    private final LinkedList<AddressTemplate> queue;
+    private int total;
+    private int processed;
+    private int failed;
+    private double start;
+
+    WarmUpMetadata(MetadataRepository metadataRepository, Settings settings) {
+        this.metadataRepository = metadataRepository;
+        this.settings = settings;
+        this.queue = new LinkedList<>();
+    }
+
+    @Override
+    public Promise<FlowContext> apply(FlowContext context) {
+        for (String template : settings.get(WARM_UP_TEMPLATES).asSet()) {
+            if (!template.trim().isEmpty()) {
+                queue.add(AddressTemplate.of(template.trim()));
+            }
+        }
+        total = queue.size();
+        if (total > 0) {
+            logger.info("Warm up metadata for %d templates", total);
+            start = performance.now();
+            for (int i = 0; i < CONCURRENCY; i++) {
+                next();
+            }
+        }
+        return Promise.resolve(context);
+    }
+
+    private void next() {
+        if (!queue.isEmpty()) {
+            // look up the next template in an idle period to yield to user interaction
+            Idle.request(__ -> {
+                if (!queue.isEmpty()) {
+                    AddressTemplate template = queue.removeFirst();
+                    double lookupStart = performance.now();
+                    metadataRepository.lookup(template)
+                            .then(metadata -> {
+                                logger.debug("Warmed up metadata for %s in %d ms (%d/%d)", template,
+                                        (int) (performance.now() - lookupStart), processed + 1, total);
+                                return null;
+                            })
+                            .catch_(error -> {
+                                failed++;
+                                logger.warn("Unable to warm up metadata for %s: %s", template, error);
+                                return null;
+                            })
+                            .finally_(() -> {
+                                processed++;
+                                if (processed == total) {
+                                    logger.info("Warmed up metadata for %d templates (%d failed) in %d ms", total, failed,
+                                            (int) (performance.now() - start));
+                                } else {
+                                    next();
+                                }
+                            });
+                }
+            }, IDLE_TIMEOUT);
+        }
+    }
+}
@@ -16,6 +16,8 @@
 package org.jboss.hal.op.dashboard;
 
 import org.jboss.elemento.IsElement;
+import org.jboss.hal.core.PollingScheduler;
+import org.jboss.hal.core.PollingTask;
 import org.patternfly.component.card.CardActions;
 import org.patternfly.component.emptystate.EmptyState;
 import org.patternfly.style.Size;
@@ -39,6 +41,16 @@ interface DashboardCard extends IsElement<HTMLElement> {
 
     void refresh();
 
+    /**
+     * Registers the operations of this card at the polling scheduler. The dashboard cancels the returned task when it's
+     * detached.
+     *
+     * @return the polling task or {@code null} if this card doesn't need to be polled
+     */
+    default PollingTask poll(PollingScheduler scheduler) {
+        return null;
+    }
+
     default CardActions refreshActions() {
         return cardActions()
                 .add(button().plain().icon(redo()).onClick((e, c) -> refresh()));
@@ -26,6 +26,9 @@ import org.jboss.elemento.router.Page;
 import org.jboss.elemento.router.Parameter;
 import org.jboss.elemento.router.Place;
 import org.jboss.elemento.router.Route;
+import org.jboss.hal.core.MetricsStore;
+import org.jboss.hal.core.PollingScheduler;
+import org.jboss.hal.core.PollingTask;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.env.Environment;
 import org.jboss.hal.meta.StatementContext;
@@ -53,25 +56,30 @@ import static org.patternfly.style.Size._3xl;
 @Route("/")
 public class DashboardPage implements Page {
 
-    private static final double REFRESH_INTERVAL = 5_000;
-
     private final Environment environment;
     private final StatementContext statementContext;
     private final Dispatcher dispatcher;
     private final Deployments deployments;
+    private final PollingScheduler scheduler;
+    private final MetricsStore metrics;
     private final List<DashboardCard> cards;
-    private double refreshHandle;
+    private final List<PollingTask> tasks;
 
     @Inject
     public DashboardPage(Environment environment,
             StatementContext statementContext,
             Dispatcher dispatcher,
-            Deployments deployments) {
+            Deployments deployments,
+            PollingScheduler scheduler,
+            MetricsStore metrics) {
         this.environment = environment;
         this.statementContext = statementContext;
         this.dispatcher = dispatcher;
         this.deployments = deployments;
+        this.scheduler = scheduler;
+        this.metrics = metrics;
         this.cards = new ArrayList<>();
+        this.tasks = new ArrayList<>();
     }
 
     @Override
@@ -81,7 +89,7 @@ public class DashboardPage implements Page {
         DashboardCard healthCard = new HealthCard(dispatcher);
         DashboardCard logCard = new LogCard(dispatcher);
         DashboardCard productInfoCard = new ProductInfoCard(environment);
-        DashboardCard runtimeCard = new RuntimeCard(statementContext, dispatcher);
+        DashboardCard runtimeCard = new RuntimeCard(statementContext, dispatcher, metrics);
 
         if (environment.standalone()) {
             cards.addAll(asList(
@@ -141,12 +149,20 @@ public class DashboardPage implements Page {
     @Override
     public void attach() {
         refresh();
-        // refreshHandle = setInterval(__ -> refresh(), REFRESH_INTERVAL);
+        for (DashboardCard card : cards) {
+            PollingTask task = card.poll(scheduler);
+            if (task != null) {
+                tasks.add(task);
+            }
+        }
     }
 
     @Override
     public void detach() {
-        // clearInterval(refreshHandle);
+        for (PollingTask task : tasks) {
+            task.cancel();
+        }
+        tasks.clear();
     }
 
     private void refresh() {
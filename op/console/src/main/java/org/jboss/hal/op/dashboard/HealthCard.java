@@ -22,6 +22,8 @@ import org.jboss.elemento.Id;
 import org.jboss.elemento.flow.Flow;
 import org.jboss.elemento.flow.FlowContext;
 import org.jboss.elemento.flow.Task;
+import org.jboss.hal.core.PollingScheduler;
+import org.jboss.hal.core.PollingTask;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.ResourceAddress;
@@ -33,12 +35,14 @@ import org.patternfly.component.icon.Icon;
 import elemental2.dom.HTMLDivElement;
 import elemental2.dom.HTMLElement;
 
+import static java.util.Collections.emptyList;
 import static org.jboss.elemento.Elements.div;
 import static org.jboss.elemento.Elements.removeChildrenFrom;
 import static org.jboss.elemento.Elements.span;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.CHECKS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.STATUS;
+import static org.jboss.hal.dmr.ModelNodeHelper.changed;
 import static org.jboss.hal.op.dashboard.DashboardCard.dashboardEmptyState;
 import static org.jboss.hal.ui.BuildingBlocks.errorCode;
 import static org.patternfly.component.card.Card.card;
@@ -61,9 +65,14 @@ import static org.patternfly.style.Status.warning;
 
 class HealthCard implements DashboardCard {
 
+    private static final int POLL_INTERVAL = 10_000;
+    private static final ResourceAddress ADDRESS = AddressTemplate.of("/subsystem=microprofile-health-smallrye").resolve();
+
     private final Dispatcher dispatcher;
     private final HTMLContainerBuilder<HTMLDivElement> cardBody;
     private final HTMLElement root;
+    private boolean present;
+    private ModelNode previous;
 
     HealthCard(Dispatcher dispatcher) {
         this.dispatcher = dispatcher;
@@ -77,14 +86,11 @@ class HealthCard implements DashboardCard {
 
     @Override
     public void refresh() {
-        removeChildrenFrom(cardBody);
-
-        ResourceAddress address = AddressTemplate.of("/subsystem=microprofile-health-smallrye").resolve();
-        Task<FlowContext> resourceCheck = new ResourceCheck(dispatcher, address);
+        Task<FlowContext> resourceCheck = new ResourceCheck(dispatcher, ADDRESS);
         Task<FlowContext> healthCheck = context -> {
             int status = context.pop(404);
             if (status == 200) {
-                return dispatcher.execute(new Operation.Builder(address, "check").build())
+                return dispatcher.execute(checkOperation())
                         .then(context::resolve)
                         .catch_(context::reject);
             } else {
@@ -94,41 +100,69 @@ class HealthCard implements DashboardCard {
         Flow.sequential(new FlowContext(), List.of(resourceCheck, healthCheck))
                 .then(context -> {
                     ModelNode result = context.pop(new ModelNode());
-                    if (result.isDefined()) {
-                        if (result.hasDefined(CHECKS)) {
-                            List<ModelNode> checks = result.get(CHECKS).asList();
-                            if (!checks.isEmpty()) {
-                                cardBody.add(dataList().css(modifier("grid-none"))
-                                        .addItems(checks, check -> {
-                                            String name = check.get(NAME).asString();
-                                            String nameId = Id.build(name);
-                                            return dataListItem(nameId)
-                                                    .addCell(dataListCell().add(span().id(nameId).textContent(name)))
-                                                    .addCell(dataListCell().alignRight().noFill()
-                                                            .add(statusIcon(check)));
-                                        }));
-                            } else {
-                                cardBody.add(dashboardEmptyState()
-                                        .addHeader(emptyStateHeader().icon(exclamationTriangle()).text("No checks found")));
-                            }
-                        } else {
-                            cardBody.add(dashboardEmptyState()
-                                    .addHeader(emptyStateHeader().icon(exclamationTriangle()).text("No checks found")));
-                        }
-                    } else {
-                        cardBody.add(dashboardEmptyState()
-                                .addHeader(emptyStateHeader().icon(exclamationTriangle())
-                                        .text("MicroProfile Health not present")));
-                    }
+                    present = result.isDefined();
+                    update(result);
                     return null;
                 }).catch_(error -> {
-                    cardBody.add(dashboardEmptyState()
-                            .addHeader(emptyStateHeader().icon(exclamationCircle()).text("MicroProfile Health error"))
-                            .addBody(emptyStateBody().add(errorCode(String.valueOf(error)))));
+                    failed(String.valueOf(error));
                     return null;
                 });
     }
 
+    /** Polls the health checks, but only if the MicroProfile Health subsystem is present. */
+    @Override
+    public PollingTask poll(PollingScheduler scheduler) {
+        return scheduler.schedule("health card", POLL_INTERVAL, () -> present ? List.of(checkOperation()) : emptyList(),
+                results -> update(results.get(0)), this::failed);
+    }
+
+    private Operation checkOperation() {
+        return new Operation.Builder(ADDRESS, "check").build();
+    }
+
+    /** Renders the health checks, unless they're the same as in the last update. */
+    private void update(ModelNode result) {
+        if (!changed(previous, result)) {
+            return;
+        }
+        previous = result;
+        removeChildrenFrom(cardBody);
+        if (result.isDefined()) {
+            if (result.hasDefined(CHECKS)) {
+                List<ModelNode> checks = result.get(CHECKS).asList();
+                if (!checks.isEmpty()) {
+                    cardBody.add(dataList().css(modifier("grid-none"))
+                            .addItems(checks, check -> {
+                                String name = check.get(NAME).asString();
+                                String nameId = Id.build(name);
+                                return dataListItem(nameId)
+                                        .addCell(dataListCell().add(span().id(nameId).textContent(name)))
+                                        .addCell(dataListCell().alignRight().noFill()
+                                                .add(statusIcon(check)));
+                            }));
+                } else {
+                    cardBody.add(dashboardEmptyState()
+                            .addHeader(emptyStateHeader().icon(exclamationTriangle()).text("No checks found")));
+                }
+            } else {
+                cardBody.add(dashboardEmptyState()
+                        .addHeader(emptyStateHeader().icon(exclamationTriangle()).text("No checks found")));
+            }
+        } else {
+            cardBody.add(dashboardEmptyState()
+                    .addHeader(emptyStateHeader().icon(exclamationTriangle())
+                            .text("MicroProfile Health not present")));
+        }
+    }
+
+    private void failed(String error) {
+        previous = null;
+        removeChildrenFrom(cardBody);
+        cardBody.add(dashboardEmptyState()
+                .addHeader(emptyStateHeader().icon(exclamationCircle()).text("MicroProfile Health error"))
+                .addBody(emptyStateBody().add(errorCode(error))));
+    }
+
     private Icon statusIcon(ModelNode check) {
         ModelNode status = check.get(STATUS);
         if ("UP".equals(status.asString())) {
@@ -0,0 +1,97 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.op.dashboard;
+
+import java.util.List;
+
+import org.jboss.elemento.IsElement;
+import org.jboss.hal.op.dashboard.LogAnalyzer.Bucket;
+
+import elemental2.core.JsDate;
+import elemental2.dom.Element;
+import elemental2.dom.HTMLElement;
+
+import static elemental2.dom.DomGlobal.document;
+import static org.jboss.elemento.Elements.div;
+import static org.jboss.elemento.Elements.small;
+import static org.jboss.hal.resources.HalClasses.dashboard;
+import static org.jboss.hal.resources.HalClasses.halComponent;
+import static org.patternfly.style.Variable.globalVar;
+
+/** SVG bar chart of the errors and warnings of a {@link LogAnalyzer.Result}. Errors are stacked below warnings. */
+class Histogram implements IsElement<HTMLElement> {
+
+    private static final String SVG_NS = "http://www.w3.org/2000/svg";
+    private static final int WIDTH = 600;
+    private static final int HEIGHT = 120;
+
+    private final HTMLElement root;
+
+    Histogram(List<Bucket> buckets, double bucketWidth) {
+        root = div().element();
+        if (buckets.isEmpty()) {
+            return;
+        }
+        double start = buckets.get(0).time;
+        double end = buckets.get(buckets.size() - 1).time + bucketWidth;
+        double slots = Math.max(1, Math.round((end - start) / bucketWidth));
+        double barWidth = WIDTH / slots;
+        int max = 1;
+        for (Bucket bucket : buckets) {
+            max = Math.max(max, bucket.errors + bucket.warnings);
+        }
+
+        Element svg = document.createElementNS(SVG_NS, "svg");
+        svg.setAttribute("viewBox", "0 0 " + WIDTH + " " + HEIGHT);
+        svg.setAttribute("preserveAspectRatio", "none");
+        svg.setAttribute("width", "100%");
+        svg.setAttribute("height", String.valueOf(HEIGHT));
+        for (Bucket bucket : buckets) {
+            double x = (bucket.time - start) / bucketWidth * barWidth;
+            double errorHeight = (double) bucket.errors * HEIGHT / max;
+            double warningHeight = (double) bucket.warnings * HEIGHT / max;
+            String title = new JsDate(bucket.time).toLocaleString() + ": " + bucket.errors + " errors, " +
+                    bucket.warnings + " warnings";
+            svg.appendChild(bar(x, HEIGHT - errorHeight, barWidth, errorHeight,
+                    globalVar("danger-color", "100").asVar(), title));
+            svg.appendChild(bar(x, HEIGHT - errorHeight - warningHeight, barWidth, warningHeight,
+                    globalVar("warning-color", "100").asVar(), title));
+        }
+        root.appendChild(svg);
+        root.appendChild(div().css(halComponent(dashboard, "histogram-axis"))
+                .add(small().textContent(new JsDate(start).toLocaleString()))
+                .add(small().textContent(new JsDate(end).toLocaleString()))
+                .element());
+    }
+
+    @Override
+    public HTMLElement element() {
+        return root;
+    }
+
+    private Element bar(double x, double y, double width, double height, String color, String title) {
+        Element rect = document.createElementNS(SVG_NS, "rect");
+        rect.setAttribute("x", String.valueOf(Math.round(x * 10) / 10.0));
+        rect.setAttribute("y", String.valueOf(Math.round(y * 10) / 10.0));
+        rect.setAttribute("width", String.valueOf(Math.round(width * 10) / 10.0));
+        rect.setAttribute("height", String.valueOf(Math.round(height * 10) / 10.0));
+        rect.setAttribute("fill", color);
+        Element tooltip = document.createElementNS(SVG_NS, "title");
+        tooltip.textContent = title;
+        rect.appendChild(tooltip);
+        return rect;
+    }
+}
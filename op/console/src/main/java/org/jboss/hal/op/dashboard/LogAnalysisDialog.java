@@ -0,0 +1,150 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.op.dashboard;
+
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.op.dashboard.LogAnalyzer.Category;
+import org.jboss.hal.op.dashboard.LogAnalyzer.Fingerprint;
+import org.jboss.hal.op.dashboard.LogAnalyzer.Result;
+import org.jboss.hal.op.dashboard.LogCard.Status;
+import org.patternfly.component.button.Button;
+
+import elemental2.dom.HTMLElement;
+
+import static org.jboss.elemento.Elements.code;
+import static org.jboss.elemento.Elements.div;
+import static org.jboss.elemento.Elements.h3;
+import static org.jboss.elemento.Elements.removeChildrenFrom;
+import static org.jboss.elemento.Elements.setVisible;
+import static org.jboss.hal.resources.HalClasses.dashboard;
+import static org.jboss.hal.resources.HalClasses.halComponent;
+import static org.patternfly.component.button.Button.button;
+import static org.patternfly.component.modal.Modal.modal;
+import static org.patternfly.component.modal.ModalBody.modalBody;
+import static org.patternfly.component.modal.ModalFooter.modalFooter;
+import static org.patternfly.component.modal.ModalHeader.modalHeader;
+import static org.patternfly.layout.flex.Flex.flex;
+import static org.patternfly.layout.flex.FlexItem.flexItem;
+import static org.patternfly.layout.flex.SpaceItems.sm;
+import static org.patternfly.style.Size.lg;
+
+/**
+ * Modal dialog which analyzes a log file using the {@link LogAnalyzer}. Shows the progress while the file is read and a
+ * histogram of the errors and warnings, the top message fingerprints and the top categories when the analysis is done.
+ */
+class LogAnalysisDialog {
+
+    private final Dispatcher dispatcher;
+    private final HTMLElement progress;
+    private final HTMLElement progressBar;
+    private final HTMLElement status;
+    private final HTMLElement results;
+    private LogAnalyzer analyzer;
+    private Button cancel;
+
+    LogAnalysisDialog(Dispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+        this.progress = div().css(halComponent(dashboard, "analysis-progress"))
+                .add(progressBar = div().css(halComponent(dashboard, "analysis-progress-bar")).element())
+                .element();
+        this.status = div().element();
+        this.results = div().element();
+    }
+
+    void open(String logFile) {
+        modal().size(lg).top()
+                .hideClose()
+                .autoClose(false)
+                .addHeader(modalHeader().addTitle("Analyze " + logFile))
+                .addBody(modalBody()
+                        .add(progress)
+                        .add(status)
+                        .add(results))
+                .addFooter(modalFooter()
+                        .addButton(cancel = button("Cancel").secondary(), (__, modal) -> cancel())
+                        .addButton(button("Close").link(), (__, modal) -> {
+                            cancel();
+                            modal.close();
+                        }))
+                .appendToBody()
+                .open();
+
+        analyzer = new LogAnalyzer(dispatcher, logFile);
+        progress(0);
+        analyzer.start(this::progress, this::done, this::failed);
+    }
+
+    // ------------------------------------------------------ internal
+
+    private void cancel() {
+        if (analyzer != null && analyzer.running()) {
+            analyzer.cancel();
+            setVisible(progress, false);
+            status.textContent = "Analysis cancelled.";
+        }
+        cancel.disabled(true);
+    }
+
+    private void progress(double value) {
+        int percent = (int) Math.round(value * 100);
+        progressBar.style.width = percent + "%";
+        status.textContent = "Analyzing... " + percent + "%";
+    }
+
+    private void failed(String error) {
+        setVisible(progress, false);
+        status.textContent = "Unable to analyze log file: " + error;
+        cancel.disabled(true);
+    }
+
+    private void done(Result result) {
+        setVisible(progress, false);
+        cancel.disabled(true);
+        int errors = result.levels.getOrDefault(Status.ERROR.name(), 0);
+        int warnings = result.levels.getOrDefault(Status.WARN.name(), 0);
+        status.textContent = result.lines + " lines, " + result.entries + " log entries, " + errors + " " +
+                Status.ERROR.text + ", " + warnings + " " + Status.WARN.text;
+
+        removeChildrenFrom(results);
+        if (errors + warnings == 0) {
+            return;
+        }
+        results.appendChild(h3().textContent(Status.ERROR.text + " and " + Status.WARN.text + " over time").element());
+        results.appendChild(new Histogram(result.buckets, result.bucketWidth).element());
+
+        results.appendChild(h3().textContent("Top messages").element());
+        for (Fingerprint fingerprint : result.fingerprints) {
+            Status level = Status.valueOf(fingerprint.level);
+            results.appendChild(flex().spaceItems(sm).css(halComponent(dashboard, "analysis-row"))
+                    .add(flexItem().add(level.icon.get()))
+                    .add(div().textContent(fingerprint.error > 0
+                            ? "≤ " + fingerprint.count
+                            : String.valueOf(fingerprint.count)))
+                    .add(flexItem().add(code().textContent(fingerprint.category)))
+                    .add(div().css(halComponent(dashboard, "log-line")).textContent(fingerprint.sample))
+                    .element());
+        }
+
+        results.appendChild(h3().textContent("Top categories").element());
+        for (Category category : result.categories) {
+            results.appendChild(flex().spaceItems(sm).css(halComponent(dashboard, "analysis-row"))
+                    .add(flexItem().add(code().textContent(category.name)))
+                    .add(div().textContent(category.errors + " " + Status.ERROR.text + ", " +
+                            category.warnings + " " + Status.WARN.text))
+                    .element());
+        }
+    }
+}
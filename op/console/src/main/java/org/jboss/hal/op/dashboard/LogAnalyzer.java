@@ -0,0 +1,340 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.op.dashboard;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.jboss.elemento.logger.Logger;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.meta.AddressTemplate;
+
+import elemental2.core.JsArray;
+import elemental2.core.Uint8Array;
+import elemental2.dom.MessageEvent;
+import elemental2.dom.Worker;
+import elemental2.promise.Promise;
+import jsinterop.annotations.JsFunction;
+import jsinterop.annotations.JsType;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+
+import static jsinterop.annotations.JsPackage.GLOBAL;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FILE_SIZE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.STREAM;
+
+/**
+ * Analyzes a log file in a web worker (see {@code log-analyzer.js} and {@code log-analysis.mjs}).
+ * <p>
+ * The file is read once from the beginning to the end: the {@code stream} attribute of the log file is fetched using the
+ * HTTP GET API of the management endpoint ({@link Dispatcher#stream(ResourceAddress, String)}) and the body of the response
+ * is consumed with a stream reader. Each chunk of bytes is posted to the worker, which decodes the lines, parses the
+ * levels, categories and timestamps and only keeps aggregated counters. The next chunk is read after the worker has
+ * processed the previous one. That way at most one chunk is kept in memory, regardless of the size of the file. The worker
+ * keeps a histogram of the errors and warnings with at most 120 buckets and approximate counters for the top message
+ * fingerprints and categories.
+ * <p>
+ * Since the file is read in one linear pass, lines appended by the server during the analysis are never counted twice.
+ * The progress is reported as the ratio of the analyzed bytes and the size of the file at the start of the analysis. Use
+ * {@link #cancel()} to stop the analysis and terminate the worker.
+ */
+class LogAnalyzer {
+
+    static final int TOP = 10;
+    private static final String WORKERS = "halWorkers";
+    private static final Logger logger = Logger.getLogger(LogAnalyzer.class.getName());
+
+    /** @return the progress between 0 and 1 */
+    static double progress(double bytes, long fileSize) {
+        return fileSize > 0 ? Math.min(1.0, bytes / fileSize) : 0.0;
+    }
+
+    /** @return whether the browser supports web workers and the log analyzer worker has been registered */
+    static boolean supported() {
+        JsPropertyMap<Object> global = Js.asPropertyMap(Js.global());
+        return global.has("Worker") && global.has(WORKERS);
+    }
+
+    private final Dispatcher dispatcher;
+    private final ResourceAddress address;
+    private Worker worker;
+    private Consumer<Double> onProgress;
+    private Consumer<Result> onResult;
+    private Consumer<String> onError;
+    private StreamReader reader;
+    private long fileSize;
+    private int chunks;
+    private boolean running;
+
+    LogAnalyzer(Dispatcher dispatcher, String logFile) {
+        this.dispatcher = dispatcher;
+        this.address = AddressTemplate.of("subsystem=logging/log-file=" + logFile).resolve();
+    }
+
+    // ------------------------------------------------------ api
+
+    /**
+     * Starts the analysis.
+     *
+     * @param progress called after each chunk of bytes with a value between 0 and 1
+     * @param result   called with the result of the analysis
+     * @param error    called if the log file could not be read or the worker failed
+     */
+    void start(Consumer<Double> progress, Consumer<Result> result, Consumer<String> error) {
+        if (running) {
+            return;
+        }
+        if (!supported()) {
+            error.accept("Web workers are not supported");
+            return;
+        }
+        this.onProgress = progress;
+        this.onResult = result;
+        this.onError = error;
+        this.chunks = 0;
+        this.running = true;
+
+        Operation operation = new Operation.Builder(address, READ_ATTRIBUTE_OPERATION)
+                .param(NAME, FILE_SIZE)
+                .build();
+        dispatcher.execute(operation, size -> {
+            if (running) {
+                fileSize = size.asLong();
+                worker = createWorker();
+                worker.addEventListener("message", event -> onMessage(Js.uncheckedCast(event)));
+                worker.addEventListener("error", event -> failed("Log analyzer failed"));
+                dispatcher.stream(address, STREAM).then(response -> {
+                    if (running) {
+                        ReadableStream body = Js.uncheckedCast(Js.asPropertyMap(response).get("body"));
+                        reader = body.getReader();
+                        read();
+                    }
+                    return null;
+                }).catch_(failure -> {
+                    failed(String.valueOf(failure));
+                    return null;
+                });
+            }
+        }, (op, failure) -> failed(failure));
+    }
+
+    /** Stops reading the log file and terminates the worker. */
+    void cancel() {
+        if (running) {
+            logger.debug("Cancel analysis of %s after %d chunks", address, chunks);
+            stop();
+        }
+    }
+
+    boolean running() {
+        return running;
+    }
+
+    // ------------------------------------------------------ internal
+
+    private void read() {
+        reader.read().then(chunk -> {
+            if (running) {
+                if (chunk.done) {
+                    worker.postMessage(JsPropertyMap.of("type", "finish", "top", (double) TOP));
+                } else {
+                    chunks++;
+                    worker.postMessage(JsPropertyMap.of("type", "bytes", "bytes", chunk.value));
+                }
+            }
+            return null;
+        }).catch_(error -> {
+            failed(String.valueOf(error));
+            return null;
+        });
+    }
+
+    private void onMessage(MessageEvent<Object> event) {
+        if (!running) {
+            return;
+        }
+        JsPropertyMap<Object> data = Js.asPropertyMap(event.data);
+        String type = data.getAsAny("type").asString();
+        if ("progress".equals(type)) {
+            onProgress.accept(progress(data.getAsAny("bytes").asDouble(), fileSize));
+            read();
+        } else if ("result".equals(type)) {
+            stop();
+            onResult.accept(new Result(data));
+        }
+    }
+
+    private void failed(String error) {
+        if (running) {
+            logger.error("Unable to analyze %s: %s", address, error);
+            stop();
+            onError.accept(error);
+        }
+    }
+
+    private void stop() {
+        running = false;
+        if (reader != null) {
+            reader.cancel();
+            reader = null;
+        }
+        if (worker != null) {
+            worker.terminate();
+            worker = null;
+        }
+    }
+
+    private static Worker createWorker() {
+        JsPropertyMap<Object> workers = Js.asPropertyMap(Js.asPropertyMap(Js.global()).get(WORKERS));
+        WorkerFactory factory = Js.uncheckedCast(workers.get("logAnalyzer"));
+        return factory.create();
+    }
+
+    // ------------------------------------------------------ inner classes
+
+    @JsFunction
+    @FunctionalInterface
+    interface WorkerFactory {
+
+        Worker create();
+    }
+
+    /** The body of a fetch response */
+    @JsType(isNative = true, namespace = GLOBAL, name = "ReadableStream")
+    private static class ReadableStream {
+
+        public native StreamReader getReader();
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = "ReadableStreamDefaultReader")
+    private static class StreamReader {
+
+        public native Promise<StreamChunk> read();
+
+        public native Promise<Object> cancel();
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = "Object")
+    private static class StreamChunk {
+
+        public boolean done;
+        public Uint8Array value;
+    }
+
+    /** The result of the analysis as reported by the worker. */
+    static class Result {
+
+        final int lines;
+        final int entries;
+        final Map<String, Integer> levels;
+        final double bucketWidth;
+        final List<Bucket> buckets;
+        final List<Fingerprint> fingerprints;
+        final List<Category> categories;
+
+        Result(JsPropertyMap<Object> data) {
+            this.lines = data.getAsAny("lines").asInt();
+            this.entries = data.getAsAny("entries").asInt();
+            this.levels = new LinkedHashMap<>();
+            JsPropertyMap<Object> levels = Js.asPropertyMap(data.get("levels"));
+            levels.forEach(level -> this.levels.put(level, levels.getAsAny(level).asInt()));
+            this.bucketWidth = data.getAsAny("bucketWidth").asDouble();
+            this.buckets = new ArrayList<>();
+            for (JsPropertyMap<Object> bucket : array(data, "buckets")) {
+                buckets.add(new Bucket(bucket.getAsAny("time").asDouble(), bucket.getAsAny("errors").asInt(),
+                        bucket.getAsAny("warnings").asInt()));
+            }
+            this.fingerprints = new ArrayList<>();
+            for (JsPropertyMap<Object> fingerprint : array(data, "fingerprints")) {
+                fingerprints.add(new Fingerprint(fingerprint.getAsAny("level").asString(),
+                        fingerprint.getAsAny("category").asString(), fingerprint.getAsAny("sample").asString(),
+                        fingerprint.getAsAny("first").asDouble(), fingerprint.getAsAny("count").asInt(),
+                        fingerprint.getAsAny("error").asInt()));
+            }
+            this.categories = new ArrayList<>();
+            for (JsPropertyMap<Object> category : array(data, "categories")) {
+                categories.add(new Category(category.getAsAny("category").asString(),
+                        category.getAsAny("errors").asInt(), category.getAsAny("warnings").asInt()));
+            }
+        }
+
+        private static List<JsPropertyMap<Object>> array(JsPropertyMap<Object> data, String name) {
+            JsArray<Object> array = Js.uncheckedCast(data.get(name));
+            List<JsPropertyMap<Object>> list = new ArrayList<>();
+            for (int i = 0; i < array.length; i++) {
+                list.add(Js.asPropertyMap(array.getAt(i)));
+            }
+            return list;
+        }
+    }
+
+    /** Number of errors and warnings in {@code [time, time + bucketWidth)} */
+    static class Bucket {
+
+        final double time;
+        final int errors;
+        final int warnings;
+
+        Bucket(double time, int errors, int warnings) {
+            this.time = time;
+            this.errors = errors;
+            this.warnings = warnings;
+        }
+    }
+
+    /**
+     * Errors or warnings with the same level, category and message (ignoring quoted strings and numbers). The count might be
+     * overestimated by at most {@code error}.
+     */
+    static class Fingerprint {
+
+        final String level;
+        final String category;
+        final String sample;
+        final double first;
+        final int count;
+        final int error;
+
+        Fingerprint(String level, String category, String sample, double first, int count, int error) {
+            this.level = level;
+            this.category = category;
+            this.sample = sample;
+            this.first = first;
+            this.count = count;
+            this.error = error;
+        }
+    }
+
+    static class Category {
+
+        final String name;
+        final int errors;
+        final int warnings;
+
+        Category(String name, int errors, int warnings) {
+            this.name = name;
+            this.errors = errors;
+            this.warnings = warnings;
+        }
+    }
+}
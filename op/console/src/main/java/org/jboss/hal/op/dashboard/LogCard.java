@@ -15,14 +15,15 @@
  */
 package org.jboss.hal.op.dashboard;
 
+import java.util.EnumMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
 
-import org.jboss.hal.dmr.Operation;
-import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.core.PollingScheduler;
+import org.jboss.hal.core.PollingTask;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
-import org.jboss.hal.meta.AddressTemplate;
 import org.patternfly.component.card.CardBody;
 import org.patternfly.component.card.CardTitle;
 import org.patternfly.icon.PredefinedIcon;
@@ -30,16 +31,9 @@ import org.patternfly.layout.flex.Flex;
 
 import elemental2.dom.HTMLElement;
 
-import static elemental2.dom.DomGlobal.alert;
-import static java.util.function.Function.identity;
-import static java.util.stream.Collectors.counting;
-import static java.util.stream.Collectors.groupingBy;
 import static org.jboss.elemento.Elements.code;
 import static org.jboss.elemento.Elements.div;
 import static org.jboss.elemento.Elements.removeChildrenFrom;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.LINES;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_LOG_FILE;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.TAIL;
 import static org.jboss.hal.op.dashboard.DashboardCard.dashboardEmptyState;
 import static org.patternfly.component.button.Button.button;
 import static org.patternfly.component.card.Card.card;
@@ -55,6 +49,7 @@ import static org.patternfly.component.emptystate.EmptyStateHeader.emptyStateHea
 import static org.patternfly.icon.IconSets.fas.checkCircle;
 import static org.patternfly.icon.IconSets.fas.exclamationCircle;
 import static org.patternfly.icon.IconSets.fas.exclamationTriangle;
+import static org.patternfly.icon.IconSets.fas.list;
 import static org.patternfly.icon.IconSets.fas.timesCircle;
 import static org.patternfly.layout.flex.Flex.flex;
 import static org.patternfly.layout.flex.FlexItem.flexItem;
@@ -66,7 +61,12 @@ import static org.patternfly.style.Variable.globalVar;
 
 class LogCard implements DashboardCard {
 
-    private enum Status {
+    private static final int POLL_INTERVAL = 5_000;
+
+    /** The number of minutes used to count errors and warnings */
+    private static final int RECENT_MINUTES = 60;
+
+    enum Status {
         ERROR("errors", () -> timesCircle().attr("color", globalVar("danger-color", "100").asVar())),
         WARN("warnings", () -> exclamationTriangle().attr("color", globalVar("warning-color", "100").asVar())),
         SKIP(null, null);
@@ -95,13 +95,17 @@ class LogCard implements DashboardCard {
     private final CardBody cardBody;
     private final HTMLElement root;
     private String logFile = "server.log";
+    private LogTailer tailer;
+    private Map<Status, Long> rendered;
 
     LogCard(Dispatcher dispatcher) {
         this.dispatcher = dispatcher;
+        this.tailer = new LogTailer(dispatcher, logFile);
         this.root = card()
                 .addHeader(cardHeader()
                         .addTitle(cardTitle = cardTitle())
-                        .addActions(refreshActions()))
+                        .addActions(refreshActions()
+                                .add(button().plain().icon(list()).onClick((e, c) -> chooseLogFile()))))
                 .addBody(cardBody = cardBody().style("text-align", "center"))
                 .element();
     }
@@ -114,64 +118,105 @@ class LogCard implements DashboardCard {
     @Override
     public void refresh() {
         cardTitle.textContent(logFile);
-        removeChildrenFrom(cardBody);
+        rendered = null;
+        tailer.update()
+                .then(__ -> {
+                    render();
+                    return null;
+                })
+                .catch_(error -> {
+                    failed();
+                    return null;
+                });
+    }
 
-        ResourceAddress address = AddressTemplate.of("subsystem=logging/log-file=" + logFile).resolve();
-        Operation operation = new Operation.Builder(address, READ_LOG_FILE)
-                .param(LINES, 100)
-                .param(TAIL, true)
-                .build();
-        dispatcher.execute(operation,
-                result -> {
-                    Map<Status, Long> statusMap = result.asList()
-                            .stream()
-                            .map(node -> Status.parse(node.asString()))
-                            .filter(status -> status != Status.SKIP)
-                            .collect(groupingBy(identity(), counting()));
-                    if (statusMap.isEmpty()) {
-                        cardBody.add(flex().justifyContent(center).spaceItems(md)
-                                .add(flex().spaceItems(sm)
-                                        .add(flexItem()
-                                                .add(checkCircle().attr("color", globalVar("success-color", "100").asVar())))
-                                        .add(div().textContent("No errors or warnings"))));
-                    } else if (statusMap.size() == 1) {
-                        Map.Entry<Status, Long> entry = statusMap.entrySet().iterator().next();
-                        cardBody.add(flex().justifyContent(center).spaceItems(md)
-                                .add(flex().spaceItems(sm)
-                                        .add(flexItem().add(entry.getKey().icon.get()))
-                                        .add(div().textContent(entry.getValue() + " " + entry.getKey().text))));
-                    } else {
-                        Flex flex = flex();
-                        cardBody.add(flex.justifyContent(center).spaceItems(md));
-                        for (Iterator<Map.Entry<Status, Long>> iterator = statusMap.entrySet().iterator();
-                                iterator.hasNext(); ) {
-                            Map.Entry<Status, Long> entry = iterator.next();
-                            flex.add(flex().spaceItems(sm)
-                                    .add(flexItem().add(entry.getKey().icon.get())));
-                            flex.add(div().textContent(entry.getValue() + " " + entry.getKey().text));
-                            if (iterator.hasNext()) {
-                                flex.add(divider(hr).orientation(vertical));
-                            }
-                        }
+    /** Polls the size of the log file. Only if the log file has grown, the new lines are read. */
+    @Override
+    public PollingTask poll(PollingScheduler scheduler) {
+        return scheduler.schedule("log card", POLL_INTERVAL, () -> List.of(tailer.sizeOperation()),
+                results -> tailer.update(results.get(0).asLong())
+                        .then(__ -> {
+                            render();
+                            return null;
+                        })
+                        .catch_(error -> {
+                            failed();
+                            return null;
+                        }),
+                error -> failed());
+    }
+
+    /**
+     * Renders the errors and warnings of the last hour including the ones of the initial read, unless they're the same as in
+     * the last rendering.
+     */
+    private void render() {
+        long now = System.currentTimeMillis();
+        Map<Status, Long> statusMap = new EnumMap<>(Status.class);
+        for (Status status : new Status[]{Status.ERROR, Status.WARN}) {
+            int count = tailer.counter().initial(status, now, RECENT_MINUTES)
+                    + tailer.counter().recent(status, now, RECENT_MINUTES);
+            if (count > 0) {
+                statusMap.put(status, (long) count);
+            }
+        }
+        if (!statusMap.equals(rendered)) {
+            rendered = statusMap;
+            removeChildrenFrom(cardBody);
+            if (statusMap.isEmpty()) {
+                cardBody.add(flex().justifyContent(center).spaceItems(md)
+                        .add(flex().spaceItems(sm)
+                                .add(flexItem()
+                                        .add(checkCircle().attr("color", globalVar("success-color", "100").asVar())))
+                                .add(div().textContent("No errors or warnings"))));
+            } else if (statusMap.size() == 1) {
+                Map.Entry<Status, Long> entry = statusMap.entrySet().iterator().next();
+                cardBody.add(flex().justifyContent(center).spaceItems(md)
+                        .add(flex().spaceItems(sm)
+                                .add(flexItem().add(entry.getKey().icon.get()))
+                                .add(div().textContent(entry.getValue() + " " + entry.getKey().text))));
+            } else {
+                Flex flex = flex();
+                cardBody.add(flex.justifyContent(center).spaceItems(md));
+                for (Iterator<Map.Entry<Status, Long>> iterator = statusMap.entrySet().iterator();
+                        iterator.hasNext(); ) {
+                    Map.Entry<Status, Long> entry = iterator.next();
+                    flex.add(flex().spaceItems(sm)
+                            .add(flexItem().add(entry.getKey().icon.get())));
+                    flex.add(div().textContent(entry.getValue() + " " + entry.getKey().text));
+                    if (iterator.hasNext()) {
+                        flex.add(divider(hr).orientation(vertical));
                     }
-                },
-                (op, error) -> cardBody.add(dashboardEmptyState()
-                        .addHeader(emptyStateHeader()
-                                .icon(exclamationCircle().attr("color", globalVar("danger-color", "100").asVar()))
-                                .text("Log file not found"))
-                        .addBody(emptyStateBody()
-                                .add("The log file ")
-                                .add(code().textContent("server.log"))
-                                .add(" was not found!"))
-                        .addFooter(emptyStateFooter()
-                                .addActions(emptyStateActions()
-                                        .add(button("Choose log file")
-                                                .link()
-                                                .onClick((event, component) -> chooseLogFile()))))));
+                }
+            }
+        }
+    }
+
+    private void failed() {
+        rendered = null;
+        removeChildrenFrom(cardBody);
+        cardBody.add(dashboardEmptyState()
+                .addHeader(emptyStateHeader()
+                        .icon(exclamationCircle().attr("color", globalVar("danger-color", "100").asVar()))
+                        .text("Log file not found"))
+                .addBody(emptyStateBody()
+                        .add("The log file ")
+                        .add(code().textContent(logFile))
+                        .add(" was not found!"))
+                .addFooter(emptyStateFooter()
+                        .addActions(emptyStateActions()
+                                .add(button("Choose log file")
+                                        .link()
+                                        .onClick((event, component) -> chooseLogFile())))));
     }
 
     private void chooseLogFile() {
-        // TODO Implement choose log file
-        alert("Not yet implemented");
+        new LogViewer(dispatcher).open(logFile, selected -> {
+            if (selected != null && !selected.equals(logFile)) {
+                logFile = selected;
+                tailer = new LogTailer(dispatcher, logFile);
+                refresh();
+            }
+        });
     }
 }
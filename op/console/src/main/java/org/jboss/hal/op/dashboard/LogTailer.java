@@ -0,0 +1,292 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.op.dashboard;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.elemento.logger.Logger;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.op.dashboard.LogCard.Status;
+
+import elemental2.promise.Promise;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FILE_SIZE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.LINES;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_LOG_FILE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SKIP;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.TAIL;
+
+/**
+ * Reads the new lines of a log file and counts errors and warnings.
+ * <p>
+ * The tailer keeps the size of the log file (see {@link #sizeOperation()}) as the position up to which the file has been
+ * read. Only if the file has grown, the new lines are read in chunks of {@value #CHUNK} lines from the end of the file using
+ * {@code read-log-file(tail=true, skip=n, lines=CHUNK)}. Lines are collected from the end until their size in bytes covers
+ * the growth of the file (see {@link #firstNewLine(List, long)}). If the file has shrunk (e.g. because it has been rotated),
+ * the whole file is new. At most {@value #MAX_CHUNKS} chunks are read in one update. Lines written while an update is in
+ * progress might be attributed to the next update.
+ * <p>
+ * The first update records the size of the file and reads the last {@value #CHUNK} lines. Their time is unknown, so they are
+ * counted apart from the per-minute buckets (see {@link LevelCounter#seed(Status, long)}). Lines written between reading the
+ * size and the last lines might be counted again by the next update.
+ */
+class LogTailer {
+
+    static final int CHUNK = 100;
+    static final int MAX_CHUNKS = 10;
+    private static final Logger logger = Logger.getLogger(LogTailer.class.getName());
+
+    /**
+     * Returns the index of the first line which belongs to the last {@code bytes} bytes of the file, or {@code -1} if the
+     * lines don't cover that many bytes. Each line is counted with its UTF-8 length plus one byte for the line feed.
+     */
+    static int firstNewLine(List<String> lines, long bytes) {
+        if (bytes <= 0) {
+            return lines.size();
+        }
+        long sum = 0;
+        for (int i = lines.size() - 1; i >= 0; i--) {
+            sum += utf8Length(lines.get(i)) + 1;
+            if (sum >= bytes) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** @return the number of bytes of the UTF-8 encoded line */
+    static int utf8Length(String line) {
+        int length = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < line.length()) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private final Dispatcher dispatcher;
+    private final ResourceAddress address;
+    private final LevelCounter counter;
+    private long fileSize;
+    private boolean updating;
+
+    LogTailer(Dispatcher dispatcher, String logFile) {
+        this.dispatcher = dispatcher;
+        this.address = AddressTemplate.of("subsystem=logging/log-file=" + logFile).resolve();
+        this.counter = new LevelCounter();
+        this.fileSize = -1;
+    }
+
+    // ------------------------------------------------------ api
+
+    /** @return the operation to read the size of the log file. The result is passed to {@link #update(long)}. */
+    Operation sizeOperation() {
+        return new Operation.Builder(address, READ_ATTRIBUTE_OPERATION)
+                .param(NAME, FILE_SIZE)
+                .build();
+    }
+
+    /** Reads the size of the log file and updates the tailer. */
+    Promise<Integer> update() {
+        return dispatcher.execute(sizeOperation()).then(size -> update(size.asLong()));
+    }
+
+    /**
+     * Reads the new lines if the file size has changed. The promise resolves to the number of new lines. Calls during a
+     * pending update are ignored.
+     */
+    Promise<Integer> update(long size) {
+        if (size == fileSize || updating) {
+            return Promise.resolve(0);
+        }
+        if (fileSize < 0) {
+            return seed(size);
+        }
+        long bytes;
+        if (size < fileSize) {
+            logger.debug("Log file %s has been truncated or rotated", address);
+            bytes = size;
+        } else {
+            bytes = size - fileSize;
+        }
+        long previousSize = fileSize;
+        fileSize = size;
+        updating = true;
+        return read(0, bytes, new ArrayList<>()).then(lines -> {
+            updating = false;
+            long now = System.currentTimeMillis();
+            for (String line : lines) {
+                Status status = Status.parse(line);
+                if (status != Status.SKIP) {
+                    counter.add(status, now);
+                }
+            }
+            return Promise.resolve(lines.size());
+        }).catch_(error -> {
+            updating = false;
+            fileSize = previousSize;
+            return Promise.reject(error);
+        });
+    }
+
+    LevelCounter counter() {
+        return counter;
+    }
+
+    // ------------------------------------------------------ internal
+
+    /** Records the size of the file and counts the last lines of the file as initial lines. */
+    private Promise<Integer> seed(long size) {
+        fileSize = size;
+        if (size == 0) {
+            return Promise.resolve(0);
+        }
+        updating = true;
+        return dispatcher.execute(tailOperation(0)).then(result -> {
+            updating = false;
+            long now = System.currentTimeMillis();
+            List<ModelNode> lines = result.asList();
+            for (ModelNode line : lines) {
+                Status status = Status.parse(line.asString());
+                if (status != Status.SKIP) {
+                    counter.seed(status, now);
+                }
+            }
+            return Promise.resolve(lines.size());
+        }).catch_(error -> {
+            updating = false;
+            fileSize = -1;
+            return Promise.reject(error);
+        });
+    }
+
+    private Operation tailOperation(int chunk) {
+        return new Operation.Builder(address, READ_LOG_FILE)
+                .param(TAIL, true)
+                .param(SKIP, chunk * CHUNK)
+                .param(LINES, CHUNK)
+                .build();
+    }
+
+    /** Reads the chunks from the end of the file until the new bytes or the start of the file have been covered. */
+    private Promise<List<String>> read(int chunk, long bytes, List<String> newer) {
+        return dispatcher.execute(tailOperation(chunk)).then(result -> {
+            List<String> lines = new ArrayList<>();
+            for (ModelNode line : result.asList()) {
+                lines.add(line.asString());
+            }
+            lines.addAll(newer);
+            int index = firstNewLine(lines, bytes);
+            if (index >= 0) {
+                return Promise.resolve(new ArrayList<>(lines.subList(index, lines.size())));
+            } else if (result.asList().size() < CHUNK) {
+                // start of file
+                return Promise.resolve(lines);
+            } else if (chunk + 1 >= MAX_CHUNKS) {
+                logger.warn("More than %d new lines in %s. Older lines are skipped.", lines.size(), address);
+                return Promise.resolve(lines);
+            } else {
+                return read(chunk + 1, bytes, lines);
+            }
+        });
+    }
+
+    // ------------------------------------------------------ inner classes
+
+    /**
+     * Counts errors and warnings in buckets of one minute for the last {@value #BUCKETS} minutes. The lines of the initial
+     * read have no known time and are counted separately.
+     */
+    static class LevelCounter {
+
+        static final int BUCKETS = 60;
+        static final long BUCKET = 60_000;
+
+        private final long[] starts;
+        private final int[][] counts;
+        private final long[] totals;
+        private final int[] initial;
+        private long seeded;
+
+        LevelCounter() {
+            this.starts = new long[BUCKETS];
+            this.counts = new int[Status.values().length][BUCKETS];
+            this.totals = new long[Status.values().length];
+            this.initial = new int[Status.values().length];
+        }
+
+        /** Counts a line of the initial read, which has been made at the given time. */
+        void seed(Status status, long time) {
+            initial[status.ordinal()]++;
+            seeded = time;
+        }
+
+        /**
+         * @return the number of lines with the given status of the initial read, if it has been made in the last
+         * {@code minutes} minutes, or {@code 0} otherwise
+         */
+        int initial(Status status, long now, int minutes) {
+            return now - seeded < (long) minutes * BUCKET ? initial[status.ordinal()] : 0;
+        }
+
+        void add(Status status, long time) {
+            long start = time - time % BUCKET;
+            int index = (int) ((start / BUCKET) % BUCKETS);
+            if (starts[index] != start) {
+                starts[index] = start;
+                for (int[] levelCounts : counts) {
+                    levelCounts[index] = 0;
+                }
+            }
+            counts[status.ordinal()][index]++;
+            totals[status.ordinal()]++;
+        }
+
+        /** @return the number of lines with the given status since the tailer has been created (w/o the initial lines) */
+        long total(Status status) {
+            return totals[status.ordinal()];
+        }
+
+        /** @return the number of lines with the given status in the last {@code minutes} minutes (including the current) */
+        int recent(Status status, long now, int minutes) {
+            long current = now - now % BUCKET;
+            long oldest = current - (long) (Math.min(minutes, BUCKETS) - 1) * BUCKET;
+            int count = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                if (starts[i] >= oldest && starts[i] <= current) {
+                    count += counts[status.ordinal()][i];
+                }
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.op.dashboard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.ui.VirtualList;
+
+import elemental2.dom.HTMLSelectElement;
+
+import static org.jboss.elemento.Elements.div;
+import static org.jboss.elemento.Elements.option;
+import static org.jboss.elemento.Elements.select;
+import static org.jboss.elemento.EventType.change;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILD_TYPE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.LINES;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.LOG_FILE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_LOG_FILE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SKIP;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.TAIL;
+import static org.jboss.hal.resources.HalClasses.dashboard;
+import static org.jboss.hal.resources.HalClasses.halComponent;
+import static org.jboss.hal.ui.VirtualList.virtualList;
+import static org.patternfly.component.button.Button.button;
+import static org.patternfly.component.modal.Modal.modal;
+import static org.patternfly.component.modal.ModalBody.modalBody;
+import static org.patternfly.component.modal.ModalFooter.modalFooter;
+import static org.patternfly.component.modal.ModalHeader.modalHeader;
+import static org.patternfly.style.Size.lg;
+
+/**
+ * Modal dialog to choose a log file and view its content. The lines are shown in a {@link VirtualList}. The viewer starts
+ * with the last {@value #PAGE} lines and reads older pages on demand when the user scrolls to the top. The selected log file
+ * can be analyzed using the {@link LogAnalysisDialog}.
+ */
+class LogViewer {
+
+    static final int PAGE = 500;
+    private static final int ROW_HEIGHT = 20;
+
+    private final Dispatcher dispatcher;
+    private final VirtualList<String> lines;
+    private final HTMLSelectElement logFiles;
+    private String logFile;
+    private int loaded;
+    private boolean loading;
+    private boolean exhausted;
+
+    LogViewer(Dispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+        this.lines = virtualList(ROW_HEIGHT, line -> div().css(halComponent(dashboard, "log-line"))
+                .textContent(line)
+                .element());
+        this.lines.css(halComponent(dashboard, "log-viewer"));
+        this.lines.onReachStart(this::older);
+        this.logFiles = select()
+                .on(change, e -> show(((HTMLSelectElement) e.target).value))
+                .element();
+    }
+
+    /**
+     * Opens the viewer for the given log file.
+     *
+     * @param onSelect called with the selected log file if the user chooses to show the log file on the dashboard
+     */
+    void open(String logFile, Consumer<String> onSelect) {
+        modal().size(lg).top()
+                .addHeader(modalHeader().addTitle("Log files"))
+                .addBody(modalBody()
+                        .add(div().add(logFiles))
+                        .add(lines))
+                .addFooter(modalFooter()
+                        .addButton(button("Show on dashboard").primary(), (__, modal) -> {
+                            onSelect.accept(this.logFile);
+                            modal.close();
+                        })
+                        .addButton(button("Analyze").secondary(), (__, modal) -> {
+                            modal.close();
+                            new LogAnalysisDialog(dispatcher).open(this.logFile);
+                        })
+                        .addButton(button("Close").link(), (__, modal) -> modal.close()))
+                .appendToBody()
+                .open();
+
+        Operation operation = new Operation.Builder(AddressTemplate.of("subsystem=logging").resolve(),
+                READ_CHILDREN_NAMES_OPERATION)
+                .param(CHILD_TYPE, LOG_FILE)
+                .build();
+        dispatcher.execute(operation).then(result -> {
+            for (ModelNode name : result.asList()) {
+                logFiles.appendChild(option()
+                        .textContent(name.asString())
+                        .attr("value", name.asString())
+                        .element());
+            }
+            logFiles.value = logFile;
+            return null;
+        });
+        show(logFile);
+    }
+
+    // ------------------------------------------------------ internal
+
+    private void show(String logFile) {
+        this.logFile = logFile;
+        this.loaded = 0;
+        this.loading = false;
+        this.exhausted = false;
+        lines.clear();
+        older();
+    }
+
+    /** Reads the page before the lines which have been loaded so far. */
+    private void older() {
+        if (loading || exhausted || logFile == null) {
+            return;
+        }
+        loading = true;
+        String file = logFile;
+        Operation operation = new Operation.Builder(
+                AddressTemplate.of("subsystem=logging/log-file=" + file).resolve(), READ_LOG_FILE)
+                .param(TAIL, true)
+                .param(SKIP, loaded)
+                .param(LINES, PAGE)
+                .build();
+        dispatcher.execute(operation)
+                .then(result -> {
+                    if (file.equals(logFile)) {
+                        List<String> page = new ArrayList<>();
+                        for (ModelNode line : result.asList()) {
+                            page.add(line.asString());
+                        }
+                        if (loaded == 0) {
+                            lines.add(page);
+                        } else {
+                            lines.prepend(page);
+                        }
+                        loaded += page.size();
+                        exhausted = page.size() < PAGE;
+                        loading = false;
+                    }
+                    return null;
+                })
+                .catch_(error -> {
+                    if (file.equals(logFile)) {
+                        exhausted = true;
+                        loading = false;
+                    }
+                    return null;
+                });
+    }
+}
@@ -15,6 +15,12 @@
  */
 package org.jboss.hal.op.dashboard;
 
+import java.util.Map;
+
+import org.jboss.hal.core.MetricsStore;
+import org.jboss.hal.core.PollingScheduler;
+import org.jboss.hal.core.PollingTask;
+import org.jboss.hal.core.TimeSeries;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.ModelNodeHelper;
 import org.jboss.hal.dmr.Operation;
@@ -27,7 +33,11 @@ import org.patternfly.layout.gallery.Gallery;
 import elemental2.dom.HTMLElement;
 
 import static org.jboss.elemento.Elements.removeChildrenFrom;
+import static org.jboss.elemento.Elements.span;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ATTRIBUTES_ONLY;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDE_RUNTIME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.PRODUCT_INFO;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
 import static org.jboss.hal.op.dashboard.DashboardCard.dashboardEmptyState;
 import static org.jboss.hal.ui.BuildingBlocks.errorCode;
 import static org.patternfly.component.card.Card.card;
@@ -44,14 +54,28 @@ import static org.patternfly.layout.gallery.Gallery.gallery;
 
 class RuntimeCard implements DashboardCard {
 
+    private static final int POLL_INTERVAL = 5_000;
+    private static final String HEAP_USED = "jvm.heap-used";
+    private static final String NON_HEAP_USED = "jvm.non-heap-used";
+
     private final StatementContext statementContext;
     private final Dispatcher dispatcher;
+    private final MetricsStore metrics;
     private final Gallery gallery;
+    private final HTMLElement heapUsed;
+    private final HTMLElement nonHeapUsed;
+    private final Sparkline heapSparkline;
+    private final Sparkline nonHeapSparkline;
 
-    RuntimeCard(StatementContext statementContext, Dispatcher dispatcher) {
+    RuntimeCard(StatementContext statementContext, Dispatcher dispatcher, MetricsStore metrics) {
         this.statementContext = statementContext;
         this.dispatcher = dispatcher;
+        this.metrics = metrics;
         this.gallery = gallery().gutter().style("--pf-v5-l-gallery--GridTemplateColumns--min: 400px");
+        this.heapUsed = span().element();
+        this.nonHeapUsed = span().element();
+        this.heapSparkline = new Sparkline();
+        this.nonHeapSparkline = new Sparkline();
     }
 
     @Override
@@ -70,6 +94,7 @@ class RuntimeCard implements DashboardCard {
                     ModelNode summary = result.asList().get(0).get("summary");
                     gallery.add(hostInfo(summary));
                     gallery.add(jvmInfo(summary));
+                    gallery.add(memoryInfo());
                     return null;
                 }).catch_(error -> {
                     gallery.add(dashboardEmptyState()
@@ -79,6 +104,32 @@ class RuntimeCard implements DashboardCard {
                 });
     }
 
+    /** Tracks the memory usage in the {@link MetricsStore} and shows the history as sparklines. */
+    @Override
+    public PollingTask poll(PollingScheduler scheduler) {
+        AddressTemplate template = AddressTemplate.of("{domain.controller}/core-service=platform-mbean/type=memory");
+        Operation operation = new Operation.Builder(template.resolve(statementContext), READ_RESOURCE_OPERATION)
+                .param(ATTRIBUTES_ONLY, true)
+                .param(INCLUDE_RUNTIME, true)
+                .build();
+        updateMemory();
+        return metrics.track(scheduler, "runtime card", POLL_INTERVAL, operation,
+                Map.of(HEAP_USED, "heap-memory-usage.used", NON_HEAP_USED, "non-heap-memory-usage.used"),
+                this::updateMemory);
+    }
+
+    private void updateMemory() {
+        updateMemory(metrics.series(HEAP_USED), heapUsed, heapSparkline);
+        updateMemory(metrics.series(NON_HEAP_USED), nonHeapUsed, nonHeapSparkline);
+    }
+
+    private void updateMemory(TimeSeries timeSeries, HTMLElement value, Sparkline sparkline) {
+        if (!timeSeries.isEmpty()) {
+            value.textContent = Math.round(timeSeries.latest() / 1024 / 1024) + " MB";
+        }
+        sparkline.update(timeSeries);
+    }
+
     private Card hostInfo(ModelNode result) {
         return card().addTitle(cardTitle().textContent("Host"))
                 .addBody(cardBody().add(descriptionList()
@@ -112,4 +163,19 @@ class RuntimeCard implements DashboardCard {
                                 .addDescription(descriptionListDescription(
                                         ModelNodeHelper.nested(result, "jvm.jvm-vendor").asString())))));
     }
+
+    private Card memoryInfo() {
+        return card().addTitle(cardTitle().textContent("Memory"))
+                .addBody(cardBody().add(descriptionList()
+                        .addItem(descriptionListGroup("memory-heap")
+                                .addTerm(descriptionListTerm("Heap used"))
+                                .addDescription(descriptionListDescription()
+                                        .add(heapUsed)
+                                        .add(heapSparkline)))
+                        .addItem(descriptionListGroup("memory-non-heap")
+                                .addTerm(descriptionListTerm("Non heap used"))
+                                .addDescription(descriptionListDescription()
+                                        .add(nonHeapUsed)
+                                        .add(nonHeapSparkline)))));
+    }
 }
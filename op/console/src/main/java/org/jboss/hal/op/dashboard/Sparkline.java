@@ -0,0 +1,85 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.op.dashboard;
+
+import org.jboss.elemento.IsElement;
+import org.jboss.hal.core.TimeSeries;
+
+import elemental2.dom.Element;
+import elemental2.dom.HTMLElement;
+
+import static elemental2.dom.DomGlobal.document;
+import static org.jboss.elemento.Elements.div;
+import static org.jboss.hal.core.TimeSeries.Resolution.RAW;
+import static org.patternfly.style.Variable.globalVar;
+
+/** Simple SVG line chart of the latest raw values of a {@link TimeSeries}. */
+class Sparkline implements IsElement<HTMLElement> {
+
+    private static final String SVG_NS = "http://www.w3.org/2000/svg";
+    private static final int WIDTH = 100;
+    private static final int HEIGHT = 24;
+    private static final int POINTS = 60;
+
+    private final Element polyline;
+    private final HTMLElement root;
+
+    Sparkline() {
+        Element svg = document.createElementNS(SVG_NS, "svg");
+        svg.setAttribute("viewBox", "0 0 " + WIDTH + " " + HEIGHT);
+        svg.setAttribute("preserveAspectRatio", "none");
+        svg.setAttribute("width", "100%");
+        svg.setAttribute("height", String.valueOf(HEIGHT));
+        polyline = document.createElementNS(SVG_NS, "polyline");
+        polyline.setAttribute("fill", "none");
+        polyline.setAttribute("stroke", globalVar("primary-color", "100").asVar());
+        polyline.setAttribute("stroke-width", "1.5");
+        polyline.setAttribute("vector-effect", "non-scaling-stroke");
+        svg.appendChild(polyline);
+        root = div().element();
+        root.appendChild(svg);
+    }
+
+    @Override
+    public HTMLElement element() {
+        return root;
+    }
+
+    void update(TimeSeries timeSeries) {
+        double[] values = timeSeries.values(RAW, POINTS);
+        if (values.length < 2) {
+            polyline.removeAttribute("points");
+            return;
+        }
+        double min = values[0];
+        double max = values[0];
+        for (double value : values) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        double range = max - min;
+        StringBuilder points = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            double x = (double) i * WIDTH / (values.length - 1);
+            double y = range > 0 ? HEIGHT - (values[i] - min) * HEIGHT / range : HEIGHT / 2.0;
+            if (i > 0) {
+                points.append(' ');
+            }
+            points.append(Math.round(x * 10) / 10.0).append(',').append(Math.round(y * 10) / 10.0);
+        }
+        polyline.setAttribute("points", points.toString());
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.op.dashboard;
+
+import org.junit.jupiter.api.Test;
+
+import static org.jboss.hal.op.dashboard.LogAnalyzer.progress;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LogAnalyzerTest {
+
+    @Test
+    void progressBySize() {
+        assertEquals(0.5, progress(500, 1_000));
+        assertEquals(1.0, progress(1_000, 1_000));
+    }
+
+    @Test
+    void grownFile() {
+        // lines appended during the analysis must not exceed 100%
+        assertEquals(1.0, progress(2_000, 1_000));
+    }
+
+    @Test
+    void emptyFile() {
+        assertEquals(0.0, progress(0, 0));
+        assertEquals(0.0, progress(100, 0));
+    }
+}
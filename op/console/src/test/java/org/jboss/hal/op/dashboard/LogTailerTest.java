@@ -0,0 +1,133 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.op.dashboard;
+
+import java.util.List;
+
+import org.jboss.hal.op.dashboard.LogCard.Status;
+import org.jboss.hal.op.dashboard.LogTailer.LevelCounter;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Collections.emptyList;
+import static org.jboss.hal.op.dashboard.LogTailer.LevelCounter.BUCKET;
+import static org.jboss.hal.op.dashboard.LogTailer.LevelCounter.BUCKETS;
+import static org.jboss.hal.op.dashboard.LogTailer.firstNewLine;
+import static org.jboss.hal.op.dashboard.LogTailer.utf8Length;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LogTailerTest {
+
+    private static final long NOW = 1_700_000_000_000L - 1_700_000_000_000L % BUCKET;
+
+    // ------------------------------------------------------ new lines
+
+    @Test
+    void noNewBytes() {
+        assertEquals(2, firstNewLine(List.of("a", "b"), 0));
+    }
+
+    @Test
+    void newLines() {
+        // "ccc\n" and "dd\n" = 7 bytes
+        List<String> lines = List.of("a", "bb", "ccc", "dd");
+        assertEquals(3, firstNewLine(lines, 3));
+        assertEquals(2, firstNewLine(lines, 7));
+        assertEquals(0, firstNewLine(lines, 12));
+    }
+
+    @Test
+    void partialLine() {
+        // a line which has been written partially belongs to the new lines
+        assertEquals(1, firstNewLine(List.of("a", "bb", "ccc"), 5));
+    }
+
+    @Test
+    void notCovered() {
+        assertEquals(-1, firstNewLine(List.of("a", "bb"), 6));
+        assertEquals(-1, firstNewLine(emptyList(), 1));
+    }
+
+    @Test
+    void utf8() {
+        assertEquals(0, utf8Length(""));
+        assertEquals(5, utf8Length("ERROR"));
+        assertEquals(2, utf8Length("\u00e4"));
+        assertEquals(3, utf8Length("\u20ac"));
+        assertEquals(4, utf8Length("\ud83d\ude00"));
+    }
+
+    // ------------------------------------------------------ level counter
+
+    @Test
+    void count() {
+        LevelCounter counter = new LevelCounter();
+        counter.add(Status.ERROR, NOW);
+        counter.add(Status.ERROR, NOW + 1_000);
+        counter.add(Status.WARN, NOW - BUCKET);
+
+        assertEquals(2, counter.recent(Status.ERROR, NOW, 1));
+        assertEquals(0, counter.recent(Status.WARN, NOW, 1));
+        assertEquals(1, counter.recent(Status.WARN, NOW, 2));
+        assertEquals(2, counter.total(Status.ERROR));
+        assertEquals(1, counter.total(Status.WARN));
+    }
+
+    @Test
+    void expired() {
+        LevelCounter counter = new LevelCounter();
+        counter.add(Status.ERROR, NOW - BUCKETS * BUCKET);
+
+        assertEquals(0, counter.recent(Status.ERROR, NOW, BUCKETS));
+        assertEquals(1, counter.total(Status.ERROR));
+    }
+
+    @Test
+    void reuseBucket() {
+        LevelCounter counter = new LevelCounter();
+        counter.add(Status.ERROR, NOW - BUCKETS * BUCKET);
+        counter.add(Status.WARN, NOW - BUCKETS * BUCKET);
+        // same bucket index, one round later
+        counter.add(Status.ERROR, NOW);
+
+        assertEquals(1, counter.recent(Status.ERROR, NOW, BUCKETS));
+        assertEquals(0, counter.recent(Status.WARN, NOW, BUCKETS));
+        assertEquals(2, counter.total(Status.ERROR));
+    }
+
+    @Test
+    void seed() {
+        LevelCounter counter = new LevelCounter();
+        counter.seed(Status.ERROR, NOW);
+        counter.seed(Status.ERROR, NOW);
+        counter.add(Status.ERROR, NOW);
+
+        assertEquals(2, counter.initial(Status.ERROR, NOW, 1));
+        assertEquals(0, counter.initial(Status.WARN, NOW, 1));
+        assertEquals(0, counter.initial(Status.ERROR, NOW + BUCKET, 1));
+        assertEquals(2, counter.initial(Status.ERROR, NOW + BUCKET, 2));
+        assertEquals(1, counter.recent(Status.ERROR, NOW, 1));
+        assertEquals(1, counter.total(Status.ERROR));
+    }
+
+    @Test
+    void minutesLimitedToBuckets() {
+        LevelCounter counter = new LevelCounter();
+        counter.add(Status.ERROR, NOW - (BUCKETS - 1) * BUCKET);
+        counter.add(Status.ERROR, NOW);
+
+        assertEquals(2, counter.recent(Status.ERROR, NOW, 10 * BUCKETS));
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+// Tests of log-analysis.mjs. Run with "npm test" (uses the test runner of Node.js).
+
+import {describe, it} from "node:test";
+import assert from "node:assert/strict";
+import {fingerprint, Histogram, level, LineDecoder, LogAnalysis, MAX_BUCKETS, TopK} from "../../web/log-analysis.mjs";
+
+const MINUTE = 60 * 1000;
+
+describe("TopK", () => {
+
+    it("counts keys", () => {
+        const topK = new TopK(10);
+        topK.add("a");
+        topK.add("b");
+        topK.add("a");
+        assert.deepEqual(topK.top(2).map(c => [c.key, c.count, c.error]), [["a", 2, 0], ["b", 1, 0]]);
+    });
+
+    it("replaces the smallest counter", () => {
+        const topK = new TopK(2);
+        topK.add("a");
+        topK.add("a");
+        topK.add("b");
+        const c = topK.add("c");
+        // "b" has been replaced, "c" inherits its count as error
+        assert.equal(topK.counters.size, 2);
+        assert.equal(topK.counters.has("b"), false);
+        assert.equal(c.count, 2);
+        assert.equal(c.error, 1);
+    });
+
+    it("limits the result", () => {
+        const topK = new TopK(10);
+        for (const key of ["a", "b", "c"]) {
+            topK.add(key);
+        }
+        assert.equal(topK.top(2).length, 2);
+    });
+});
+
+describe("Histogram", () => {
+
+    it("buckets errors and warnings", () => {
+        const histogram = new Histogram();
+        histogram.add(0, true);
+        histogram.add(MINUTE - 1, false);
+        histogram.add(MINUTE, true);
+        assert.equal(histogram.width, MINUTE);
+        assert.deepEqual(histogram.values(), [
+            {time: 0, errors: 1, warnings: 1},
+            {time: MINUTE, errors: 1, warnings: 0}
+        ]);
+    });
+
+    it("widens buckets", () => {
+        const histogram = new Histogram();
+        histogram.add(0, true);
+        histogram.add(MAX_BUCKETS * MINUTE, true);
+        assert.equal(histogram.width, 2 * MINUTE);
+        assert.ok(histogram.values().length <= MAX_BUCKETS);
+        assert.equal(histogram.values().reduce((sum, bucket) => sum + bucket.errors, 0), 2);
+    });
+
+    it("keeps the number of buckets bounded", () => {
+        const histogram = new Histogram();
+        for (let i = 0; i < 10_000; i++) {
+            histogram.add(i * MINUTE, i % 2 === 0);
+        }
+        assert.ok(histogram.values().length <= MAX_BUCKETS);
+        assert.equal(histogram.values().reduce((sum, bucket) => sum + bucket.errors + bucket.warnings, 0), 10_000);
+    });
+});
+
+describe("LogAnalysis", () => {
+
+    it("normalizes levels and fingerprints", () => {
+        assert.equal(level("WARNING"), "WARN");
+        assert.equal(level("SEVERE"), "ERROR");
+        assert.equal(level("INFO"), "INFO");
+        assert.equal(fingerprint("WFLYCTL0013: Operation \"add\" failed after 42 ms"),
+            "WFLYCTL0013: Operation \"*\" failed after # ms");
+    });
+
+    it("analyzes chunks in file order", () => {
+        const analysis = new LogAnalysis();
+        analysis.chunk([
+            "2024-05-01 10:15:00,000 INFO  [org.jboss.as] (main) Started",
+            "2024-05-01 10:15:30,000 ERROR [org.jboss.as] (main) WFLYCTL0013: Operation 1 failed"
+        ]);
+        analysis.chunk([
+            "2024-05-01 10:16:00,000 ERROR [org.jboss.as] (main) WFLYCTL0013: Operation 2 failed",
+            "\tat org.jboss.as.Foo.bar(Foo.java:42)",
+            "2024-05-01 10:17:00,000 WARN  [org.jboss.as] (main) Slow"
+        ]);
+        const result = analysis.result(10);
+        assert.equal(result.lines, 5);
+        assert.equal(result.entries, 4);
+        assert.deepEqual(result.levels, {INFO: 1, ERROR: 2, WARN: 1});
+        assert.equal(result.fingerprints[0].count, 2);
+        // the sample and time of the first occurrence are kept
+        assert.equal(result.fingerprints[0].sample, "WFLYCTL0013: Operation 1 failed");
+        assert.equal(result.fingerprints[0].first, Date.parse("2024-05-01T10:15:30"));
+        assert.deepEqual(result.categories, [{category: "org.jboss.as", errors: 2, warnings: 1}]);
+    });
+
+    it("assumes the next day for lines without a date", () => {
+        const analysis = new LogAnalysis();
+        analysis.chunk([
+            "23:59:00,000 ERROR [a] (main) Before midnight",
+            "00:01:00,000 ERROR [a] (main) After midnight"
+        ]);
+        const times = analysis.result(10).fingerprints.map(f => f.first).sort((a, b) => a - b);
+        assert.equal(times[1] - times[0], 2 * MINUTE);
+    });
+});
+
+describe("LineDecoder", () => {
+
+    const encoder = new TextEncoder();
+
+    it("splits lines across chunks", () => {
+        const decoder = new LineDecoder();
+        assert.deepEqual(decoder.push(encoder.encode("first\nsec")), ["first"]);
+        assert.deepEqual(decoder.push(encoder.encode("ond\r\nthird\n")), ["second", "third"]);
+        assert.deepEqual(decoder.flush(), []);
+    });
+
+    it("keeps multibyte characters which span chunks", () => {
+        const decoder = new LineDecoder();
+        const bytes = encoder.encode("\u20ac\n");
+        assert.deepEqual(decoder.push(bytes.subarray(0, 1)), []);
+        assert.deepEqual(decoder.push(bytes.subarray(1)), ["\u20ac"]);
+    });
+
+    it("returns the last line without line terminator", () => {
+        const decoder = new LineDecoder();
+        assert.deepEqual(decoder.push(encoder.encode("first\nlast")), ["first"]);
+        assert.deepEqual(decoder.flush(), ["last"]);
+    });
+});
@@ -0,0 +1,265 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+// Analysis of log files used by the web worker log-analyzer.js. Kept in a module of its own, so that it can be tested
+// without a worker (see src/test/web).
+//
+// The file is analyzed in one pass from the start to the end. The bytes are decoded and split into lines by LineDecoder.
+// Memory is bounded by
+//   - the last incomplete line of the current chunk of bytes.
+//   - MAX_BUCKETS buckets of the histogram. If the time span gets too long, the width of the buckets is doubled.
+//   - MAX_FINGERPRINTS / MAX_CATEGORIES counters, which are maintained with the space-saving algorithm.
+
+export const MAX_BUCKETS = 120;
+const MAX_FINGERPRINTS = 500;
+const MAX_CATEGORIES = 200;
+const MAX_MESSAGE = 200;
+const MINUTE = 60 * 1000;
+const DAY = 24 * 60 * MINUTE;
+
+// 2024-05-01 10:15:30,123 ERROR [org.jboss.as] (MSC service thread 1-2) WFLYCTL0013: Operation failed
+// 10:15:30,123 WARN  [org.jboss.as] (main) Message
+const LINE = /^(?:(\d{4}-\d{2}-\d{2})[ T])?(\d{2}):(\d{2}):(\d{2})(?:[,.](\d{1,3}))?\s+(TRACE|DEBUG|INFO|WARNING|WARN|ERROR|SEVERE|FATAL)\s+\[([^\]]*)]\s*(?:\([^)]*\)\s*)?(.*)$/;
+
+// ------------------------------------------------------ lines
+
+// Decodes chunks of UTF-8 encoded bytes and splits them into lines. Multibyte characters and lines may span chunks: the
+// incomplete rest is kept until the next chunk arrives.
+export class LineDecoder {
+
+    constructor() {
+        this.decoder = new TextDecoder("utf-8");
+        this.rest = "";
+    }
+
+    // Returns the complete lines of the given bytes (without line terminators).
+    push(bytes) {
+        const text = this.rest + this.decoder.decode(bytes, {stream: true});
+        const lines = text.split(/\r?\n/);
+        this.rest = lines.pop();
+        return lines;
+    }
+
+    // Returns the last line if the file doesn't end with a line terminator.
+    flush() {
+        const text = this.rest + this.decoder.decode();
+        this.rest = "";
+        return text.length > 0 ? [text] : [];
+    }
+}
+
+// ------------------------------------------------------ top-k
+
+// Approximate top-k counters (space-saving algorithm): If all counters are in use, the smallest counter is replaced. The
+// count of the new counter starts with the count of the replaced one, which is kept as error.
+export class TopK {
+
+    constructor(capacity) {
+        this.capacity = capacity;
+        this.counters = new Map();
+    }
+
+    add(key, payload) {
+        let counter = this.counters.get(key);
+        if (counter === undefined) {
+            let count = 0;
+            if (this.counters.size >= this.capacity) {
+                let minKey = null;
+                let min = null;
+                for (const [k, c] of this.counters) {
+                    if (min === null || c.count < min.count) {
+                        minKey = k;
+                        min = c;
+                    }
+                }
+                this.counters.delete(minKey);
+                count = min.count;
+            }
+            counter = {key: key, count: count, error: count, payload: payload};
+            this.counters.set(key, counter);
+        }
+        counter.count++;
+        return counter;
+    }
+
+    top(n) {
+        return Array.from(this.counters.values())
+            .sort((a, b) => b.count - a.count)
+            .slice(0, n);
+    }
+}
+
+// ------------------------------------------------------ histogram
+
+export class Histogram {
+
+    constructor() {
+        this.width = MINUTE;
+        this.buckets = new Map();
+        this.min = Infinity;
+        this.max = -Infinity;
+    }
+
+    add(time, error) {
+        this.min = Math.min(this.min, time);
+        this.max = Math.max(this.max, time);
+        while ((this.max - this.min) / this.width >= MAX_BUCKETS) {
+            this.widen();
+        }
+        const start = Math.floor(time / this.width) * this.width;
+        let bucket = this.buckets.get(start);
+        if (bucket === undefined) {
+            bucket = {time: start, errors: 0, warnings: 0};
+            this.buckets.set(start, bucket);
+        }
+        if (error) {
+            bucket.errors++;
+        } else {
+            bucket.warnings++;
+        }
+    }
+
+    widen() {
+        this.width *= 2;
+        const buckets = new Map();
+        for (const bucket of this.buckets.values()) {
+            const start = Math.floor(bucket.time / this.width) * this.width;
+            const merged = buckets.get(start);
+            if (merged === undefined) {
+                buckets.set(start, {time: start, errors: bucket.errors, warnings: bucket.warnings});
+            } else {
+                merged.errors += bucket.errors;
+                merged.warnings += bucket.warnings;
+            }
+        }
+        this.buckets = buckets;
+    }
+
+    values() {
+        return Array.from(this.buckets.values()).sort((a, b) => a.time - b.time);
+    }
+}
+
+// ------------------------------------------------------ analysis
+
+export function level(name) {
+    switch (name) {
+        case "WARNING":
+            return "WARN";
+        case "SEVERE":
+        case "FATAL":
+            return "ERROR";
+        default:
+            return name;
+    }
+}
+
+// Replaces the variable parts of a message: quoted strings, hex values and numbers which are not part of a word (message
+// codes like WFLYCTL0013 are kept).
+export function fingerprint(message) {
+    return message
+        .replace(/"[^"]*"|'[^']*'/g, "\"*\"")
+        .replace(/\b0x[0-9a-f]+\b/gi, "#")
+        .replace(/\b\d+(?:[.:,]\d+)*\b/g, "#")
+        .substring(0, MAX_MESSAGE);
+}
+
+export class LogAnalysis {
+
+    constructor() {
+        this.levels = {};
+        this.histogram = new Histogram();
+        this.fingerprints = new TopK(MAX_FINGERPRINTS);
+        this.categories = new TopK(MAX_CATEGORIES);
+        this.lines = 0;
+        this.entries = 0;
+        this.lastTimeOfDay = -1;
+        this.dayOffset = 0;
+    }
+
+    // Analyzes a chunk of lines. Chunks have to be passed in file order.
+    chunk(lines) {
+        for (const line of lines) {
+            this.analyze(line);
+        }
+    }
+
+    // Lines without a date only have the time of day. If the time jumps back more than an hour, the next day is assumed.
+    timestamp(date, hours, minutes, seconds, millis) {
+        const timeOfDay = ((+hours * 60 + +minutes) * 60 + +seconds) * 1000 + (millis ? +millis : 0);
+        if (date) {
+            return Date.parse(date + "T00:00:00") + timeOfDay;
+        }
+        if (this.lastTimeOfDay - timeOfDay > 60 * MINUTE) {
+            this.dayOffset += DAY;
+        }
+        this.lastTimeOfDay = timeOfDay;
+        return this.dayOffset + timeOfDay;
+    }
+
+    analyze(line) {
+        this.lines++;
+        const match = LINE.exec(line);
+        if (match === null) {
+            // continuation line, e.g. a stack trace
+            return;
+        }
+        this.entries++;
+        const lvl = level(match[6]);
+        this.levels[lvl] = (this.levels[lvl] || 0) + 1;
+        if (lvl === "ERROR" || lvl === "WARN") {
+            const error = lvl === "ERROR";
+            const time = this.timestamp(match[1], match[2], match[3], match[4], match[5]);
+            this.histogram.add(time, error);
+            const category = this.categories.add(match[7], {errors: 0, warnings: 0});
+            if (error) {
+                category.payload.errors++;
+            } else {
+                category.payload.warnings++;
+            }
+            const key = lvl + " " + match[7] + " " + fingerprint(match[8]);
+            this.fingerprints.add(key, {
+                level: lvl,
+                category: match[7],
+                sample: match[8].substring(0, MAX_MESSAGE),
+                first: time
+            });
+        }
+    }
+
+    result(top) {
+        return {
+            lines: this.lines,
+            entries: this.entries,
+            levels: this.levels,
+            bucketWidth: this.histogram.width,
+            buckets: this.histogram.values(),
+            fingerprints: this.fingerprints.top(top).map(c => ({
+                level: c.payload.level,
+                category: c.payload.category,
+                sample: c.payload.sample,
+                first: c.payload.first,
+                count: c.count,
+                error: c.error
+            })),
+            categories: this.categories.top(top).map(c => ({
+                category: c.key,
+                errors: c.payload.errors,
+                warnings: c.payload.warnings
+            }))
+        };
+    }
+}
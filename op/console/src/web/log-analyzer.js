@@ -0,0 +1,42 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+// Web worker which analyzes a log file chunk by chunk. Used by org.jboss.hal.op.dashboard.LogAnalyzer. The analysis itself
+// is implemented in log-analysis.mjs.
+//
+// Messages from the console (chunks of bytes are sent in file order):
+//   {type: "bytes", bytes: Uint8Array}  → {type: "progress", lines, bytes}
+//   {type: "finish", top: n}            → {type: "result", ...}
+//
+// The worker never keeps the lines, only the last incomplete line of a chunk.
+
+import {LineDecoder, LogAnalysis} from "./log-analysis.mjs";
+
+const decoder = new LineDecoder();
+const analysis = new LogAnalysis();
+let bytes = 0;
+
+onmessage = (event) => {
+    const message = event.data;
+    if (message.type === "bytes") {
+        bytes += message.bytes.byteLength;
+        analysis.chunk(decoder.push(message.bytes));
+        postMessage({type: "progress", lines: analysis.lines, bytes: bytes});
+    } else if (message.type === "finish") {
+        analysis.chunk(decoder.flush());
+        postMessage({type: "result", ...analysis.result(message.top)});
+    }
+};
@@ -30,3 +30,8 @@ import "./resource.css"
 import "./stability.css"
 import "./tree-view.css"
 import "./ui.css"
+
+// Web workers
+window.halWorkers = {
+    logAnalyzer: () => new Worker(new URL("./log-analyzer.js", import.meta.url), {type: "module"})
+};
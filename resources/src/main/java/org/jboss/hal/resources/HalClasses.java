@@ -35,14 +35,18 @@ public interface HalClasses {
     String filtered = "filtered";
     String goto_ = "goto";
     String health = "health";
+    String lazy = "lazy";
     String modelBrowser = "model-browser";
     String name = "name";
     String nestedLabel = "nested-label";
+    String placeholder = "placeholder";
     String providedBy = "provided-by";
     String rbacHidden = "rbac-hidden";
     String resource = "resource";
+    String resources = "resources";
     String restricted = "restricted";
     String results = "results";
+    String rows = "rows";
     String stabilityLevel = "stability-level";
     String status = "status";
     String tree = "tree";
@@ -50,6 +54,7 @@ public interface HalClasses {
     String undefined = "undefined";
     String value = "value";
     String view = "view";
+    String virtualList = "virtual-list";
 
     // ------------------------------------------------------ api
 
@@ -44,6 +44,12 @@ public interface Keys {
     /** org.jboss.hal.ui.filter.StorageValue */
     String STORAGE_VALUE = "storage-value";
 
+    /** org.jboss.hal.ui.modelbrowser.TreePager */
+    String TREE_PAGER = "tree-pager";
+
+    /** org.jboss.hal.ui.modelbrowser.TreePager (stored in the "show more" item of a paged folder) */
+    String TREE_PAGER_MORE = "tree-pager-more";
+
     /** List<String> */
     String PROVIDER_POINTS = "provider-points";
 
@@ -0,0 +1,83 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ui;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.ToDoubleFunction;
+
+import static elemental2.dom.DomGlobal.cancelAnimationFrame;
+import static elemental2.dom.DomGlobal.requestAnimationFrame;
+
+/**
+ * Runs a callback in the next animation frame. No matter how often the callback is {@linkplain #schedule() scheduled}, it runs
+ * at most once per frame.
+ */
+class AnimationFrame {
+
+    private final Runnable callback;
+    private final ToDoubleFunction<Runnable> request;
+    private final DoubleConsumer cancel;
+    private double handle;
+    private int frames;
+
+    AnimationFrame(Runnable callback) {
+        this(callback, runnable -> requestAnimationFrame(__ -> runnable.run()), id -> cancelAnimationFrame(id));
+    }
+
+    AnimationFrame(Runnable callback, ToDoubleFunction<Runnable> request, DoubleConsumer cancel) {
+        this.callback = callback;
+        this.request = request;
+        this.cancel = cancel;
+        this.handle = 0;
+        this.frames = 0;
+    }
+
+    /** Schedules the callback unless it has already been scheduled for the next frame. */
+    void schedule() {
+        if (handle == 0) {
+            handle = request.applyAsDouble(this::run);
+        }
+    }
+
+    /** Cancels the scheduled callback (if any). */
+    void cancel() {
+        if (handle != 0) {
+            cancel.accept(handle);
+            handle = 0;
+        }
+    }
+
+    boolean scheduled() {
+        return handle != 0;
+    }
+
+    /** @return the number of times the callback has been called since the last {@link #reset()} */
+    int frames() {
+        return frames;
+    }
+
+    /** Cancels the scheduled callback and resets the number of frames. */
+    void reset() {
+        cancel();
+        frames = 0;
+    }
+
+    private void run() {
+        handle = 0;
+        frames++;
+        callback.run();
+    }
+}
@@ -22,13 +22,16 @@ import jakarta.inject.Inject;
 
 import org.jboss.elemento.logger.Logger;
 import org.jboss.hal.core.CrudOperations;
+import org.jboss.hal.core.PollingScheduler;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.env.Environment;
 import org.jboss.hal.env.Settings;
 import org.jboss.hal.meta.CapabilityRegistry;
 import org.jboss.hal.meta.MetadataRepository;
 import org.jboss.hal.meta.StatementContext;
+import org.jboss.hal.meta.tree.AddressIndex;
 import org.jboss.hal.meta.tree.ModelTree;
+import org.jboss.hal.meta.tree.ValueSearch;
 
 /**
  * Holds common classes often needed in UI elements.
@@ -59,9 +62,12 @@ public class UIContext {
     private final Dispatcher dispatcher;
     private final StatementContext statementContext;
     private final ModelTree modelTree;
+    private final AddressIndex addressIndex;
+    private final ValueSearch valueSearch;
     private final CapabilityRegistry capabilityRegistry;
     private final MetadataRepository metadataRepository;
     private final CrudOperations crud;
+    private final PollingScheduler polling;
 
     @Inject
     public UIContext(Environment environment,
@@ -69,17 +75,23 @@ public class UIContext {
             Dispatcher dispatcher,
             StatementContext statementContext,
             ModelTree modelTree,
+            AddressIndex addressIndex,
+            ValueSearch valueSearch,
             CapabilityRegistry capabilityRegistry,
             MetadataRepository metadataRepository,
-            CrudOperations crud) {
+            CrudOperations crud,
+            PollingScheduler polling) {
         this.environment = environment;
         this.settings = settings;
         this.dispatcher = dispatcher;
         this.statementContext = statementContext;
         this.modelTree = modelTree;
+        this.addressIndex = addressIndex;
+        this.valueSearch = valueSearch;
         this.capabilityRegistry = capabilityRegistry;
         this.metadataRepository = metadataRepository;
         this.crud = crud;
+        this.polling = polling;
     }
 
     @PostConstruct
@@ -107,6 +119,14 @@ public class UIContext {
         return modelTree;
     }
 
+    public AddressIndex addressIndex() {
+        return addressIndex;
+    }
+
+    public ValueSearch valueSearch() {
+        return valueSearch;
+    }
+
     public CapabilityRegistry capabilityRegistry() {
         return capabilityRegistry;
     }
@@ -118,4 +138,8 @@ public class UIContext {
     public CrudOperations crud() {
         return crud;
     }
+
+    public PollingScheduler polling() {
+        return polling;
+    }
 }
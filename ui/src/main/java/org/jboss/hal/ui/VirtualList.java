@@ -0,0 +1,319 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.jboss.elemento.HasElement;
+import org.jboss.elemento.HasHTMLElement;
+
+import elemental2.dom.HTMLElement;
+
+import static org.jboss.elemento.Elements.div;
+import static org.jboss.elemento.Elements.failSafeRemoveFromParent;
+import static org.jboss.elemento.Elements.removeChildrenFrom;
+import static org.jboss.elemento.EventType.scroll;
+import static org.jboss.hal.resources.HalClasses.halComponent;
+import static org.jboss.hal.resources.HalClasses.rows;
+import static org.jboss.hal.resources.HalClasses.virtualList;
+
+/**
+ * A list which only keeps the visible rows in the DOM. All rows must have the same height. The list is rendered at most once
+ * per animation frame, no matter how often items are added. Thus, items can be added one by one as they arrive without
+ * buffering them first. When the list is scrolled, the rows which stay in the visible range are left in place and only the
+ * rows which become visible are rendered and inserted.
+ * <p>
+ * The height of the list is limited by CSS (e.g. using {@code max-height}). If the list is scrolled to the end when items are
+ * added, it stays scrolled to the end. Items {@linkplain #prepend(List) prepended} to the list keep the visible rows in place,
+ * which can be used together with {@link #onReachStart(Runnable)} to load older items on demand.
+ */
+public class VirtualList<T> implements
+        HasHTMLElement<HTMLElement, VirtualList<T>>,
+        HasElement<HTMLElement, VirtualList<T>> {
+
+    // ------------------------------------------------------ factory
+
+    public static <T> VirtualList<T> virtualList(int rowHeight, Function<T, HTMLElement> renderer) {
+        return new VirtualList<>(rowHeight, renderer);
+    }
+
+    // ------------------------------------------------------ instance
+
+    /** The number of rows rendered above and below the visible rows. */
+    static final int OVERSCAN = 5;
+
+    /** The number of rows rendered as long as the list isn't attached. */
+    static final int DETACHED_ROWS = 20;
+
+    private int rowHeight;
+    private final Function<T, HTMLElement> renderer;
+    private final List<T> items;
+    private final List<HTMLElement> rendered;
+    private final HTMLElement spacer;
+    private final HTMLElement rowsElement;
+    private final HTMLElement root;
+    private final AnimationFrame frame;
+    private Runnable reachStart;
+    private int first;
+    private int last;
+    private boolean dirty;
+    private boolean follow;
+    private boolean measure;
+
+    VirtualList(int rowHeight, Function<T, HTMLElement> renderer) {
+        this.rowHeight = rowHeight;
+        this.renderer = renderer;
+        this.items = new ArrayList<>();
+        this.rendered = new ArrayList<>();
+        this.first = 0;
+        this.last = -1;
+        this.frame = new AnimationFrame(this::render);
+        this.root = div().css(halComponent(virtualList))
+                .add(spacer = div().css(halComponent(virtualList, "spacer"))
+                        .add(rowsElement = div().css(halComponent(virtualList, rows))
+                                .attr("role", "list")
+                                .element())
+                        .element())
+                .on(scroll, e -> frame.schedule())
+                .element();
+    }
+
+    @Override
+    public VirtualList<T> that() {
+        return this;
+    }
+
+    @Override
+    public HTMLElement element() {
+        return root;
+    }
+
+    // ------------------------------------------------------ api
+
+    /** Appends the item. The list is rendered in the next animation frame. */
+    public VirtualList<T> add(T item) {
+        follow();
+        items.add(item);
+        dirty = true;
+        frame.schedule();
+        return this;
+    }
+
+    /** Appends the items. The list is rendered in the next animation frame. */
+    public VirtualList<T> add(List<T> items) {
+        if (!items.isEmpty()) {
+            follow();
+            this.items.addAll(items);
+            dirty = true;
+            frame.schedule();
+        }
+        return this;
+    }
+
+    /** Inserts the items before the existing items. The visible rows stay in place. */
+    public VirtualList<T> prepend(List<T> items) {
+        if (!items.isEmpty()) {
+            this.items.addAll(0, items);
+            first += items.size();
+            last += items.size();
+            // update the height right away, so that the scroll position can be adjusted
+            spacer.style.setProperty("height", (this.items.size() * rowHeight) + "px");
+            root.scrollTop = root.scrollTop + items.size() * rowHeight;
+            dirty = true;
+            frame.schedule();
+        }
+        return this;
+    }
+
+    /**
+     * Uses the height of the first rendered row instead of the row height given when creating the list. The given row height
+     * is used as an estimate until the first row has been rendered and laid out. Use this method if the height of the rows
+     * depends on the theme or on the font size.
+     */
+    public VirtualList<T> measureRowHeight() {
+        this.measure = true;
+        return this;
+    }
+
+    /**
+     * Sets a callback which is called whenever the list is rendered while the first rows are visible. The callback is
+     * responsible to ignore calls while items are loaded.
+     */
+    public VirtualList<T> onReachStart(Runnable reachStart) {
+        this.reachStart = reachStart;
+        return this;
+    }
+
+    /** Replaces the items. The list is rendered in the next animation frame. */
+    public VirtualList<T> items(List<T> items) {
+        this.items.clear();
+        this.items.addAll(items);
+        this.rendered.clear();
+        first = 0;
+        last = -1;
+        root.scrollTop = 0;
+        dirty = true;
+        frame.schedule();
+        return this;
+    }
+
+    public void clear() {
+        frame.reset();
+        items.clear();
+        rendered.clear();
+        first = 0;
+        last = -1;
+        follow = false;
+        dirty = false;
+        root.scrollTop = 0;
+        spacer.style.setProperty("height", "0");
+        removeChildrenFrom(rowsElement);
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    /** @return the number of times the list has been rendered since the last {@link #clear()} */
+    public int frames() {
+        return frame.frames();
+    }
+
+    // ------------------------------------------------------ internal
+
+    // Only the scroll position before the first items since the last render matters. Checking it once per frame also avoids
+    // reading the layout for each item.
+    private void follow() {
+        if (!dirty) {
+            follow = follow || atEnd();
+        }
+    }
+
+    private boolean atEnd() {
+        return root.scrollTop + root.clientHeight >= root.scrollHeight - rowHeight;
+    }
+
+    private void render() {
+        spacer.style.setProperty("height", (items.size() * rowHeight) + "px");
+        if (follow) {
+            root.scrollTop = root.scrollHeight;
+            follow = false;
+        }
+        int viewport = root.clientHeight > 0 ? root.clientHeight : DETACHED_ROWS * rowHeight;
+        int[] range = range(root.scrollTop, viewport, rowHeight, items.size(), OVERSCAN);
+        if (dirty || range[0] != first || range[1] != last) {
+            int[] keep = rendered.size() == last - first + 1
+                    ? overlap(first, last, range[0], range[1])
+                    : new int[]{0, -1};
+            if (keep[0] > keep[1]) {
+                removeChildrenFrom(rowsElement);
+                rendered.clear();
+                for (int i = range[0]; i <= range[1]; i++) {
+                    HTMLElement row = row(i);
+                    rendered.add(row);
+                    rowsElement.appendChild(row);
+                }
+            } else {
+                // only touch the rows which leave or enter the range, the other rows stay where they are
+                for (int i = first; i < keep[0]; i++) {
+                    failSafeRemoveFromParent(rendered.get(i - first));
+                }
+                for (int i = keep[1] + 1; i <= last; i++) {
+                    failSafeRemoveFromParent(rendered.get(i - first));
+                }
+                List<HTMLElement> rows = new ArrayList<>(range[1] - range[0] + 1);
+                HTMLElement firstKept = rendered.get(keep[0] - first);
+                for (int i = range[0]; i < keep[0]; i++) {
+                    HTMLElement row = row(i);
+                    rowsElement.insertBefore(row, firstKept);
+                    rows.add(row);
+                }
+                rows.addAll(rendered.subList(keep[0] - first, keep[1] - first + 1));
+                for (int i = keep[1] + 1; i <= range[1]; i++) {
+                    HTMLElement row = row(i);
+                    rowsElement.appendChild(row);
+                    rows.add(row);
+                }
+                rendered.clear();
+                rendered.addAll(rows);
+            }
+            first = range[0];
+            last = range[1];
+            dirty = false;
+            rowsElement.style.setProperty("transform", "translateY(" + (first * rowHeight) + "px)");
+            measure();
+        }
+        if (reachStart != null && !items.isEmpty() && first == 0) {
+            reachStart.run();
+        }
+    }
+
+    private HTMLElement row(int index) {
+        HTMLElement row = renderer.apply(items.get(index));
+        if (!measure) {
+            row.style.setProperty("height", rowHeight + "px");
+        }
+        return row;
+    }
+
+    // Measures the height of the first row once it has been laid out and renders the list again if the height differs from
+    // the estimated height.
+    private void measure() {
+        if (measure && !rendered.isEmpty()) {
+            int height = rendered.get(0).offsetHeight;
+            if (height > 0) {
+                measure = false;
+                for (HTMLElement row : rendered) {
+                    row.style.setProperty("height", height + "px");
+                }
+                if (height != rowHeight) {
+                    rowHeight = height;
+                    dirty = true;
+                    frame.schedule();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the indices of the rows which are part of both ranges. If the ranges don't overlap, the last index is smaller
+     * than the first index.
+     */
+    static int[] overlap(int oldFirst, int oldLast, int first, int last) {
+        return new int[]{Math.max(oldFirst, first), Math.min(oldLast, last)};
+    }
+
+    /**
+     * Returns the indices of the first and last row to render. If there are no items, the last index is smaller than the first
+     * index.
+     */
+    static int[] range(double scrollTop, int viewportHeight, int rowHeight, int size, int overscan) {
+        if (size == 0 || rowHeight <= 0) {
+            return new int[]{0, -1};
+        }
+        int firstVisible = (int) Math.floor(Math.max(0, scrollTop) / rowHeight);
+        int visibleRows = (int) Math.ceil((double) viewportHeight / rowHeight);
+        int first = Math.max(0, Math.min(firstVisible, size - 1) - overscan);
+        int last = Math.min(size - 1, firstVisible + visibleRows + overscan);
+        return new int[]{first, last};
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ui.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A filter compiled against the {@link Facets} of indexed items. The name is matched against the lowercase name of the
+ * items, the facets using bit operations.
+ */
+public class FacetQuery {
+
+    private String name;
+    private int set;
+    private int unset;
+    private final List<Integer> anyOf;
+
+    public FacetQuery() {
+        this.name = null;
+        this.set = 0;
+        this.unset = 0;
+        this.anyOf = new ArrayList<>();
+    }
+
+    /** Items must contain the name (ignoring case). */
+    public FacetQuery name(String name) {
+        this.name = name != null && !name.isEmpty() ? name.toLowerCase() : null;
+        return this;
+    }
+
+    /** Items must have at least one of the facets in the mask. */
+    public FacetQuery anyOf(int mask) {
+        anyOf.add(mask);
+        return this;
+    }
+
+    /** Items must (not) have the facet. */
+    public FacetQuery is(int facet, boolean value) {
+        if (value) {
+            set |= facet;
+        } else {
+            unset |= facet;
+        }
+        return this;
+    }
+
+    /**
+     * @param key    the lowercase name of the item
+     * @param facets the facets of the item
+     */
+    public boolean matches(String key, int facets) {
+        if (name != null && !key.contains(name)) {
+            return false;
+        }
+        if ((facets & set) != set || (facets & unset) != 0) {
+            return false;
+        }
+        for (int mask : anyOf) {
+            if ((facets & mask) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
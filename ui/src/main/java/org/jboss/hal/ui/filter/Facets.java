@@ -0,0 +1,108 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ui.filter;
+
+import org.jboss.hal.dmr.ModelDescriptionConstants;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.ModelType;
+import org.jboss.hal.meta.description.AttributeDescription;
+import org.jboss.hal.meta.description.OperationDescription;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ACCESS_TYPE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.STORAGE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.TYPE;
+
+/**
+ * Bits for the facets of attributes and operations used by the {@link FilterEngine}. The facets of an item are computed once
+ * when the item is indexed. Each {@link ModelType} uses one bit (see {@link #type(ModelType)}).
+ */
+public final class Facets {
+
+    public static final int CONFIGURATION = 1 << 14;
+    public static final int RUNTIME = 1 << 15;
+    public static final int READ_WRITE = 1 << 16;
+    public static final int READ_ONLY = 1 << 17;
+    public static final int METRIC = 1 << 18;
+    public static final int REQUIRED = 1 << 19;
+    public static final int DEPRECATED = 1 << 20;
+    public static final int DEFINED = 1 << 21;
+    public static final int PARAMETERS = 1 << 22;
+    public static final int RETURN_VALUE = 1 << 23;
+    public static final int GLOBAL = 1 << 24;
+
+    public static int type(ModelType type) {
+        return 1 << type.ordinal();
+    }
+
+    /** @return the type, storage, access type, required and deprecated facets of the attribute */
+    public static int attribute(AttributeDescription attribute) {
+        int facets = 0;
+        if (attribute.hasDefined(TYPE)) {
+            facets |= type(attribute.get(TYPE).asType());
+        }
+        String storage = attribute.find(STORAGE).asString();
+        if ("configuration".equals(storage)) {
+            facets |= CONFIGURATION;
+        } else if ("runtime".equals(storage)) {
+            facets |= RUNTIME;
+        }
+        String accessType = attribute.find(ACCESS_TYPE).asString();
+        if ("read-write".equals(accessType)) {
+            facets |= READ_WRITE;
+        } else if ("read-only".equals(accessType)) {
+            facets |= READ_ONLY;
+        } else if ("metric".equals(accessType)) {
+            facets |= METRIC;
+        }
+        if (attribute.find(ModelDescriptionConstants.REQUIRED).asBoolean(false)) {
+            facets |= REQUIRED;
+        }
+        if (attribute.deprecation().isDefined()) {
+            facets |= DEPRECATED;
+        }
+        return facets;
+    }
+
+    /** @return the attribute facets plus whether the value is defined */
+    public static int attribute(AttributeDescription attribute, ModelNode value) {
+        int facets = attribute(attribute);
+        if (value != null && value.isDefined()) {
+            facets |= DEFINED;
+        }
+        return facets;
+    }
+
+    /** @return the parameters, return value, deprecated and global facets of the operation */
+    public static int operation(OperationDescription operation) {
+        int facets = 0;
+        if (!operation.parameters().isEmpty()) {
+            facets |= PARAMETERS;
+        }
+        if (operation.returnValue().isDefined()) {
+            facets |= RETURN_VALUE;
+        }
+        if (operation.deprecation().isDefined()) {
+            facets |= DEPRECATED;
+        }
+        if (operation.global()) {
+            facets |= GLOBAL;
+        }
+        return facets;
+    }
+
+    private Facets() {
+    }
+}
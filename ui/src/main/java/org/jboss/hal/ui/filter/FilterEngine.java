@@ -0,0 +1,222 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ui.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.ToIntFunction;
+
+import org.jboss.elemento.logger.Logger;
+import org.jboss.hal.dmr.ModelType;
+import org.jboss.hal.model.filter.AccessTypeAttribute;
+import org.jboss.hal.model.filter.AccessTypeValue;
+import org.jboss.hal.model.filter.DefinedAttribute;
+import org.jboss.hal.model.filter.DeprecatedAttribute;
+import org.jboss.hal.model.filter.GlobalOperationsAttribute;
+import org.jboss.hal.model.filter.NameAttribute;
+import org.jboss.hal.model.filter.ParametersAttribute;
+import org.jboss.hal.model.filter.RequiredAttribute;
+import org.jboss.hal.model.filter.ReturnValueAttribute;
+import org.jboss.hal.model.filter.StorageAttribute;
+import org.jboss.hal.model.filter.StorageValue;
+import org.jboss.hal.model.filter.TypeValues;
+import org.jboss.hal.model.filter.TypesAttribute;
+import org.patternfly.filter.Filter;
+
+import elemental2.dom.HTMLElement;
+
+import static elemental2.dom.DomGlobal.clearTimeout;
+import static elemental2.dom.DomGlobal.setTimeout;
+import static org.jboss.hal.resources.HalClasses.filtered;
+import static org.jboss.hal.resources.HalClasses.halModifier;
+
+/**
+ * Filters a list of rows using an index of the rows' names and {@link Facets}. Used by the attribute, operation and resource
+ * lists instead of running the filter attributes against each row on every change.
+ * <p>
+ * Changes of the filter are debounced. When the filter is applied, the query is evaluated against the index first, then the
+ * visibility of the rows is changed in one pass. Only rows whose visibility has changed are touched.
+ * <p>
+ * The engine knows the filter attributes in {@link org.jboss.hal.model.filter}. Other filter attributes are ignored.
+ */
+public class FilterEngine<T> {
+
+    // ------------------------------------------------------ factory
+
+    public static <T> FilterEngine<T> filterEngine(Filter<T> filter, Function<T, String> name, ToIntFunction<T> facets) {
+        return new FilterEngine<>(filter, name, facets);
+    }
+
+    // ------------------------------------------------------ instance
+
+    static final int DEBOUNCE = 150;
+    private static final Logger logger = Logger.getLogger(FilterEngine.class.getName());
+
+    private final Filter<T> filter;
+    private final Function<T, String> name;
+    private final ToIntFunction<T> facets;
+    private FilterIndex<T> index;
+    private HTMLElement[] elements;
+    private boolean[] hidden;
+    private boolean[] matches;
+    private int count;
+    private IntConsumer onFiltered;
+    private double timeout;
+
+    FilterEngine(Filter<T> filter, Function<T, String> name, ToIntFunction<T> facets) {
+        this.filter = filter;
+        this.name = name;
+        this.facets = facets;
+        this.onFiltered = __ -> {
+        };
+        filter.onChange((f, origin) -> schedule());
+    }
+
+    // ------------------------------------------------------ api
+
+    /** Called with the number of matching items after the filter has been applied. */
+    public FilterEngine<T> onFiltered(IntConsumer onFiltered) {
+        this.onFiltered = onFiltered;
+        return this;
+    }
+
+    /** Indexes items without rows, e.g. for virtual lists. Use {@link #matches()} to get the matching items. */
+    public void index(List<T> items) {
+        index(items, item -> item, item -> null);
+    }
+
+    /**
+     * Indexes the rows. Call this method whenever the rows have been (re)created or changed. Rows without an item are ignored.
+     * The current visibility of the rows is kept, so that the next {@link #apply()} toggles exactly the rows whose
+     * visibility changes.
+     */
+    public <R> void index(Iterable<R> rows, Function<R, T> item, Function<R, HTMLElement> element) {
+        List<T> items = new ArrayList<>();
+        List<HTMLElement> rowElements = new ArrayList<>();
+        for (R row : rows) {
+            T i = item.apply(row);
+            if (i != null) {
+                items.add(i);
+                rowElements.add(element.apply(row));
+            }
+        }
+        index = new FilterIndex<>(items, name, facets);
+        elements = rowElements.toArray(new HTMLElement[0]);
+        hidden = new boolean[items.size()];
+        for (int i = 0; i < elements.length; i++) {
+            hidden[i] = elements[i] != null && elements[i].classList.contains(halModifier(filtered));
+        }
+        matches = new boolean[items.size()];
+        count = items.size();
+    }
+
+    /** Applies the filter right away and cancels a pending debounced run. */
+    public void apply() {
+        cancel();
+        if (index != null) {
+            logger.debug("Filter %d items: %s", index.size(), filter);
+            count = index.match(filter.defined() ? query(filter) : null, matches);
+            for (int i = 0; i < elements.length; i++) {
+                boolean hide = !matches[i];
+                if (elements[i] != null && hide != hidden[i]) {
+                    elements[i].classList.toggle(halModifier(filtered), hide);
+                }
+                hidden[i] = hide;
+            }
+            onFiltered.accept(count);
+        }
+    }
+
+    /** @return the items matching the filter when it was applied the last time */
+    public List<T> matches() {
+        List<T> result = new ArrayList<>();
+        if (index != null) {
+            for (int i = 0; i < index.size(); i++) {
+                if (!hidden[i]) {
+                    result.add(index.item(i));
+                }
+            }
+        }
+        return result;
+    }
+
+    // ------------------------------------------------------ internal
+
+    private void schedule() {
+        cancel();
+        timeout = setTimeout(__ -> apply(), DEBOUNCE);
+    }
+
+    private void cancel() {
+        if (timeout != 0) {
+            clearTimeout(timeout);
+            timeout = 0;
+        }
+    }
+
+    static <T> FacetQuery query(Filter<T> filter) {
+        FacetQuery query = new FacetQuery();
+        if (filter.defined(NameAttribute.NAME)) {
+            query.name(filter.<String>get(NameAttribute.NAME).value());
+        }
+        if (filter.defined(TypesAttribute.NAME)) {
+            int mask = 0;
+            for (TypeValues typeValues : filter.<List<TypeValues>>get(TypesAttribute.NAME).value()) {
+                for (ModelType type : typeValues.types) {
+                    mask |= Facets.type(type);
+                }
+            }
+            query.anyOf(mask);
+        }
+        if (filter.defined(StorageAttribute.NAME)) {
+            String storage = filter.<StorageValue>get(StorageAttribute.NAME).value().value;
+            query.anyOf("runtime".equals(storage) ? Facets.RUNTIME : Facets.CONFIGURATION);
+        }
+        if (filter.defined(AccessTypeAttribute.NAME)) {
+            String accessType = filter.<AccessTypeValue>get(AccessTypeAttribute.NAME).value().value;
+            if ("read-only".equals(accessType)) {
+                query.anyOf(Facets.READ_ONLY);
+            } else if ("metric".equals(accessType)) {
+                query.anyOf(Facets.METRIC);
+            } else {
+                query.anyOf(Facets.READ_WRITE);
+            }
+        }
+        bool(filter, query, RequiredAttribute.NAME, Facets.REQUIRED);
+        bool(filter, query, DeprecatedAttribute.NAME, Facets.DEPRECATED);
+        bool(filter, query, DefinedAttribute.NAME, Facets.DEFINED);
+        bool(filter, query, ParametersAttribute.NAME, Facets.PARAMETERS);
+        bool(filter, query, ReturnValueAttribute.NAME, Facets.RETURN_VALUE);
+        if (filter.defined(GlobalOperationsAttribute.NAME)) {
+            Boolean global = filter.<Boolean>get(GlobalOperationsAttribute.NAME).value();
+            if (global != null && !global) {
+                query.is(Facets.GLOBAL, false);
+            }
+        }
+        return query;
+    }
+
+    private static <T> void bool(Filter<T> filter, FacetQuery query, String attribute, int facet) {
+        if (filter.defined(attribute)) {
+            Boolean value = filter.<Boolean>get(attribute).value();
+            if (value != null) {
+                query.is(facet, value);
+            }
+        }
+    }
+}
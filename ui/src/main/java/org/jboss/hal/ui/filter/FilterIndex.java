@@ -0,0 +1,70 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ui.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * The lowercase names and the {@link Facets} of a list of items. Both are computed once when the index is created, so that
+ * evaluating a {@link FacetQuery} doesn't need to look into the items again.
+ */
+public class FilterIndex<T> {
+
+    private final List<T> items;
+    private final String[] keys;
+    private final int[] facets;
+
+    public FilterIndex(List<T> items, Function<T, String> name, ToIntFunction<T> facets) {
+        this.items = new ArrayList<>(items);
+        this.keys = new String[items.size()];
+        this.facets = new int[items.size()];
+        for (int i = 0; i < items.size(); i++) {
+            T item = items.get(i);
+            String n = name.apply(item);
+            this.keys[i] = n != null ? n.toLowerCase() : "";
+            this.facets[i] = facets.applyAsInt(item);
+        }
+    }
+
+    /**
+     * Evaluates the query against all items.
+     *
+     * @param query   the query or {@code null} to match all items
+     * @param matches receives the result for each item, must have the size of this index
+     * @return the number of matching items
+     */
+    public int match(FacetQuery query, boolean[] matches) {
+        int count = 0;
+        for (int i = 0; i < keys.length; i++) {
+            matches[i] = query == null || query.matches(keys[i], facets[i]);
+            if (matches[i]) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public T item(int index) {
+        return items.get(index);
+    }
+
+    public int size() {
+        return keys.length;
+    }
+}
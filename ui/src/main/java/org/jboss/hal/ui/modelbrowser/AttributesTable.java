@@ -16,11 +16,12 @@
 package org.jboss.hal.ui.modelbrowser;
 
 import org.jboss.elemento.IsElement;
-import org.jboss.elemento.logger.Logger;
+import org.jboss.hal.dmr.NamedNode;
 import org.jboss.hal.meta.Metadata;
 import org.jboss.hal.meta.description.AttributeDescription;
-import org.jboss.hal.resources.HalClasses;
 import org.jboss.hal.resources.Keys;
+import org.jboss.hal.ui.filter.Facets;
+import org.jboss.hal.ui.filter.FilterEngine;
 import org.patternfly.component.emptystate.EmptyState;
 import org.patternfly.component.table.TableType;
 import org.patternfly.component.table.Tbody;
@@ -32,8 +33,8 @@ import elemental2.dom.HTMLElement;
 
 import static org.jboss.elemento.Elements.div;
 import static org.jboss.elemento.Elements.isAttached;
-import static org.jboss.hal.resources.HalClasses.halModifier;
 import static org.jboss.hal.ui.BuildingBlocks.emptyRow;
+import static org.jboss.hal.ui.filter.FilterEngine.filterEngine;
 import static org.jboss.hal.ui.modelbrowser.AttributesToolbar.attributesToolbar;
 import static org.patternfly.component.table.Table.table;
 import static org.patternfly.component.table.Tbody.tbody;
@@ -48,8 +49,8 @@ import static org.patternfly.style.Width.width60;
 
 class AttributesTable implements IsElement<HTMLElement> {
 
-    private static final Logger logger = Logger.getLogger(AttributesTable.class.getName());
     private final Filter<AttributeDescription> filter;
+    private final FilterEngine<AttributeDescription> engine;
     private final ObservableValue<Integer> visible;
     private final ObservableValue<Integer> total;
     private final Tbody tbody;
@@ -57,7 +58,8 @@ class AttributesTable implements IsElement<HTMLElement> {
     private EmptyState noAttributes;
 
     AttributesTable(Metadata metadata) {
-        filter = new AttributesFilter().onChange(this::onFilterChanged);
+        filter = new AttributesFilter();
+        engine = filterEngine(filter, NamedNode::name, Facets::attribute).onFiltered(this::onFiltered);
         visible = ov(metadata.resourceDescription().attributes().size());
         total = ov(metadata.resourceDescription().attributes().size());
         boolean anyComplexAttributes = metadata.resourceDescription()
@@ -79,6 +81,7 @@ class AttributesTable implements IsElement<HTMLElement> {
                                                 .apply(attribute)
                                                 .store(Keys.ATTRIBUTE_DESCRIPTION, attribute))))
                 .element();
+        engine.index(tbody.items(), tr -> tr.get(Keys.ATTRIBUTE_DESCRIPTION), Tr::element);
     }
 
     @Override
@@ -95,30 +98,11 @@ class AttributesTable implements IsElement<HTMLElement> {
         }
     }
 
-    private void onFilterChanged(Filter<AttributeDescription> filter, String origin) {
-        logger.debug("Filter attributes: %s", filter);
-        int matchingItems;
-        if (filter.defined()) {
-            matchingItems = 0;
-            for (Tr tr : tbody.items()) {
-                AttributeDescription ad = tr.get(Keys.ATTRIBUTE_DESCRIPTION);
-                if (ad != null) {
-                    boolean match = filter.match(ad);
-                    tr.classList().toggle(halModifier(HalClasses.filtered), !match);
-                    if (match) {
-                        matchingItems++;
-                    }
-                }
-            }
-            if (matchingItems == 0) {
-                noAttributes();
-            } else {
-                tbody.clearEmpty();
-            }
+    private void onFiltered(int matchingItems) {
+        if (matchingItems == 0) {
+            noAttributes();
         } else {
-            matchingItems = total.get();
             tbody.clearEmpty();
-            tbody.items().forEach(dlg -> dlg.classList().remove(halModifier(HalClasses.filtered)));
         }
         visible.set(matchingItems);
     }
@@ -16,14 +16,24 @@
 package org.jboss.hal.ui.modelbrowser;
 
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import org.jboss.elemento.Id;
 import org.jboss.elemento.Key;
+import org.jboss.elemento.logger.Logger;
 import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.meta.tree.AddressIndex;
+import org.jboss.hal.meta.tree.ModelSnapshot;
+import org.jboss.hal.meta.tree.SearchScope;
+import org.jboss.hal.meta.tree.TraverseCheckpoint;
 import org.jboss.hal.meta.tree.TraverseContext;
 import org.jboss.hal.meta.tree.TraverseContinuation;
 import org.jboss.hal.meta.tree.TraverseType;
+import org.jboss.hal.meta.tree.ValuePredicate;
+import org.jboss.hal.meta.tree.ValueSearch;
+import org.jboss.hal.ui.VirtualList;
 import org.jboss.hal.ui.modelbrowser.ModelBrowserEvents.SelectInTree;
 import org.patternfly.component.button.Button;
 import org.patternfly.component.form.Form;
@@ -33,8 +43,6 @@ import org.patternfly.component.form.Radio;
 import org.patternfly.component.form.TextArea;
 import org.patternfly.component.form.TextInput;
 import org.patternfly.component.list.DescriptionList;
-import org.patternfly.component.list.List;
-import org.patternfly.component.list.ListItem;
 import org.patternfly.component.modal.Modal;
 import org.patternfly.component.popover.Popover;
 import org.patternfly.core.Timeouts;
@@ -44,21 +52,26 @@ import org.patternfly.layout.flex.Gap;
 import org.patternfly.style.Breakpoint;
 
 import elemental2.dom.HTMLElement;
+import elemental2.promise.Promise;
 
 import static elemental2.dom.DomGlobal.clearTimeout;
 import static elemental2.dom.DomGlobal.setTimeout;
 import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.toSet;
 import static org.jboss.elemento.Elements.div;
+import static org.jboss.elemento.Elements.isAttached;
 import static org.jboss.elemento.Elements.removeChildrenFrom;
 import static org.jboss.elemento.Elements.setVisible;
 import static org.jboss.elemento.Elements.span;
 import static org.jboss.elemento.Elements.strong;
 import static org.jboss.elemento.EventType.keydown;
+import static org.jboss.hal.meta.tree.ModelTree.UNLIMITED_DEPTH;
+import static org.jboss.hal.meta.tree.TraverseCheckpoint.checkpoint;
 import static org.jboss.hal.resources.HalClasses.halComponent;
 import static org.jboss.hal.resources.HalClasses.modelBrowser;
 import static org.jboss.hal.resources.HalClasses.results;
 import static org.jboss.hal.ui.UIContext.uic;
+import static org.jboss.hal.ui.VirtualList.virtualList;
 import static org.patternfly.component.ValidationStatus.error;
 import static org.patternfly.component.button.Button.button;
 import static org.patternfly.component.divider.Divider.divider;
@@ -80,8 +93,6 @@ import static org.patternfly.component.list.DescriptionList.descriptionList;
 import static org.patternfly.component.list.DescriptionListDescription.descriptionListDescription;
 import static org.patternfly.component.list.DescriptionListGroup.descriptionListGroup;
 import static org.patternfly.component.list.DescriptionListTerm.descriptionListTerm;
-import static org.patternfly.component.list.List.list;
-import static org.patternfly.component.list.ListItem.listItem;
 import static org.patternfly.component.modal.Modal.modal;
 import static org.patternfly.component.modal.ModalBody.modalBody;
 import static org.patternfly.component.modal.ModalFooter.modalFooter;
@@ -104,13 +115,17 @@ import static org.patternfly.style.Variable.globalVar;
 
 class FindResource {
 
+    private static final Logger logger = Logger.getLogger(FindResource.class.getName());
+    private static final int ROW_HEIGHT = 28;
+    private static final int STATUS_INTERVAL = 100;
     private final HTMLElement trigger;
     private final TraverseContinuation continuation;
     private final Modal searchModal;
     private final FlexItem searchResults;
     private final FlexItem status;
     private final FlexItem noResults;
-    private final List matchingResources;
+    private final FlexItem indexStatus;
+    private final VirtualList<AddressTemplate> matchingResources;
     private final FormGroupControl nameControl;
     private final TextInput nameInput;
     private final TextInput rootInput;
@@ -118,13 +133,18 @@ class FindResource {
     private final Radio scopeAddressRadio;
     private final Radio scopeTypeRadio;
     private final Radio scopeNameRadio;
+    private final Radio scopeValueRadio;
     private final Radio comparisonContainsRadio;
     private final Button searchButton;
     private double timeout;
+    private double lastStatus;
+    private int generation;
+    private Predicate<AddressTemplate> matcher;
+    private TraverseCheckpoint checkpoint;
 
     // ------------------------------------------------------ ui
 
-    FindResource(HTMLElement trigger, String rootAddress) {
+    FindResource(HTMLElement trigger) {
         this.trigger = trigger;
         this.continuation = new TraverseContinuation();
 
@@ -171,7 +191,18 @@ class FindResource {
                                         .add(span()
                                                 .add("/subsystem=datasources/data-source=")
                                                 .add(strong().textContent("Example"))
-                                                .add("DS")))));
+                                                .add("DS")))))
+                .addItem(descriptionListGroup(Id.build(scopeId, "value-help"))
+                        .addTerm(descriptionListTerm("Value"))
+                        .addDescription(descriptionListDescription()
+                                .add(div().textContent("Search in the attribute values using an expression. "
+                                        + "The comparison is part of the expression."))
+                                .add(flex().display(inlineFlex).columnGap(sm)
+                                        .add(span().add(strong().textContent("jndi-name *= example")))
+                                        .add(span().textContent("→"))
+                                        .add(span()
+                                                .add("/subsystem=datasources/data-source=")
+                                                .add(strong().textContent("ExampleDS"))))));
 
         DescriptionList comparisonDescription = descriptionList().horizontal().compact()
                 .addItem(descriptionListGroup(Id.build(comparisonId, "contains-help"))
@@ -230,7 +261,7 @@ class FindResource {
         FormGroup rootFormGroup = formGroup(rootId)
                 .addLabel(formGroupLabel("Root"))
                 .addControl(formGroupControl()
-                        .addControl(rootInput = textInput(rootId).value(rootAddress)
+                        .addControl(rootInput = textInput(rootId)
                                 .on(keydown, e -> {
                                     if (Key.Enter.match(e)) {
                                         search();
@@ -254,7 +285,8 @@ class FindResource {
                         .addRadio(scopeAddressRadio = radio(Id.build(scopeId, "address"), scopeId, "Address"))
                         .addRadio(scopeTypeRadio = radio(Id.build(scopeId, "type"), scopeId, "Type"))
                         .addRadio(scopeNameRadio = radio(Id.build(scopeId, "name"), scopeId, "Name")
-                                .value(true, false)));
+                                .value(true, false))
+                        .addRadio(scopeValueRadio = radio(Id.build(scopeId, "value"), scopeId, "Value")));
 
         FormGroup comparisonFormGroup = formGroup(comparisonId).role(radiogroup)
                 .addLabel(formGroupLabel("Comparison").noPaddingTop().help("How to search", comparisonInfo))
@@ -277,8 +309,10 @@ class FindResource {
                 .add(flex().direction(column).rowGap(Gap.md)
                         .addItem(status = flexItem().css(util("text-truncate")))
                         .addItem(flexItem()
-                                .add(matchingResources = list().css(halComponent(modelBrowser, search, results))
-                                        .plain())));
+                                .add(matchingResources = virtualList(ROW_HEIGHT, this::matchItem)
+                                        .css(halComponent(modelBrowser, search, results)))));
+
+        indexStatus = flexItem().css(util("text-truncate"));
 
         noResults = flexItem()
                 .add(emptyState()
@@ -295,6 +329,7 @@ class FindResource {
                 .addBody(modalBody()
                         .add(flex().direction(column).rowGap(Gap.md)
                                 .addItem(flexItem().add(searchForm))
+                                .addItem(indexStatus)
                                 .addItem(flexItem().add(divider(hr)))
                                 .addItem(searchResults)
                                 .addItem(noResults)))
@@ -310,31 +345,48 @@ class FindResource {
 
     // ------------------------------------------------------ state
 
-    void open() {
+    // Keeps the last search if it can be resumed. Otherwise, the root is set to the given address.
+    void open(String rootAddress) {
+        if (!resumable()) {
+            rootInput.value(rootAddress);
+        }
+        if (!isAttached(searchModal)) {
+            searchModal.appendToBody();
+        }
         searchModal.open();
         nameInput.inputElement().element().focus();
+        loadIndex(false);
     }
 
     private void close() {
-        endSearch();
+        // stopping the traversal records a checkpoint: the search can be resumed when the modal is opened again
+        stop();
         searchModal.close();
     }
 
     private void search() {
         if (continuation.isRunning()) {
-            continuation.stop();
+            stop();
         } else {
             if (nameInput.value().isEmpty()) {
                 nameControl.addHelperText(helperText("Must not be empty", error));
                 nameInput.validated(error);
             } else {
+                ValuePredicate predicate = null;
+                if (scopeValueRadio.value()) {
+                    try {
+                        predicate = ValuePredicate.parse(nameInput.value());
+                    } catch (IllegalArgumentException e) {
+                        nameControl.addHelperText(helperText(e.getMessage(), error));
+                        nameInput.validated(error);
+                        return;
+                    }
+                }
                 nameControl.removeHelperText();
                 nameInput.resetValidation();
                 matchingResources.clear();
-                removeChildrenFrom(status);
-                status.style("color", globalVar("Color", "200").asVar());
-                setVisible(searchResults, true);
-                setVisible(noResults, false);
+                checkpoint = null;
+                startSearch();
 
                 String name = nameInput.value();
                 Set<String> exclude = stream(excludeTextArea.value().split("\\r?\\n"))
@@ -342,45 +394,231 @@ class FindResource {
                         .collect(toSet());
                 boolean contains = comparisonContainsRadio.value();
                 AddressTemplate rootTemplate = AddressTemplate.of(rootInput.value());
+                if (predicate != null) {
+                    searchValues(predicate, rootTemplate, exclude);
+                    return;
+                }
+                if (searchIndex(name, rootTemplate, exclude, contains)) {
+                    return;
+                }
+                matcher = matcher(name, contains);
                 timeout = setTimeout(__ -> searchButton.text("Stop").startProgress(), Timeouts.LOADING_TIMEOUT);
-                uic().modelTree().traverse(continuation, rootTemplate, exclude, EnumSet.noneOf(TraverseType.class),
-                                (template, traverseContext) -> {
-                                    status.textContent("Process " + template.toString());
-                                    String argument = "";
-                                    if (scopeAddressRadio.value()) {
-                                        argument = template.template;
-                                    } else if (scopeTypeRadio.value()) {
-                                        argument = template.last().key;
-                                    } else if (scopeNameRadio.value()) {
-                                        argument = template.last().value;
-                                    }
-                                    boolean match = contains
-                                            ? argument.toLowerCase().contains(name.toLowerCase())
-                                            : argument.equalsIgnoreCase(name);
-                                    if (match) {
-                                        ListItem listItem = listItem()
-                                                .add(button().link().inline().textContent(template.toString())
-                                                        .onClick((e, b) -> {
-                                                            SelectInTree.dispatch(trigger, template);
-                                                            close();
-                                                        }));
-                                        matchingResources.addItem(listItem);
-                                        listItem.element().scrollIntoView();
-                                    }
-                                })
-                        .then(context -> {
-                            results(context);
-                            return null;
-                        })
-                        .catch_(error -> {
-                            error(String.valueOf(error));
+                int current = ++generation;
+                snapshot(rootTemplate)
+                        .then(__ -> {
+                            // don't start the traversal if the search has been stopped or the modal has been closed
+                            if (current == generation) {
+                                traverse(checkpoint(rootTemplate, exclude, EnumSet.noneOf(TraverseType.class),
+                                        UNLIMITED_DEPTH));
+                            } else {
+                                status.textContent("The search has been stopped.");
+                            }
                             return null;
                         });
             }
         }
     }
 
+    // Continues a stopped search and retries the resources which couldn't be read.
+    private void resume() {
+        if (!continuation.isRunning() && checkpoint != null) {
+            checkpoint.retryFailed();
+            startSearch();
+            timeout = setTimeout(__ -> searchButton.text("Stop").startProgress(), Timeouts.LOADING_TIMEOUT);
+            traverse(checkpoint);
+        }
+    }
+
+    private void stop() {
+        generation++;
+        continuation.stop();
+        endSearch();
+    }
+
+    private boolean resumable() {
+        return checkpoint != null && (!checkpoint.completed() || !checkpoint.failed().isEmpty());
+    }
+
+    private void startSearch() {
+        lastStatus = 0;
+        removeChildrenFrom(status);
+        status.style("color", globalVar("Color", "200").asVar());
+        setVisible(searchResults, true);
+        setVisible(noResults, false);
+    }
+
+    // ------------------------------------------------------ index
+
+    private void loadIndex(boolean refresh) {
+        AddressIndex index = uic().addressIndex();
+        Promise<AddressIndex> promise = refresh ? index.refresh() : index.load();
+        indexStatus(index);
+        promise.then(__ -> {
+                    indexStatus(index);
+                    return null;
+                })
+                .catch_(error -> {
+                    removeChildrenFrom(indexStatus);
+                    indexStatus.add("Unable to build the search index: " + error);
+                    return null;
+                });
+    }
+
+    private void indexStatus(AddressIndex index) {
+        removeChildrenFrom(indexStatus);
+        if (index.building()) {
+            indexStatus.add("Building search index. Until it's ready, the management model is searched directly.");
+        } else if (index.ready()) {
+            indexStatus.add("Search index with ")
+                    .add(strong().textContent(String.valueOf(index.size())))
+                    .add(" resources, built " + age(index.age()) + ". ")
+                    .add(button("Refresh").link().inline().onClick((e, b) -> loadIndex(true)));
+        }
+    }
+
+    // Uses the search index if it's ready. Returns false if the model must be traversed instead.
+    private boolean searchIndex(String name, AddressTemplate rootTemplate, Set<String> exclude, boolean contains) {
+        AddressIndex index = uic().addressIndex();
+        if (!index.ready() || !rootTemplate.fullyQualified()) {
+            return false;
+        }
+        SearchScope scope = scopeAddressRadio.value()
+                ? SearchScope.ADDRESS
+                : scopeTypeRadio.value() ? SearchScope.TYPE : SearchScope.NAME;
+        double start = System.currentTimeMillis();
+        List<AddressTemplate> templates = index.query(name, scope, contains, rootTemplate, exclude);
+        long time = (long) (System.currentTimeMillis() - start);
+        matchingResources.add(templates);
+        if (matchingResources.isEmpty()) {
+            setVisible(searchResults, false);
+            setVisible(noResults, true);
+        } else {
+            status.style("color", "inherit")
+                    .add("Found ")
+                    .add(strong().textContent(String.valueOf(matchingResources.size())))
+                    .add(" matches in " + time + " ms using the search index.");
+            if (templates.size() == AddressIndex.DEFAULT_LIMIT) {
+                status.add(" Only the first " + AddressIndex.DEFAULT_LIMIT + " matches are shown.");
+            }
+        }
+        return true;
+    }
+
+    private static String age(double age) {
+        long minutes = (long) (age / 60_000);
+        if (minutes < 1) {
+            return "less than a minute ago";
+        } else if (minutes < 60) {
+            return minutes == 1 ? "one minute ago" : minutes + " minutes ago";
+        } else {
+            long hours = minutes / 60;
+            if (hours < 24) {
+                return hours == 1 ? "one hour ago" : hours + " hours ago";
+            }
+            long days = hours / 24;
+            return days == 1 ? "one day ago" : days + " days ago";
+        }
+    }
+
+    // ------------------------------------------------------ values
+
+    private void searchValues(ValuePredicate predicate, AddressTemplate rootTemplate, Set<String> exclude) {
+        ValueSearch valueSearch = uic().valueSearch();
+        status.textContent("Search attribute values below " + rootTemplate.toString());
+        timeout = setTimeout(__ -> searchButton.text("Stop").startProgress(), Timeouts.LOADING_TIMEOUT);
+        generation++;
+        valueSearch.search(continuation, rootTemplate, exclude, predicate,
+                        (template, resource) -> matchingResources.add(template))
+                .then(context -> {
+                    results(context);
+                    if (context.accepted() >= valueSearch.maxMatches()) {
+                        status.add(" Only the first " + valueSearch.maxMatches() + " matches are shown.");
+                    }
+                    if (!context.failed().isEmpty()) {
+                        status.add(" " + context.failed().size() + " resources couldn't be read.");
+                    }
+                    return null;
+                })
+                .catch_(error -> {
+                    error(String.valueOf(error));
+                    return null;
+                });
+    }
+
+    // ------------------------------------------------------ traverse
+
+    // If possible, load a snapshot of the subtree first: Traversing the snapshot is much faster than calling the consumer for
+    // each read-children-* operation. The snapshot is not used for the whole model, which is searched using the index or
+    // the traversal. Loading the snapshot is stopped together with the search.
+    private Promise<ModelSnapshot> snapshot(AddressTemplate template) {
+        ModelSnapshot snapshot = uic().modelTree().snapshot();
+        if (template.fullyQualified() && !template.isEmpty()) {
+            status.textContent("Load " + template.toString());
+            return snapshot.load(template, continuation).catch_(error -> {
+                logger.warn("Unable to load snapshot of %s: %s", template, error);
+                return Promise.resolve(snapshot);
+            });
+        }
+        return Promise.resolve(snapshot);
+    }
+
+    private Predicate<AddressTemplate> matcher(String name, boolean contains) {
+        boolean address = scopeAddressRadio.value();
+        boolean type = scopeTypeRadio.value();
+        boolean resourceName = scopeNameRadio.value();
+        String lowerName = name.toLowerCase();
+        return template -> {
+            String argument = "";
+            if (address) {
+                argument = template.template;
+            } else if (type) {
+                argument = template.last().key;
+            } else if (resourceName) {
+                argument = template.last().value;
+            }
+            return contains ? argument.toLowerCase().contains(lowerName) : argument.equalsIgnoreCase(name);
+        };
+    }
+
+    private void traverse(TraverseCheckpoint checkpoint) {
+        uic().modelTree().traverse(continuation, checkpoint,
+                        (template, traverseContext) -> {
+                            status(template);
+                            if (matcher.test(template)) {
+                                matchingResources.add(template);
+                            }
+                        })
+                .then(context -> {
+                    results(context);
+                    return null;
+                })
+                .catch_(error -> {
+                    error(String.valueOf(error));
+                    return null;
+                });
+    }
+
+    // The status is updated at most every STATUS_INTERVAL ms: Updating it for every resource causes layout thrashing.
+    private void status(AddressTemplate template) {
+        double now = System.currentTimeMillis();
+        if (now - lastStatus >= STATUS_INTERVAL) {
+            lastStatus = now;
+            status.textContent("Process " + template.toString());
+        }
+    }
+
+    private HTMLElement matchItem(AddressTemplate template) {
+        return div().attr("role", "listitem")
+                .add(button().link().inline().textContent(template.toString())
+                        .onClick((e, b) -> {
+                            SelectInTree.dispatch(trigger, template);
+                            close();
+                        }))
+                .element();
+    }
+
     private void results(TraverseContext context) {
+        logger.debug("Rendered %d matches in %d frames", matchingResources.size(), matchingResources.frames());
         if (matchingResources.isEmpty()) {
             setVisible(searchResults, false);
             setVisible(noResults, true);
@@ -393,6 +631,19 @@ class FindResource {
                     .add(strong().textContent(String.valueOf(context.processed())))
                     .add(" resources.");
         }
+        checkpoint = context.checkpoint();
+        if (resumable()) {
+            setVisible(searchResults, true);
+            setVisible(noResults, false);
+            status.style("color", "inherit");
+            if (!checkpoint.completed()) {
+                status.add(" The search has been stopped. ");
+            } else {
+                status.add(" " + checkpoint.failed().size() + " resources couldn't be read. ");
+            }
+            status.add(button(checkpoint.completed() ? "Retry" : "Resume").link().inline()
+                    .onClick((e, b) -> resume()));
+        }
         endSearch();
     }
 
@@ -16,8 +16,12 @@
 package org.jboss.hal.ui.modelbrowser;
 
 import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
 
 import org.jboss.elemento.Attachable;
+import org.jboss.elemento.EventType;
 import org.jboss.elemento.IsElement;
 import org.jboss.elemento.Key;
 import org.jboss.hal.meta.AddressTemplate;
@@ -32,9 +36,11 @@ import elemental2.dom.Event;
 import elemental2.dom.HTMLElement;
 import elemental2.dom.HTMLInputElement;
 import elemental2.dom.MutationRecord;
+import elemental2.promise.Promise;
 
 import static org.jboss.elemento.Elements.body;
 import static org.jboss.elemento.Elements.div;
+import static org.jboss.elemento.Elements.removeChildrenFrom;
 import static org.jboss.hal.resources.HalClasses.goto_;
 import static org.jboss.hal.resources.HalClasses.halComponent;
 import static org.jboss.hal.resources.HalClasses.modelBrowser;
@@ -47,19 +53,32 @@ class GotoResource implements IsElement<HTMLElement>, Attachable {
 
     static final int DISTANCE = 10;
     static final int Z_INDEX = 9999;
+    static final int MAX_SUGGESTIONS = 10;
 
+    private final Function<AddressTemplate, Promise<TreePager>> pagers;
+    private final Map<String, Promise<TreePager>> folders;
     private final HTMLElement button;
     private final HTMLElement menu;
     private final TextInput input;
+    private final HTMLElement suggestions;
     private Popper popper;
+    private int sequence;
 
-    GotoResource() {
+    /**
+     * @param pagers returns a promise of the pager of a folder (resolves to {@code null} if there's none). Used to suggest
+     *               the children of folders, which haven't been turned into tree view items.
+     */
+    GotoResource(Function<AddressTemplate, Promise<TreePager>> pagers) {
+        this.pagers = pagers;
+        this.folders = new HashMap<>();
         this.button = button().plain().icon(compass()).element();
         this.input = textInput("goto").placeholder("Goto resource");
         this.menu = div().css(halComponent(modelBrowser, goto_))
                 .style("display", "none")
                 .add(input)
+                .add(suggestions = div().element())
                 .element();
+        input.inputElement().on(EventType.input, e -> suggest(((HTMLInputElement) e.target).value));
         body().add(menu);
         Attachable.register(this, this);
     }
@@ -93,7 +112,10 @@ class GotoResource implements IsElement<HTMLElement>, Attachable {
 
     private void show(Event event) {
         popper.show(null);
+        // read the children of folders again when the popup is opened the next time
+        folders.clear();
         input.value("");
+        removeChildrenFrom(suggestions);
         input.inputElement().element().focus();
     }
 
@@ -108,4 +130,31 @@ class GotoResource implements IsElement<HTMLElement>, Attachable {
         }
         popper.hide(null);
     }
+
+    /**
+     * Suggests the children of a folder matching the text after the last '='. The children of a folder are read only once
+     * while the popup is open. Suggestions of outdated input are ignored.
+     */
+    private void suggest(String value) {
+        removeChildrenFrom(suggestions);
+        int current = ++sequence;
+        int index = value.lastIndexOf('=');
+        if (index > 0) {
+            AddressTemplate folder = AddressTemplate.of(value.substring(0, index) + "=*");
+            String query = value.substring(index + 1);
+            folders.computeIfAbsent(folder.identifier(), identifier -> pagers.apply(folder)).then(pager -> {
+                if (pager != null && current == sequence) {
+                    for (ModelBrowserNode child : pager.filter(query, MAX_SUGGESTIONS)) {
+                        suggestions.appendChild(div()
+                                .add(button(child.name).link().inline().onClick((e, b) -> {
+                                    SelectInTree.dispatch(button, child.template);
+                                    popper.hide(null);
+                                }))
+                                .element());
+                    }
+                }
+                return null;
+            });
+        }
+    }
 }
@@ -43,6 +43,10 @@ class History<T> {
         forward = false;
     }
 
+    T current() {
+        return current;
+    }
+
     boolean canGoBack() {
         return back;
     }
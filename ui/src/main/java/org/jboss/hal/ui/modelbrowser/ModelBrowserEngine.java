@@ -22,6 +22,7 @@ import java.util.Map;
 import java.util.function.Function;
 
 import org.jboss.elemento.By;
+import org.jboss.elemento.Id;
 import org.jboss.elemento.logger.Logger;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
@@ -34,12 +35,14 @@ import org.patternfly.component.tree.TreeViewItem;
 import elemental2.promise.Promise;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 import static org.jboss.elemento.Elements.div;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILD_TYPE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDE_SINGLETONS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_TYPES_OPERATION;
+import static org.jboss.hal.ui.UIContext.uic;
 import static org.jboss.hal.ui.modelbrowser.ModelBrowserNode.Type.FOLDER;
 import static org.jboss.hal.ui.modelbrowser.ModelBrowserNode.Type.RESOURCE;
 import static org.jboss.hal.ui.modelbrowser.ModelBrowserNode.Type.SINGLETON_FOLDER;
@@ -62,9 +65,13 @@ class ModelBrowserEngine {
 
     /**
      * Returns a function that returns a promise to read the child resources of the selected tree view item. Uses
-     * {@link #parseChildren(ModelBrowserNode, ModelNode, boolean)} and {@link #mbn2tvi(Dispatcher)}.
+     * {@link #parseChildren(ModelBrowserNode, ModelNode, boolean)} and {@link #mbn2tvi(Dispatcher, PathResolver)}.
+     * <p>
+     * If the path resolver has a result for the tree view item, no operation is executed. Folders with more than
+     * {@link TreePager#PAGE_SIZE} children are paged using a {@link TreePager}.
      */
-    static Function<TreeViewItem, Promise<Iterable<TreeViewItem>>> readChildrenOperation(Dispatcher dispatcher) {
+    static Function<TreeViewItem, Promise<Iterable<TreeViewItem>>> readChildrenOperation(Dispatcher dispatcher,
+            PathResolver resolver) {
         return tvi -> {
             ModelBrowserNode mbn = tvi.get(Keys.MODEL_BROWSER_NODE);
             if (mbn != null) {
@@ -79,11 +86,33 @@ class ModelBrowserEngine {
                             .build();
                 }
                 if (operation != null) {
-                    return dispatcher.execute(operation)
-                            .then(result -> Promise.resolve(parseChildren(mbn, result, true)
-                                    .stream()
-                                    .map(mbn2tvi(dispatcher))
-                                    .collect(toList())));
+                    TreePager pager = tvi.get(Keys.TREE_PAGER);
+                    if (pager != null && pager.reuse()) {
+                        // more children have been requested: no need to read them again
+                        return Promise.resolve(materialize(dispatcher, resolver, tvi, pager));
+                    }
+                    ModelNode resolved = resolver.take(tvi.identifier());
+                    Promise<ModelNode> promise = resolved != null
+                            ? Promise.resolve(resolved)
+                            : dispatcher.execute(operation);
+                    return promise
+                            .then(result -> {
+                                List<ModelBrowserNode> children = parseChildren(mbn, result, true);
+                                List<TreeViewItem> items;
+                                if (mbn.type == FOLDER && children.size() > TreePager.PAGE_SIZE) {
+                                    TreePager p = pager != null ? pager : new TreePager(tvi.identifier());
+                                    p.children(children);
+                                    tvi.store(Keys.TREE_PAGER, p);
+                                    items = materialize(dispatcher, resolver, tvi, p);
+                                    prefetchMetadata(mbn, p.page());
+                                } else {
+                                    items = children.stream()
+                                            .map(mbn2tvi(dispatcher, resolver))
+                                            .collect(toList());
+                                    prefetchMetadata(mbn, children);
+                                }
+                                return Promise.resolve(items);
+                            });
                 } else {
                     logger.error("Unable to read child resources of tree view item %o - %s: Wrong node type %s",
                             tvi.element(), tvi.identifier(), mbn.type.name());
@@ -99,7 +128,47 @@ class ModelBrowserEngine {
     }
 
     /**
-     * Parses the result of {@link #readChildrenOperation(Dispatcher)} and turns it into a list of {@link ModelBrowserNode}s.
+     * Turns the materialized children of the pager into tree view items. If there are more children, a tree view item to
+     * load the next page is added. This item holds the node of the folder and the pager.
+     */
+    private static List<TreeViewItem> materialize(Dispatcher dispatcher, PathResolver resolver, TreeViewItem tvi,
+            TreePager pager) {
+        List<TreeViewItem> items = pager.page().stream()
+                .map(mbn2tvi(dispatcher, resolver))
+                .collect(toList());
+        if (pager.hasMore()) {
+            items.add(treeViewItem(Id.build(tvi.identifier(), "more"))
+                    .text(moreText(pager))
+                    .store(Keys.MODEL_BROWSER_NODE, tvi.get(Keys.MODEL_BROWSER_NODE))
+                    .store(Keys.TREE_PAGER_MORE, pager));
+        }
+        return items;
+    }
+
+    static String moreText(TreePager pager) {
+        int remaining = pager.remaining();
+        return "Show " + Math.min(remaining, TreePager.PAGE_SIZE) + " more of " + remaining;
+    }
+
+    /**
+     * Prefetches the metadata of the materialized children, so that selecting one of them doesn't need to wait for the
+     * metadata. Reading the wildcard template of a folder returns the descriptions of all its children, so only the wildcard
+     * template is prefetched for folders.
+     */
+    private static void prefetchMetadata(ModelBrowserNode parent, List<ModelBrowserNode> page) {
+        List<AddressTemplate> templates;
+        if (parent.type == FOLDER) {
+            templates = page.isEmpty() ? emptyList() : singletonList(parent.template);
+        } else {
+            templates = page.stream()
+                    .map(child -> child.template)
+                    .collect(toList());
+        }
+        uic().metadataRepository().prefetch(parent.template, templates);
+    }
+
+    /**
+     * Parses the result of {@link #readChildrenOperation(Dispatcher, PathResolver)} and turns it into a list of {@link ModelBrowserNode}s.
      */
     static List<ModelBrowserNode> parseChildren(ModelBrowserNode parent, ModelNode result,
             boolean nonExistingSingletons) {
@@ -151,14 +220,14 @@ class ModelBrowserEngine {
     /**
      * Returns a function that turns a {@link ModelBrowserNode} into a {@link TreeViewItem}.
      */
-    static Function<ModelBrowserNode, TreeViewItem> mbn2tvi(Dispatcher dispatcher) {
+    static Function<ModelBrowserNode, TreeViewItem> mbn2tvi(Dispatcher dispatcher, PathResolver resolver) {
         return mbn -> treeViewItem(mbn.identifier)
                 .text(mbn.name)
                 .icon(mbn.type.icon.get())
                 .store(Keys.MODEL_BROWSER_NODE, mbn)
                 .run(tvi -> {
                     if (mbn.exists) {
-                        tvi.addItems(readChildrenOperation(dispatcher));
+                        tvi.addItems(readChildrenOperation(dispatcher, resolver));
                         if (mbn.type.expandedIcon != null) {
                             tvi.expandedIcon(mbn.type.expandedIcon.get());
                         }
@@ -17,12 +17,14 @@ package org.jboss.hal.ui.modelbrowser;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 import org.jboss.elemento.IsElement;
 import org.jboss.elemento.flow.Flow;
 import org.jboss.elemento.flow.FlowContext;
 import org.jboss.elemento.flow.Task;
 import org.jboss.elemento.logger.Logger;
+import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.Segment;
 import org.jboss.hal.resources.HalClasses;
@@ -34,13 +36,20 @@ import org.patternfly.component.tree.TreeViewItem;
 import org.patternfly.style.Sticky;
 
 import elemental2.dom.HTMLElement;
+import elemental2.promise.Promise;
 
 import static org.jboss.elemento.Elements.div;
 import static org.jboss.elemento.Elements.failSafeRemoveFromParent;
+import static org.jboss.elemento.Elements.setVisible;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILD_TYPE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
 import static org.jboss.hal.resources.HalClasses.halComponent;
 import static org.jboss.hal.resources.HalClasses.tree;
 import static org.jboss.hal.ui.UIContext.uic;
 import static org.jboss.hal.ui.modelbrowser.ModelBrowserEngine.mbn2tvi;
+import static org.jboss.hal.ui.modelbrowser.ModelBrowserEngine.moreText;
+import static org.jboss.hal.ui.modelbrowser.ModelBrowserEngine.parseChildren;
+import static org.jboss.hal.ui.modelbrowser.ModelBrowserNode.Type.FOLDER;
 import static org.patternfly.component.button.Button.button;
 import static org.patternfly.component.page.PageMainSection.pageMainSection;
 import static org.patternfly.component.toolbar.Toolbar.toolbar;
@@ -75,10 +84,13 @@ class ModelBrowserTree implements IsElement<HTMLElement> {
     private final HTMLElement root;
     private Tooltip backTooltip;
     private Tooltip forwardTooltip;
+    private final PathResolver resolver;
+    private FindResource finder;
 
     ModelBrowserTree(ModelBrowser modelBrowser) {
         this.modelBrowser = modelBrowser;
         this.history = new History<>();
+        this.resolver = new PathResolver();
 
         treeView = treeView(selectableItems).guides()
                 .onSelect((event, treeViewItem, selected) -> navigate(treeViewItem, true));
@@ -88,8 +100,14 @@ class ModelBrowserTree implements IsElement<HTMLElement> {
         Button homeButton = button().plain().icon(home()).onClick((e, b) -> modelBrowser.home());
         Button findResource = button().plain()
                 .icon(search())
-                .onClick((e, b) -> new FindResource(b.element(), selectedAddress()).open());
-        GotoResource gotoResource = new GotoResource();
+                .onClick((e, b) -> {
+                    // reuse the dialog: a stopped search can be resumed
+                    if (finder == null) {
+                        finder = new FindResource(b.element());
+                    }
+                    finder.open(selectedAddress());
+                });
+        GotoResource gotoResource = new GotoResource(this::pager);
         Button collapseButton = button().plain().icon(minusSquare()).onClick((e, b) -> treeView.collapse());
 
         tooltip(refreshButton.element(), "Refresh").placement(bottom).appendToBody();
@@ -122,7 +140,8 @@ class ModelBrowserTree implements IsElement<HTMLElement> {
 
     void load(List<ModelBrowserNode> nodes) {
         treeView.clear();
-        treeView.addItems(nodes, mbn2tvi(uic().dispatcher()));
+        resolver.clear();
+        treeView.addItems(nodes, mbn2tvi(uic().dispatcher(), resolver));
     }
 
     void reload() {
@@ -149,11 +168,21 @@ class ModelBrowserTree implements IsElement<HTMLElement> {
                     return null;
                 });
             } else if (!parentItem.contains(childIdentifier)) {
-                // child might have been added externally in CLI or other management tools
-                parentItem.reload().then(__ -> {
-                    treeView.select(childIdentifier);
-                    return null;
-                });
+                // child might not be materialized yet or
+                // might have been added externally in CLI or other management tools
+                TreePager pager = parentItem.get(Keys.TREE_PAGER);
+                boolean materialize = pager != null && pager.reveal(childIdentifier);
+                parentItem.reload()
+                        .then(__ -> {
+                            if (!materialize && pager != null && pager.reveal(childIdentifier)) {
+                                return parentItem.reload();
+                            }
+                            return Promise.resolve(__);
+                        })
+                        .then(__ -> {
+                            treeView.select(childIdentifier);
+                            return null;
+                        });
             } else {
                 treeView.select(childIdentifier);
             }
@@ -168,21 +197,32 @@ class ModelBrowserTree implements IsElement<HTMLElement> {
             if (item != null) {
                 treeView.select(item);
             } else {
-                Flow.sequential(new FlowContext(), selectTasks(template)).subscribe(context -> {
-                    if (context.successful()) {
-                        // The template might contain invalid segments or no longer exist.
-                        // Build a template up to the last valid segment.
-                        AddressTemplate current = AddressTemplate.root();
-                        for (Segment segment : template) {
-                            if (treeView.findItem(current.append(segment.key, segment.value).identifier()) == null) {
-                                break;
+                // Read the children of all items along the template in one composite. The tasks below
+                // use the results instead of executing one operation per item. Items without a result
+                // (e.g. because a segment doesn't exist) fall back to one operation per item.
+                List<PathResolver.Step> steps = PathResolver.steps(template, id -> {
+                    TreeViewItem tvi = treeView.findItem(id);
+                    return tvi != null && tvi.status() != pending;
+                });
+                resolver.resolve(uic().dispatcher(), steps).then(__ -> {
+                    Flow.sequential(new FlowContext(), selectTasks(template)).subscribe(context -> {
+                        resolver.clear();
+                        if (context.successful()) {
+                            // The template might contain invalid segments or no longer exist.
+                            // Build a template up to the last valid segment.
+                            AddressTemplate current = AddressTemplate.root();
+                            for (Segment segment : template) {
+                                if (treeView.findItem(current.append(segment.key, segment.value).identifier()) == null) {
+                                    break;
+                                }
+                                current = current.append(segment.key, segment.value);
                             }
-                            current = current.append(segment.key, segment.value);
+                            treeView.select(current.identifier());
+                        } else {
+                            logger.error("Unable to select template %s: %s", template, context.failure());
                         }
-                        treeView.select(current.identifier());
-                    } else {
-                        logger.error("Unable to select template %s: %s", template, context.failure());
-                    }
+                    });
+                    return null;
                 });
             }
         } else {
@@ -237,7 +277,17 @@ class ModelBrowserTree implements IsElement<HTMLElement> {
             String wildcardItemId = current.append(segment.key, "*").identifier();
             String valueItemId = current.append(segment.key, segment.value).identifier();
             tasks.add(context -> treeView.load(wildcardItemId).then(items -> context.resolve()));
-            tasks.add(context -> treeView.load(valueItemId).then(items -> context.resolve()));
+            tasks.add(context -> {
+                // the child might not be materialized yet
+                TreeViewItem folder = treeView.findItem(wildcardItemId);
+                TreePager pager = folder != null ? folder.get(Keys.TREE_PAGER) : null;
+                if (treeView.findItem(valueItemId) == null && pager != null && pager.reveal(valueItemId)) {
+                    return folder.reload()
+                            .then(__ -> treeView.load(valueItemId))
+                            .then(items -> context.resolve());
+                }
+                return treeView.load(valueItemId).then(items -> context.resolve());
+            });
             current = current.append(segment.key, segment.value);
         }
         return tasks;
@@ -262,6 +312,11 @@ class ModelBrowserTree implements IsElement<HTMLElement> {
     }
 
     private void navigate(TreeViewItem treeViewItem, boolean updateHistory) {
+        TreePager pager = treeViewItem.get(Keys.TREE_PAGER_MORE);
+        if (pager != null) {
+            showMore(treeViewItem, pager);
+            return;
+        }
         if (updateHistory) {
             history.navigate(treeViewItem);
         }
@@ -272,6 +327,62 @@ class ModelBrowserTree implements IsElement<HTMLElement> {
         }
     }
 
+    /**
+     * Appends the next page to the folder. The folder is not reloaded: the items already materialized, their expanded
+     * children and the selection are kept.
+     */
+    private void showMore(TreeViewItem moreItem, TreePager pager) {
+        TreeViewItem folder = treeView.findItem(pager.identifier);
+        if (folder != null) {
+            Function<ModelBrowserNode, TreeViewItem> mbn2tvi = mbn2tvi(uic().dispatcher(), resolver);
+            for (ModelBrowserNode child : pager.next()) {
+                folder.addItem(mbn2tvi.apply(child));
+            }
+            if (pager.hasMore()) {
+                // keep the "show more" item at the end
+                moreItem.text(moreText(pager));
+                HTMLElement element = moreItem.element();
+                element.parentElement.appendChild(element);
+            } else {
+                setVisible(moreItem.element(), false);
+            }
+        }
+        // the "show more" item is not a real selection
+        TreeViewItem current = history.current();
+        if (current != null) {
+            treeView.select(current, true, false);
+        } else {
+            treeView.select(moreItem, false, false);
+        }
+    }
+
+    /**
+     * Returns the pager of a folder. If the folder is not paged or has not been expanded yet, its children are read without
+     * creating tree view items. Resolves to {@code null} if the children can't be read.
+     */
+    Promise<TreePager> pager(AddressTemplate folder) {
+        TreeViewItem item = treeView.findItem(folder.identifier());
+        TreePager pager = item != null ? item.get(Keys.TREE_PAGER) : null;
+        if (pager != null) {
+            return Promise.resolve(pager);
+        }
+        AddressTemplate parent = folder.parent();
+        if (!parent.fullyQualified()) {
+            return Promise.resolve((TreePager) null);
+        }
+        ModelBrowserNode node = new ModelBrowserNode(folder, folder.last().key, FOLDER);
+        Operation operation = new Operation.Builder(parent.resolve(), READ_CHILDREN_NAMES_OPERATION)
+                .param(CHILD_TYPE, node.name)
+                .build();
+        return uic().dispatcher().execute(operation, false)
+                .then(result -> {
+                    TreePager p = new TreePager(folder.identifier());
+                    p.children(parseChildren(node, result, false));
+                    return Promise.resolve(p);
+                })
+                .catch_(error -> Promise.resolve((TreePager) null));
+    }
+
     private void updateNavigationButtons() {
         backButton.disabled(!history.canGoBack());
         forwardButton.disabled(!history.canGoForward());
@@ -17,7 +17,7 @@ package org.jboss.hal.ui.modelbrowser;
 
 import org.jboss.elemento.HTMLContainerBuilder;
 import org.jboss.elemento.IsElement;
-import org.jboss.elemento.logger.Logger;
+import org.jboss.hal.dmr.NamedNode;
 import org.jboss.hal.env.Settings;
 import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.Metadata;
@@ -26,6 +26,8 @@ import org.jboss.hal.meta.description.OperationDescription;
 import org.jboss.hal.meta.description.ResourceDescription;
 import org.jboss.hal.model.filter.GlobalOperationsAttribute;
 import org.jboss.hal.resources.Keys;
+import org.jboss.hal.ui.filter.Facets;
+import org.jboss.hal.ui.filter.FilterEngine;
 import org.patternfly.component.emptystate.EmptyState;
 import org.patternfly.component.list.List;
 import org.patternfly.component.table.Tbody;
@@ -45,14 +47,13 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.ADD;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.DESCRIPTION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.REMOVE;
 import static org.jboss.hal.resources.HalClasses.deprecated;
-import static org.jboss.hal.resources.HalClasses.filtered;
-import static org.jboss.hal.resources.HalClasses.halModifier;
 import static org.jboss.hal.ui.BuildingBlocks.attributeDescription;
 import static org.jboss.hal.ui.BuildingBlocks.attributeName;
 import static org.jboss.hal.ui.BuildingBlocks.emptyRow;
 import static org.jboss.hal.ui.BuildingBlocks.operationDescription;
 import static org.jboss.hal.ui.StabilityLabel.stabilityLabel;
 import static org.jboss.hal.ui.UIContext.uic;
+import static org.jboss.hal.ui.filter.FilterEngine.filterEngine;
 import static org.jboss.hal.ui.modelbrowser.OperationsToolbar.operationsToolbar;
 import static org.jboss.hal.ui.resource.ResourceDialogs.executeOperation;
 import static org.patternfly.component.button.Button.button;
@@ -85,9 +86,9 @@ import static org.patternfly.style.Width.width45;
 
 class OperationsTable implements IsElement<HTMLElement> {
 
-    private static final Logger logger = Logger.getLogger(OperationsTable.class.getName());
     private final AddressTemplate template;
     private final Filter<OperationDescription> filter;
+    private final FilterEngine<OperationDescription> engine;
     private final ObservableValue<Integer> visible;
     private final ObservableValue<Integer> total;
     private final Tbody tbody;
@@ -97,7 +98,8 @@ class OperationsTable implements IsElement<HTMLElement> {
     OperationsTable(AddressTemplate template, Metadata metadata) {
         boolean showGlobalOperations = uic().settings().get(Settings.Key.SHOW_GLOBAL_OPERATIONS).asBoolean();
         this.template = template;
-        this.filter = new OperationsFilter(showGlobalOperations).onChange(this::onFilterChanged);
+        this.filter = new OperationsFilter(showGlobalOperations);
+        this.engine = filterEngine(filter, NamedNode::name, Facets::operation).onFiltered(this::onFiltered);
         this.visible = ov(metadata.resourceDescription().operations().size());
         this.total = ov(metadata.resourceDescription().operations().size());
         this.root = div()
@@ -143,7 +145,9 @@ class OperationsTable implements IsElement<HTMLElement> {
                                                     }));
                                 })))
                 .element();
+        engine.index(tbody.items(), tr -> tr.get(Keys.OPERATION_DESCRIPTION), Tr::element);
         filter.set(GlobalOperationsAttribute.NAME, showGlobalOperations);
+        engine.apply(); // don't wait for the debounced run
     }
 
     private void execute(OperationDescription operation) {
@@ -208,30 +212,11 @@ class OperationsTable implements IsElement<HTMLElement> {
         }
     }
 
-    private void onFilterChanged(Filter<OperationDescription> filter, String origin) {
-        logger.debug("Filter operations: %s", filter);
-        int matchingItems;
-        if (filter.defined()) {
-            matchingItems = 0;
-            for (Tr tr : tbody.items()) {
-                OperationDescription od = tr.get(Keys.OPERATION_DESCRIPTION);
-                if (od != null) {
-                    boolean match = filter.match(od);
-                    tr.classList().toggle(halModifier(filtered), !match);
-                    if (match) {
-                        matchingItems++;
-                    }
-                }
-            }
-            if (matchingItems == 0) {
-                noOperations();
-            } else {
-                tbody.clearEmpty();
-            }
+    private void onFiltered(int matchingItems) {
+        if (matchingItems == 0) {
+            noOperations();
         } else {
-            matchingItems = total.get();
             tbody.clearEmpty();
-            tbody.items().forEach(dlg -> dlg.classList().remove(halModifier(filtered)));
         }
         visible.set(matchingItems);
     }
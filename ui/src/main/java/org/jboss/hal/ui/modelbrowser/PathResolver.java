@@ -0,0 +1,156 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ui.modelbrowser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.jboss.elemento.logger.Logger;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.meta.Segment;
+
+import elemental2.promise.Promise;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILD_TYPE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDE_SINGLETONS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_TYPES_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+
+/**
+ * Reads the children of all tree view items along a template in one composite operation. Selecting a deeply nested resource
+ * has to load each tree view item along the template. Instead of one request per item, the results of this resolver are
+ * used by {@link ModelBrowserEngine#readChildrenOperation(Dispatcher, PathResolver)}.
+ * <p>
+ * The operations are the same as in {@link ModelBrowserEngine#readChildrenOperation(Dispatcher, PathResolver)}:
+ * <pre>
+ * /subsystem=logging/logger=org.jboss
+ *
+ * item                                     operation
+ * /subsystem=*                             :read-children-names(child-type=subsystem)
+ * /subsystem=logging                       /subsystem=logging:read-children-types(include-singletons=true)
+ * /subsystem=logging/logger=*              /subsystem=logging:read-children-names(child-type=logger)
+ * /subsystem=logging/logger=org.jboss      /subsystem=logging/logger=org.jboss:read-children-types(include-singletons=true)
+ * </pre>
+ */
+class PathResolver {
+
+    private static final Logger logger = Logger.getLogger(PathResolver.class.getName());
+
+    /**
+     * Returns the tree view item identifiers and operations needed to select the template.
+     *
+     * @param loaded tests whether the item with the given identifier has already been loaded. No operation is created for
+     *               loaded items.
+     */
+    static List<Step> steps(AddressTemplate template, Predicate<String> loaded) {
+        List<Step> steps = new ArrayList<>();
+        AddressTemplate current = AddressTemplate.root();
+        for (Segment segment : template) {
+            AddressTemplate folder = current.append(segment.key, "*");
+            if (!loaded.test(folder.identifier())) {
+                steps.add(new Step(folder.identifier(),
+                        new Operation.Builder(current.resolve(), READ_CHILDREN_NAMES_OPERATION)
+                                .param(CHILD_TYPE, segment.key)
+                                .build()));
+            }
+            current = current.append(segment.key, segment.value);
+            if (!loaded.test(current.identifier())) {
+                steps.add(new Step(current.identifier(),
+                        new Operation.Builder(current.resolve(), READ_CHILDREN_TYPES_OPERATION)
+                                .param(INCLUDE_SINGLETONS, true)
+                                .build()));
+            }
+        }
+        return steps;
+    }
+
+    // item identifier → result of the read-children-* operation
+    private final Map<String, ModelNode> results;
+
+    PathResolver() {
+        this.results = new HashMap<>();
+    }
+
+    /**
+     * Executes the operations of the steps as one composite and keeps the results until they're {@linkplain #take(String)
+     * taken} or {@linkplain #clear() cleared}. The composite is executed without rolling back failed steps and without
+     * logging errors: If a segment of the template doesn't exist (e.g. in a stale deep link), only the results of the
+     * failed steps are missing. The promise resolves to {@code false} if the composite failed as a whole. In that case no
+     * results are kept.
+     */
+    Promise<Boolean> resolve(Dispatcher dispatcher, List<Step> steps) {
+        results.clear();
+        if (steps.isEmpty()) {
+            return Promise.resolve(true);
+        }
+        List<Operation> operations = new ArrayList<>();
+        for (Step step : steps) {
+            operations.add(step.operation);
+        }
+        return dispatcher.executeSteps(new Composite(operations))
+                .then(result -> {
+                    apply(steps, result);
+                    return Promise.resolve(true);
+                })
+                .catch_(error -> {
+                    logger.debug("Unable to resolve %d items in one composite: %s", steps.size(), error);
+                    return Promise.resolve(false);
+                });
+    }
+
+    /** Keeps the results of the successful steps. */
+    void apply(List<Step> steps, CompositeResult result) {
+        for (int i = 0; i < steps.size(); i++) {
+            ModelNode step = result.step(i);
+            if (step.isFailure() || !step.hasDefined(RESULT)) {
+                logger.debug("Unable to resolve %s: %s", steps.get(i).identifier, step.getFailureDescription());
+            } else {
+                results.put(steps.get(i).identifier, step.get(RESULT));
+            }
+        }
+    }
+
+    /** @return the result for the item or {@code null} if there's no result */
+    ModelNode take(String identifier) {
+        return results.remove(identifier);
+    }
+
+    void clear() {
+        results.clear();
+    }
+
+    // ------------------------------------------------------ inner classes
+
+    static class Step {
+
+        final String identifier;
+        final Operation operation;
+
+        Step(String identifier, Operation operation) {
+            this.identifier = identifier;
+            this.operation = operation;
+        }
+    }
+}
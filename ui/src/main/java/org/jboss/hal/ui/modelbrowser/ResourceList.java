@@ -20,13 +20,14 @@ import java.util.List;
 import org.jboss.elemento.By;
 import org.jboss.elemento.Id;
 import org.jboss.elemento.IsElement;
-import org.jboss.elemento.logger.Logger;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.env.Stability;
 import org.jboss.hal.meta.Metadata;
 import org.jboss.hal.model.filter.NameAttribute;
 import org.jboss.hal.resources.HalClasses;
 import org.jboss.hal.resources.Keys;
+import org.jboss.hal.ui.VirtualList;
+import org.jboss.hal.ui.filter.FilterEngine;
 import org.jboss.hal.ui.modelbrowser.ModelBrowserEvents.AddResource;
 import org.jboss.hal.ui.modelbrowser.ModelBrowserEvents.DeleteResource;
 import org.jboss.hal.ui.modelbrowser.ModelBrowserEvents.SelectInTree;
@@ -51,6 +52,7 @@ import elemental2.promise.Promise;
 import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
 import static org.jboss.elemento.Elements.div;
+import static org.jboss.elemento.Elements.failSafeRemoveFromParent;
 import static org.jboss.elemento.Elements.isAttached;
 import static org.jboss.elemento.Elements.removeChildrenFrom;
 import static org.jboss.elemento.Elements.setVisible;
@@ -59,9 +61,11 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.ADD;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILD_TYPE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.REMOVE;
-import static org.jboss.hal.resources.HalClasses.halModifier;
+import static org.jboss.hal.resources.HalClasses.halComponent;
 import static org.jboss.hal.ui.StabilityLabel.stabilityLabel;
 import static org.jboss.hal.ui.UIContext.uic;
+import static org.jboss.hal.ui.VirtualList.virtualList;
+import static org.jboss.hal.ui.filter.FilterEngine.filterEngine;
 import static org.jboss.hal.ui.filter.ItemCount.itemCount;
 import static org.jboss.hal.ui.filter.NameTextInputGroup.nameFilterTextInputGroup;
 import static org.jboss.hal.ui.modelbrowser.ModelBrowserEngine.parseChildren;
@@ -107,13 +111,27 @@ import static org.patternfly.style.Variable.componentVar;
 
 class ResourceList implements IsElement<HTMLElement> {
 
-    private static final Logger logger = Logger.getLogger(ResourceList.class.getName());
+    // ------------------------------------------------------ static
+
+    /** Folders with more children are rendered as virtual list. */
+    static final int VIRTUAL_THRESHOLD = 250;
+
+    /** The estimated height of a data list item with one button. The virtual list measures the actual height. */
+    private static final int ESTIMATED_ROW_HEIGHT = 64;
+
+    /** Whether the children are rendered as virtual list. Only folders have rows with the same height. */
+    static boolean virtual(ModelBrowserNode parent, int children) {
+        return parent.type == FOLDER && children > VIRTUAL_THRESHOLD;
+    }
+
+    // ------------------------------------------------------ instance
 
     private final ModelBrowserNode parent;
     private final Metadata metadata;
     private final ObservableValue<Integer> visible;
     private final ObservableValue<Integer> total;
     private final Filter<ModelBrowserNode> filter;
+    private final FilterEngine<ModelBrowserNode> engine;
     private final NoMatch<ModelBrowserNode> noMatch;
     private final Operation operation;
     private final ToolbarItem addItem;
@@ -121,6 +139,7 @@ class ResourceList implements IsElement<HTMLElement> {
     private final HTMLElement listContainer;
     private final HTMLElement root;
     private DataList dataList;
+    private VirtualList<ModelBrowserNode> virtualList;
 
     ResourceList(ModelBrowserNode parent, Metadata metadata) {
         this.parent = parent;
@@ -128,8 +147,8 @@ class ResourceList implements IsElement<HTMLElement> {
         this.visible = ov(0);
         this.total = ov(0);
         this.filter = new Filter<ModelBrowserNode>(FilterOperator.AND)
-                .add(new NameAttribute<>(mbn -> mbn.name))
-                .onChange(this::onFilterChanged);
+                .add(new NameAttribute<>(mbn -> mbn.name));
+        this.engine = filterEngine(filter, mbn -> mbn.name, mbn -> 0).onFiltered(this::onFiltered);
         this.noMatch = new NoMatch<>(filter);
         this.operation = new Operation.Builder(parent.template.parent().resolve(), READ_CHILDREN_NAMES_OPERATION)
                 .param(CHILD_TYPE, parent.name)
@@ -264,43 +283,68 @@ class ResourceList implements IsElement<HTMLElement> {
 
     private void children(List<ModelBrowserNode> children) {
         setVisible(toolbar, true);
-        if (dataList == null) {
-            dataList = dataList();
-        }
-        dataList.clear();
-        dataList.addItems(children, child -> {
-            String childId = Id.build(child.name);
-            Metadata childMetadata = parent.type == SINGLETON_FOLDER
-                    ? uic().metadataRepository().get(child.template)
-                    : metadata;
-            return dataListItem(childId)
-                    .store(Keys.MODEL_BROWSER_NODE, child)
-                    .addCell(nameCell(childId, child, childMetadata))
-                    .addAction(dataListAction()
-                            .run(dataListAction -> {
-                                if (parent.type == FOLDER) {
-                                    // There are no individual descriptions, so center the button horizontally
-                                    dataListAction.style("align-items", "center");
-                                }
-                            })
-                            .add(button("View") // TODO RBAC
-                                    .tertiary()
-                                    .onClick((e, b) -> SelectInTree.dispatch(b.element(),
-                                            parent.identifier, child.identifier)))
-                            .run(dataListAction -> {
-                                // TODO RBAC
-                                if (childMetadata.resourceDescription().operations().supports(REMOVE)) {
-                                    dataListAction.add(button("Remove")
-                                            .tertiary()
-                                            .onClick((e, b) -> DeleteResource.dispatch(b.element(), child.template)));
-                                }
-                            }));
-        });
-        if (!isAttached(dataList)) {
-            listContainer.appendChild(dataList.element());
+        if (virtual(parent, children.size())) {
+            if (dataList != null) {
+                failSafeRemoveFromParent(dataList);
+                dataList = null;
+            }
+            if (virtualList == null) {
+                virtualList = virtualList(ESTIMATED_ROW_HEIGHT, (ModelBrowserNode child) -> item(child).element())
+                        .measureRowHeight()
+                        .css(component(Classes.dataList), halComponent(HalClasses.modelBrowser, HalClasses.resources));
+            }
+            virtualList.items(children);
+            if (!isAttached(virtualList)) {
+                listContainer.appendChild(virtualList.element());
+            }
+            // the virtual list always shows the matching children of the full list
+            engine.index(children);
+        } else {
+            if (virtualList != null) {
+                failSafeRemoveFromParent(virtualList);
+                virtualList = null;
+            }
+            if (dataList == null) {
+                dataList = dataList();
+            }
+            dataList.clear();
+            dataList.addItems(children, this::item);
+            if (!isAttached(dataList)) {
+                listContainer.appendChild(dataList.element());
+            }
+            engine.index(dataList.items(), item -> item.get(Keys.MODEL_BROWSER_NODE), DataListItem::element);
         }
     }
 
+    private DataListItem item(ModelBrowserNode child) {
+        String childId = Id.build(child.name);
+        Metadata childMetadata = parent.type == SINGLETON_FOLDER
+                ? uic().metadataRepository().get(child.template)
+                : metadata;
+        return dataListItem(childId)
+                .store(Keys.MODEL_BROWSER_NODE, child)
+                .addCell(nameCell(childId, child, childMetadata))
+                .addAction(dataListAction()
+                        .run(dataListAction -> {
+                            if (parent.type == FOLDER) {
+                                // There are no individual descriptions, so center the button horizontally
+                                dataListAction.style("align-items", "center");
+                            }
+                        })
+                        .add(button("View") // TODO RBAC
+                                .tertiary()
+                                .onClick((e, b) -> SelectInTree.dispatch(b.element(),
+                                        parent.identifier, child.identifier)))
+                        .run(dataListAction -> {
+                            // TODO RBAC
+                            if (childMetadata.resourceDescription().operations().supports(REMOVE)) {
+                                dataListAction.add(button("Remove")
+                                        .tertiary()
+                                        .onClick((e, b) -> DeleteResource.dispatch(b.element(), child.template)));
+                            }
+                        }));
+    }
+
     private DataListCell nameCell(String childId, ModelBrowserNode child, Metadata metadata) {
         Flex flex = flex().direction(column);
         if (parent.type == SINGLETON_FOLDER) {
@@ -327,30 +371,12 @@ class ResourceList implements IsElement<HTMLElement> {
 
     // ------------------------------------------------------ filter
 
-    private void onFilterChanged(Filter<ModelBrowserNode> filter, String origin) {
-        if (dataList != null) {
-            logger.debug("Filter resources: %s", filter);
-            int matchingItems;
-            if (filter.defined()) {
-                matchingItems = 0;
-                for (DataListItem item : dataList.items()) {
-                    ModelBrowserNode mbn = item.get(Keys.MODEL_BROWSER_NODE);
-                    if (mbn != null) {
-                        boolean match = filter.match(mbn);
-                        item.classList().toggle(halModifier(HalClasses.filtered), !match);
-                        if (match) {
-                            matchingItems++;
-                        }
-                    }
-                }
-                noMatch.toggle(listContainer, matchingItems == 0);
-            } else {
-                matchingItems = total.get();
-                noMatch.toggle(listContainer, false);
-                dataList.items().forEach(dlg -> dlg.classList().remove(halModifier(HalClasses.filtered)));
-            }
-            visible.set(matchingItems);
+    private void onFiltered(int matchingItems) {
+        if (virtualList != null) {
+            virtualList.items(engine.matches());
         }
+        noMatch.toggle(listContainer, filter.defined() && matchingItems == 0);
+        visible.set(matchingItems);
     }
 
     // ------------------------------------------------------ action handlers
@@ -359,7 +385,7 @@ class ResourceList implements IsElement<HTMLElement> {
         removeChildrenFrom(listContainer);
         load().then(children -> {
             if (!children.isEmpty() && filter.defined()) {
-                onFilterChanged(filter, null);
+                engine.apply();
             }
             return null;
         });
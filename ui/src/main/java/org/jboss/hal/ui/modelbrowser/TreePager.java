@@ -0,0 +1,128 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ui.modelbrowser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Holds the children of a folder in the tree view. Only the first pages of the children are turned into tree view items. The
+ * pager is stored in the context of the folder's tree view item and is used to
+ * <ul>
+ *     <li>materialize the next page ({@link #next()})</li>
+ *     <li>materialize the page containing a child which should be selected ({@link #reveal(String)})</li>
+ *     <li>filter the names of all children without creating tree view items ({@link #filter(String, int)})</li>
+ * </ul>
+ * The next page is appended to the folder's tree view item. Revealing a child reloads the folder's tree view item. The reload
+ * uses the children of this pager instead of executing the read-children-names operation again (see {@link #reuse()}).
+ */
+class TreePager {
+
+    static final int PAGE_SIZE = 100;
+
+    final String identifier;
+    private List<ModelBrowserNode> children;
+    private int materialized;
+    private boolean reuse;
+
+    TreePager(String identifier) {
+        this.identifier = identifier;
+        this.children = emptyList();
+        this.materialized = PAGE_SIZE;
+        this.reuse = false;
+    }
+
+    // ------------------------------------------------------ api
+
+    /** Sets the children read from the management model. Keeps the number of materialized children. */
+    void children(List<ModelBrowserNode> children) {
+        this.children = children;
+    }
+
+    /** @return the children which should be turned into tree view items */
+    List<ModelBrowserNode> page() {
+        return children.subList(0, Math.min(materialized, children.size()));
+    }
+
+    /** @return the number of children which are not yet materialized */
+    int remaining() {
+        return Math.max(0, children.size() - materialized);
+    }
+
+    boolean hasMore() {
+        return remaining() > 0;
+    }
+
+    /**
+     * Materializes the next page.
+     *
+     * @return the children of the next page only, which should be appended to the folder's tree view item
+     */
+    List<ModelBrowserNode> next() {
+        int from = Math.min(materialized, children.size());
+        materialized += PAGE_SIZE;
+        return children.subList(from, Math.min(materialized, children.size()));
+    }
+
+    /**
+     * Materializes the pages up to and including the child with the given identifier on the next reload.
+     *
+     * @return {@code true} if the folder needs to be reloaded, {@code false} if the child is unknown or has already been
+     * materialized
+     */
+    boolean reveal(String identifier) {
+        int index = -1;
+        for (int i = 0; i < children.size(); i++) {
+            if (children.get(i).identifier.equals(identifier)) {
+                index = i;
+                break;
+            }
+        }
+        if (index >= materialized) {
+            materialized = (index / PAGE_SIZE + 1) * PAGE_SIZE;
+            reuse = true;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether the next load should use the children of this pager instead of reading them again, and resets the
+     * flag. Set by {@link #reveal(String)}.
+     */
+    boolean reuse() {
+        boolean result = reuse;
+        reuse = false;
+        return result;
+    }
+
+    /** @return the children whose name contains the query (ignoring case), materialized or not */
+    List<ModelBrowserNode> filter(String query, int limit) {
+        List<ModelBrowserNode> matches = new ArrayList<>();
+        String lowerCaseQuery = query.toLowerCase();
+        for (ModelBrowserNode child : children) {
+            if (matches.size() >= limit) {
+                break;
+            }
+            if (child.name.toLowerCase().contains(lowerCaseQuery)) {
+                matches.add(child);
+            }
+        }
+        return matches;
+    }
+}
@@ -93,6 +93,7 @@ class CapabilityReference implements IsElement<HTMLElement>, Attachable {
     private static final int DISTANCE = 10;
     private static final int Z_INDEX = 9999;
     private static final Logger logger = Logger.getLogger(CapabilityReference.class.getName());
+    private static final VisibilityObserver visibility = new VisibilityObserver();
 
     private final AddressTemplate origin;
     private final String capability;
@@ -178,17 +179,19 @@ class CapabilityReference implements IsElement<HTMLElement>, Attachable {
             }
         }));
 
-        findResources().then(__ -> {
+        // defer the lookup until the capability reference becomes visible
+        visibility.observe(root, () -> findResources().then(__ -> {
             setVisible(providedByButton, state == State.ONE_RESOURCE || state == State.MULTIPLE_RESOURCES);
             if (state == State.ONE_RESOURCE && singleTemplate != null) {
                 tooltip(providedByButton.element(), singleTemplate.toString()).appendToBody();
             }
             return null;
-        });
+        }));
     }
 
     @Override
     public void detach(MutationRecord mutationRecord) {
+        visibility.unobserve(root);
         for (HandlerRegistration handlerRegistration : handlerRegistrations) {
             handlerRegistration.removeHandler();
         }
@@ -24,6 +24,7 @@ import org.jboss.elemento.Id;
 import org.jboss.elemento.logger.Logger;
 import org.jboss.hal.core.Notifications;
 import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.meta.description.AttributeDescription;
 import org.jboss.hal.ui.BuildingBlocks;
 import org.jboss.hal.ui.resource.FormItemFlags.Placeholder;
 import org.patternfly.component.ValidationStatus;
@@ -190,7 +191,11 @@ abstract class FormItem implements
      * These relations between form items are meant to be validated in the form rather than in the form item.
      */
     boolean requiredOnItsOwn() {
-        return ra.description.required() && !(ra.description.hasDefined(ALTERNATIVES) || ra.description.hasDefined(REQUIRES));
+        return requiredOnItsOwn(ra.description);
+    }
+
+    static boolean requiredOnItsOwn(AttributeDescription description) {
+        return description.required() && !(description.hasDefined(ALTERNATIVES) || description.hasDefined(REQUIRES));
     }
 
     /**
@@ -137,17 +137,21 @@ class FormItemFactory {
     }
 
     static FormItem nameFormItem(Metadata metadata) {
-        AttributeDescription nameDescription = metadata.resourceDescription().attributes().get(NAME);
-        if (!nameDescription.isDefined()) {
-            ModelNode modelNode = new ModelNode();
+        // Work on a copy: The attribute descriptions are cached and compile their flags on first access.
+        ModelNode modelNode;
+        AttributeDescription existing = metadata.resourceDescription().attributes().get(NAME);
+        if (existing.isDefined()) {
+            modelNode = existing.asModelNode().clone();
+        } else {
+            modelNode = new ModelNode();
             modelNode.get(DESCRIPTION).set("The name of the resource");
             modelNode.get(TYPE).set(ModelType.STRING);
-            nameDescription = new AttributeDescription(new Property(NAME, modelNode));
         }
         // Even if the name description already exists, make sure that these properties have the right value.
-        nameDescription.get(REQUIRED).set(true);
-        nameDescription.get(ACCESS_TYPE).set(READ_WRITE);
-        nameDescription.get(EXPRESSIONS_ALLOWED).set(false);
+        modelNode.get(REQUIRED).set(true);
+        modelNode.get(ACCESS_TYPE).set(READ_WRITE);
+        modelNode.get(EXPRESSIONS_ALLOWED).set(false);
+        AttributeDescription nameDescription = new AttributeDescription(new Property(NAME, modelNode));
 
         ResourceAttribute ra = new ResourceAttribute(new ModelNode(), nameDescription, SecurityContext.RWX);
         String identifier = identifier(ra, EDIT);
@@ -156,6 +160,15 @@ class FormItemFactory {
                 new FormItemFlags(FormItemFlags.Scope.NEW_RESOURCE, Placeholder.NONE));
     }
 
+    /**
+     * Returns a form item which is built on demand. Until then, only a lightweight placeholder is shown. See
+     * {@link LazyFormItem}.
+     */
+    static FormItem lazyFormItem(AddressTemplate template, Metadata metadata, ResourceAttribute ra, FormItemFlags flags) {
+        return new LazyFormItem(identifier(ra, EDIT), ra, flags, () -> formItem(template, metadata, ra, flags))
+                .store(Keys.RESOURCE_ATTRIBUTE, ra);
+    }
+
     static FormItem formItem(AddressTemplate template, Metadata metadata, ResourceAttribute ra, FormItemFlags flags) {
         FormItem formItem;
         String identifier = identifier(ra, EDIT);
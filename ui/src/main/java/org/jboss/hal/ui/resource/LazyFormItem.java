@@ -0,0 +1,139 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ui.resource;
+
+import java.util.function.Supplier;
+
+import org.jboss.hal.core.LabelBuilder;
+import org.jboss.hal.dmr.ModelNode;
+
+import elemental2.dom.HTMLElement;
+
+import static org.jboss.elemento.Elements.div;
+import static org.jboss.elemento.EventType.focus;
+import static org.jboss.hal.resources.HalClasses.form;
+import static org.jboss.hal.resources.HalClasses.halComponent;
+import static org.jboss.hal.resources.HalClasses.lazy;
+import static org.jboss.hal.resources.HalClasses.placeholder;
+import static org.jboss.hal.resources.HalClasses.resource;
+import static org.patternfly.component.form.FormGroup.formGroup;
+import static org.patternfly.component.form.FormGroupControl.formGroupControl;
+import static org.patternfly.component.form.FormGroupLabel.formGroupLabel;
+
+/**
+ * A form item which is built on demand. Until then, a lightweight placeholder with the label and the current value is shown.
+ * The placeholder doesn't create popovers, form controls or expression containers.
+ * <p>
+ * The form item is built by the {@link ResourceForm} when the placeholder scrolls into view, gains focus or the browser is
+ * idle. The value of a form item which hasn't been built yet can't have been changed. So {@link #isModified()} returns
+ * {@code false} and {@link #modelNode()} returns the value of the resource attribute. {@link #validate()} only builds the form
+ * item if the unchanged value is invalid (see {@link #buildToValidate(ResourceAttribute)}), so that the error can be shown.
+ */
+class LazyFormItem extends FormItem {
+
+    /**
+     * Returns whether a form item which hasn't been built yet must be built to be validated. The unchanged value of the
+     * resource attribute can only be invalid if the attribute is required on its own, but undefined.
+     */
+    static boolean buildToValidate(ResourceAttribute ra) {
+        return !ra.description.readOnly() && requiredOnItsOwn(ra.description) && !ra.value.isDefined();
+    }
+
+    private final Supplier<FormItem> factory;
+    private final HTMLElement root;
+    private final HTMLElement placeholderElement;
+    private FormItem delegate;
+
+    LazyFormItem(String identifier, ResourceAttribute ra, FormItemFlags flags, Supplier<FormItem> factory) {
+        // the placeholder has its own label, the built form item creates the full label
+        super(identifier, ra, null, flags);
+        this.factory = factory;
+        this.placeholderElement = formGroup(identifier)
+                .required(ra.description.required())
+                .addLabel(formGroupLabel(new LabelBuilder().label(ra.name)))
+                .addControl(formGroupControl()
+                        .add(div().css(halComponent(resource, form, placeholder))
+                                .attr("tabindex", "0")
+                                .textContent(ra.readable && ra.value.isDefined() ? ra.value.asString() : "")
+                                .on(focus, e -> focusDelegate())))
+                .element();
+        this.root = div().css(halComponent(resource, form, lazy))
+                .add(placeholderElement)
+                .element();
+    }
+
+    @Override
+    public HTMLElement element() {
+        return root;
+    }
+
+    HTMLElement placeholder() {
+        return placeholderElement;
+    }
+
+    // ------------------------------------------------------ build
+
+    boolean built() {
+        return delegate != null;
+    }
+
+    /** Builds the form item (if not already done) and replaces the placeholder. */
+    FormItem build() {
+        if (delegate == null) {
+            delegate = factory.get();
+            root.replaceChild(delegate.element(), placeholderElement);
+            formGroup = delegate.formGroup;
+        }
+        return delegate;
+    }
+
+    private void focusDelegate() {
+        build();
+        HTMLElement control = (HTMLElement) delegate.element().querySelector("input, select, textarea, button");
+        if (control != null) {
+            control.focus();
+        }
+    }
+
+    // ------------------------------------------------------ validation
+
+    @Override
+    void resetValidation() {
+        if (delegate != null) {
+            delegate.resetValidation();
+        }
+    }
+
+    @Override
+    boolean validate() {
+        if (delegate != null) {
+            return delegate.validate();
+        }
+        return !buildToValidate(ra) || build().validate();
+    }
+
+    // ------------------------------------------------------ data
+
+    @Override
+    boolean isModified() {
+        return delegate != null && delegate.isModified();
+    }
+
+    @Override
+    ModelNode modelNode() {
+        return delegate != null ? delegate.modelNode() : ra.value;
+    }
+}
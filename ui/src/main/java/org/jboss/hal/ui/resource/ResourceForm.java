@@ -25,6 +25,7 @@ import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.meta.Idle;
 import org.jboss.hal.resources.HalClasses;
 import org.patternfly.component.HasItems;
 import org.patternfly.component.alert.Alert;
@@ -33,6 +34,8 @@ import org.patternfly.component.form.Form;
 import elemental2.dom.HTMLElement;
 
 import static java.util.stream.Collectors.toList;
+import static org.jboss.elemento.Elements.failSafeRemoveFromParent;
+import static org.jboss.elemento.Elements.isAttached;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.UNDEFINE_ATTRIBUTE_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.VALUE;
@@ -44,20 +47,33 @@ import static org.patternfly.component.alert.Alert.alert;
 import static org.patternfly.component.form.Form.form;
 import static org.patternfly.component.form.FormAlert.formAlert;
 
-/** Form to modify an existing resource */
+/**
+ * Form to modify an existing resource
+ * <p>
+ * The form supports {@linkplain LazyFormItem lazy form items}. The first {@value #EAGER} lazy items are built right away. The
+ * remaining ones are built when they scroll into view, gain focus or when the browser is idle.
+ */
 class ResourceForm implements
         HasElement<HTMLElement, ResourceForm>,
         HasItems<HTMLElement, ResourceForm, FormItem> {
 
+    static final int EAGER = 20;
+    private static final int IDLE_TIMEOUT = 1_000;
+    private static final double MIN_IDLE_TIME = 2;
+
     private final AddressTemplate template;
     private final Map<String, FormItem> items;
     private final Form form;
+    private final VisibilityObserver visibility;
+    private double idleHandle;
+    private boolean idleScheduled;
 
     ResourceForm(AddressTemplate template) {
         this.template = template;
         this.items = new LinkedHashMap<>();
         this.form = form().css(halComponent(resource, HalClasses.form))
                 .horizontal();
+        this.visibility = new VisibilityObserver();
     }
 
     @Override
@@ -73,7 +89,17 @@ class ResourceForm implements
     @Override
     public ResourceForm add(FormItem item) {
         items.put(item.identifier(), item);
-        form.addItem(item.formGroup);
+        // lazy form items replace their placeholder with the form group once they're built
+        form.add(item.element());
+        if (item instanceof LazyFormItem) {
+            LazyFormItem lazyItem = (LazyFormItem) item;
+            if (items.size() <= EAGER) {
+                lazyItem.build();
+            } else {
+                visibility.observe(lazyItem.placeholder(), lazyItem::build);
+                scheduleIdle();
+            }
+        }
         return this;
     }
 
@@ -104,10 +130,61 @@ class ResourceForm implements
 
     @Override
     public void clear() {
+        cancelIdle();
+        visibility.disconnect();
         form.clear();
+        items.values().forEach(item -> failSafeRemoveFromParent(item.element()));
         items.clear();
     }
 
+    // ------------------------------------------------------ lazy items
+
+    private void scheduleIdle() {
+        if (!idleScheduled) {
+            idleScheduled = true;
+            idleHandle = Idle.request(this::buildIdle, IDLE_TIMEOUT);
+        }
+    }
+
+    private void cancelIdle() {
+        if (idleScheduled) {
+            Idle.cancel(idleHandle);
+            idleScheduled = false;
+        }
+    }
+
+    /**
+     * Builds lazy items while the browser is idle. Builds only one item if the timeout expired. Stops if the form is not part
+     * of the DOM, e.g. because the resource manager switched back to view mode. Items which have not been built yet are
+     * still built when they become visible.
+     */
+    private void buildIdle(Idle.Deadline deadline) {
+        idleScheduled = false;
+        if (!isAttached(element())) {
+            return;
+        }
+        boolean remaining = false;
+        for (FormItem item : items.values()) {
+            if (item instanceof LazyFormItem && !((LazyFormItem) item).built()) {
+                if (deadline.didTimeout() || deadline.timeRemaining() > MIN_IDLE_TIME) {
+                    LazyFormItem lazyItem = (LazyFormItem) item;
+                    visibility.unobserve(lazyItem.placeholder());
+                    lazyItem.build();
+                    if (deadline.didTimeout()) {
+                        remaining = true;
+                        break;
+                    }
+                } else {
+                    remaining = true;
+                    break;
+                }
+            }
+        }
+        if (remaining) {
+            scheduleIdle();
+        }
+    }
+
     // ------------------------------------------------------ validation
 
     void resetValidation() {
@@ -24,8 +24,12 @@ import org.jboss.elemento.logger.Logger;
 import org.jboss.hal.core.Notifications;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.Property;
 import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.Metadata;
+import org.jboss.hal.meta.description.AttributeDescription;
+import org.jboss.hal.ui.filter.Facets;
+import org.jboss.hal.ui.filter.FilterEngine;
 import org.jboss.hal.ui.modelbrowser.NoMatch;
 import org.jboss.hal.ui.resource.FormItemFlags.Placeholder;
 import org.jboss.hal.ui.resource.FormItemFlags.Scope;
@@ -45,13 +49,13 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.ATTRIBUTES_ONLY;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDE_RUNTIME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
 import static org.jboss.hal.resources.HalClasses.body;
-import static org.jboss.hal.resources.HalClasses.filtered;
 import static org.jboss.hal.resources.HalClasses.halComponent;
-import static org.jboss.hal.resources.HalClasses.halModifier;
 import static org.jboss.hal.resources.HalClasses.resource;
 import static org.jboss.hal.ui.BuildingBlocks.errorCode;
 import static org.jboss.hal.ui.UIContext.uic;
-import static org.jboss.hal.ui.resource.FormItemFactory.formItem;
+import static org.jboss.hal.ui.filter.FilterEngine.filterEngine;
+import static org.jboss.hal.ui.resource.FormItemFactory.lazyFormItem;
+import static org.jboss.hal.ui.resource.ItemIdentifier.identifier;
 import static org.jboss.hal.ui.resource.ResourceAttribute.includes;
 import static org.jboss.hal.ui.resource.ResourceAttribute.resourceAttributes;
 import static org.jboss.hal.ui.resource.ResourceManager.State.EDIT;
@@ -59,6 +63,7 @@ import static org.jboss.hal.ui.resource.ResourceManager.State.ERROR;
 import static org.jboss.hal.ui.resource.ResourceManager.State.NO_ATTRIBUTES;
 import static org.jboss.hal.ui.resource.ResourceManager.State.VIEW;
 import static org.jboss.hal.ui.resource.ResourceToolbar.resourceToolbar;
+import static org.jboss.hal.ui.resource.ViewItemFactory.updateViewItem;
 import static org.jboss.hal.ui.resource.ViewItemFactory.viewItem;
 import static org.patternfly.component.Severity.danger;
 import static org.patternfly.component.alert.Alert.alert;
@@ -90,6 +95,8 @@ public class ResourceManager implements HasElement<HTMLElement, ResourceManager>
         VIEW, EDIT, NO_ATTRIBUTES, ERROR
     }
 
+    /** The default interval in milliseconds used to poll runtime attributes */
+    public static final int RUNTIME_POLL_INTERVAL = 5_000;
     private static final Logger logger = Logger.getLogger(ResourceManager.class.getName());
 
     private final AddressTemplate template;
@@ -98,15 +105,19 @@ public class ResourceManager implements HasElement<HTMLElement, ResourceManager>
     private final ObservableValue<Integer> visible;
     private final ObservableValue<Integer> total;
     private final Filter<ResourceAttribute> filter;
+    private final FilterEngine<ResourceAttribute> engine;
     private final NoMatch<ResourceAttribute> noMatch;
     private final ResourceToolbar toolbar;
     private final HTMLElement rootContainer;
     private final HTMLElement root;
     private boolean inlineEdit;
+    private int pollInterval;
     private State state;
     private Operation operation;
     private HasItems<HTMLElement, ?, ? extends ManagerItem<?>> items;
     private ResourceForm resourceForm;
+    private ModelNode resource;
+    private RuntimePoller poller;
 
     ResourceManager(AddressTemplate template, Metadata metadata) {
         this.template = template;
@@ -114,9 +125,12 @@ public class ResourceManager implements HasElement<HTMLElement, ResourceManager>
         this.attributes = new ArrayList<>();
         this.visible = ov(0);
         this.total = ov(0);
-        this.filter = new ResourceFilter().onChange(this::onFilterChanged);
+        this.filter = new ResourceFilter();
+        this.engine = filterEngine(filter, ra -> ra.name, ra -> Facets.attribute(ra.description, ra.value))
+                .onFiltered(this::onFiltered);
         this.noMatch = new NoMatch<>(filter);
         this.inlineEdit = false;
+        this.pollInterval = RUNTIME_POLL_INTERVAL;
         this.state = null;
         this.operation = new Operation.Builder(template.resolve(), READ_RESOURCE_OPERATION)
                 .param(ATTRIBUTES_ONLY, true)
@@ -137,6 +151,11 @@ public class ResourceManager implements HasElement<HTMLElement, ResourceManager>
         load(VIEW);
     }
 
+    @Override
+    public void detach(MutationRecord mutationRecord) {
+        stopPolling();
+    }
+
     @Override
     public HTMLElement element() {
         return root;
@@ -153,6 +172,15 @@ public class ResourceManager implements HasElement<HTMLElement, ResourceManager>
         return this;
     }
 
+    /**
+     * Sets the interval in milliseconds used to poll the runtime attributes while the resource is viewed. Use {@code 0} to
+     * turn polling off. Defaults to {@value #RUNTIME_POLL_INTERVAL}.
+     */
+    public ResourceManager runtimePolling(int interval) {
+        this.pollInterval = interval;
+        return this;
+    }
+
     public ResourceManager operation(Operation operation) {
         if (operation != null) {
             this.operation = operation;
@@ -177,6 +205,7 @@ public class ResourceManager implements HasElement<HTMLElement, ResourceManager>
     // ------------------------------------------------------ status
 
     void load(State state) {
+        stopPolling();
         changeState(state);
         if (metadata.isDefined()) {
             uic().dispatcher().execute(operation, resource -> {
@@ -189,11 +218,12 @@ public class ResourceManager implements HasElement<HTMLElement, ResourceManager>
                             resourceView.addItem(viewItem(template, metadata, ra));
                         }
                         items = resourceView;
+                        this.resource = resource;
 
                     } else if (state == EDIT) {
                         resourceForm = new ResourceForm(template);
                         for (ResourceAttribute ra : resourceAttributes) {
-                            resourceForm.addItem(formItem(template, metadata, ra,
+                            resourceForm.addItem(lazyFormItem(template, metadata, ra,
                                     new FormItemFlags(Scope.EXISTING_RESOURCE, Placeholder.UNDEFINED)));
                         }
                         items = resourceForm;
@@ -201,15 +231,15 @@ public class ResourceManager implements HasElement<HTMLElement, ResourceManager>
 
                     if (state == VIEW || state == EDIT) {
                         total.set(resourceAttributes.size());
-                        if (filter.defined()) {
-                            onFilterChanged(filter, null);
-                        } else {
-                            visible.set(resourceAttributes.size());
-                        }
+                        engine.index(items, item -> item.resourceAttribute(), item -> item.element());
+                        engine.apply();
                         toolbar.adjust(state, metadata.securityContext());
                         setVisible(toolbar, true);
                         rootContainer.append(items.element());
                     }
+                    if (state == VIEW) {
+                        startPolling(resourceAttributes);
+                    }
                 } else {
                     noAttributes();
                 }
@@ -260,28 +290,9 @@ public class ResourceManager implements HasElement<HTMLElement, ResourceManager>
 
     // ------------------------------------------------------ filter
 
-    private void onFilterChanged(Filter<ResourceAttribute> filter, String origin) {
+    private void onFiltered(int matchingItems) {
         if ((state == VIEW || state == EDIT) && items != null && isAttached(element())) {
-            logger.debug("Filter attributes: %s", filter);
-            int matchingItems;
-            if (filter.defined()) {
-                matchingItems = 0;
-                for (ManagerItem<?> item : items) {
-                    ResourceAttribute ra = item.resourceAttribute();
-                    if (ra != null) {
-                        boolean match = filter.match(ra);
-                        item.element().classList.toggle(halModifier(filtered), !match);
-                        if (match) {
-                            matchingItems++;
-                        }
-                    }
-                }
-                noMatch.toggle(rootContainer, matchingItems == 0);
-            } else {
-                matchingItems = total.get();
-                noMatch.toggle(rootContainer, false);
-                items.items().forEach(item -> item.element().classList.remove(halModifier(filtered)));
-            }
+            noMatch.toggle(rootContainer, filter.defined() && matchingItems == 0);
             visible.set(matchingItems);
         }
     }
@@ -290,11 +301,73 @@ public class ResourceManager implements HasElement<HTMLElement, ResourceManager>
 
     void refresh() {
         if (state == VIEW) {
-            removeChildrenFrom(rootContainer);
-            load(VIEW);
+            if (items instanceof ResourceView && metadata.isDefined()) {
+                update((ResourceView) items);
+            } else {
+                removeChildrenFrom(rootContainer);
+                load(VIEW);
+            }
         }
     }
 
+    /**
+     * Reads the resource again and updates only the view items whose value has changed. Falls back to a full reload if the
+     * attributes differ from the ones shown in the view.
+     */
+    private void update(ResourceView resourceView) {
+        uic().dispatcher().execute(operation, resource -> {
+            if (state != VIEW || items != resourceView) {
+                return; // state changed in the meantime
+            }
+            this.resource = resource;
+            update(resourceView, resource);
+        }, (op, error) -> {
+            stopPolling();
+            operationError(op.asCli(), error);
+        });
+    }
+
+    private void update(ResourceView resourceView, ModelNode resource) {
+        if (valid(resource)) {
+            List<ResourceAttribute> resourceAttributes = resourceAttributes(resource, metadata, includes(attributes));
+            List<ViewItem> viewItems = new ArrayList<>();
+            for (ViewItem viewItem : resourceView) {
+                viewItems.add(viewItem);
+            }
+            if (sameAttributes(viewItems, resourceAttributes)) {
+                int updated = 0;
+                for (int i = 0; i < viewItems.size(); i++) {
+                    if (updateViewItem(viewItems.get(i), template, resourceAttributes.get(i))) {
+                        updated++;
+                    }
+                }
+                if (updated > 0) {
+                    logger.debug("Updated %d of %d attributes of %s", updated, viewItems.size(), template);
+                    engine.index(items, item -> item.resourceAttribute(), item -> item.element());
+                    engine.apply();
+                }
+            } else {
+                removeChildrenFrom(rootContainer);
+                load(VIEW);
+            }
+        } else {
+            stopPolling();
+            noAttributes();
+        }
+    }
+
+    private boolean sameAttributes(List<ViewItem> viewItems, List<ResourceAttribute> resourceAttributes) {
+        if (viewItems.size() != resourceAttributes.size()) {
+            return false;
+        }
+        for (int i = 0; i < viewItems.size(); i++) {
+            if (!viewItems.get(i).identifier().equals(identifier(resourceAttributes.get(i), VIEW))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     void reset() {
         if (state == VIEW) {
             // TODO Implement me!
@@ -328,6 +401,41 @@ public class ResourceManager implements HasElement<HTMLElement, ResourceManager>
         }
     }
 
+    // ------------------------------------------------------ runtime polling
+
+    private void startPolling(List<ResourceAttribute> resourceAttributes) {
+        List<String> runtimeAttributes = new ArrayList<>();
+        for (ResourceAttribute ra : resourceAttributes) {
+            AttributeDescription description = ra.description.nested() ? ra.description.root() : ra.description;
+            if (description.runtime() && ra.readable && !runtimeAttributes.contains(description.name())) {
+                runtimeAttributes.add(description.name());
+            }
+        }
+        if (pollInterval > 0 && !runtimeAttributes.isEmpty()) {
+            poller = new RuntimePoller(template, runtimeAttributes, pollInterval, this::onRuntimeValues);
+            poller.start();
+        }
+    }
+
+    private void stopPolling() {
+        if (poller != null) {
+            poller.stop();
+            poller = null;
+        }
+    }
+
+    private void onRuntimeValues(ModelNode values) {
+        if (state == VIEW && items instanceof ResourceView && resource != null) {
+            // the view items keep the attribute nodes of the previous resource, so don't change them in place
+            ModelNode updated = resource.clone();
+            for (Property property : values.asPropertyList()) {
+                updated.get(property.getName()).set(property.getValue());
+            }
+            resource = updated;
+            update((ResourceView) items, updated);
+        }
+    }
+
     // ------------------------------------------------------ internal
 
     private void changeState(State state) {
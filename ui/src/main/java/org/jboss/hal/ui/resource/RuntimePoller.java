@@ -0,0 +1,97 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ui.resource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.jboss.hal.core.PollingScheduler;
+import org.jboss.hal.core.PollingTask;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.meta.AddressTemplate;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDE_DEFAULTS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
+import static org.jboss.hal.ui.UIContext.uic;
+
+/**
+ * Polls runtime attributes of a resource using {@code read-attribute} operations. The configuration attributes are read once
+ * by the {@link ResourceManager}, only the runtime attributes are read again.
+ * <p>
+ * The operations are scheduled by the {@link PollingScheduler}, which merges them with other due operations, backs off on
+ * slow or failed requests and pauses while the browser tab is hidden. Attributes which can't be read keep their last value
+ * and don't affect the other attributes.
+ */
+class RuntimePoller {
+
+    private final AddressTemplate template;
+    private final List<String> attributes;
+    private final List<Operation> operations;
+    private final int interval;
+    private final Consumer<ModelNode> consumer;
+    private PollingTask task;
+
+    /**
+     * @param attributes the names of the runtime attributes
+     * @param interval   the interval in milliseconds
+     * @param consumer   receives a model node with the current values of the runtime attributes
+     */
+    RuntimePoller(AddressTemplate template, List<String> attributes, int interval, Consumer<ModelNode> consumer) {
+        this.template = template;
+        this.attributes = new ArrayList<>(attributes);
+        this.interval = interval;
+        this.consumer = consumer;
+        this.operations = new ArrayList<>();
+        for (String attribute : this.attributes) {
+            operations.add(new Operation.Builder(template.resolve(), READ_ATTRIBUTE_OPERATION)
+                    .param(NAME, attribute)
+                    .param(INCLUDE_DEFAULTS, true)
+                    .build());
+        }
+    }
+
+    // ------------------------------------------------------ api
+
+    void start() {
+        if (task == null && !attributes.isEmpty() && interval > 0) {
+            task = uic().polling().schedule("runtime attributes of " + template, interval, () -> operations,
+                    results -> {
+                        ModelNode values = new ModelNode();
+                        for (int i = 0; i < attributes.size(); i++) {
+                            // keep the last value of attributes which can't be read
+                            if (results.get(i) != null) {
+                                values.get(attributes.get(i)).set(results.get(i));
+                            }
+                        }
+                        consumer.accept(values);
+                    }, null);
+        }
+    }
+
+    void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    boolean running() {
+        return task != null;
+    }
+}
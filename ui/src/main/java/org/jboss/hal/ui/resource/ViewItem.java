@@ -19,6 +19,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.jboss.elemento.HasElement;
+import org.jboss.hal.dmr.ModelNode;
 import org.patternfly.component.WithIdentifier;
 import org.patternfly.component.list.DescriptionListGroup;
 import org.patternfly.component.list.DescriptionListTerm;
@@ -39,10 +40,13 @@ class ViewItem implements
     final DescriptionListGroup descriptionListGroup;
     private final String identifier;
     private final Map<String, Object> data;
+    private HTMLElement valueElement;
+    ModelNode value;
 
     ViewItem(String identifier, DescriptionListTerm descriptionListTerm, HTMLElement valueElement) {
         this.identifier = identifier;
         this.data = new HashMap<>();
+        this.valueElement = valueElement;
         this.descriptionListGroup = descriptionListGroup(identifier)
                 .addTerm(descriptionListTerm)
                 .addDescription(descriptionListDescription()
@@ -54,6 +58,14 @@ class ViewItem implements
         return descriptionListGroup.element();
     }
 
+    /** Replaces the value element. The term and the rest of the description list group are kept. */
+    void value(HTMLElement valueElement) {
+        if (this.valueElement.parentNode != null) {
+            this.valueElement.parentNode.replaceChild(valueElement, this.valueElement);
+        }
+        this.valueElement = valueElement;
+    }
+
     @Override
     public ViewItem that() {
         return this;
@@ -41,6 +41,7 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.ALLOWED;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.CAPABILITY_REFERENCE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.TYPE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.VALUE_TYPE;
+import static org.jboss.hal.dmr.ModelNodeHelper.changed;
 import static org.jboss.hal.dmr.ModelType.BOOLEAN;
 import static org.jboss.hal.dmr.ModelType.LIST;
 import static org.jboss.hal.dmr.ModelType.OBJECT;
@@ -87,8 +88,26 @@ class ViewItemFactory {
     static ViewItem viewItem(AddressTemplate template, Metadata metadata, ResourceAttribute ra) {
         DescriptionListTerm descriptionListTerm = label(metadata, ra);
         HTMLElement valueElement = value(template, ra);
-        return new ViewItem(identifier(ra, VIEW), descriptionListTerm, valueElement)
+        ViewItem viewItem = new ViewItem(identifier(ra, VIEW), descriptionListTerm, valueElement)
                 .store(Keys.RESOURCE_ATTRIBUTE, ra);
+        viewItem.value = ra.value;
+        return viewItem;
+    }
+
+    /**
+     * Updates the value of the view item if the value of the resource attribute has changed. Uses
+     * {@link org.jboss.hal.dmr.ModelNodeHelper#changed(ModelNode, ModelNode)} to detect changes.
+     *
+     * @return whether the view item has been updated
+     */
+    static boolean updateViewItem(ViewItem viewItem, AddressTemplate template, ResourceAttribute ra) {
+        if (changed(viewItem.value, ra.value)) {
+            viewItem.value(value(template, ra));
+            viewItem.store(Keys.RESOURCE_ATTRIBUTE, ra);
+            viewItem.value = ra.value;
+            return true;
+        }
+        return false;
     }
 
     private static DescriptionListTerm label(Metadata metadata, ResourceAttribute ra) {
@@ -0,0 +1,90 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ui.resource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import elemental2.dom.Element;
+import elemental2.dom.IntersectionObserver;
+import elemental2.dom.IntersectionObserverEntry;
+import elemental2.dom.IntersectionObserverInit;
+import jsinterop.base.Js;
+
+/**
+ * Runs a callback once an element scrolls into view (or close to it, see {@value #ROOT_MARGIN}). Used to defer expensive work
+ * until an item becomes visible. If the browser doesn't support {@code IntersectionObserver}, the callbacks run right away.
+ */
+class VisibilityObserver {
+
+    private static final String ROOT_MARGIN = "200px";
+
+    static boolean supported() {
+        return Js.asPropertyMap(Js.global()).has("IntersectionObserver");
+    }
+
+    private final Map<Element, Runnable> callbacks;
+    private IntersectionObserver observer;
+
+    VisibilityObserver() {
+        this.callbacks = new HashMap<>();
+    }
+
+    // ------------------------------------------------------ api
+
+    /** Runs the callback once the element becomes visible. */
+    void observe(Element element, Runnable callback) {
+        if (!supported()) {
+            callback.run();
+            return;
+        }
+        if (observer == null) {
+            IntersectionObserverInit init = IntersectionObserverInit.create();
+            init.setRootMargin(ROOT_MARGIN);
+            observer = new IntersectionObserver((entries, o) -> {
+                for (int i = 0; i < entries.length; i++) {
+                    IntersectionObserverEntry entry = entries.getAt(i);
+                    if (entry.intersectionRatio > 0) {
+                        Runnable visible = callbacks.remove(entry.target);
+                        observer.unobserve(entry.target);
+                        if (visible != null) {
+                            visible.run();
+                        }
+                    }
+                }
+                return null;
+            }, init);
+        }
+        callbacks.put(element, callback);
+        observer.observe(element);
+    }
+
+    /** Stops observing the element without running its callback. */
+    void unobserve(Element element) {
+        if (callbacks.remove(element) != null && observer != null) {
+            observer.unobserve(element);
+        }
+    }
+
+    /** Stops observing all elements. */
+    void disconnect() {
+        callbacks.clear();
+        if (observer != null) {
+            observer.disconnect();
+            observer = null;
+        }
+    }
+}
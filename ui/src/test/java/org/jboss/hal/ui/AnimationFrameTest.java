@@ -0,0 +1,97 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AnimationFrameTest {
+
+    private List<Runnable> requested;
+    private List<Double> cancelled;
+    private int calls;
+    private AnimationFrame frame;
+
+    @BeforeEach
+    void setUp() {
+        requested = new ArrayList<>();
+        cancelled = new ArrayList<>();
+        calls = 0;
+        frame = new AnimationFrame(() -> calls++, runnable -> {
+            requested.add(runnable);
+            return requested.size();
+        }, cancelled::add);
+    }
+
+    @Test
+    void oncePerFrame() {
+        for (int i = 0; i < 1_000; i++) {
+            frame.schedule();
+        }
+        assertEquals(1, requested.size());
+        assertTrue(frame.scheduled());
+
+        nextFrame();
+        assertEquals(1, calls);
+        assertEquals(1, frame.frames());
+        assertFalse(frame.scheduled());
+    }
+
+    @Test
+    void scheduleAgain() {
+        frame.schedule();
+        nextFrame();
+        frame.schedule();
+        frame.schedule();
+        nextFrame();
+        assertEquals(2, requested.size());
+        assertEquals(2, calls);
+    }
+
+    @Test
+    void cancel() {
+        frame.schedule();
+        frame.cancel();
+        assertEquals(List.of(1.0), cancelled);
+        assertFalse(frame.scheduled());
+
+        // nothing to cancel
+        frame.cancel();
+        assertEquals(1, cancelled.size());
+    }
+
+    @Test
+    void reset() {
+        frame.schedule();
+        nextFrame();
+        frame.schedule();
+        frame.reset();
+        assertEquals(0, frame.frames());
+        assertFalse(frame.scheduled());
+    }
+
+    private void nextFrame() {
+        Runnable runnable = requested.get(requested.size() - 1);
+        runnable.run();
+    }
+}
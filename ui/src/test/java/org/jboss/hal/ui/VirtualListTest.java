@@ -0,0 +1,100 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ui;
+
+import org.junit.jupiter.api.Test;
+
+import static org.jboss.hal.ui.VirtualList.overlap;
+import static org.jboss.hal.ui.VirtualList.range;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualListTest {
+
+    @Test
+    void empty() {
+        assertArrayEquals(new int[]{0, -1}, range(0, 280, 28, 0, 5));
+    }
+
+    @Test
+    void top() {
+        // 10 visible rows + 5 rows overscan
+        assertArrayEquals(new int[]{0, 15}, range(0, 280, 28, 10_000, 5));
+    }
+
+    @Test
+    void middle() {
+        // first visible row is 100
+        assertArrayEquals(new int[]{95, 115}, range(2800, 280, 28, 10_000, 5));
+        assertArrayEquals(new int[]{95, 115}, range(2810, 280, 28, 10_000, 5));
+    }
+
+    @Test
+    void end() {
+        assertArrayEquals(new int[]{9985, 9999}, range(279_720, 280, 28, 10_000, 5));
+        // scrolled beyond the end, e.g. after the items have been replaced
+        assertArrayEquals(new int[]{4, 9}, range(279_720, 280, 28, 10, 5));
+    }
+
+    @Test
+    void fewItems() {
+        assertArrayEquals(new int[]{0, 2}, range(0, 280, 28, 3, 5));
+    }
+
+    @Test
+    void scrollThrough() {
+        // 50k rows: every window is bounded and overlaps the previous one, so most rows are reused
+        int size = 50_000;
+        int rowHeight = 64;
+        int viewport = 640;
+        int[] previous = range(0, viewport, rowHeight, size, 5);
+        for (double scrollTop = rowHeight; scrollTop < size * rowHeight; scrollTop += rowHeight) {
+            int[] current = range(scrollTop, viewport, rowHeight, size, 5);
+            assertTrue(current[1] - current[0] + 1 <= 10 + 2 * 5 + 1);
+            assertTrue(current[0] <= previous[1]);
+            previous = current;
+        }
+        assertArrayEquals(new int[]{49_994, 49_999}, previous);
+    }
+
+    @Test
+    void overlapping() {
+        // scrolled down and up by one row
+        assertArrayEquals(new int[]{96, 115}, overlap(95, 115, 96, 116));
+        assertArrayEquals(new int[]{95, 114}, overlap(95, 115, 94, 114));
+        // jumped to another position
+        int[] none = overlap(0, 20, 100, 120);
+        assertTrue(none[0] > none[1]);
+    }
+
+    @Test
+    void rowsRenderedWhileScrolling() {
+        // benchmark: scrolling row by row through 50k rows renders each row once, the other rows stay in the DOM
+        int size = 50_000;
+        int rowHeight = 64;
+        int viewport = 640;
+        int[] previous = range(0, viewport, rowHeight, size, 5);
+        int rendered = previous[1] - previous[0] + 1;
+        for (double scrollTop = rowHeight; scrollTop < size * rowHeight; scrollTop += rowHeight) {
+            int[] current = range(scrollTop, viewport, rowHeight, size, 5);
+            int[] keep = overlap(previous[0], previous[1], current[0], current[1]);
+            rendered += (current[1] - current[0] + 1) - Math.max(0, keep[1] - keep[0] + 1);
+            previous = current;
+        }
+        assertEquals(size, rendered);
+    }
+}
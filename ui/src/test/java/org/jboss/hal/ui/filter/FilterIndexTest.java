@@ -0,0 +1,100 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ui.filter;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.jboss.hal.dmr.ModelType.BOOLEAN;
+import static org.jboss.hal.dmr.ModelType.INT;
+import static org.jboss.hal.dmr.ModelType.LONG;
+import static org.jboss.hal.dmr.ModelType.STRING;
+import static org.jboss.hal.ui.filter.Facets.CONFIGURATION;
+import static org.jboss.hal.ui.filter.Facets.DEPRECATED;
+import static org.jboss.hal.ui.filter.Facets.READ_ONLY;
+import static org.jboss.hal.ui.filter.Facets.READ_WRITE;
+import static org.jboss.hal.ui.filter.Facets.REQUIRED;
+import static org.jboss.hal.ui.filter.Facets.RUNTIME;
+import static org.jboss.hal.ui.filter.Facets.type;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FilterIndexTest {
+
+    private static class Item {
+
+        final String name;
+        final int facets;
+
+        Item(String name, int facets) {
+            this.name = name;
+            this.facets = facets;
+        }
+    }
+
+    private FilterIndex<Item> index;
+    private boolean[] matches;
+
+    @BeforeEach
+    void setUp() {
+        index = new FilterIndex<>(List.of(
+                new Item("Enabled", type(BOOLEAN) | CONFIGURATION | READ_WRITE | REQUIRED),
+                new Item("max-pool-size", type(INT) | CONFIGURATION | READ_WRITE),
+                new Item("active-count", type(LONG) | RUNTIME | READ_ONLY),
+                new Item("jndi-name", type(STRING) | CONFIGURATION | READ_WRITE | DEPRECATED)),
+                item -> item.name, item -> item.facets);
+        matches = new boolean[index.size()];
+    }
+
+    @Test
+    void all() {
+        assertEquals(4, index.match(null, matches));
+        assertEquals(4, index.match(new FacetQuery(), matches));
+    }
+
+    @Test
+    void name() {
+        assertEquals(1, index.match(new FacetQuery().name("ENABLED"), matches));
+        assertArrayEquals(new boolean[]{true, false, false, false}, matches);
+        assertEquals(4, index.match(new FacetQuery().name(""), matches));
+    }
+
+    @Test
+    void types() {
+        FacetQuery numeric = new FacetQuery().anyOf(type(INT) | type(LONG));
+        assertEquals(2, index.match(numeric, matches));
+        assertArrayEquals(new boolean[]{false, true, true, false}, matches);
+    }
+
+    @Test
+    void booleans() {
+        assertEquals(1, index.match(new FacetQuery().is(REQUIRED, true), matches));
+        assertEquals(3, index.match(new FacetQuery().is(DEPRECATED, false), matches));
+    }
+
+    @Test
+    void combined() {
+        FacetQuery query = new FacetQuery()
+                .name("-")
+                .anyOf(CONFIGURATION)
+                .anyOf(READ_WRITE)
+                .is(DEPRECATED, false);
+        assertEquals(1, index.match(query, matches));
+        assertArrayEquals(new boolean[]{false, true, false, false}, matches);
+    }
+}
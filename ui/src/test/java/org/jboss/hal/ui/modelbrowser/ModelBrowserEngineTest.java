@@ -0,0 +1,53 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ui.modelbrowser;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.meta.AddressTemplate;
+import org.junit.jupiter.api.Test;
+
+import static org.jboss.hal.ui.modelbrowser.ModelBrowserEngine.parseChildren;
+import static org.jboss.hal.ui.modelbrowser.ModelBrowserNode.Type.FOLDER;
+import static org.jboss.hal.ui.modelbrowser.ModelBrowserNode.Type.RESOURCE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class ModelBrowserEngineTest {
+
+    private static final int CHILDREN = 10_000;
+
+    @Test
+    void parseLargeFolder() {
+        ModelBrowserNode folder = new ModelBrowserNode(AddressTemplate.of("subsystem=logging/logger=*"), "logger", FOLDER);
+        ModelNode result = new ModelNode();
+        for (int i = 0; i < CHILDREN; i++) {
+            result.add("org.jboss.logger-" + i);
+        }
+
+        // benchmark: parsing must not re-parse the template for each child
+        List<ModelBrowserNode> children = assertTimeoutPreemptively(Duration.ofSeconds(2),
+                () -> parseChildren(folder, result, false));
+
+        assertEquals(CHILDREN, children.size());
+        ModelBrowserNode last = children.get(CHILDREN - 1);
+        assertEquals(RESOURCE, last.type);
+        assertEquals("/subsystem=logging/logger=org.jboss.logger-" + (CHILDREN - 1), last.template.template);
+        assertEquals(folder.template, last.template.anonymiseLast());
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ui.modelbrowser;
+
+import java.util.List;
+
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.meta.AddressTemplate;
+import org.junit.jupiter.api.Test;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILD_TYPE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILED;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDE_SINGLETONS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_TYPES_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SUCCESS;
+import static org.jboss.hal.ui.modelbrowser.PathResolver.steps;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PathResolverTest {
+
+    @Test
+    void empty() {
+        assertTrue(steps(AddressTemplate.root(), id -> false).isEmpty());
+    }
+
+    @Test
+    void allSteps() {
+        AddressTemplate template = AddressTemplate.of("subsystem=infinispan/cache-container=web/local-cache=sso");
+        List<PathResolver.Step> steps = steps(template, id -> false);
+
+        assertEquals(6, steps.size());
+        assertEquals(AddressTemplate.of("subsystem=*").identifier(), steps.get(0).identifier);
+        assertEquals(AddressTemplate.of("subsystem=infinispan").identifier(), steps.get(1).identifier);
+        assertEquals(AddressTemplate.of("subsystem=infinispan/cache-container=*").identifier(), steps.get(2).identifier);
+        assertEquals(AddressTemplate.of("subsystem=infinispan/cache-container=web").identifier(), steps.get(3).identifier);
+        assertEquals(template.anonymiseLast().identifier(), steps.get(4).identifier);
+        assertEquals(template.identifier(), steps.get(5).identifier);
+
+        // read-children-names on the parent of the wildcard item
+        PathResolver.Step folder = steps.get(2);
+        assertEquals(READ_CHILDREN_NAMES_OPERATION, folder.operation.getName());
+        assertEquals("/subsystem=infinispan", folder.operation.getAddress().toString());
+        assertEquals("cache-container", folder.operation.getParameter().get(CHILD_TYPE).asString());
+
+        // read-children-types on the resource itself
+        PathResolver.Step resource = steps.get(5);
+        assertEquals(READ_CHILDREN_TYPES_OPERATION, resource.operation.getName());
+        assertEquals("/subsystem=infinispan/cache-container=web/local-cache=sso",
+                resource.operation.getAddress().toString());
+        assertTrue(resource.operation.getParameter().get(INCLUDE_SINGLETONS).asBoolean());
+    }
+
+    @Test
+    void skipLoaded() {
+        AddressTemplate template = AddressTemplate.of("subsystem=logging/logger=org.jboss");
+        String loaded = AddressTemplate.of("subsystem=*").identifier();
+        List<PathResolver.Step> steps = steps(template, loaded::equals);
+
+        assertEquals(3, steps.size());
+        assertEquals(AddressTemplate.of("subsystem=logging").identifier(), steps.get(0).identifier);
+    }
+
+    @Test
+    void missingSegment() {
+        // the logger doesn't exist: only the result of its read-children-types step is missing
+        AddressTemplate template = AddressTemplate.of("subsystem=logging/logger=missing");
+        List<PathResolver.Step> steps = steps(template, id -> false);
+        ModelNode result = new ModelNode();
+        for (int i = 0; i < steps.size(); i++) {
+            ModelNode step = result.get("step-" + (i + 1));
+            if (i == steps.size() - 1) {
+                step.get(OUTCOME).set(FAILED);
+                step.get(FAILURE_DESCRIPTION).set("WFLYCTL0216: Management resource not found");
+            } else {
+                step.get(OUTCOME).set(SUCCESS);
+                step.get(RESULT).add("foo");
+            }
+        }
+
+        PathResolver resolver = new PathResolver();
+        resolver.apply(steps, new CompositeResult(result));
+        for (int i = 0; i < steps.size() - 1; i++) {
+            assertEquals("foo", resolver.take(steps.get(i).identifier).get(0).asString());
+        }
+        assertNull(resolver.take(template.identifier()));
+    }
+}
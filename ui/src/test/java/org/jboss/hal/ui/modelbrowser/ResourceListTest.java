@@ -0,0 +1,55 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ui.modelbrowser;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.ui.filter.FacetQuery;
+import org.jboss.hal.ui.filter.FilterIndex;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.jboss.hal.ui.modelbrowser.ModelBrowserEngine.parseChildren;
+import static org.jboss.hal.ui.modelbrowser.ModelBrowserNode.Type.FOLDER;
+import static org.jboss.hal.ui.modelbrowser.ResourceList.virtual;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResourceListTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {10_000, 50_000})
+    void filterLargeFolder(int size) {
+        ModelBrowserNode folder = new ModelBrowserNode(AddressTemplate.of("deployment=*"), "deployment", FOLDER);
+        ModelNode result = new ModelNode();
+        for (int i = 0; i < size; i++) {
+            result.add("app-" + i + (i % 10 == 0 ? ".ear" : ".war"));
+        }
+
+        // benchmark: parsing and filtering the full list must not depend on the DOM
+        int matches = assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+            List<ModelBrowserNode> children = parseChildren(folder, result, true);
+            assertTrue(virtual(folder, children.size()));
+            FilterIndex<ModelBrowserNode> index = new FilterIndex<>(children, mbn -> mbn.name, mbn -> 0);
+            return index.match(new FacetQuery().name(".EAR"), new boolean[index.size()]);
+        });
+        assertEquals(size / 10, matches);
+    }
+}
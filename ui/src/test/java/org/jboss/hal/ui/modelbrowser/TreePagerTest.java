@@ -0,0 +1,98 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ui.modelbrowser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.hal.meta.AddressTemplate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.jboss.hal.ui.modelbrowser.ModelBrowserNode.Type.RESOURCE;
+import static org.jboss.hal.ui.modelbrowser.TreePager.PAGE_SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TreePagerTest {
+
+    private static final int CHILDREN = 250;
+
+    private TreePager pager;
+
+    @BeforeEach
+    void setUp() {
+        List<ModelBrowserNode> children = new ArrayList<>();
+        for (int i = 0; i < CHILDREN; i++) {
+            String name = "logger-" + i;
+            children.add(new ModelBrowserNode(AddressTemplate.of("subsystem=logging/logger=" + name), name, RESOURCE));
+        }
+        pager = new TreePager(AddressTemplate.of("subsystem=logging/logger=*").identifier());
+        pager.children(children);
+    }
+
+    @Test
+    void firstPage() {
+        assertEquals(PAGE_SIZE, pager.page().size());
+        assertEquals(CHILDREN - PAGE_SIZE, pager.remaining());
+        assertTrue(pager.hasMore());
+        assertFalse(pager.reuse());
+    }
+
+    @Test
+    void next() {
+        List<ModelBrowserNode> next = pager.next();
+        assertEquals(PAGE_SIZE, next.size());
+        assertEquals("logger-" + PAGE_SIZE, next.get(0).name);
+        assertFalse(pager.reuse());
+        assertEquals(2 * PAGE_SIZE, pager.page().size());
+
+        next = pager.next();
+        assertEquals(CHILDREN - 2 * PAGE_SIZE, next.size());
+        assertEquals("logger-" + (CHILDREN - 1), next.get(next.size() - 1).name);
+        assertEquals(CHILDREN, pager.page().size());
+        assertFalse(pager.hasMore());
+        assertTrue(pager.next().isEmpty());
+    }
+
+    @Test
+    void reveal() {
+        String materialized = AddressTemplate.of("subsystem=logging/logger=logger-42").identifier();
+        String notMaterialized = AddressTemplate.of("subsystem=logging/logger=logger-242").identifier();
+        String unknown = AddressTemplate.of("subsystem=logging/logger=foo").identifier();
+
+        assertFalse(pager.reveal(materialized));
+        assertFalse(pager.reveal(unknown));
+        assertFalse(pager.reuse());
+
+        assertTrue(pager.reveal(notMaterialized));
+        assertTrue(pager.reuse());
+        assertEquals(CHILDREN, pager.page().size());
+    }
+
+    @Test
+    void filter() {
+        // works on all children, not only the materialized ones
+        List<ModelBrowserNode> matches = pager.filter("LOGGER-24", 100);
+        assertEquals(11, matches.size()); // logger-24, logger-240 ... logger-249
+        assertEquals("logger-24", matches.get(0).name);
+        assertEquals("logger-249", matches.get(10).name);
+
+        assertEquals(5, pager.filter("logger", 5).size());
+        assertTrue(pager.filter("foo", 5).isEmpty());
+    }
+}
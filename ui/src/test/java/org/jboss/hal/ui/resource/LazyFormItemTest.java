@@ -0,0 +1,73 @@
+/*
+ *  Copyright 2024 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ui.resource;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Property;
+import org.jboss.hal.meta.description.AttributeDescription;
+import org.junit.jupiter.api.Test;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ACCESS_TYPE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ALTERNATIVES;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_ONLY;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.REQUIRED;
+import static org.jboss.hal.meta.security.SecurityContext.RWX;
+import static org.jboss.hal.ui.resource.LazyFormItem.buildToValidate;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LazyFormItemTest {
+
+    @Test
+    void optional() {
+        assertFalse(buildToValidate(attribute(new ModelNode(), new ModelNode())));
+        assertFalse(buildToValidate(attribute(new ModelNode().set("foo"), new ModelNode())));
+    }
+
+    @Test
+    void requiredAndDefined() {
+        assertFalse(buildToValidate(attribute(new ModelNode().set("foo"), required())));
+    }
+
+    @Test
+    void requiredAndUndefined() {
+        assertTrue(buildToValidate(attribute(new ModelNode(), required())));
+    }
+
+    @Test
+    void requiredWithAlternatives() {
+        ModelNode description = required();
+        description.get(ALTERNATIVES).add("bar");
+        assertFalse(buildToValidate(attribute(new ModelNode(), description)));
+    }
+
+    @Test
+    void readOnly() {
+        ModelNode description = required();
+        description.get(ACCESS_TYPE).set(READ_ONLY);
+        assertFalse(buildToValidate(attribute(new ModelNode(), description)));
+    }
+
+    private ModelNode required() {
+        ModelNode description = new ModelNode();
+        description.get(REQUIRED).set(true);
+        return description;
+    }
+
+    private ResourceAttribute attribute(ModelNode value, ModelNode description) {
+        return new ResourceAttribute(value, new AttributeDescription(new Property("foo", description)), RWX);
+    }
+}